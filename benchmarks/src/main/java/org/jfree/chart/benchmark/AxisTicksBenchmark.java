@@ -0,0 +1,138 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * AxisTicksBenchmark.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryLabelPositions;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.DateTickUnit;
+import org.jfree.chart.axis.DateTickUnitType;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.time.Second;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw charts where most of the work is in the
+ * domain axis: a bar chart with many (rotated) category labels, and a time
+ * series chart with a date axis that has a tick every minute.  The datasets
+ * are small, so that the time is dominated by creating, formatting and
+ * measuring the tick labels, which the axis does when space is reserved for
+ * it and again when it is drawn (unless the ticks are reused).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class AxisTicksBenchmark {
+
+    /** The axis type: "category" or "date". */
+    @Param({"category", "date"})
+    public String axisType;
+
+    /** The number of ticks. */
+    @Param({"100", "500"})
+    public int tickCount;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image. */
+    private ChartImage image;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        if ("category".equals(this.axisType)) {
+            this.chart = ChartFactory.createBarChart("AxisTicks", "Category",
+                    "Value", BenchmarkData.createCategoryDataset(1,
+                    this.tickCount));
+            CategoryPlot plot = (CategoryPlot) this.chart.getPlot();
+            plot.getDomainAxis().setCategoryLabelPositions(
+                    CategoryLabelPositions.UP_90);
+        }
+        else if ("date".equals(this.axisType)) {
+            this.chart = ChartFactory.createTimeSeriesChart("AxisTicks",
+                    "Time", "Value", BenchmarkData.createTimeSeriesDataset(1,
+                    this.tickCount));
+            XYPlot plot = (XYPlot) this.chart.getPlot();
+            DateAxis axis = (DateAxis) plot.getDomainAxis();
+            axis.setTickUnit(new DateTickUnit(DateTickUnitType.MINUTE, 1));
+            Second start = new Second(0, 0, 0, 1, 1, 2026);
+            axis.setRange(start.getFirstMillisecond(),
+                    start.getFirstMillisecond() + this.tickCount * 60000L);
+        }
+        else {
+            throw new IllegalArgumentException("Unknown axis type: "
+                    + this.axisType);
+        }
+        this.image = new ChartImage();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        return this.image.draw(this.chart);
+    }
+
+}
@@ -0,0 +1,223 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added createLongTailPieDataset() (agent);
+ * 16-Oct-2026 : Added createXYDoubleSeriesDataset() (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.time.Second;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDoubleSeries;
+import org.jfree.data.xy.XYDoubleSeriesCollection;
+
+/**
+ * Generators for the datasets used in the benchmarks.  Each generator uses
+ * a fixed seed, so that the same arguments always give the same data (and
+ * results from different versions of the library can be compared).
+ */
+public final class BenchmarkData {
+
+    /** The seed for the random values. */
+    private static final long SEED = 20261016L;
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private BenchmarkData() {
+        // no instances
+    }
+
+    /**
+     * Returns the next value of a random walk.
+     *
+     * @param random  the random number generator.
+     * @param value  the current value.
+     *
+     * @return The next value.
+     */
+    private static double step(Random random, double value) {
+        return value + random.nextGaussian();
+    }
+
+    /**
+     * Creates an XY dataset where each series is a random walk with evenly
+     * spaced (ascending) x-values.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static DefaultXYDataset createXYDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(SEED);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int s = 0; s < seriesCount; s++) {
+            double[][] data = new double[2][itemCount];
+            double y = 0.0;
+            for (int i = 0; i < itemCount; i++) {
+                y = step(random, y);
+                data[0][i] = i;
+                data[1][i] = y;
+            }
+            dataset.addSeries("Series " + s, data);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates an {@link XYDoubleSeriesCollection} with the same values as
+     * {@link #createXYDataset(int, int)}.  Unlike a
+     * <code>DefaultXYDataset</code>, it reports that its x-values are in
+     * ascending order, so the plot can keep a pyramid index for decimation.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static XYDoubleSeriesCollection createXYDoubleSeriesDataset(
+            int seriesCount, int itemCount) {
+        Random random = new Random(SEED);
+        XYDoubleSeriesCollection dataset = new XYDoubleSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            XYDoubleSeries series = new XYDoubleSeries("Series " + s, true,
+                    false);
+            series.ensureCapacity(itemCount);
+            double y = 0.0;
+            for (int i = 0; i < itemCount; i++) {
+                y = step(random, y);
+                series.add(i, y, false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a time series dataset where each series is a random walk with
+     * one value per second.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static TimeSeriesCollection createTimeSeriesDataset(
+            int seriesCount, int itemCount) {
+        Random random = new Random(SEED);
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = new TimeSeries("Series " + s);
+            Second t = new Second(0, 0, 0, 1, 1, 2026);
+            double y = 0.0;
+            for (int i = 0; i < itemCount; i++) {
+                y = step(random, y);
+                series.add(t, y, false);
+                t = (Second) t.next();
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset with positive random values.
+     *
+     * @param rowCount  the number of rows (series).
+     * @param columnCount  the number of columns (categories).
+     *
+     * @return The dataset.
+     */
+    public static DefaultCategoryDataset createCategoryDataset(int rowCount,
+            int columnCount) {
+        Random random = new Random(SEED);
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                dataset.addValue(1.0 + random.nextDouble() * 100.0,
+                        "Series " + r, "Category " + c);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a pie dataset with positive random values.
+     *
+     * @param sectionCount  the number of sections.
+     *
+     * @return The dataset.
+     */
+    public static DefaultPieDataset createPieDataset(int sectionCount) {
+        Random random = new Random(SEED);
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        for (int i = 0; i < sectionCount; i++) {
+            dataset.setValue("Section " + i, 1.0 + random.nextDouble() * 100.0);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a pie dataset with a long tail of small values (the values
+     * are roughly proportional to 1 / (i + 1) for section i).
+     *
+     * @param sectionCount  the number of sections.
+     *
+     * @return The dataset.
+     */
+    public static DefaultPieDataset createLongTailPieDataset(
+            int sectionCount) {
+        Random random = new Random(SEED);
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        for (int i = 0; i < sectionCount; i++) {
+            dataset.setValue("Section " + i,
+                    1000.0 * (0.5 + random.nextDouble()) / (i + 1));
+        }
+        return dataset;
+    }
+
+}
@@ -0,0 +1,128 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * CategoryPlotBenchmark.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.data.category.CategoryDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw a {@link CategoryPlot} (via
+ * <code>JFreeChart.draw()</code>) for several dataset sizes and chart types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class CategoryPlotBenchmark {
+
+    /** The number of series (rows). */
+    @Param({"1", "5"})
+    public int rowCount;
+
+    /** The number of categories (columns). */
+    @Param({"10", "100", "1000"})
+    public int columnCount;
+
+    /** The chart type: "bar", "stackedBar" or "line". */
+    @Param({"bar", "stackedBar", "line"})
+    public String chartType;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image. */
+    private ChartImage image;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        CategoryDataset dataset = BenchmarkData.createCategoryDataset(
+                this.rowCount, this.columnCount);
+        if ("bar".equals(this.chartType)) {
+            this.chart = ChartFactory.createBarChart("CategoryPlot",
+                    "Category", "Value", dataset);
+        }
+        else if ("stackedBar".equals(this.chartType)) {
+            this.chart = ChartFactory.createStackedBarChart("CategoryPlot",
+                    "Category", "Value", dataset);
+        }
+        else if ("line".equals(this.chartType)) {
+            this.chart = ChartFactory.createLineChart("CategoryPlot",
+                    "Category", "Value", dataset);
+        }
+        else {
+            throw new IllegalArgumentException("Unknown chart type: "
+                    + this.chartType);
+        }
+        this.image = new ChartImage();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        return this.image.draw(this.chart);
+    }
+
+}
@@ -0,0 +1,93 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * ChartImage.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.JFreeChart;
+
+/**
+ * An offscreen image that the chart benchmarks draw on.
+ */
+public class ChartImage {
+
+    /** The default image width. */
+    public static final int WIDTH = 800;
+
+    /** The default image height. */
+    public static final int HEIGHT = 600;
+
+    /** The image. */
+    private BufferedImage image;
+
+    /** The drawing area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates a new image with the default size.
+     */
+    public ChartImage() {
+        this.image = new BufferedImage(WIDTH, HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        this.area = new Rectangle2D.Double(0.0, 0.0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Draws a chart on the image, replacing the previous contents.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     *
+     * @return The image.
+     */
+    public BufferedImage draw(JFreeChart chart) {
+        Graphics2D g2 = this.image.createGraphics();
+        try {
+            chart.draw(g2, this.area);
+        }
+        finally {
+            g2.dispose();
+        }
+        return this.image;
+    }
+
+}
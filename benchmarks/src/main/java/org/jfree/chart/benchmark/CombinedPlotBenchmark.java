@@ -0,0 +1,122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * CombinedPlotBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw a {@link CombinedDomainXYPlot} with
+ * several line chart subplots, with the subplots drawn one at a time and in
+ * parallel (see {@link CombinedDomainXYPlot#setParallelRendering(boolean)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class CombinedPlotBenchmark {
+
+    /** The number of subplots. */
+    @Param({"4", "12"})
+    public int subplotCount;
+
+    /** The number of items in the series for each subplot. */
+    @Param({"10000", "100000"})
+    public int itemCount;
+
+    /** Draw the subplots in parallel? */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image. */
+    private ChartImage image;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        CombinedDomainXYPlot plot = new CombinedDomainXYPlot(
+                new NumberAxis("X"));
+        for (int i = 0; i < this.subplotCount; i++) {
+            XYPlot subplot = new XYPlot(BenchmarkData.createXYDataset(1,
+                    this.itemCount), null, new NumberAxis("Y" + i),
+                    new XYLineAndShapeRenderer(true, false));
+            plot.add(subplot);
+        }
+        plot.setParallelRendering(this.parallel);
+        this.chart = new JFreeChart(plot);
+        this.image = new ChartImage();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        return this.image.draw(this.chart);
+    }
+
+}
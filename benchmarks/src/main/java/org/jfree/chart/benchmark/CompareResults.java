@@ -0,0 +1,214 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * CompareResults.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two sets of benchmark results written by JMH in CSV format
+ * (<code>-rf csv -rff results.csv</code>), typically for two versions of
+ * the library, and prints the change in the score of each benchmark.  A
+ * change is marked with an asterisk if it is larger than the sum of the
+ * score errors, since smaller changes are probably just noise.  Run it with:
+ * <pre>
+ * java -cp target/benchmarks.jar org.jfree.chart.benchmark.CompareResults \
+ *     baseline.csv current.csv
+ * </pre>
+ */
+public final class CompareResults {
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private CompareResults() {
+        // no instances
+    }
+
+    /**
+     * Splits a line from a CSV file into fields, removing the quotes.
+     *
+     * @param line  the line.
+     *
+     * @return The fields.
+     */
+    static List<String> parseLine(String line) {
+        List<String> result = new ArrayList<String>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length()
+                        && line.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                }
+                else {
+                    quoted = !quoted;
+                }
+            }
+            else if (c == ',' && !quoted) {
+                result.add(field.toString());
+                field.setLength(0);
+            }
+            else {
+                field.append(c);
+            }
+        }
+        result.add(field.toString());
+        return result;
+    }
+
+    /**
+     * Reads the results from a CSV file.
+     *
+     * @param fileName  the file name.
+     *
+     * @return A map from the benchmark name (including the parameters) to
+     *     an array containing the score, the score error and the unit.
+     *
+     * @throws IOException if there is a problem reading the file.
+     */
+    static Map<String, String[]> readResults(String fileName)
+            throws IOException {
+        Map<String, String[]> result = new LinkedHashMap<String, String[]>();
+        BufferedReader in = new BufferedReader(new InputStreamReader(
+                new FileInputStream(fileName), "UTF-8"));
+        try {
+            List<String> header = parseLine(in.readLine());
+            int score = header.indexOf("Score");
+            int error = header.indexOf("Score Error (99.9%)");
+            int unit = header.indexOf("Unit");
+            if (score < 0 || error < 0 || unit < 0) {
+                throw new IOException("Not a JMH CSV file: " + fileName);
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().length() == 0) {
+                    continue;
+                }
+                List<String> fields = parseLine(line);
+                StringBuilder key = new StringBuilder(fields.get(0));
+                for (int i = unit + 1; i < header.size(); i++) {
+                    if (i < fields.size() && fields.get(i).length() > 0) {
+                        key.append(' ').append(header.get(i).replace(
+                                "Param: ", "")).append('=').append(
+                                fields.get(i));
+                    }
+                }
+                result.put(key.toString(), new String[] {fields.get(score),
+                        fields.get(error), fields.get(unit)});
+            }
+        }
+        finally {
+            in.close();
+        }
+        return result;
+    }
+
+    /**
+     * Parses a number written by JMH (the error is "NaN" if there is only
+     * one sample).
+     *
+     * @param s  the string.
+     *
+     * @return The number.
+     */
+    private static double parse(String s) {
+        try {
+            return Double.parseDouble(s);
+        }
+        catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Prints the comparison.
+     *
+     * @param args  the names of the baseline and current result files.
+     *
+     * @throws IOException if there is a problem reading the files.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println(
+                    "Usage: CompareResults <baseline.csv> <current.csv>");
+            System.exit(1);
+        }
+        Map<String, String[]> baseline = readResults(args[0]);
+        Map<String, String[]> current = readResults(args[1]);
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] now = entry.getValue();
+            String[] before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println(String.format(Locale.US,
+                        "%-100s %12s %12.3f %-6s new", entry.getKey(), "-",
+                        parse(now[0]), now[2]));
+                continue;
+            }
+            double oldScore = parse(before[0]);
+            double newScore = parse(now[0]);
+            double noise = parse(before[1]) + parse(now[1]);
+            boolean significant = Math.abs(newScore - oldScore) > noise;
+            System.out.println(String.format(Locale.US,
+                    "%-100s %12.3f %12.3f %-6s %+7.1f%%%s", entry.getKey(),
+                    oldScore, newScore, now[2],
+                    (newScore - oldScore) / oldScore * 100.0,
+                    significant ? " *" : ""));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println(String.format(Locale.US, "%-100s removed",
+                        key));
+            }
+        }
+    }
+
+}
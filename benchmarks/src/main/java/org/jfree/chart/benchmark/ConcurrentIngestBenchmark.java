@@ -0,0 +1,200 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * ConcurrentIngestBenchmark.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jfree.data.time.ConcurrentTimeSeriesCollection;
+import org.jfree.data.time.OverflowPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rate at which 8 producer threads can append values to a
+ * {@link ConcurrentTimeSeriesCollection} (one series each) while another
+ * thread refreshes the dataset 60 times a second, as a chart would.
+ * <p>
+ * With <code>rate=0</code> the producers append as fast as they can, giving
+ * the maximum throughput.  With <code>rate=100000</code> each producer is
+ * paced to 100 kHz: the <code>append</code> score should then be 800,000
+ * ops/s in total, and the <code>dropped</code> counter (the values rejected
+ * by a full buffer with the DROP_NEWEST policy) should be zero.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ConcurrentIngestBenchmark {
+
+    /** The number of producer threads (and series). */
+    private static final int PRODUCERS = 8;
+
+    /** The interval between refreshes (60 per second). */
+    private static final long REFRESH_NANOS = 1000000000L / 60;
+
+    /** The rate (values per second) for each producer, or 0 for no limit. */
+    @Param({"0", "100000"})
+    public int rate;
+
+    /** The overflow policy. */
+    @Param({"DROP_NEWEST", "BLOCK"})
+    public OverflowPolicy policy;
+
+    /** The dataset. */
+    private ConcurrentTimeSeriesCollection dataset;
+
+    /** Used to give each producer its own series. */
+    private AtomicInteger nextSeries;
+
+    /**
+     * The state for one producer thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Producer {
+
+        /** The number of values rejected because the buffer was full. */
+        public long dropped;
+
+        /** The series index. */
+        private int series = -1;
+
+        /** The time (from System.nanoTime()) for the next value. */
+        private long next;
+
+        /** The interval between values, in nanoseconds. */
+        private long interval;
+
+        /**
+         * Assigns a series to the thread.
+         *
+         * @param benchmark  the benchmark state.
+         */
+        @Setup(Level.Iteration)
+        public void setUp(ConcurrentIngestBenchmark benchmark) {
+            if (this.series < 0) {
+                this.series = benchmark.nextSeries.getAndIncrement()
+                        % PRODUCERS;
+            }
+            this.interval = benchmark.rate > 0 ? 1000000000L / benchmark.rate
+                    : 0L;
+            this.next = System.nanoTime();
+            this.dropped = 0L;
+        }
+
+    }
+
+    /**
+     * Creates the dataset, with a buffer large enough for 4096 values per
+     * series between refreshes (enough for 100 kHz at 60 refreshes per
+     * second).
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Comparable[] keys = new Comparable[PRODUCERS];
+        for (int s = 0; s < PRODUCERS; s++) {
+            keys[s] = "Series " + s;
+        }
+        this.dataset = new ConcurrentTimeSeriesCollection(keys, 100000, 4096,
+                this.policy);
+        this.nextSeries = new AtomicInteger();
+    }
+
+    /**
+     * Appends one value (after waiting for the next time slot, if the rate
+     * is limited).
+     *
+     * @param producer  the producer state.
+     *
+     * @return Whether the value was accepted.
+     */
+    @Benchmark
+    @Group("ingest")
+    @GroupThreads(PRODUCERS)
+    public boolean append(Producer producer) {
+        long now = System.nanoTime();
+        if (producer.interval > 0L) {
+            while (now < producer.next) {
+                now = System.nanoTime();
+            }
+            producer.next += producer.interval;
+        }
+        boolean result = this.dataset.append(producer.series,
+                now / 1000000L, (float) (now & 0xFFFF));
+        if (!result) {
+            producer.dropped++;
+        }
+        return result;
+    }
+
+    /**
+     * Refreshes the dataset, then waits until the next refresh is due.
+     *
+     * @return Whether the dataset changed.
+     */
+    @Benchmark
+    @Group("ingest")
+    @GroupThreads(1)
+    public boolean refresh() {
+        long start = System.nanoTime();
+        boolean result = this.dataset.refresh();
+        LockSupport.parkNanos(REFRESH_NANOS - (System.nanoTime() - start));
+        return result;
+    }
+
+}
@@ -0,0 +1,125 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * CreateBufferedImageBenchmark.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link JFreeChart#createBufferedImage(int, int)}, which includes
+ * allocating a new image each time, for several chart types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true"})
+public class CreateBufferedImageBenchmark {
+
+    /** The chart type: "xyLine", "timeSeries", "bar" or "pie". */
+    @Param({"xyLine", "timeSeries", "bar", "pie"})
+    public String chartType;
+
+    /** The number of items (per series for the XY charts). */
+    @Param({"100", "10000"})
+    public int itemCount;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        if ("xyLine".equals(this.chartType)) {
+            this.chart = ChartFactory.createXYLineChart("Chart", "X", "Y",
+                    BenchmarkData.createXYDataset(3, this.itemCount));
+        }
+        else if ("timeSeries".equals(this.chartType)) {
+            this.chart = ChartFactory.createTimeSeriesChart("Chart", "Time",
+                    "Value", BenchmarkData.createTimeSeriesDataset(3,
+                    this.itemCount));
+        }
+        else if ("bar".equals(this.chartType)) {
+            // one category per item is unreadable, so limit the columns
+            this.chart = ChartFactory.createBarChart("Chart", "Category",
+                    "Value", BenchmarkData.createCategoryDataset(3,
+                    Math.min(this.itemCount, 1000)));
+        }
+        else if ("pie".equals(this.chartType)) {
+            this.chart = ChartFactory.createPieChart("Chart",
+                    BenchmarkData.createPieDataset(
+                    Math.min(this.itemCount, 1000)));
+        }
+        else {
+            throw new IllegalArgumentException("Unknown chart type: "
+                    + this.chartType);
+        }
+    }
+
+    /**
+     * Creates an image of the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage createBufferedImage() {
+        return this.chart.createBufferedImage(ChartImage.WIDTH,
+                ChartImage.HEIGHT);
+    }
+
+}
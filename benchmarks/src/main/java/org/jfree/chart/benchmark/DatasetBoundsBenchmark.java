@@ -0,0 +1,189 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetBoundsBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added 100 and 100000 items per series (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the methods in {@link DatasetUtilities} that find the bounds of
+ * a dataset by iterating over the items, serially and in parallel (see
+ * {@link DatasetUtilities#setParallelThreshold(int)}).  Running with
+ * different values for the <code>-t</code> option, or for the
+ * <code>java.util.concurrent.ForkJoinPool.common.parallelism</code> system
+ * property (via <code>-jvmArgsAppend</code>), gives the scaling with the
+ * number of threads.
+ * <p>
+ * The <code>findRangeBounds</code> benchmark measures the public entry
+ * point, which returns the bounds cached by the dataset after the first
+ * call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class DatasetBoundsBenchmark {
+
+    /** The number of series. */
+    @Param({"10", "400"})
+    public int seriesCount;
+
+    /** The number of items in each series. */
+    @Param({"100", "1000", "10000", "100000"})
+    public int itemCount;
+
+    /** Find the bounds in parallel? */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    /** The XY dataset. */
+    private DefaultXYDataset xyDataset;
+
+    /** The category dataset (one column per item, up to 1000). */
+    private DefaultCategoryDataset categoryDataset;
+
+    /** The keys for all series in the XY dataset. */
+    private List<Comparable> visibleSeriesKeys;
+
+    /** The x-range (the middle half of the items). */
+    private Range xRange;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup
+    public void setUp() {
+        this.xyDataset = BenchmarkData.createXYDataset(this.seriesCount,
+                this.itemCount);
+        this.categoryDataset = BenchmarkData.createCategoryDataset(
+                this.seriesCount, Math.min(this.itemCount, 1000));
+        this.visibleSeriesKeys = new ArrayList<Comparable>();
+        for (int s = 0; s < this.seriesCount; s++) {
+            this.visibleSeriesKeys.add(this.xyDataset.getSeriesKey(s));
+        }
+        this.xRange = new Range(this.itemCount * 0.25, this.itemCount * 0.75);
+        DatasetUtilities.setParallelThreshold(this.parallel ? 1
+                : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Restores the default threshold.
+     */
+    @TearDown
+    public void tearDown() {
+        DatasetUtilities.setParallelThreshold(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the y-range of an XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateRangeBoundsXY() {
+        return DatasetUtilities.iterateRangeBounds(this.xyDataset, false);
+    }
+
+    /**
+     * Finds the y-range of the items in an XY dataset within an x-range.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateToFindRangeBoundsXY() {
+        return DatasetUtilities.iterateToFindRangeBounds(this.xyDataset,
+                this.visibleSeriesKeys, this.xRange, false);
+    }
+
+    /**
+     * Finds the value range of a category dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateRangeBoundsCategory() {
+        return DatasetUtilities.iterateRangeBounds(this.categoryDataset,
+                false);
+    }
+
+    /**
+     * Finds the x-range of an XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateDomainBoundsXY() {
+        return DatasetUtilities.iterateDomainBounds(this.xyDataset, false);
+    }
+
+    /**
+     * Finds the y-range of an XY dataset via the public entry point (which
+     * uses the cached bounds).
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range findRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.xyDataset, false);
+    }
+
+}
@@ -0,0 +1,126 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * DecimationBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to draw a line chart with one large series, with
+ * and without decimation (see
+ * {@link org.jfree.chart.renderer.xy.AbstractXYItemRenderer#setDecimate(
+ * boolean)}), showing either the whole series or the middle tenth of it.
+ * The series is in ascending x-order, so the decimated chart keeps a
+ * pyramid index and the zoomed chart is drawn in time proportional to the
+ * width of the data area rather than to the number of visible items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class DecimationBenchmark {
+
+    /** The number of items in the series. */
+    @Param({"1000000", "10000000"})
+    public int itemCount;
+
+    /** Decimate the series? */
+    @Param({"false", "true"})
+    public boolean decimate;
+
+    /** Zoom in to the middle tenth of the series? */
+    @Param({"false", "true"})
+    public boolean zoomed;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image. */
+    private ChartImage image;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        renderer.setDecimate(this.decimate);
+        XYPlot plot = new XYPlot(BenchmarkData.createXYDoubleSeriesDataset(1,
+                this.itemCount), new NumberAxis("X"), new NumberAxis("Y"),
+                renderer);
+        if (this.zoomed) {
+            plot.getDomainAxis().setRange(this.itemCount * 0.45,
+                    this.itemCount * 0.55);
+        }
+        this.chart = new JFreeChart(plot);
+        this.image = new ChartImage();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        return this.image.draw(this.chart);
+    }
+
+}
@@ -0,0 +1,139 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * EntityCollectionBenchmark.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.GridEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to find the entity at a point (as the
+ * <code>ChartPanel</code> does to display a tool tip) in the entities of a
+ * scatter plot, for each type of entity collection.  The first lookup after
+ * the chart is drawn, which builds the index for a
+ * {@link GridEntityCollection}, is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class EntityCollectionBenchmark {
+
+    /** The number of items in the scatter plot. */
+    @Param({"1000", "200000"})
+    public int itemCount;
+
+    /** The entity collection: "standard" or "grid". */
+    @Param({"standard", "grid"})
+    public String collection;
+
+    /** The entities. */
+    private EntityCollection entities;
+
+    /** The points to look up. */
+    private double[] points;
+
+    /** The index of the next point. */
+    private int next;
+
+    /**
+     * Draws the chart to collect the entities.
+     */
+    @Setup
+    public void setUp() {
+        JFreeChart chart = ChartFactory.createScatterPlot("Scatter", "X",
+                "Y", BenchmarkData.createXYDataset(1, this.itemCount));
+        EntityCollection ec;
+        if ("standard".equals(this.collection)) {
+            ec = new StandardEntityCollection();
+        }
+        else if ("grid".equals(this.collection)) {
+            ec = new GridEntityCollection();
+        }
+        else {
+            throw new IllegalArgumentException("Unknown collection: "
+                    + this.collection);
+        }
+        ChartRenderingInfo info = new ChartRenderingInfo(ec);
+        chart.createBufferedImage(ChartImage.WIDTH, ChartImage.HEIGHT, info);
+        this.entities = info.getEntityCollection();
+        Random random = new Random(1L);
+        this.points = new double[2048];
+        for (int i = 0; i < this.points.length; i += 2) {
+            this.points[i] = random.nextDouble() * ChartImage.WIDTH;
+            this.points[i + 1] = random.nextDouble() * ChartImage.HEIGHT;
+        }
+        this.entities.getEntity(0.0, 0.0);
+    }
+
+    /**
+     * Finds the entity at a point.
+     *
+     * @return The entity.
+     */
+    @Benchmark
+    public ChartEntity getEntity() {
+        int i = this.next;
+        this.next = (i + 2) % this.points.length;
+        return this.entities.getEntity(this.points[i], this.points[i + 1]);
+    }
+
+}
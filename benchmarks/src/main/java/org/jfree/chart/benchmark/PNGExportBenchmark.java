@@ -0,0 +1,131 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * PNGExportBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to write a large line chart in PNG format, as a
+ * single image and in bands on several threads (see
+ * {@link ChartUtilities#writeChartAsTiledPNG(OutputStream, JFreeChart, int,
+ * int, org.jfree.chart.ChartRenderingInfo)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class PNGExportBenchmark {
+
+    /** The image width. */
+    @Param({"4000", "20000"})
+    public int width;
+
+    /** The image height. */
+    @Param({"8000"})
+    public int height;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** An output stream that discards the PNG data. */
+    private OutputStream out;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup
+    public void setUp() {
+        this.chart = ChartFactory.createXYLineChart("PNG Export", "X", "Y",
+                BenchmarkData.createXYDataset(5, 100000));
+        this.out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                // discard
+            }
+            @Override
+            public void write(byte[] b, int off, int len) {
+                // discard
+            }
+        };
+    }
+
+    /**
+     * Writes the chart as a single image.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public void writeChartAsPNG() throws IOException {
+        ChartUtilities.writeChartAsPNG(this.out, this.chart, this.width,
+                this.height);
+    }
+
+    /**
+     * Writes the chart in bands.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public void writeChartAsTiledPNG() throws IOException {
+        ChartUtilities.writeChartAsTiledPNG(this.out, this.chart, this.width,
+                this.height, null);
+    }
+
+}
@@ -0,0 +1,151 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * TickFormatBenchmark.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.util.FastDateFormat;
+import org.jfree.chart.util.FastNumberFormat;
+import org.jfree.chart.util.LogFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time taken to format 1000 tick labels with the JDK formatters
+ * and with {@link FastNumberFormat} and {@link FastDateFormat}, for the
+ * decimal, scientific, log and date formats used by the axes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickFormatBenchmark {
+
+    /** The number of labels formatted in each operation. */
+    private static final int LABEL_COUNT = 1000;
+
+    /** The type of label. */
+    @Param({"decimal", "scientific", "log", "date"})
+    public String labelType;
+
+    /** Use the fast formatters? */
+    @Param({"false", "true"})
+    public boolean fast;
+
+    /** The formatter. */
+    private Format format;
+
+    /** The values (numbers or dates) to format. */
+    private Object[] values;
+
+    /**
+     * Creates the formatter and the values.
+     */
+    @Setup
+    public void setUp() {
+        this.values = new Object[LABEL_COUNT];
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            double tick = (i - LABEL_COUNT / 2) * 0.25;
+            if (this.labelType.equals("decimal")) {
+                this.values[i] = tick * 1234.567;
+            }
+            else if (this.labelType.equals("scientific")) {
+                this.values[i] = Math.pow(10.0, tick / 10.0);
+            }
+            else if (this.labelType.equals("log")) {
+                this.values[i] = Math.pow(10.0, tick);
+            }
+            else {
+                this.values[i] = new Date(1790000000000L + i * 3600000L);
+            }
+        }
+        if (this.labelType.equals("decimal")) {
+            DecimalFormat df = new DecimalFormat("#,##0.00");
+            this.format = this.fast ? new FastNumberFormat(df) : df;
+        }
+        else if (this.labelType.equals("scientific")) {
+            DecimalFormat df = new DecimalFormat("0.0E0");
+            this.format = this.fast ? new FastNumberFormat(df) : df;
+        }
+        else if (this.labelType.equals("log")) {
+            LogFormat lf = new LogFormat();
+            lf.setExponentFormat(this.fast ? new FastNumberFormat("0.0#")
+                    : new DecimalFormat("0.0#"));
+            this.format = lf;
+        }
+        else {
+            SimpleDateFormat sdf = new SimpleDateFormat("d-MMM, HH:mm",
+                    Locale.UK);
+            this.format = this.fast ? new FastDateFormat(sdf) : sdf;
+        }
+    }
+
+    /**
+     * Formats the labels.
+     *
+     * @return The total length of the labels.
+     */
+    @Benchmark
+    public int format() {
+        int result = 0;
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            result += this.format.format(this.values[i]).length();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,157 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * XYDoubleSeriesBenchmark.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDoubleSeries;
+import org.jfree.data.xy.XYDoubleSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link XYDoubleSeries} with {@link XYSeries}: the time taken to
+ * fill a series, and to read all its values through the primitive
+ * accessors of the dataset (as the renderers do).  Running with
+ * <code>-prof gc</code> also reports the bytes allocated to fill each
+ * series, which shows the difference in memory use per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class XYDoubleSeriesBenchmark {
+
+    /** The number of items in the series. */
+    @Param({"100000", "1000000"})
+    public int itemCount;
+
+    /** The series class: "XYSeries" or "XYDoubleSeries". */
+    @Param({"XYSeries", "XYDoubleSeries"})
+    public String seriesClass;
+
+    /** The dataset that is read. */
+    private XYDataset dataset;
+
+    /**
+     * Creates the dataset.
+     */
+    @Setup
+    public void setUp() {
+        if ("XYSeries".equals(this.seriesClass)) {
+            this.dataset = new XYSeriesCollection(createXYSeries());
+        }
+        else {
+            this.dataset = new XYDoubleSeriesCollection(
+                    createXYDoubleSeries());
+        }
+    }
+
+    /**
+     * Creates an {@link XYSeries}.
+     *
+     * @return The series.
+     */
+    private XYSeries createXYSeries() {
+        XYSeries s = new XYSeries("S", true, true);
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(i, Math.sin(i * 0.001), false);
+        }
+        return s;
+    }
+
+    /**
+     * Creates an {@link XYDoubleSeries}.
+     *
+     * @return The series.
+     */
+    private XYDoubleSeries createXYDoubleSeries() {
+        XYDoubleSeries s = new XYDoubleSeries("S", true, true);
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(i, Math.sin(i * 0.001), false);
+        }
+        return s;
+    }
+
+    /**
+     * Fills a new series.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public Object fill() {
+        if ("XYSeries".equals(this.seriesClass)) {
+            return createXYSeries();
+        }
+        return createXYDoubleSeries();
+    }
+
+    /**
+     * Reads all the x and y-values in the dataset.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    public double read() {
+        double total = 0.0;
+        int count = this.dataset.getItemCount(0);
+        for (int i = 0; i < count; i++) {
+            total += this.dataset.getXValue(0, i)
+                    + this.dataset.getYValue(0, i);
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,332 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * AsyncChartRenderer.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Abandon the drawing of a stale chart, and don't
+ *               hide exceptions thrown while drawing (agent);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Draws charts into off-screen images on a background thread, for a
+ * {@link ChartPanel} in asynchronous rendering mode (see
+ * {@link ChartPanel#setAsyncRendering(boolean)}).  At most one chart is
+ * drawn at a time, and requests that arrive while a chart is being drawn are
+ * coalesced, so that only the most recent is drawn next.  When a chart has
+ * been drawn, the result is passed to the {@link Callback} on the event
+ * dispatch thread, unless a newer request has been made in the meantime (a
+ * stale image is discarded).  A chart that becomes stale while it is being
+ * drawn is abandoned part way through (see {@link ChartHints#KEY_ABORT}).
+ */
+final class AsyncChartRenderer {
+
+    /**
+     * Receives the images drawn by the renderer.
+     */
+    interface Callback {
+
+        /**
+         * Called on the event dispatch thread when an image is ready.
+         *
+         * @param image  the image.
+         * @param info  the rendering info collected while drawing.
+         */
+        void renderFinished(BufferedImage image, ChartRenderingInfo info);
+
+    }
+
+    /** The executor that runs the drawing tasks. */
+    private final Executor executor;
+
+    /** The callback. */
+    private final Callback callback;
+
+    /** Incremented for each request (and each cancellation). */
+    private int generation;
+
+    /** A flag that indicates whether a drawing task is running. */
+    private boolean running;
+
+    /** The next request to draw (<code>null</code> if there is none). */
+    private Request pending;
+
+    /** The request being drawn (<code>null</code> if there is none). */
+    private Request drawing;
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param executor  the executor (<code>null</code> not permitted).
+     * @param callback  the callback (<code>null</code> not permitted).
+     */
+    AsyncChartRenderer(Executor executor, Callback callback) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Null 'executor' argument.");
+        }
+        if (callback == null) {
+            throw new IllegalArgumentException("Null 'callback' argument.");
+        }
+        this.executor = executor;
+        this.callback = callback;
+    }
+
+    /**
+     * Requests that a chart be drawn.  Any earlier request that has not yet
+     * started is discarded, and the result of any request that is being
+     * drawn will not be passed to the callback.
+     *
+     * @param chart  the chart.
+     * @param image  the image to draw on.
+     * @param chartArea  the area for the chart, before scaling.
+     * @param scaleX  the x-scale factor.
+     * @param scaleY  the y-scale factor.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info to collect.
+     */
+    void render(JFreeChart chart, BufferedImage image, Rectangle2D chartArea,
+            double scaleX, double scaleY, Point2D anchor,
+            ChartRenderingInfo info) {
+        Request request;
+        synchronized (this) {
+            this.generation++;
+            request = new Request(this.generation, chart, image, chartArea,
+                    scaleX, scaleY, anchor, info);
+            abandonDrawing();
+            if (this.running) {
+                this.pending = request;
+                return;
+            }
+            this.running = true;
+        }
+        submit(request);
+    }
+
+    /**
+     * Cancels all requests: any chart that is being drawn is abandoned, and
+     * its result will be discarded.
+     */
+    synchronized void cancel() {
+        this.generation++;
+        this.pending = null;
+        abandonDrawing();
+    }
+
+    /**
+     * Tells the plot that is drawing the current request (if there is one)
+     * to stop, since the request is stale.  This must be called while
+     * holding the lock.
+     */
+    private void abandonDrawing() {
+        if (this.drawing != null) {
+            this.drawing.abort.set(true);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the request has been superseded.
+     *
+     * @param request  the request.
+     *
+     * @return A boolean.
+     */
+    synchronized boolean isStale(Request request) {
+        return request.generation != this.generation;
+    }
+
+    /**
+     * Returns <code>true</code> if a chart is being drawn, or is waiting to
+     * be drawn.
+     *
+     * @return A boolean.
+     */
+    synchronized boolean isBusy() {
+        return this.running;
+    }
+
+    /**
+     * Passes a request to the executor.
+     *
+     * @param request  the request.
+     */
+    private void submit(final Request request) {
+        this.executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                draw(request);
+            }
+        });
+    }
+
+    /**
+     * Draws a chart (on the executor's thread), then starts the next request
+     * (if any).
+     *
+     * @param request  the request.
+     */
+    private void draw(final Request request) {
+        boolean drawn = false;
+        try {
+            synchronized (this) {
+                if (isStale(request)) {
+                    return;
+                }
+                this.drawing = request;
+            }
+            request.draw();
+            drawn = true;
+        }
+        finally {
+            Request next;
+            synchronized (this) {
+                this.drawing = null;
+                next = this.pending;
+                this.pending = null;
+                this.running = next != null;
+            }
+            if (next != null) {
+                submit(next);
+            }
+        }
+        if (drawn) {
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    if (!isStale(request)) {
+                        AsyncChartRenderer.this.callback.renderFinished(
+                                request.image, request.info);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * A request to draw a chart.
+     */
+    private static final class Request {
+
+        /** The generation when the request was made. */
+        private final int generation;
+
+        /** The chart. */
+        private final JFreeChart chart;
+
+        /** The image. */
+        private final BufferedImage image;
+
+        /** The area for the chart, before scaling. */
+        private final Rectangle2D chartArea;
+
+        /** The x-scale factor. */
+        private final double scaleX;
+
+        /** The y-scale factor. */
+        private final double scaleY;
+
+        /** The anchor point (possibly <code>null</code>). */
+        private final Point2D anchor;
+
+        /** The rendering info. */
+        private final ChartRenderingInfo info;
+
+        /** The flag that is set to abandon the drawing. */
+        private final AtomicBoolean abort;
+
+        /**
+         * Creates a new request.
+         *
+         * @param generation  the generation.
+         * @param chart  the chart.
+         * @param image  the image.
+         * @param chartArea  the area for the chart, before scaling.
+         * @param scaleX  the x-scale factor.
+         * @param scaleY  the y-scale factor.
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         * @param info  the rendering info.
+         */
+        Request(int generation, JFreeChart chart, BufferedImage image,
+                Rectangle2D chartArea, double scaleX, double scaleY,
+                Point2D anchor, ChartRenderingInfo info) {
+            this.generation = generation;
+            this.chart = chart;
+            this.image = image;
+            this.chartArea = chartArea;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.anchor = anchor;
+            this.info = info;
+            this.abort = new AtomicBoolean();
+        }
+
+        /**
+         * Clears the image and draws the chart on it.
+         */
+        void draw() {
+            Graphics2D g2 = this.image.createGraphics();
+            try {
+                g2.setComposite(AlphaComposite.getInstance(
+                        AlphaComposite.CLEAR, 0.0f));
+                g2.fillRect(0, 0, this.image.getWidth(),
+                        this.image.getHeight());
+                g2.setComposite(AlphaComposite.SrcOver);
+                g2.setRenderingHint(ChartHints.KEY_ABORT, this.abort);
+                if (this.scaleX != 1.0 || this.scaleY != 1.0) {
+                    g2.transform(AffineTransform.getScaleInstance(
+                            this.scaleX, this.scaleY));
+                }
+                this.chart.draw(g2, this.chartArea, this.anchor, this.info);
+            }
+            finally {
+                g2.dispose();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * ChartHints.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added KEY_ABORT (agent);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.RenderingHints;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rendering hints that can be set on a <code>Graphics2D</code> to control
+ * how charts are drawn on it.  These are not passed on to the Java2D
+ * rendering pipeline, they are read by the chart components.
+ *
+ * @see JFreeChart#draw(java.awt.Graphics2D, java.awt.geom.Rectangle2D,
+ *     java.awt.geom.Point2D, ChartRenderingInfo)
+ */
+public final class ChartHints {
+
+    /**
+     * A key for a hint that controls whether or not the plot draws its data
+     * layer---the data items, markers, annotations and crosshairs, which
+     * are drawn within the data area over the plot background and
+     * gridlines.  The value is a <code>Boolean</code>, if it is
+     * <code>Boolean.FALSE</code> the data layer is omitted (so that it can
+     * be drawn separately, see
+     * {@link org.jfree.chart.plot.XYPlot#drawDataLayer(
+     * java.awt.Graphics2D, java.awt.geom.Rectangle2D,
+     * java.awt.geom.Point2D, org.jfree.chart.plot.PlotRenderingInfo)}),
+     * otherwise it is drawn.  Only the {@link org.jfree.chart.plot.XYPlot}
+     * class currently respects this hint.
+     */
+    public static final Key KEY_DRAW_DATA_LAYER = new Key(0, Boolean.class);
+
+    /**
+     * A key for a hint that lets a chart that is being drawn be abandoned
+     * part way through.  The value is an <code>AtomicBoolean</code>, and
+     * once it is set the plot stops rendering data items (the chart is left
+     * incomplete).  This is used by a {@link ChartPanel} that draws charts
+     * in the background to stop drawing a chart that is out of date (see
+     * {@link ChartPanel#setAsyncRendering(boolean)}).  The
+     * {@link org.jfree.chart.plot.XYPlot} and
+     * {@link org.jfree.chart.plot.CategoryPlot} classes respect this hint.
+     */
+    public static final Key KEY_ABORT = new Key(1, AtomicBoolean.class);
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private ChartHints() {
+        // no instances
+    }
+
+    /**
+     * A key for a chart rendering hint.
+     */
+    public static final class Key extends RenderingHints.Key {
+
+        /** The class of the values for this key. */
+        private final Class<?> valueClass;
+
+        /**
+         * Creates a new key.
+         *
+         * @param privateKey  the private key (unique among the chart
+         *     hints).
+         * @param valueClass  the class of the values for the key.
+         */
+        private Key(int privateKey, Class<?> valueClass) {
+            super(privateKey);
+            this.valueClass = valueClass;
+        }
+
+        /**
+         * Returns <code>true</code> if the specified value is compatible
+         * with this key, and <code>false</code> otherwise.
+         *
+         * @param value  the value.
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean isCompatibleValue(Object value) {
+            return this.valueClass.isInstance(value);
+        }
+
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -166,6 +166,11 @@
  * 06-Jul-2009 : Clear off-screen buffer to fully transparent (DG);
  * 10-Oct-2011 : localization fix: bug #3353913 (MH);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added asynchronous rendering mode (agent);
+ * 16-Oct-2026 : Added incremental rendering mode (agent);
+ * 16-Oct-2026 : Added layered rendering mode (agent);
+ * 16-Oct-2026 : Fire progress events and pin the datasets when only the
+ *               data layer is drawn (agent);
  *
  */
 
@@ -198,6 +203,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -207,9 +213,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -221,25 +234,34 @@ import javax.swing.SwingUtilities;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.ui.ExtensionFileFilter;
 import org.jfree.chart.editor.ChartEditor;
 import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.event.OverlayChangeEvent;
 import org.jfree.chart.event.OverlayChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.panel.Overlay;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.SerialUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SnapshotPin;
+import org.jfree.data.xy.XYDataset;
 
 /**
  * A Swing GUI component for displaying a {@link JFreeChart} object.
@@ -327,6 +349,12 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** Zoom reset (range axis only) action command. */
     public static final String ZOOM_RESET_RANGE_COMMAND = "ZOOM_RESET_RANGE";
 
+    /**
+     * The executor shared by the panels that draw charts asynchronously
+     * (created when first needed).
+     */
+    private static ExecutorService defaultRenderExecutor;
+
     /** The chart that is displayed in the panel. */
     private JFreeChart chart;
 
@@ -348,6 +376,72 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the chart is drawn (into the
+     * off-screen buffer) on a background thread.
+     */
+    private boolean asyncRendering;
+
+    /**
+     * The executor for asynchronous rendering (<code>null</code> for the
+     * default executor).
+     */
+    private transient Executor renderExecutor;
+
+    /** Draws the chart in asynchronous mode (created when first needed). */
+    private transient AsyncChartRenderer asyncRenderer;
+
+    /** The rendering info that the next asynchronous render will collect. */
+    private transient ChartRenderingInfo asyncInfo;
+
+    /** A buffer that can be reused by the next asynchronous render. */
+    private transient BufferedImage spareBuffer;
+
+    /** The width of the chart requested from the asynchronous renderer. */
+    private int asyncWidth;
+
+    /** The height of the chart requested from the asynchronous renderer. */
+    private int asyncHeight;
+
+    /**
+     * A flag that controls whether or not items appended to the chart's
+     * datasets are drawn over the chart in the off-screen buffer, rather
+     * than redrawing the whole chart.
+     */
+    private boolean incrementalRendering;
+
+    /**
+     * The dataset change events for the items appended since the buffer was
+     * last drawn (<code>null</code> if there are none).
+     */
+    private transient List<DatasetChangeEvent> appendedItems;
+
+    /** The axis ranges when the buffer was last drawn in full. */
+    private transient List<Range> bufferAxisRanges;
+
+    /**
+     * A flag that controls whether or not the chart's background layer
+     * (everything except the plot's data layer) is kept in a separate
+     * buffer, so that changes to the data layer alone don't require the
+     * rest of the chart to be redrawn.
+     */
+    private boolean layeredRendering;
+
+    /**
+     * A buffer for the chart without the plot's data layer, used in layered
+     * rendering mode (<code>null</code> if not yet drawn).
+     */
+    private transient Image backgroundLayer;
+
+    /** A flag that indicates that the background layer should be redrawn. */
+    private boolean refreshBackgroundLayer;
+
+    /** The entities collected when the background layer was drawn. */
+    private transient List<ChartEntity> backgroundEntities;
+
+    /** The legend items when the background layer was drawn. */
+    private transient LegendItemCollection backgroundLegendItems;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -789,9 +883,13 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             this.domainZoomable = false;
             this.rangeZoomable = false;
         }
-        if (this.useBuffer) {
+        if (this.asyncRenderer != null) {
+            this.asyncRenderer.cancel();
+        }
+        if (this.useBuffer || this.asyncRendering) {
             this.refreshBuffer = true;
         }
+        this.refreshBackgroundLayer = true;
         repaint();
 
     }
@@ -1517,6 +1615,260 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the chart is drawn on a
+     * background thread.
+     *
+     * @return A boolean.
+     *
+     * @see #setAsyncRendering(boolean)
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn on a
+     * background thread.  In this mode, the chart is drawn into an
+     * off-screen buffer by the render executor (see
+     * {@link #setRenderExecutor(Executor)}) whenever it changes, and the
+     * panel displays the last chart that was completely drawn until the new
+     * one is ready, so that the user interface does not freeze while large
+     * charts are drawn.  Bursts of changes are coalesced: while the chart
+     * is being drawn, only the most recent change is queued, and a chart
+     * that is out of date by the time it has been drawn is discarded.
+     * <P>
+     * Since the chart is drawn while the event dispatch thread continues to
+     * run, the chart and its datasets must not be modified in a way that
+     * could cause an exception while it is being drawn (datasets that are
+     * appended to are usually fine, the chart is redrawn after the change).
+     * The rendering info (see {@link #getChartRenderingInfo()}) is replaced
+     * each time a new chart is displayed.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isAsyncRendering()
+     */
+    public void setAsyncRendering(boolean flag) {
+        if (this.asyncRendering == flag) {
+            return;
+        }
+        this.asyncRendering = flag;
+        if (!flag && this.asyncRenderer != null) {
+            this.asyncRenderer.cancel();
+        }
+        this.asyncWidth = 0;
+        this.asyncHeight = 0;
+        this.chartBuffer = null;
+        this.spareBuffer = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether or not items appended to the
+     * chart's datasets are drawn over the chart in the off-screen buffer.
+     *
+     * @return A boolean.
+     *
+     * @see #setIncrementalRendering(boolean)
+     */
+    public boolean isIncrementalRendering() {
+        return this.incrementalRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not items appended to the
+     * chart's datasets are drawn over the chart in the off-screen buffer,
+     * rather than redrawing the whole chart.  This is much faster for
+     * charts that grow as data arrives, since the time taken to update the
+     * chart depends only on the number of new items.  It applies only to
+     * an {@link XYPlot} that is drawn with the off-screen buffer (and not
+     * asynchronously), and only when the dataset describes the change (see
+     * {@link DatasetChangeEvent#getInfo()}).  The whole chart is redrawn
+     * if any other change is made to the chart, if the axis ranges change,
+     * if items are removed from a series, or whenever the plot cannot draw
+     * the new items by themselves (see {@link XYPlot#drawAppendedItems(
+     * Graphics2D, Rectangle2D, PlotRenderingInfo, XYDataset, int, int,
+     * int)}).
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isIncrementalRendering()
+     */
+    public void setIncrementalRendering(boolean flag) {
+        this.incrementalRendering = flag;
+        this.appendedItems = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the chart's background
+     * layer is kept in a separate buffer.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayeredRendering(boolean)
+     */
+    public boolean isLayeredRendering() {
+        return this.layeredRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart's background
+     * layer is kept in a separate buffer.  In this mode, the chart is drawn
+     * into the off-screen buffer in two layers: a background layer that is
+     * kept in a second buffer, with the chart background, titles, legend,
+     * axes and gridlines; and the data layer of the plot, with the data
+     * items, markers, annotations and crosshairs (see
+     * {@link XYPlot#drawDataLayer(Graphics2D, Rectangle2D,
+     * java.awt.geom.Point2D, PlotRenderingInfo)}).  When a dataset, marker,
+     * annotation or crosshair changes (see
+     * {@link ChartChangeEventType#DATA_LAYER_UPDATED}) and the axis ranges
+     * and legend items are unchanged, only the data layer is redrawn over a
+     * copy of the background layer.  Any other change to the chart redraws
+     * both layers.  This mode applies only to an {@link XYPlot} drawn with
+     * the off-screen buffer (and not asynchronously), and uses extra memory
+     * for the second buffer.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isLayeredRendering()
+     */
+    public void setLayeredRendering(boolean flag) {
+        this.layeredRendering = flag;
+        this.backgroundLayer = null;
+        this.backgroundEntities = null;
+        this.backgroundLegendItems = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the executor used to draw the chart in asynchronous mode.
+     *
+     * @return The executor (<code>null</code> if the default executor, which
+     *     is shared by all panels, is used).
+     *
+     * @see #setRenderExecutor(Executor)
+     */
+    public Executor getRenderExecutor() {
+        return this.renderExecutor;
+    }
+
+    /**
+     * Sets the executor used to draw the chart in asynchronous mode.  The
+     * panel never submits more than one task at a time to the executor.
+     *
+     * @param executor  the executor (<code>null</code> to use the default
+     *     executor).
+     *
+     * @see #setAsyncRendering(boolean)
+     */
+    public void setRenderExecutor(Executor executor) {
+        if (this.asyncRenderer != null) {
+            this.asyncRenderer.cancel();
+            this.asyncRenderer = null;
+        }
+        this.renderExecutor = executor;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the executor shared by all panels that draw charts
+     * asynchronously without a specific executor.  Its threads are daemon
+     * threads that are discarded when they have been idle for a minute.
+     *
+     * @return The executor.
+     */
+    private static Executor getDefaultRenderExecutor() {
+        synchronized (ChartPanel.class) {
+            if (defaultRenderExecutor == null) {
+                ThreadFactory factory = new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "JFreeChart renderer");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                };
+                defaultRenderExecutor = new ThreadPoolExecutor(0,
+                        Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                        new SynchronousQueue<Runnable>(), factory);
+            }
+            return defaultRenderExecutor;
+        }
+    }
+
+    /**
+     * Requests that the chart be drawn in the background.
+     *
+     * @param gc  the graphics configuration for the buffer.
+     * @param width  the buffer width.
+     * @param height  the buffer height.
+     * @param chartArea  the area for the chart (before scaling).
+     */
+    private void requestAsyncRender(GraphicsConfiguration gc, int width,
+            int height, Rectangle2D chartArea) {
+        if (this.asyncRenderer == null) {
+            Executor executor = this.renderExecutor;
+            if (executor == null) {
+                executor = getDefaultRenderExecutor();
+            }
+            this.asyncRenderer = new AsyncChartRenderer(executor,
+                    new AsyncChartRenderer.Callback() {
+                @Override
+                public void renderFinished(BufferedImage image,
+                        ChartRenderingInfo info) {
+                    asyncRenderFinished(image, info);
+                }
+            });
+        }
+        BufferedImage image = this.spareBuffer;
+        this.spareBuffer = null;
+        if (image == null || image.getWidth() != width
+                || image.getHeight() != height) {
+            image = gc.createCompatibleImage(width, height,
+                    Transparency.TRANSLUCENT);
+        }
+        if (this.asyncInfo == null) {
+            try {
+                this.asyncInfo = (ChartRenderingInfo) this.info.clone();
+            }
+            catch (CloneNotSupportedException e) {
+                this.asyncInfo = new ChartRenderingInfo();
+            }
+        }
+        this.asyncRenderer.render(this.chart, image, chartArea, this.scaleX,
+                this.scaleY, this.anchor, this.asyncInfo);
+    }
+
+    /**
+     * Displays a chart drawn in the background (called on the event
+     * dispatch thread).
+     *
+     * @param image  the image.
+     * @param info  the rendering info collected while drawing.
+     */
+    private void asyncRenderFinished(BufferedImage image,
+            ChartRenderingInfo info) {
+        if (!this.asyncRendering) {
+            return;
+        }
+        if (this.chartBuffer instanceof BufferedImage
+                && this.chartBuffer != image) {
+            this.spareBuffer = (BufferedImage) this.chartBuffer;
+        }
+        this.chartBuffer = image;
+        this.chartBufferWidth = image.getWidth();
+        this.chartBufferHeight = image.getHeight();
+        this.asyncInfo = this.info;
+        this.info = info;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1572,8 +1924,29 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         Rectangle2D chartArea = new Rectangle2D.Double(0.0, 0.0, drawWidth,
                 drawHeight);
 
+        // are we drawing the chart in the background?
+        if (this.asyncRendering) {
+            int width = (int) available.getWidth();
+            int height = (int) available.getHeight();
+            if (this.refreshBuffer || width != this.asyncWidth
+                    || height != this.asyncHeight) {
+                this.refreshBuffer = false;
+                this.asyncWidth = width;
+                this.asyncHeight = height;
+                if (width > 0 && height > 0) {
+                    requestAsyncRender(g2.getDeviceConfiguration(), width,
+                            height, chartArea);
+                }
+            }
+
+            // show the last chart drawn until the new one is ready
+            if (this.chartBuffer != null) {
+                g2.drawImage(this.chartBuffer, insets.left, insets.top, this);
+            }
+        }
+
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
@@ -1585,9 +1958,16 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.chartBuffer = gc.createCompatibleImage(
                         this.chartBufferWidth, this.chartBufferHeight,
                         Transparency.TRANSLUCENT);
+                this.backgroundLayer = null;
                 this.refreshBuffer = true;
             }
 
+            // can we just draw the new items over the buffer?
+            if (!this.refreshBuffer && this.appendedItems != null) {
+                this.refreshBuffer = !drawAppendedItems(scale);
+            }
+            this.appendedItems = null;
+
             // do we need to redraw the buffer?
             if (this.refreshBuffer) {
 
@@ -1607,7 +1987,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 bufferG2.fill(r);
                 bufferG2.setComposite(savedComposite);
 
-                if (scale) {
+                if (this.layeredRendering && canDrawLayers()) {
+                    drawLayers(bufferG2, scale ? chartArea : bufferArea,
+                            scale);
+                }
+                else if (scale) {
                     AffineTransform saved = bufferG2.getTransform();
                     AffineTransform st = AffineTransform.getScaleInstance(
                             this.scaleX, this.scaleY);
@@ -1620,6 +2004,8 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                     this.chart.draw(bufferG2, bufferArea, this.anchor,
                             this.info);
                 }
+                bufferG2.dispose();
+                this.bufferAxisRanges = getAxisRanges();
 
             }
 
@@ -1650,7 +2036,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // redraw the zoom rectangle (if present) - if useBuffer is false,
         // we use XOR so we can XOR the rectangle away again without redrawing
         // the chart
-        drawZoomRectangle(g2, !this.useBuffer);
+        drawZoomRectangle(g2, !this.useBuffer && !this.asyncRendering);
 
         g2.dispose();
 
@@ -1667,7 +2053,19 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        DatasetChangeEvent append = getAppend(event);
+        if (append != null && !this.refreshBuffer) {
+            if (this.appendedItems == null) {
+                this.appendedItems = new ArrayList<DatasetChangeEvent>();
+            }
+            this.appendedItems.add(append);
+        }
+        else {
+            this.refreshBuffer = true;
+        }
+        if (!isDataLayerChange(event)) {
+            this.refreshBackgroundLayer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -1676,6 +2074,201 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         repaint();
     }
 
+    /**
+     * Returns the dataset change event for a chart change event that
+     * resulted only from items being appended to one series of a dataset in
+     * the chart's plot, or <code>null</code> if the change is anything else
+     * or if the panel is not in incremental rendering mode.
+     *
+     * @param event  the chart change event.
+     *
+     * @return The dataset change event (possibly <code>null</code>).
+     */
+    private DatasetChangeEvent getAppend(ChartChangeEvent event) {
+        if (!this.incrementalRendering || !this.useBuffer
+                || this.asyncRendering || !(event instanceof PlotChangeEvent)) {
+            return null;
+        }
+        PlotChangeEvent pce = (PlotChangeEvent) event;
+        if (pce.getPlot() != this.chart.getPlot()
+                || !(pce.getPlot() instanceof XYPlot)) {
+            return null;
+        }
+        DatasetChangeEvent dce = pce.getDatasetChangeEvent();
+        if (dce == null || !(dce.getDataset() instanceof XYDataset)) {
+            return null;
+        }
+        DatasetChangeInfo info = dce.getInfo();
+        if (info == null || !info.getSeriesChange().isPureAppend()) {
+            return null;
+        }
+        return dce;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified event is for a change to
+     * the chart's plot that affects only the plot's data layer (provided
+     * that the axis ranges and legend items are unchanged), and
+     * <code>false</code> otherwise.
+     *
+     * @param event  the chart change event.
+     *
+     * @return A boolean.
+     */
+    private boolean isDataLayerChange(ChartChangeEvent event) {
+        if (!(event instanceof PlotChangeEvent)) {
+            return false;
+        }
+        if (((PlotChangeEvent) event).getPlot() != this.chart.getPlot()) {
+            return false;
+        }
+        return event.getType() == ChartChangeEventType.DATASET_UPDATED
+                || event.getType() == ChartChangeEventType.DATA_LAYER_UPDATED;
+    }
+
+    /**
+     * Returns <code>true</code> if the chart can be drawn in layers, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    private boolean canDrawLayers() {
+        Plot plot = this.chart.getPlot();
+        return plot instanceof XYPlot
+                && ((XYPlot) plot).isDataLayerSeparable();
+    }
+
+    /**
+     * Draws the chart into the buffer in layered rendering mode.  The
+     * background layer is redrawn (into its own buffer) if necessary, then
+     * copied to the buffer, and finally the plot's data layer is drawn over
+     * it.
+     *
+     * @param bufferG2  the graphics device for the buffer.
+     * @param area  the area for the chart (before scaling).
+     * @param scale  a flag that indicates whether the chart is scaled.
+     */
+    private void drawLayers(Graphics2D bufferG2, Rectangle2D area,
+            boolean scale) {
+        // both layers read the same versions of the datasets
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            XYPlot plot = (XYPlot) this.chart.getPlot();
+            LegendItemCollection legendItems = plot.getLegendItems();
+            EntityCollection entities = this.info.getEntityCollection();
+            if (this.backgroundLayer == null || this.refreshBackgroundLayer
+                    || !getAxisRanges().equals(this.bufferAxisRanges)
+                    || !legendItems.equals(this.backgroundLegendItems)) {
+                if (this.backgroundLayer == null) {
+                    this.backgroundLayer = bufferG2.getDeviceConfiguration()
+                            .createCompatibleImage(this.chartBufferWidth,
+                            this.chartBufferHeight, Transparency.TRANSLUCENT);
+                }
+                Graphics2D g2 = (Graphics2D) this.backgroundLayer.getGraphics();
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(0, 0, this.chartBufferWidth,
+                        this.chartBufferHeight);
+                g2.setComposite(AlphaComposite.SrcOver);
+                if (scale) {
+                    g2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                            this.scaleY));
+                }
+                this.chart.drawBackgroundLayer(g2, area, this.anchor,
+                        this.info);
+                g2.dispose();
+                this.refreshBackgroundLayer = false;
+                this.backgroundLegendItems = legendItems;
+                this.backgroundEntities = entities == null ? null
+                        : new ArrayList<ChartEntity>(entities.getEntities());
+            }
+            else if (entities != null && this.backgroundEntities != null) {
+                // discard the entities from the last data layer
+                entities.clear();
+                for (ChartEntity entity : this.backgroundEntities) {
+                    entities.add(entity);
+                }
+            }
+
+            Composite savedComposite = bufferG2.getComposite();
+            bufferG2.setComposite(AlphaComposite.Src);
+            bufferG2.drawImage(this.backgroundLayer, 0, 0, null);
+            bufferG2.setComposite(savedComposite);
+            AffineTransform saved = bufferG2.getTransform();
+            if (scale) {
+                bufferG2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                        this.scaleY));
+            }
+            this.chart.drawDataLayer(bufferG2, this.anchor, this.info);
+            bufferG2.setTransform(saved);
+        }
+        finally {
+            pin.release();
+        }
+    }
+
+    /**
+     * Returns the ranges of all the axes in the chart's plot (or
+     * <code>null</code> if the plot is not an {@link XYPlot}).
+     *
+     * @return The ranges (possibly <code>null</code>).
+     */
+    private List<Range> getAxisRanges() {
+        if (!(this.chart.getPlot() instanceof XYPlot)) {
+            return null;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        List<Range> result = new ArrayList<Range>();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis == null ? null : axis.getRange());
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis == null ? null : axis.getRange());
+        }
+        return result;
+    }
+
+    /**
+     * Draws the items appended to the chart's datasets since the buffer was
+     * last drawn over the chart in the buffer.
+     *
+     * @param scale  a flag that indicates whether the chart in the buffer
+     *     was scaled.
+     *
+     * @return A boolean that indicates whether or not the items were drawn
+     *     (if not, the buffer must be redrawn in full).
+     */
+    private boolean drawAppendedItems(boolean scale) {
+        List<Range> ranges = getAxisRanges();
+        if (ranges == null || !ranges.equals(this.bufferAxisRanges)
+                || this.anchor != null) {
+            return false;
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
+        Rectangle2D dataArea = plotInfo.getDataArea();
+        Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
+        bufferG2.addRenderingHints(this.chart.getRenderingHints());
+        if (scale) {
+            bufferG2.transform(AffineTransform.getScaleInstance(this.scaleX,
+                    this.scaleY));
+        }
+        boolean result = true;
+        for (DatasetChangeEvent event : this.appendedItems) {
+            DatasetChangeInfo info = event.getInfo();
+            result = plot.drawAppendedItems(bufferG2, dataArea, plotInfo,
+                    (XYDataset) event.getDataset(), info.getSeries(),
+                    info.getSeriesChange().getFirstItem(),
+                    info.getSeriesChange().getLastItem());
+            if (!result) {
+                break;
+            }
+        }
+        bufferG2.dispose();
+        return result;
+    }
+
     /**
      * Receives notification of a chart progress event.
      *
@@ -1917,7 +2510,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // this is we are using XOR mode, which we do when we're not using
         // the buffer (if there is a buffer, then at the end of this method we
         // just trigger a repaint)
-        if (!this.useBuffer) {
+        if (!this.useBuffer && !this.asyncRendering) {
             drawZoomRectangle(g2, true);
         }
 
@@ -1955,7 +2548,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         }
 
         // Draw the new zoom rectangle...
-        if (this.useBuffer) {
+        if (this.useBuffer || this.asyncRendering) {
             repaint();
         }
         else {
@@ -2046,7 +2639,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             else {
                 // erase the zoom rectangle
                 Graphics2D g2 = (Graphics2D) getGraphics();
-                if (this.useBuffer) {
+                if (this.useBuffer || this.asyncRendering) {
                     repaint();
                 }
                 else {
@@ -2084,7 +2677,15 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         if (this.chart == null) {
             return;
         }
-        this.chart.setNotify(true);  // force a redraw
+        if (this.layeredRendering && this.useBuffer && !this.asyncRendering
+                && canDrawLayers()) {
+            // the anchor only affects the data layer
+            this.refreshBuffer = true;
+            repaint();
+        }
+        else {
+            this.chart.setNotify(true);  // force a redraw
+        }
         // new entity code...
         Object[] listeners = this.chartMouseListeners.getListeners(
                 ChartMouseListener.class);
@@ -45,6 +45,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Fixed equals() and clone() (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Mention GridEntityCollection in the constructor docs (agent);
  *
  */
 
@@ -107,7 +108,10 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      * Constructs a new instance. If an entity collection is supplied, it will
      * be populated with information about the entities in a chart.  If it is
      * <code>null</code>, no entity information (including tool tips) will
-     * be collected.
+     * be collected.  For charts with a large number of entities, a
+     * {@link org.jfree.chart.entity.GridEntityCollection} finds the entity at
+     * a point (for example, to display a tool tip) much faster than the
+     * default {@link StandardEntityCollection}.
      *
      * @param entities  an entity collection (<code>null</code> permitted).
      */
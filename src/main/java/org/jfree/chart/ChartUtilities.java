@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,7 +27,7 @@
  * -------------------
  * ChartUtilities.java
  * -------------------
- * (C) Copyright 2001-2008, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2001-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   Wolfgang Irler;
@@ -72,6 +72,8 @@
  *               methods (DG);
  * 10-Jan-2008 : Fix bug 1868251 - don't create image with transparency when
  *               saving to JPEG format (DG);
+ * 16-Oct-2026 : Added methods to write large charts as PNG in tiles (agent);
+ * 16-Oct-2026 : Added serialVersionUID to BandTask (agent);
  *
  */
 
@@ -87,9 +89,16 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.jfree.chart.encoders.EncoderUtil;
 import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.encoders.StreamingPNGEncoder;
+import org.jfree.chart.encoders.StreamingPNGEncoder.EncodedRows;
 import org.jfree.chart.imagemap.ImageMapUtilities;
 import org.jfree.chart.imagemap.OverLIBToolTipTagFragmentGenerator;
 import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
@@ -107,6 +116,13 @@ import org.jfree.chart.util.ParamChecks;
  */
 public abstract class ChartUtilities {
 
+    /**
+     * The approximate number of pixels in each band of an image written by
+     * {@link #writeChartAsTiledPNG(OutputStream, JFreeChart, int, int,
+     * double, double, ChartRenderingInfo, boolean, int)}.
+     */
+    private static final int BAND_PIXELS = 1 << 22;
+
     /**
      * Applies the current theme to the specified chart.  This method is
      * provided for convenience, the theme itself is stored in the
@@ -348,6 +364,140 @@ public abstract class ChartUtilities {
 
     }
 
+    /**
+     * Writes a chart to an output stream in PNG format, drawing the image in
+     * bands on several threads and encoding each band as soon as it is
+     * ready, so that the full image is never held in memory.  This is
+     * intended for very large images, see
+     * {@link #writeChartAsTiledPNG(OutputStream, JFreeChart, int, int,
+     * double, double, ChartRenderingInfo, boolean, int)} for details.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public static void writeChartAsTiledPNG(OutputStream out,
+            JFreeChart chart, int width, int height, ChartRenderingInfo info)
+            throws IOException {
+
+        // defer argument checking...
+        writeChartAsTiledPNG(out, chart, width, height, width, height, info,
+                true, 4);
+
+    }
+
+    /**
+     * Writes a chart to an output stream in PNG format, drawing the image in
+     * bands on several threads and encoding each band as soon as it is
+     * ready.  The chart is drawn once (on the calling thread) into a
+     * recording of the drawing operations, then the recording is replayed
+     * into horizontal bands of the image (each of around four million
+     * pixels) using the common fork-join pool.  Each band is also filtered
+     * and compressed on the pool by a {@link StreamingPNGEncoder}, leaving
+     * just the output of the compressed bands, in order, to the calling
+     * thread.  Only a few bands are held in memory at any time, rather than
+     * the full image (which for a 20000 x 8000 image would need 640MB).
+     * The pixels are the same as those in the image returned by
+     * {@link JFreeChart#createBufferedImage(int, int, double, double,
+     * ChartRenderingInfo)}.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param imageWidth  the image width.
+     * @param imageHeight  the image height.
+     * @param drawWidth  the width for drawing the chart (will be scaled to
+     *                   fit image).
+     * @param drawHeight  the height for drawing the chart (will be scaled to
+     *                    fit image).
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     * @param encodeAlpha  encode alpha?
+     * @param compression  the PNG compression level (0-9).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public static void writeChartAsTiledPNG(OutputStream out,
+            JFreeChart chart, int imageWidth, int imageHeight,
+            double drawWidth, double drawHeight, ChartRenderingInfo info,
+            boolean encodeAlpha, int compression) throws IOException {
+
+        ParamChecks.nullNotPermitted(out, "out");
+        ParamChecks.nullNotPermitted(chart, "chart");
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder(out,
+                imageWidth, imageHeight, encodeAlpha, compression);
+
+        // the chart keeps layout state while it is drawn, so it is drawn
+        // just once and the recording is replayed for each band
+        RecordingGraphics2D recording = new RecordingGraphics2D();
+        recording.transform(AffineTransform.getScaleInstance(
+                imageWidth / drawWidth, imageHeight / drawHeight));
+        chart.draw(recording, new Rectangle2D.Double(0, 0, drawWidth,
+                drawHeight), null, info);
+        recording.dispose();
+
+        int bandHeight = Math.max(1, Math.min(imageHeight,
+                BAND_PIXELS / imageWidth));
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int maxPending = pool.getParallelism() + 1;
+        Deque<ForkJoinTask<EncodedRows>> pending
+                = new ArrayDeque<ForkJoinTask<EncodedRows>>();
+        try {
+            int y = 0;
+            while (y < imageHeight || !pending.isEmpty()) {
+                while (y < imageHeight && pending.size() < maxPending) {
+                    int h = Math.min(bandHeight, imageHeight - y);
+                    pending.addLast(pool.submit(new BandTask(recording,
+                            encoder, y, h)));
+                    y += h;
+                }
+                encoder.writeRows(pending.removeFirst().join());
+            }
+        }
+        finally {
+            for (ForkJoinTask<EncodedRows> task : pending) {
+                task.cancel(false);
+            }
+        }
+        encoder.finish();
+
+    }
+
+    /**
+     * Saves a chart to a file in PNG format, drawing the image in bands on
+     * several threads (see {@link #writeChartAsTiledPNG(OutputStream,
+     * JFreeChart, int, int, double, double, ChartRenderingInfo, boolean,
+     * int)}).
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  the chart rendering info (<code>null</code> permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public static void saveChartAsTiledPNG(File file, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info)
+            throws IOException {
+
+        ParamChecks.nullNotPermitted(file, "file");
+        ParamChecks.nullNotPermitted(chart, "chart");
+
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writeChartAsTiledPNG(out, chart, width, height, info);
+        }
+        finally {
+            out.close();
+        }
+
+    }
+
     /**
      * Writes a chart to an output stream in JPEG format.  Please note that
      * JPEG is a poor format for chart images, use PNG if possible.
@@ -732,4 +882,54 @@ public abstract class ChartUtilities {
 
     }
 
+    /**
+     * A task that draws one band of a chart image by replaying a recording,
+     * then encodes the band.
+     */
+    private static class BandTask extends RecursiveTask<EncodedRows> {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3283106299246661562L;
+
+        /** The recording. */
+        private final RecordingGraphics2D recording;
+
+        /** The encoder. */
+        private final StreamingPNGEncoder encoder;
+
+        /** The y-coordinate of the top of the band. */
+        private final int y;
+
+        /** The height of the band. */
+        private final int height;
+
+        /**
+         * Creates a new task.
+         *
+         * @param recording  the recording.
+         * @param encoder  the encoder.
+         * @param y  the y-coordinate of the top of the band.
+         * @param height  the height of the band.
+         */
+        BandTask(RecordingGraphics2D recording, StreamingPNGEncoder encoder,
+                int y, int height) {
+            this.recording = recording;
+            this.encoder = encoder;
+            this.y = y;
+            this.height = height;
+        }
+
+        @Override
+        protected EncodedRows compute() {
+            BufferedImage image = new BufferedImage(this.encoder.getWidth(),
+                    this.height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.translate(0, -this.y);
+            this.recording.replay(g2, this.y, this.y + this.height);
+            g2.dispose();
+            return this.encoder.encodeRows(image);
+        }
+
+    }
+
 }
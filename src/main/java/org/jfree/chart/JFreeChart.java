@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -148,6 +148,9 @@
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 29-Jun-2009 : Check visibility flag in main title (DG);
+ * 16-Oct-2026 : Pin the dataset snapshots while drawing (agent);
+ * 16-Oct-2026 : Fire progress events when only the data layer is drawn
+ *               (agent);
  *
  */
 
@@ -203,12 +206,14 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.SerialUtilities;
 import org.jfree.data.Range;
+import org.jfree.data.general.SnapshotPin;
 
 /**
  * A chart class implemented using the Java 2D APIs.  The current version
@@ -1082,9 +1087,91 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
                      ChartRenderingInfo info) {
+        // datasets in concurrent mode are read as they were at this point,
+        // even if they are updated by another thread while the chart is drawn
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            notifyListeners(new ChartProgressEvent(this, this,
+                    ChartProgressEvent.DRAWING_STARTED, 0));
+            drawChart(g2, chartArea, anchor, info);
+            notifyListeners(new ChartProgressEvent(this, this,
+                    ChartProgressEvent.DRAWING_FINISHED, 100));
+        }
+        finally {
+            pin.release();
+        }
+    }
 
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_STARTED, 0));
+    /**
+     * Draws the chart without the data layer of its plot, for a
+     * {@link ChartPanel} in layered rendering mode.  No progress events are
+     * fired, since the drawing is not complete until
+     * {@link #drawDataLayer(Graphics2D, Point2D, ChartRenderingInfo)} is
+     * called.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  records info about the drawing (<code>null</code>
+     *     permitted).
+     */
+    void drawBackgroundLayer(Graphics2D g2, Rectangle2D chartArea,
+            Point2D anchor, ChartRenderingInfo info) {
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            g2.setRenderingHint(ChartHints.KEY_DRAW_DATA_LAYER,
+                    Boolean.FALSE);
+            drawChart(g2, chartArea, anchor, info);
+        }
+        finally {
+            pin.release();
+        }
+    }
+
+    /**
+     * Draws the data layer of the chart's plot (which must be an
+     * {@link XYPlot}) over a background layer drawn earlier by
+     * {@link #drawBackgroundLayer(Graphics2D, Rectangle2D, Point2D,
+     * ChartRenderingInfo)}, in the data area recorded at that time.  The
+     * datasets are pinned and progress events are fired, as for
+     * {@link #draw(Graphics2D, Rectangle2D, Point2D, ChartRenderingInfo)}, so
+     * that listeners can read the crosshair values for the new anchor.
+     *
+     * @param g2  the graphics device.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info from drawing the background layer
+     *     (<code>null</code> not permitted).
+     */
+    void drawDataLayer(Graphics2D g2, Point2D anchor,
+            ChartRenderingInfo info) {
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            notifyListeners(new ChartProgressEvent(this, this,
+                    ChartProgressEvent.DRAWING_STARTED, 0));
+            g2.addRenderingHints(this.renderingHints);
+            PlotRenderingInfo plotInfo = info.getPlotInfo();
+            ((XYPlot) this.plot).drawDataLayer(g2, plotInfo.getDataArea(),
+                    anchor, plotInfo);
+            notifyListeners(new ChartProgressEvent(this, this,
+                    ChartProgressEvent.DRAWING_FINISHED, 100));
+        }
+        finally {
+            pin.release();
+        }
+    }
+
+    /**
+     * Draws the chart (see
+     * {@link #draw(Graphics2D, Rectangle2D, Point2D, ChartRenderingInfo)}).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  records info about the drawing (<code>null</code>
+     *     permitted).
+     */
+    private void drawChart(Graphics2D g2, Rectangle2D chartArea,
+            Point2D anchor, ChartRenderingInfo info) {
 
         EntityCollection entities = null;
         // record the chart area, if info is requested...
@@ -1171,9 +1258,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         this.plot.draw(g2, plotArea, anchor, null, plotInfo);
 
         g2.setClip(savedClip);
-
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_FINISHED, 100));
     }
 
     /**
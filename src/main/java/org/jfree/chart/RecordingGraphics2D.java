@@ -0,0 +1,1101 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * RecordingGraphics2D.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RectangularShape;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Graphics2D} that records the operations performed on it so that
+ * they can be replayed, any number of times and from any thread, onto other
+ * graphics targets.  This is used by
+ * {@link ChartUtilities#writeChartAsTiledPNG(java.io.OutputStream,
+ * JFreeChart, int, int, double, double, ChartRenderingInfo, boolean, int)}
+ * to draw a chart once and then rasterize bands of the image in parallel,
+ * since the chart itself (the titles and legend in particular keep layout
+ * state while they are drawn) should only be drawn by one thread at a time.
+ * <p>
+ * The graphics state (transform, clip, paint, rendering hints and so on) is
+ * maintained by the graphics for a small image, so that queries such as
+ * {@link #getFontMetrics(Font)} give the same results as they would when
+ * drawing directly to an image.  Shapes are copied as they are recorded,
+ * since renderers may reuse the same shape for successive data items.
+ */
+final class RecordingGraphics2D extends Graphics2D {
+
+    /** The recording (shared with the graphics created from this one). */
+    private final Recording recording;
+
+    /** The index of this graphics within the recording. */
+    private final int index;
+
+    /** The graphics that maintains the current state. */
+    private final Graphics2D state;
+
+    /** The current transform (<code>null</code> if not yet fetched). */
+    private AffineTransform transform;
+
+    /**
+     * Creates a new graphics with an empty recording.
+     */
+    RecordingGraphics2D() {
+        BufferedImage image = new BufferedImage(1, 1,
+                BufferedImage.TYPE_INT_ARGB);
+        this.recording = new Recording();
+        this.index = this.recording.graphicsCount++;
+        this.state = image.createGraphics();
+    }
+
+    /**
+     * Creates a new graphics that records to an existing recording.
+     *
+     * @param recording  the recording.
+     * @param state  the graphics that maintains the state.
+     */
+    private RecordingGraphics2D(Recording recording, Graphics2D state) {
+        this.recording = recording;
+        this.index = recording.graphicsCount++;
+        this.state = state;
+    }
+
+    /**
+     * Returns the number of operations recorded.
+     *
+     * @return The number of operations.
+     */
+    int getOperationCount() {
+        return this.recording.ops.size();
+    }
+
+    /**
+     * Replays the recorded operations onto another graphics target.  The
+     * state of the target (typically just a translation, so that a band of
+     * the drawing is rendered into a smaller image) is taken as the starting
+     * point for the replayed operations, and is not modified.  Drawing
+     * operations that lie entirely outside the specified range of
+     * y-coordinates (in the device space of the recording) are skipped.
+     * This method may be called by several threads at once.
+     *
+     * @param g2  the graphics target.
+     * @param minY  the minimum y-coordinate of interest.
+     * @param maxY  the maximum y-coordinate of interest.
+     */
+    void replay(Graphics2D g2, double minY, double maxY) {
+        AffineTransform base = g2.getTransform();
+        Graphics2D[] graphics = new Graphics2D[this.recording.graphicsCount];
+        graphics[this.index] = (Graphics2D) g2.create();
+        for (Op op : this.recording.ops) {
+            if (op.maxY < minY || op.minY > maxY) {
+                continue;
+            }
+            Graphics2D target = graphics[op.graphics];
+            if (op instanceof CreateOp) {
+                graphics[((CreateOp) op).child] = (Graphics2D) target.create();
+            }
+            else {
+                op.replay(target, base);
+            }
+        }
+        for (Graphics2D g : graphics) {
+            if (g != null) {
+                g.dispose();
+            }
+        }
+    }
+
+    /**
+     * Records an operation that changes the state.
+     *
+     * @param op  the operation.
+     */
+    private void add(Op op) {
+        op.graphics = this.index;
+        this.recording.ops.add(op);
+    }
+
+    /**
+     * Records a drawing operation, with the range of y-coordinates (in
+     * device space) that it can change.
+     *
+     * @param op  the operation.
+     * @param bounds  the bounds of the operation (in user space).
+     * @param stroked  <code>true</code> if the bounds are for a shape that
+     *     is drawn with the current stroke.
+     */
+    private void add(Op op, Rectangle2D bounds, boolean stroked) {
+        if (this.transform == null) {
+            this.transform = this.state.getTransform();
+        }
+        double m10 = this.transform.getShearY();
+        double m11 = this.transform.getScaleY();
+        double x0 = m10 * bounds.getMinX();
+        double x1 = m10 * bounds.getMaxX();
+        double y0 = m11 * bounds.getMinY();
+        double y1 = m11 * bounds.getMaxY();
+        double min = Math.min(x0, x1) + Math.min(y0, y1);
+        double max = Math.max(x0, x1) + Math.max(y0, y1);
+        // allow for antialiasing and stroke normalization
+        double margin = 2.0;
+        if (stroked) {
+            Stroke stroke = this.state.getStroke();
+            if (stroke instanceof BasicStroke) {
+                BasicStroke bs = (BasicStroke) stroke;
+                double factor = Math.sqrt(2.0);  // for square caps
+                if (bs.getLineJoin() == BasicStroke.JOIN_MITER) {
+                    factor = Math.max(factor, bs.getMiterLimit());
+                }
+                margin += bs.getLineWidth() / 2.0 * factor
+                        * Math.sqrt(m10 * m10 + m11 * m11);
+            }
+            else {
+                margin = Double.POSITIVE_INFINITY;
+            }
+        }
+        op.minY = min + this.transform.getTranslateY() - margin;
+        op.maxY = max + this.transform.getTranslateY() + margin;
+        add(op);
+    }
+
+    /**
+     * Records a drawing operation with the specified bounds.
+     *
+     * @param op  the operation.
+     * @param x  the x-coordinate of the bounds.
+     * @param y  the y-coordinate of the bounds.
+     * @param w  the width of the bounds.
+     * @param h  the height of the bounds.
+     * @param stroked  is the shape drawn with the current stroke?
+     */
+    private void add(Op op, double x, double y, double w, double h,
+            boolean stroked) {
+        add(op, new Rectangle2D.Double(x, y, w, h), stroked);
+    }
+
+    /**
+     * Records a drawing operation for a polygon or polyline.
+     *
+     * @param op  the operation.
+     * @param xPoints  the x-coordinates.
+     * @param yPoints  the y-coordinates.
+     * @param nPoints  the number of points.
+     * @param stroked  is the shape drawn with the current stroke?
+     */
+    private void add(Op op, int[] xPoints, int[] yPoints, int nPoints,
+            boolean stroked) {
+        if (nPoints <= 0) {
+            add(op);
+            return;
+        }
+        Rectangle2D bounds = new Rectangle2D.Double(xPoints[0], yPoints[0],
+                0.0, 0.0);
+        for (int i = 1; i < nPoints; i++) {
+            bounds.add(xPoints[i], yPoints[i]);
+        }
+        add(op, bounds, stroked);
+    }
+
+    /**
+     * Returns a copy of a shape, so that later changes to the shape do not
+     * change the recording.
+     *
+     * @param shape  the shape (<code>null</code> permitted).
+     *
+     * @return A copy of the shape.
+     */
+    private static Shape copy(Shape shape) {
+        if (shape == null) {
+            return null;
+        }
+        if (shape instanceof RectangularShape) {
+            return (Shape) ((RectangularShape) shape).clone();
+        }
+        if (shape instanceof Line2D) {
+            return (Shape) ((Line2D) shape).clone();
+        }
+        if (shape instanceof Path2D) {
+            return (Shape) ((Path2D) shape).clone();
+        }
+        if (shape instanceof Area) {
+            return (Shape) ((Area) shape).clone();
+        }
+        return new Path2D.Double(shape);
+    }
+
+    /**
+     * Records a change to the transform.
+     *
+     * @param op  the operation.
+     */
+    private void addTransform(Op op) {
+        this.transform = null;
+        add(op);
+    }
+
+    // STATE
+
+    @Override
+    public Graphics create() {
+        Graphics2D childState = (Graphics2D) this.state.create();
+        RecordingGraphics2D child = new RecordingGraphics2D(this.recording,
+                childState);
+        CreateOp op = new CreateOp();
+        op.child = child.index;
+        add(op);
+        return child;
+    }
+
+    @Override
+    public void dispose() {
+        this.state.dispose();
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.dispose();
+            }
+        });
+    }
+
+    @Override
+    public Color getColor() {
+        return this.state.getColor();
+    }
+
+    @Override
+    public void setColor(final Color c) {
+        this.state.setColor(c);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setColor(c);
+            }
+        });
+    }
+
+    @Override
+    public Paint getPaint() {
+        return this.state.getPaint();
+    }
+
+    @Override
+    public void setPaint(final Paint paint) {
+        this.state.setPaint(paint);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setPaint(paint);
+            }
+        });
+    }
+
+    @Override
+    public void setPaintMode() {
+        this.state.setPaintMode();
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setPaintMode();
+            }
+        });
+    }
+
+    @Override
+    public void setXORMode(final Color c) {
+        this.state.setXORMode(c);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setXORMode(c);
+            }
+        });
+    }
+
+    @Override
+    public Composite getComposite() {
+        return this.state.getComposite();
+    }
+
+    @Override
+    public void setComposite(final Composite comp) {
+        this.state.setComposite(comp);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setComposite(comp);
+            }
+        });
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return this.state.getStroke();
+    }
+
+    @Override
+    public void setStroke(final Stroke s) {
+        this.state.setStroke(s);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setStroke(s);
+            }
+        });
+    }
+
+    @Override
+    public Font getFont() {
+        return this.state.getFont();
+    }
+
+    @Override
+    public void setFont(final Font font) {
+        this.state.setFont(font);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setFont(font);
+            }
+        });
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return this.state.getFontMetrics(f);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return this.state.getFontRenderContext();
+    }
+
+    @Override
+    public Color getBackground() {
+        return this.state.getBackground();
+    }
+
+    @Override
+    public void setBackground(final Color color) {
+        this.state.setBackground(color);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setBackground(color);
+            }
+        });
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return this.state.getRenderingHint(hintKey);
+    }
+
+    @Override
+    public void setRenderingHint(final RenderingHints.Key hintKey,
+            final Object hintValue) {
+        this.state.setRenderingHint(hintKey, hintValue);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setRenderingHint(hintKey, hintValue);
+            }
+        });
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return this.state.getRenderingHints();
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        this.state.setRenderingHints(hints);
+        final RenderingHints copy = new RenderingHints(null);
+        copy.putAll(hints);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setRenderingHints(copy);
+            }
+        });
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        this.state.addRenderingHints(hints);
+        final RenderingHints copy = new RenderingHints(null);
+        copy.putAll(hints);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.addRenderingHints(copy);
+            }
+        });
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return this.state.getDeviceConfiguration();
+    }
+
+    // TRANSFORM
+
+    @Override
+    public AffineTransform getTransform() {
+        return this.state.getTransform();
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        this.state.setTransform(tx);
+        final AffineTransform copy = new AffineTransform(tx);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setTransform(base);
+                g2.transform(copy);
+            }
+        });
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        this.state.transform(tx);
+        final AffineTransform copy = new AffineTransform(tx);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.transform(copy);
+            }
+        });
+    }
+
+    @Override
+    public void translate(final int x, final int y) {
+        this.state.translate(x, y);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.translate(x, y);
+            }
+        });
+    }
+
+    @Override
+    public void translate(final double tx, final double ty) {
+        this.state.translate(tx, ty);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.translate(tx, ty);
+            }
+        });
+    }
+
+    @Override
+    public void rotate(final double theta) {
+        this.state.rotate(theta);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.rotate(theta);
+            }
+        });
+    }
+
+    @Override
+    public void rotate(final double theta, final double x, final double y) {
+        this.state.rotate(theta, x, y);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.rotate(theta, x, y);
+            }
+        });
+    }
+
+    @Override
+    public void scale(final double sx, final double sy) {
+        this.state.scale(sx, sy);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.scale(sx, sy);
+            }
+        });
+    }
+
+    @Override
+    public void shear(final double shx, final double shy) {
+        this.state.shear(shx, shy);
+        addTransform(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.shear(shx, shy);
+            }
+        });
+    }
+
+    // CLIP
+
+    @Override
+    public Shape getClip() {
+        return this.state.getClip();
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return this.state.getClipBounds();
+    }
+
+    @Override
+    public void clip(Shape s) {
+        this.state.clip(s);
+        final Shape copy = copy(s);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.clip(copy);
+            }
+        });
+    }
+
+    @Override
+    public void clipRect(final int x, final int y, final int width,
+            final int height) {
+        this.state.clipRect(x, y, width, height);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.clipRect(x, y, width, height);
+            }
+        });
+    }
+
+    @Override
+    public void setClip(final int x, final int y, final int width,
+            final int height) {
+        this.state.setClip(x, y, width, height);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setClip(x, y, width, height);
+            }
+        });
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        this.state.setClip(clip);
+        final Shape copy = copy(clip);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.setClip(copy);
+            }
+        });
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        return this.state.hit(rect, s, onStroke);
+    }
+
+    // SHAPES
+
+    @Override
+    public void draw(Shape s) {
+        final Shape copy = copy(s);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.draw(copy);
+            }
+        }, copy.getBounds2D(), true);
+    }
+
+    @Override
+    public void fill(Shape s) {
+        final Shape copy = copy(s);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fill(copy);
+            }
+        }, copy.getBounds2D(), false);
+    }
+
+    @Override
+    public void drawLine(final int x1, final int y1, final int x2,
+            final int y2) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawLine(x1, y1, x2, y2);
+            }
+        }, Math.min(x1, x2), Math.min(y1, y2), Math.abs(x2 - x1),
+                Math.abs(y2 - y1), true);
+    }
+
+    @Override
+    public void drawRect(final int x, final int y, final int width,
+            final int height) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawRect(x, y, width, height);
+            }
+        }, x, y, width, height, true);
+    }
+
+    @Override
+    public void fillRect(final int x, final int y, final int width,
+            final int height) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fillRect(x, y, width, height);
+            }
+        }, x, y, width, height, false);
+    }
+
+    @Override
+    public void clearRect(final int x, final int y, final int width,
+            final int height) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.clearRect(x, y, width, height);
+            }
+        }, x, y, width, height, false);
+    }
+
+    @Override
+    public void drawRoundRect(final int x, final int y, final int width,
+            final int height, final int arcWidth, final int arcHeight) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawRoundRect(x, y, width, height, arcWidth, arcHeight);
+            }
+        }, x, y, width, height, true);
+    }
+
+    @Override
+    public void fillRoundRect(final int x, final int y, final int width,
+            final int height, final int arcWidth, final int arcHeight) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fillRoundRect(x, y, width, height, arcWidth, arcHeight);
+            }
+        }, x, y, width, height, false);
+    }
+
+    @Override
+    public void drawOval(final int x, final int y, final int width,
+            final int height) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawOval(x, y, width, height);
+            }
+        }, x, y, width, height, true);
+    }
+
+    @Override
+    public void fillOval(final int x, final int y, final int width,
+            final int height) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fillOval(x, y, width, height);
+            }
+        }, x, y, width, height, false);
+    }
+
+    @Override
+    public void drawArc(final int x, final int y, final int width,
+            final int height, final int startAngle, final int arcAngle) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawArc(x, y, width, height, startAngle, arcAngle);
+            }
+        }, x, y, width, height, true);
+    }
+
+    @Override
+    public void fillArc(final int x, final int y, final int width,
+            final int height, final int startAngle, final int arcAngle) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fillArc(x, y, width, height, startAngle, arcAngle);
+            }
+        }, x, y, width, height, false);
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints,
+            final int nPoints) {
+        final int[] xs = xPoints.clone();
+        final int[] ys = yPoints.clone();
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawPolyline(xs, ys, nPoints);
+            }
+        }, xs, ys, nPoints, true);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints,
+            final int nPoints) {
+        final int[] xs = xPoints.clone();
+        final int[] ys = yPoints.clone();
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawPolygon(xs, ys, nPoints);
+            }
+        }, xs, ys, nPoints, true);
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints,
+            final int nPoints) {
+        final int[] xs = xPoints.clone();
+        final int[] ys = yPoints.clone();
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.fillPolygon(xs, ys, nPoints);
+            }
+        }, xs, ys, nPoints, false);
+    }
+
+    @Override
+    public void copyArea(final int x, final int y, final int width,
+            final int height, final int dx, final int dy) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.copyArea(x, y, width, height, dx, dy);
+            }
+        });
+    }
+
+    // TEXT
+
+    @Override
+    public void drawString(final String str, final int x, final int y) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawString(str, x, y);
+            }
+        });
+    }
+
+    @Override
+    public void drawString(final String str, final float x, final float y) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawString(str, x, y);
+            }
+        });
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator,
+            final int x, final int y) {
+        // an iterator can't be shared by threads, so keep a copy of the text
+        final AttributedString text = new AttributedString(iterator);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawString(text.getIterator(), x, y);
+            }
+        });
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator,
+            final float x, final float y) {
+        final AttributedString text = new AttributedString(iterator);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawString(text.getIterator(), x, y);
+            }
+        });
+    }
+
+    @Override
+    public void drawGlyphVector(final GlyphVector g, final float x,
+            final float y) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawGlyphVector(g, x, y);
+            }
+        });
+    }
+
+    // IMAGES
+
+    @Override
+    public boolean drawImage(final Image img, final AffineTransform xform,
+            ImageObserver obs) {
+        final AffineTransform copy = xform == null ? null
+                : new AffineTransform(xform);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, copy, null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void drawImage(final BufferedImage img, final BufferedImageOp op,
+            final int x, final int y) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, op, x, y);
+            }
+        });
+    }
+
+    @Override
+    public void drawRenderedImage(final RenderedImage img,
+            AffineTransform xform) {
+        final AffineTransform copy = new AffineTransform(xform);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawRenderedImage(img, copy);
+            }
+        });
+    }
+
+    @Override
+    public void drawRenderableImage(final RenderableImage img,
+            AffineTransform xform) {
+        final AffineTransform copy = new AffineTransform(xform);
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawRenderableImage(img, copy);
+            }
+        });
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int x, final int y,
+            ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, x, y, null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int x, final int y,
+            final int width, final int height, ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, x, y, width, height, null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int x, final int y,
+            final Color bgcolor, ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, x, y, bgcolor, null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int x, final int y,
+            final int width, final int height, final Color bgcolor,
+            ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, x, y, width, height, bgcolor, null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int dx1, final int dy1,
+            final int dx2, final int dy2, final int sx1, final int sy1,
+            final int sx2, final int sy2, ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+                        null);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(final Image img, final int dx1, final int dy1,
+            final int dx2, final int dy2, final int sx1, final int sy1,
+            final int sx2, final int sy2, final Color bgcolor,
+            ImageObserver observer) {
+        add(new Op() {
+            @Override
+            void replay(Graphics2D g2, AffineTransform base) {
+                g2.drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+                        bgcolor, null);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * The operations recorded by a graphics and the graphics created from
+     * it.
+     */
+    private static final class Recording {
+
+        /** The operations, in the order they were performed. */
+        private final List<Op> ops = new ArrayList<Op>();
+
+        /** The number of graphics that record to this recording. */
+        private int graphicsCount;
+
+    }
+
+    /**
+     * A recorded operation.
+     */
+    private abstract static class Op {
+
+        /** The index of the graphics that performed the operation. */
+        int graphics;
+
+        /**
+         * The minimum y-coordinate (in device space) changed by the
+         * operation.
+         */
+        double minY = Double.NEGATIVE_INFINITY;
+
+        /**
+         * The maximum y-coordinate (in device space) changed by the
+         * operation.
+         */
+        double maxY = Double.POSITIVE_INFINITY;
+
+        /**
+         * Performs the operation on a graphics target.
+         *
+         * @param g2  the graphics target.
+         * @param base  the transform of the target before replay started.
+         */
+        abstract void replay(Graphics2D g2, AffineTransform base);
+
+    }
+
+    /**
+     * An operation that creates a new graphics.
+     */
+    private static final class CreateOp extends Op {
+
+        /** The index of the new graphics. */
+        int child;
+
+        @Override
+        void replay(Graphics2D g2, AffineTransform base) {
+            // handled by RecordingGraphics2D.replay()
+        }
+
+    }
+
+}
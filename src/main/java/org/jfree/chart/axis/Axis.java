@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -83,6 +83,8 @@
  * 26-Sep-2008 : Added fireChangeEvent() method (DG);
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Keep the tick layout for reuse when the axis is drawn (agent);
+ * 16-Oct-2026 : Use the generic TickLayout (agent);
  *
  */
 
@@ -282,6 +284,12 @@ public abstract class Axis implements Cloneable, Serializable {
     /** Storage for registered listeners. */
     private transient EventListenerList listenerList;
 
+    /**
+     * The ticks most recently calculated for the axis, kept for reuse
+     * (<code>null</code> permitted).
+     */
+    private transient volatile TickLayout<?> tickLayout;
+
     /**
      * Constructs an axis, using default values where necessary.
      *
@@ -1144,6 +1152,8 @@ public abstract class Axis implements Cloneable, Serializable {
      * @param event  information about the change to the axis.
      */
     protected void notifyListeners(AxisChangeEvent event) {
+        // the axis has changed, so the ticks must be calculated again
+        this.tickLayout = null;
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == AxisChangeListener.class) {
@@ -1161,6 +1171,36 @@ public abstract class Axis implements Cloneable, Serializable {
         notifyListeners(new AxisChangeEvent(this));
     }
 
+    /**
+     * Saves the ticks calculated for the axis, so that they can be reused by
+     * {@link #reuseTickLayout(Object)}.  The layout is discarded when the
+     * axis changes.
+     *
+     * @param layout  the layout (<code>null</code> permitted).
+     */
+    void saveTickLayout(TickLayout<?> layout) {
+        this.tickLayout = layout;
+    }
+
+    /**
+     * Returns the saved tick layout if it has the specified key, and
+     * discards it, so that ticks calculated when space is reserved for the
+     * axis are reused at most once (when the axis is drawn).
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The layout (<code>null</code> if there is no layout with the
+     *     key).
+     */
+    TickLayout<?> reuseTickLayout(Object key) {
+        TickLayout<?> layout = this.tickLayout;
+        if (layout == null || !layout.getKey().equals(key)) {
+            return null;
+        }
+        this.tickLayout = null;
+        return layout;
+    }
+
     /**
      * Returns a rectangle that encloses the axis label.  This is typically
      * used for layout purposes (it gives the maximum dimensions of the label).
@@ -1342,6 +1382,7 @@ public abstract class Axis implements Cloneable, Serializable {
         // It's up to the plot which clones up to restore the correct references
         clone.plot = null;
         clone.listenerList = new EventListenerList();
+        clone.tickLayout = null;
         return clone;
     }
 
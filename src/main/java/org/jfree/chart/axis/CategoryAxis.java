@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -95,6 +95,8 @@
  * 16-Apr-2009 : Added tick mark drawing (DG);
  * 29-Jun-2009 : Fixed bug where axis entity is hiding label entities (DG);
  * 16-Jun-2012 : Removed JCommon dependencies, deprecated method (DG);
+ * 16-Oct-2026 : Reuse the ticks calculated by reserveSpace() in draw() (agent);
+ * 16-Oct-2026 : Removed an unchecked cast of the reused ticks (agent);
  *
  */
 
@@ -111,6 +113,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -1031,6 +1034,9 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
     /**
      * Creates a temporary list of ticks that can be used when drawing the axis.
+     * The axis calls this method with the same arguments when reserving space
+     * and when drawing, so the ticks calculated for the first call are kept
+     * and returned again for the second.
      *
      * @param g2  the graphics device (used to get font measurements).
      * @param state  the axis state.
@@ -1052,6 +1058,14 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
 
         CategoryPlot plot = (CategoryPlot) getPlot();
         List<Comparable> categories = plot.getCategoriesForAxis(this);
+        List<Object> key = Arrays.<Object>asList(edge, new Rectangle2D.Double(
+                dataArea.getX(), dataArea.getY(), dataArea.getWidth(),
+                dataArea.getHeight()), g2.getFontRenderContext(), categories);
+        TickLayout<?> layout = reuseTickLayout(key);
+        if (layout != null) {
+            state.setMax(layout.getMax());
+            return layout.getTicks(CategoryTick.class);
+        }
         double max = 0.0;
 
         if (categories != null) {
@@ -1094,6 +1108,7 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
             }
         }
         state.setMax(max);
+        saveTickLayout(new TickLayout<CategoryTick>(key, ticks, max));
         return ticks;
 
     }
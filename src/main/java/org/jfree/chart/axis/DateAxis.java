@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -127,6 +127,10 @@
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 08-Feb-2012 : Bugfix for endless-loop, bug 3484403 by rbrabe (MH);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use cached text measurements (agent);
+ * 16-Oct-2026 : Reuse the ticks calculated by reserveSpace() in draw() (agent);
+ * 16-Oct-2026 : Use FastDateFormat for the standard tick units (agent);
+ * 16-Oct-2026 : Removed unchecked casts of the reused ticks (agent);
  *
  */
 
@@ -141,6 +145,7 @@ import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -150,11 +155,13 @@ import java.util.TimeZone;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.ui.TextAnchor;
+import org.jfree.chart.util.FastDateFormat;
 import org.jfree.chart.util.ObjectUtilities;
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.text.TextUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Month;
@@ -188,7 +195,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
     /** The default date tick unit. */
     public static final DateTickUnit DEFAULT_DATE_TICK_UNIT
-            = new DateTickUnit(DateTickUnitType.DAY, 1, new SimpleDateFormat());
+            = new DateTickUnit(DateTickUnitType.DAY, 1,
+                    new FastDateFormat(new SimpleDateFormat()));
 
     /** The default anchor date. */
     public static final Date DEFAULT_ANCHOR_DATE = new Date();
@@ -1132,13 +1140,13 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         TickUnits units = new TickUnits();
 
         // date formatters
-        DateFormat f1 = new SimpleDateFormat("HH:mm:ss.SSS", locale);
-        DateFormat f2 = new SimpleDateFormat("HH:mm:ss", locale);
-        DateFormat f3 = new SimpleDateFormat("HH:mm", locale);
-        DateFormat f4 = new SimpleDateFormat("d-MMM, HH:mm", locale);
-        DateFormat f5 = new SimpleDateFormat("d-MMM", locale);
-        DateFormat f6 = new SimpleDateFormat("MMM-yyyy", locale);
-        DateFormat f7 = new SimpleDateFormat("yyyy", locale);
+        DateFormat f1 = new FastDateFormat("HH:mm:ss.SSS", locale);
+        DateFormat f2 = new FastDateFormat("HH:mm:ss", locale);
+        DateFormat f3 = new FastDateFormat("HH:mm", locale);
+        DateFormat f4 = new FastDateFormat("d-MMM, HH:mm", locale);
+        DateFormat f5 = new FastDateFormat("d-MMM", locale);
+        DateFormat f6 = new FastDateFormat("MMM-yyyy", locale);
+        DateFormat f7 = new FastDateFormat("yyyy", locale);
 
         f1.setTimeZone(zone);
         f2.setTimeZone(zone);
@@ -1417,7 +1425,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
+        LineMetrics lm = TextUtilities.getLineMetrics("ABCxyz",
+                tickLabelFont, frc);
         if (isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
@@ -1440,8 +1449,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextUtilities.getStringWidth(lowerStr, fm);
+            double w2 = TextUtilities.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1470,7 +1479,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
+        LineMetrics lm = TextUtilities.getLineMetrics("ABCxyz",
+                tickLabelFont, frc);
         if (!isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
@@ -1493,8 +1503,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextUtilities.getStringWidth(lowerStr, fm);
+            double w2 = TextUtilities.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1552,6 +1562,24 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         return result;
     }
 
+    /**
+     * Returns the key for the ticks calculated by
+     * {@link #refreshTicksHorizontal(Graphics2D, Rectangle2D, RectangleEdge)}
+     * and {@link #refreshTicksVertical(Graphics2D, Rectangle2D,
+     * RectangleEdge)} after the tick unit is selected.  The ticks depend
+     * only on the edge, the range and the tick unit (and on attributes that
+     * notify the axis listeners when they change), so the ticks calculated
+     * when space is reserved for the axis can be reused when the axis is
+     * drawn, provided that the same tick unit is selected.
+     *
+     * @param edge  the location of the axis.
+     *
+     * @return The key.
+     */
+    private Object createTickLayoutKey(RectangleEdge edge) {
+        return Arrays.<Object>asList(edge, getRange(), getTickUnit());
+    }
+
     /**
      * Recalculates the ticks for the date axis.
      *
@@ -1573,6 +1601,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
             selectAutoTickUnit(g2, dataArea, edge);
         }
 
+        Object key = createTickLayoutKey(edge);
+        TickLayout<?> layout = reuseTickLayout(key);
+        if (layout != null) {
+            return layout.getTicks(ValueTick.class);
+        }
+
         DateTickUnit unit = getTickUnit();
         Date tickDate = calculateLowestVisibleTickValue(unit);
         Date upperDate = getMaximumDate();
@@ -1666,6 +1700,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
             }
 
         }
+        saveTickLayout(new TickLayout<ValueTick>(key, result, 0.0));
         return result;
 
     }
@@ -1690,6 +1725,13 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         if (isAutoTickUnitSelection()) {
             selectAutoTickUnit(g2, dataArea, edge);
         }
+
+        Object key = createTickLayoutKey(edge);
+        TickLayout<?> layout = reuseTickLayout(key);
+        if (layout != null) {
+            return layout.getTicks(ValueTick.class);
+        }
+
         DateTickUnit unit = getTickUnit();
         Date tickDate = calculateLowestVisibleTickValue(unit);
         Date upperDate = getMaximumDate();
@@ -1780,6 +1822,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 hasRolled = true;
             }
         }
+        saveTickLayout(new TickLayout<ValueTick>(key, result, 0.0));
         return result;
     }
 
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -56,6 +56,8 @@
  * 30-Mar-2009 : Added pan(double) method (DG);
  * 28-Oct-2011 : Fixed endless loop for 0 TickUnit, # 3429707 (MH);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use cached text measurements (agent);
+ * 16-Oct-2026 : Use FastNumberFormat for the default tick unit (agent);
  *
  */
 
@@ -67,7 +69,6 @@ import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
-import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -80,6 +81,8 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.text.TextUtilities;
+import org.jfree.chart.util.FastNumberFormat;
 import org.jfree.chart.util.LogFormat;
 import org.jfree.data.Range;
 
@@ -121,7 +124,8 @@ public class LogAxis extends ValueAxis {
     public LogAxis(String label) {
         super(label, createLogTickUnits(Locale.getDefault()));
         setDefaultAutoRange(new Range(0.01, 1.0));
-        this.tickUnit = new NumberTickUnit(1.0, new DecimalFormat("0.#"), 9);
+        this.tickUnit = new NumberTickUnit(1.0, new FastNumberFormat("0.#"),
+                9);
     }
 
     /**
@@ -739,7 +743,8 @@ public class LogAxis extends ValueAxis {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        result += tickLabelFont.getLineMetrics("123", frc).getHeight();
+        result += TextUtilities.getLineMetrics("123", tickLabelFont,
+                frc).getHeight();
         return result;
 
     }
@@ -769,7 +774,8 @@ public class LogAxis extends ValueAxis {
             // all tick labels have the same width (equal to the height of the
             // font)...
             FontRenderContext frc = g2.getFontRenderContext();
-            LineMetrics lm = getTickLabelFont().getLineMetrics("0", frc);
+            LineMetrics lm = TextUtilities.getLineMetrics("0",
+                    getTickLabelFont(), frc);
             result += lm.getHeight();
         }
         else {
@@ -789,8 +795,8 @@ public class LogAxis extends ValueAxis {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextUtilities.getStringWidth(lowerStr, fm);
+            double w2 = TextUtilities.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -43,6 +43,7 @@
  * 21-Jan-2004 : Update for renamed method in ValueAxis (DG);
  * 07-Apr-2004 : Changed text bounds calculation (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use cached line metrics (agent);
  *
  */
 
@@ -136,8 +137,8 @@ public class MarkerAxisBand implements Serializable {
 
         double result = 0.0;
         if (this.markers.size() > 0) {
-            LineMetrics metrics = this.font.getLineMetrics(
-                "123g", g2.getFontRenderContext()
+            LineMetrics metrics = TextUtilities.getLineMetrics(
+                "123g", this.font, g2.getFontRenderContext()
             );
             result = this.topOuterGap + this.topInnerGap + metrics.getHeight()
                      + this.bottomInnerGap + this.bottomOuterGap;
@@ -164,8 +165,8 @@ public class MarkerAxisBand implements Serializable {
         if (r.getWidth() < bounds.getWidth()) {
             x = x + (bounds.getWidth() - r.getWidth()) / 2;
         }
-        LineMetrics metrics = font.getLineMetrics(
-            text, g2.getFontRenderContext()
+        LineMetrics metrics = TextUtilities.getLineMetrics(
+            text, font, g2.getFontRenderContext()
         );
         g2.drawString(
             text, (float) x, (float) (bounds.getMaxY()
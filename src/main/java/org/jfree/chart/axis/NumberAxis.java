@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -96,6 +96,10 @@
  *               collection (DG);
  * 19-Mar-2009 : Added entity support - see patch 2603321 by Peter Kolb (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use cached text measurements (agent);
+ * 16-Oct-2026 : Reuse the ticks calculated by reserveSpace() in draw() (agent);
+ * 16-Oct-2026 : Use FastNumberFormat for the standard tick units (agent);
+ * 16-Oct-2026 : Removed unchecked casts of the reused ticks (agent);
  *
  */
 
@@ -108,19 +112,21 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
-import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.ui.TextAnchor;
+import org.jfree.chart.util.FastNumberFormat;
 import org.jfree.chart.util.ObjectUtilities;
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.text.TextUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.RangeType;
 
@@ -149,7 +155,7 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
     /** The default tick unit. */
     public static final NumberTickUnit DEFAULT_TICK_UNIT = new NumberTickUnit(
-            1.0, new DecimalFormat("0"));
+            1.0, new FastNumberFormat("0"));
 
     /** The default setting for the vertical tick labels flag. */
     public static final boolean DEFAULT_VERTICAL_TICK_LABELS = false;
@@ -702,19 +708,19 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     public static TickUnitSource createStandardTickUnits() {
 
         TickUnits units = new TickUnits();
-        DecimalFormat df000 = new DecimalFormat("0.0000000000");
-        DecimalFormat df00 = new DecimalFormat("0.000000000");
-        DecimalFormat df0 = new DecimalFormat("0.00000000");
-        DecimalFormat df1 = new DecimalFormat("0.0000000");
-        DecimalFormat df2 = new DecimalFormat("0.000000");
-        DecimalFormat df3 = new DecimalFormat("0.00000");
-        DecimalFormat df4 = new DecimalFormat("0.0000");
-        DecimalFormat df5 = new DecimalFormat("0.000");
-        DecimalFormat df6 = new DecimalFormat("0.00");
-        DecimalFormat df7 = new DecimalFormat("0.0");
-        DecimalFormat df8 = new DecimalFormat("#,##0");
-        DecimalFormat df9 = new DecimalFormat("#,###,##0");
-        DecimalFormat df10 = new DecimalFormat("#,###,###,##0");
+        NumberFormat df000 = new FastNumberFormat("0.0000000000");
+        NumberFormat df00 = new FastNumberFormat("0.000000000");
+        NumberFormat df0 = new FastNumberFormat("0.00000000");
+        NumberFormat df1 = new FastNumberFormat("0.0000000");
+        NumberFormat df2 = new FastNumberFormat("0.000000");
+        NumberFormat df3 = new FastNumberFormat("0.00000");
+        NumberFormat df4 = new FastNumberFormat("0.0000");
+        NumberFormat df5 = new FastNumberFormat("0.000");
+        NumberFormat df6 = new FastNumberFormat("0.00");
+        NumberFormat df7 = new FastNumberFormat("0.0");
+        NumberFormat df8 = new FastNumberFormat("#,##0");
+        NumberFormat df9 = new FastNumberFormat("#,###,##0");
+        NumberFormat df10 = new FastNumberFormat("#,###,###,##0");
 
         // we can add the units in any order, the TickUnits collection will
         // sort them...
@@ -798,8 +804,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
      */
     public static TickUnitSource createIntegerTickUnits() {
         TickUnits units = new TickUnits();
-        DecimalFormat df0 = new DecimalFormat("0");
-        DecimalFormat df1 = new DecimalFormat("#,##0");
+        NumberFormat df0 = new FastNumberFormat("0");
+        NumberFormat df1 = new FastNumberFormat("#,##0");
         units.add(new NumberTickUnit(1, df0, 2));
         units.add(new NumberTickUnit(2, df0, 2));
         units.add(new NumberTickUnit(5, df0, 5));
@@ -852,7 +858,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     public static TickUnitSource createStandardTickUnits(Locale locale) {
 
         TickUnits units = new TickUnits();
-        NumberFormat numberFormat = NumberFormat.getNumberInstance(locale);
+        NumberFormat numberFormat = new FastNumberFormat(
+                NumberFormat.getNumberInstance(locale));
         // we can add the units in any order, the TickUnits collection will
         // sort them...
         units.add(new NumberTickUnit(0.0000001, numberFormat, 2));
@@ -928,7 +935,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
      */
     public static TickUnitSource createIntegerTickUnits(Locale locale) {
         TickUnits units = new TickUnits();
-        NumberFormat numberFormat = NumberFormat.getNumberInstance(locale);
+        NumberFormat numberFormat = new FastNumberFormat(
+                NumberFormat.getNumberInstance(locale));
         units.add(new NumberTickUnit(1, numberFormat, 2));
         units.add(new NumberTickUnit(2, numberFormat, 2));
         units.add(new NumberTickUnit(5, numberFormat, 5));
@@ -977,7 +985,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        result += tickLabelFont.getLineMetrics("123", frc).getHeight();
+        result += TextUtilities.getLineMetrics("123", tickLabelFont,
+                frc).getHeight();
         return result;
 
     }
@@ -1005,7 +1014,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             // all tick labels have the same width (equal to the height of the
             // font)...
             FontRenderContext frc = g2.getFontRenderContext();
-            LineMetrics lm = getTickLabelFont().getLineMetrics("0", frc);
+            LineMetrics lm = TextUtilities.getLineMetrics("0",
+                    getTickLabelFont(), frc);
             result += lm.getHeight();
         }
         else {
@@ -1025,8 +1035,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextUtilities.getStringWidth(lowerStr, fm);
+            double w2 = TextUtilities.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1158,6 +1168,24 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns the key for the ticks calculated by
+     * {@link #refreshTicksHorizontal(Graphics2D, Rectangle2D, RectangleEdge)}
+     * and {@link #refreshTicksVertical(Graphics2D, Rectangle2D,
+     * RectangleEdge)} after the tick unit is selected.  The ticks depend
+     * only on the edge, the range and the tick unit (and on attributes that
+     * notify the axis listeners when they change), so the ticks calculated
+     * when space is reserved for the axis can be reused when the axis is
+     * drawn, provided that the same tick unit is selected.
+     *
+     * @param edge  the location of the axis.
+     *
+     * @return The key.
+     */
+    private Object createTickLayoutKey(RectangleEdge edge) {
+        return Arrays.<Object>asList(edge, getRange(), getTickUnit());
+    }
+
     /**
      * Calculates the positions of the tick labels for the axis, storing the
      * results in the tick label list (ready for drawing).
@@ -1180,6 +1208,12 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             selectAutoTickUnit(g2, dataArea, edge);
         }
 
+        Object key = createTickLayoutKey(edge);
+        TickLayout<?> layout = reuseTickLayout(key);
+        if (layout != null) {
+            return layout.getTicks(ValueTick.class);
+        }
+
         TickUnit tu = getTickUnit();
         double size = tu.getSize();
         int count = calculateVisibleTickCount();
@@ -1249,6 +1283,7 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
         }
+        saveTickLayout(new TickLayout<ValueTick>(key, result, 0.0));
         return result;
 
     }
@@ -1275,6 +1310,12 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             selectAutoTickUnit(g2, dataArea, edge);
         }
 
+        Object key = createTickLayoutKey(edge);
+        TickLayout<?> layout = reuseTickLayout(key);
+        if (layout != null) {
+            return layout.getTicks(ValueTick.class);
+        }
+
         TickUnit tu = getTickUnit();
         double size = tu.getSize();
         int count = calculateVisibleTickCount();
@@ -1349,6 +1390,7 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
         }
+        saveTickLayout(new TickLayout<ValueTick>(key, result, 0.0));
         return result;
 
     }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -36,13 +36,16 @@
  * -------
  * 23-Sep-2003 : Version 1 (DG);
  * 25-Oct-2007 : Implemented Serializable and equals() method (DG);
+ * 16-Oct-2026 : Share a FastNumberFormat for the tick labels (agent);
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.io.Serializable;
-import java.text.DecimalFormat;
+import java.text.NumberFormat;
+
+import org.jfree.chart.util.FastNumberFormat;
 
 /**
  * A source that can used by the {@link NumberAxis} class to obtain a
@@ -55,6 +58,10 @@ public class StandardTickUnitSource implements TickUnitSource, Serializable {
     /** Constant for log(10.0). */
     private static final double LOG_10_VALUE = Math.log(10.0);
 
+    /** The formatter for the tick labels (shared by all the tick units). */
+    private static final NumberFormat FORMATTER
+            = new FastNumberFormat("0.0E0");
+
     /**
      * Default constructor.
      */
@@ -74,8 +81,7 @@ public class StandardTickUnitSource implements TickUnitSource, Serializable {
         double x = unit.getSize();
         double log = Math.log(x) / LOG_10_VALUE;
         double higher = Math.ceil(log);
-        return new NumberTickUnit(Math.pow(10, higher),
-                new DecimalFormat("0.0E0"));
+        return new NumberTickUnit(Math.pow(10, higher), FORMATTER);
     }
 
     /**
@@ -103,8 +109,7 @@ public class StandardTickUnitSource implements TickUnitSource, Serializable {
     public TickUnit getCeilingTickUnit(double size) {
         double log = Math.log(size) / LOG_10_VALUE;
         double higher = Math.ceil(log);
-        return new NumberTickUnit(Math.pow(10, higher),
-                new DecimalFormat("0.0E0"));
+        return new NumberTickUnit(Math.pow(10, higher), FORMATTER);
     }
 
     /**
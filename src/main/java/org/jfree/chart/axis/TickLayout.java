@@ -0,0 +1,122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * TickLayout.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Made the class generic (agent);
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ticks calculated for an axis, with the key that identifies the
+ * arguments they were calculated for.  When a chart is drawn, the plot asks
+ * each axis to reserve space and then to draw itself, and the axis
+ * calculates its ticks for both steps.  The axis keeps the ticks calculated
+ * for the first step in a layout (see {@link Axis#saveTickLayout(TickLayout)})
+ * so that, if the key is unchanged, the second step can reuse them instead
+ * of creating and measuring every tick label again.
+ *
+ * @param <T>  the type of the ticks.
+ */
+final class TickLayout<T extends Tick> {
+
+    /** The key. */
+    private final Object key;
+
+    /** The ticks. */
+    private final List<T> ticks;
+
+    /** The maximum width or height of the tick labels. */
+    private final double max;
+
+    /**
+     * Creates a new layout.
+     *
+     * @param key  the key, which must be immutable and implement
+     *     <code>equals()</code> (<code>null</code> not permitted).
+     * @param ticks  the ticks (<code>null</code> not permitted).
+     * @param max  the maximum width or height of the tick labels.
+     */
+    TickLayout(Object key, List<? extends T> ticks, double max) {
+        this.key = key;
+        this.ticks = new ArrayList<T>(ticks);
+        this.max = max;
+    }
+
+    /**
+     * Returns the key.
+     *
+     * @return The key (never <code>null</code>).
+     */
+    Object getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns a new list containing the ticks, checking that they are of
+     * the specified type (the axis that saved the layout always reuses it,
+     * so this only fails if the layout is used by the wrong axis).
+     *
+     * @param type  the tick type.
+     *
+     * @param <U>  the tick type.
+     *
+     * @return The ticks (never <code>null</code>).
+     *
+     * @throws ClassCastException if a tick is not of the specified type.
+     */
+    <U extends Tick> List<U> getTicks(Class<U> type) {
+        List<U> result = new ArrayList<U>(this.ticks.size());
+        for (T tick : this.ticks) {
+            result.add(type.cast(tick));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum width or height of the tick labels.
+     *
+     * @return The maximum width or height.
+     */
+    double getMax() {
+        return this.max;
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -106,6 +106,7 @@
  *               false (DG);
  * 30-Mar-2009 : Added pan(double) method (DG);
  * 15-Jun-2012 : Remove JCommon dependencies (DG);
+ * 16-Oct-2026 : Use cached line metrics (agent);
  *
  */
 
@@ -863,8 +864,8 @@ public abstract class ValueAxis extends Axis
             }
         }
         else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz",
-                    g2.getFontRenderContext());
+            LineMetrics metrics = TextUtilities.getLineMetrics("ABCxyz",
+                    font, g2.getFontRenderContext());
             maxHeight = metrics.getHeight()
                         + insets.getTop() + insets.getBottom();
         }
@@ -904,8 +905,8 @@ public abstract class ValueAxis extends Axis
             }
         }
         else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz",
-                    g2.getFontRenderContext());
+            LineMetrics metrics = TextUtilities.getLineMetrics("ABCxyz",
+                    font, g2.getFontRenderContext());
             maxWidth = metrics.getHeight()
                        + insets.getTop() + insets.getBottom();
         }
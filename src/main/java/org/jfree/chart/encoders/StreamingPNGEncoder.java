@@ -0,0 +1,628 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * StreamingPNGEncoder.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Encodes an image in PNG format a band of rows at a time, so that an image
+ * that is too large to hold in memory (for example, a chart drawn in bands
+ * by {@link org.jfree.chart.ChartUtilities#writeChartAsTiledPNG(OutputStream,
+ * org.jfree.chart.JFreeChart, int, int, double, double,
+ * org.jfree.chart.ChartRenderingInfo, boolean, int)}) can be written without
+ * first being assembled.  The bands are written to the output stream in
+ * order, from the top of the image:
+ * <pre>
+ * StreamingPNGEncoder encoder = new StreamingPNGEncoder(out, width, height,
+ *         true, 4);
+ * for (...) {
+ *     encoder.writeRows(band);  // each band is width pixels wide
+ * }
+ * encoder.finish();
+ * </pre>
+ * Each band is filtered and compressed independently of the others (in the
+ * same way as the parallel gzip tool <code>pigz</code>), so the expensive
+ * part of the encoding can be done on several threads at once with
+ * {@link #encodeRows(BufferedImage)}, leaving just the output of the
+ * encoded bands, with {@link #writeRows(EncodedRows)}, to be done in order.
+ * Each row is filtered with the PNG filter that gives the smallest sum of
+ * absolute differences, the same heuristic used by most PNG encoders
+ * (except that the first row in a band can't refer to the row above it).
+ */
+public class StreamingPNGEncoder {
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The zlib header (deflate with a 32K window, no dictionary). */
+    private static final byte[] ZLIB_HEADER = {0x78, (byte) 0x9C};
+
+    /** An empty final deflate block. */
+    private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+    /** The modulus for Adler-32 checksums. */
+    private static final long ADLER_BASE = 65521L;
+
+    /** The maximum size of the image data in each IDAT chunk. */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /** The output stream. */
+    private final OutputStream out;
+
+    /** The image width. */
+    private final int width;
+
+    /** The image height. */
+    private final int height;
+
+    /** Encode the alpha channel? */
+    private final boolean encodeAlpha;
+
+    /** The compression level. */
+    private final int compression;
+
+    /** The compressed image data, split into IDAT chunks. */
+    private final ChunkOutputStream data;
+
+    /** The Adler-32 checksum of the image data written so far. */
+    private long adler;
+
+    /** The number of rows written so far. */
+    private int rowCount;
+
+    /**
+     * Creates a new encoder and writes the PNG signature and header to the
+     * output stream.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param width  the image width (in pixels, greater than zero).
+     * @param height  the image height (in pixels, greater than zero).
+     * @param encodeAlpha  encode the alpha channel?  If <code>false</code>,
+     *     the image is written without transparency.
+     * @param compression  the compression level (0-9).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public StreamingPNGEncoder(OutputStream out, int width, int height,
+            boolean encodeAlpha, int compression) throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Requires 'width' > 0 and "
+                    + "'height' > 0.");
+        }
+        if (compression < 0 || compression > 9) {
+            throw new IllegalArgumentException(
+                    "Requires 'compression' in the range 0 to 9.");
+        }
+        this.out = out;
+        this.width = width;
+        this.height = height;
+        this.encodeAlpha = encodeAlpha;
+        this.compression = compression;
+        this.data = new ChunkOutputStream(out);
+        this.adler = 1L;
+
+        out.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;  // bit depth
+        header[9] = (byte) (encodeAlpha ? 6 : 2);  // RGBA or RGB
+        // compression, filter and interlace methods are all zero
+        writeChunk(out, "IHDR", header, header.length);
+        this.data.write(ZLIB_HEADER);
+    }
+
+    /**
+     * Returns the image width.
+     *
+     * @return The image width (in pixels).
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the image height.
+     *
+     * @return The image height (in pixels).
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the number of rows written so far.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Encodes and writes all the rows in a band of the image, following the
+     * rows already written.
+     *
+     * @param band  the band (<code>null</code> not permitted), which must
+     *     have the same width as the image.
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public void writeRows(BufferedImage band) throws IOException {
+        writeRows(encodeRows(band));
+    }
+
+    /**
+     * Filters and compresses all the rows in a band of the image, ready to
+     * be written by {@link #writeRows(EncodedRows)}.  This method does not
+     * change the state of the encoder, and can be called by several threads
+     * at once.
+     *
+     * @param band  the band (<code>null</code> not permitted), which must
+     *     have the same width as the image.
+     *
+     * @return The encoded rows.
+     */
+    public EncodedRows encodeRows(BufferedImage band) {
+        ParamChecks.nullNotPermitted(band, "band");
+        if (band.getWidth() != this.width) {
+            throw new IllegalArgumentException("The band width ("
+                    + band.getWidth() + ") does not match the image width ("
+                    + this.width + ").");
+        }
+        int bpp = this.encodeAlpha ? 4 : 3;
+        int rowBytes = this.width * bpp;
+        int[] pixels = new int[this.width];
+        byte[] current = new byte[rowBytes];
+        byte[] previous = new byte[rowBytes];
+        byte[][] filtered = new byte[5][rowBytes + 1];
+        for (int f = 0; f < filtered.length; f++) {
+            filtered[f][0] = (byte) f;
+        }
+        boolean argb = band.getType() == BufferedImage.TYPE_INT_ARGB;
+        Adler32 checksum = new Adler32();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(this.compression, true);
+        DeflaterOutputStream dos = new DeflaterOutputStream(bytes, deflater,
+                CHUNK_SIZE, true);
+        try {
+            for (int y = 0; y < band.getHeight(); y++) {
+                if (argb) {
+                    // the raster holds the ARGB values, so there is no need
+                    // to convert each pixel via the color model
+                    band.getRaster().getDataElements(0, y, this.width, 1,
+                            pixels);
+                }
+                else {
+                    band.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+                }
+                for (int x = 0, i = 0; x < this.width; x++, i += bpp) {
+                    int p = pixels[x];
+                    current[i] = (byte) (p >> 16);
+                    current[i + 1] = (byte) (p >> 8);
+                    current[i + 2] = (byte) p;
+                    if (bpp == 4) {
+                        current[i + 3] = (byte) (p >>> 24);
+                    }
+                }
+                byte[] row = filter(current, y > 0 ? previous : null, bpp,
+                        filtered);
+                checksum.update(row);
+                dos.write(row);
+                byte[] temp = previous;
+                previous = current;
+                current = temp;
+            }
+            // a sync flush leaves the compressed data byte-aligned, so that
+            // the next band can follow it
+            dos.flush();
+        }
+        catch (IOException e) {
+            // not possible when writing to a ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        finally {
+            deflater.end();
+        }
+        return new EncodedRows(this.width, band.getHeight(),
+                bytes.toByteArray(), checksum.getValue(),
+                (long) (rowBytes + 1) * band.getHeight());
+    }
+
+    /**
+     * Writes rows encoded by {@link #encodeRows(BufferedImage)}, following
+     * the rows already written.
+     *
+     * @param rows  the encoded rows (<code>null</code> not permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public void writeRows(EncodedRows rows) throws IOException {
+        ParamChecks.nullNotPermitted(rows, "rows");
+        if (rows.width != this.width) {
+            throw new IllegalArgumentException("The rows were encoded for a "
+                    + "different image width.");
+        }
+        if (this.rowCount + rows.rowCount > this.height) {
+            throw new IllegalStateException("The band has more rows than "
+                    + "remain in the image.");
+        }
+        this.data.write(rows.data);
+        this.adler = combineAdler(this.adler, rows.adler, rows.length);
+        this.rowCount += rows.rowCount;
+    }
+
+    /**
+     * Finishes the image data and writes the end of the PNG file.  The output
+     * stream is flushed, but not closed.
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    public void finish() throws IOException {
+        if (this.rowCount != this.height) {
+            throw new IllegalStateException("Only " + this.rowCount + " of "
+                    + this.height + " rows have been written.");
+        }
+        this.data.write(FINAL_BLOCK);
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) this.adler);
+        this.data.write(trailer);
+        this.data.flush();
+        writeChunk(this.out, "IEND", new byte[0], 0);
+        this.out.flush();
+    }
+
+    /**
+     * Applies each PNG filter to a row and returns the filtered row with the
+     * smallest sum of absolute differences.
+     *
+     * @param row  the row.
+     * @param prior  the previous row (<code>null</code> for the first row
+     *     in a band, in which case only the filters that don't refer to the
+     *     previous row are used).
+     * @param bpp  the number of bytes per pixel.
+     * @param filtered  the arrays for the filtered row (one for each filter
+     *     type, with the filter type as the first byte).
+     *
+     * @return The filtered row, starting with the filter type.
+     */
+    private static byte[] filter(byte[] row, byte[] prior, int bpp,
+            byte[][] filtered) {
+        byte[] none = filtered[0];
+        byte[] sub = filtered[1];
+        long sumNone = 0;
+        long sumSub = 0;
+        if (prior == null) {
+            for (int i = 0; i < row.length; i++) {
+                int x = row[i] & 0xFF;
+                int a = i >= bpp ? row[i - bpp] & 0xFF : 0;
+                none[i + 1] = (byte) x;
+                sub[i + 1] = (byte) (x - a);
+                // the sums treat the filtered bytes as signed, so that
+                // small negative differences count as small
+                sumNone += Math.abs((byte) x);
+                sumSub += Math.abs((byte) (x - a));
+            }
+            return sumSub < sumNone ? sub : none;
+        }
+        byte[] up = filtered[2];
+        byte[] average = filtered[3];
+        byte[] paeth = filtered[4];
+        long sumUp = 0;
+        long sumAverage = 0;
+        long sumPaeth = 0;
+        // for the first pixel, the bytes to the left are taken as zero
+        for (int i = 0; i < bpp; i++) {
+            int x = row[i] & 0xFF;
+            int b = prior[i] & 0xFF;
+            byte fu = (byte) (x - b);
+            byte fa = (byte) (x - (b >> 1));
+            none[i + 1] = (byte) x;
+            sub[i + 1] = (byte) x;
+            up[i + 1] = fu;
+            average[i + 1] = fa;
+            paeth[i + 1] = fu;
+            sumNone += Math.abs((byte) x);
+            sumSub += Math.abs((byte) x);
+            sumUp += Math.abs(fu);
+            sumAverage += Math.abs(fa);
+            sumPaeth += Math.abs(fu);
+        }
+        for (int i = bpp; i < row.length; i++) {
+            int x = row[i] & 0xFF;
+            int a = row[i - bpp] & 0xFF;
+            int b = prior[i] & 0xFF;
+            int c = prior[i - bpp] & 0xFF;
+            byte fn = (byte) x;
+            byte fs = (byte) (x - a);
+            byte fu = (byte) (x - b);
+            byte fa = (byte) (x - ((a + b) >> 1));
+            byte fp = (byte) (x - paethPredictor(a, b, c));
+            none[i + 1] = fn;
+            sub[i + 1] = fs;
+            up[i + 1] = fu;
+            average[i + 1] = fa;
+            paeth[i + 1] = fp;
+            sumNone += Math.abs(fn);
+            sumSub += Math.abs(fs);
+            sumUp += Math.abs(fu);
+            sumAverage += Math.abs(fa);
+            sumPaeth += Math.abs(fp);
+        }
+        byte[] best = none;
+        long min = sumNone;
+        if (sumSub < min) {
+            best = sub;
+            min = sumSub;
+        }
+        if (sumUp < min) {
+            best = up;
+            min = sumUp;
+        }
+        if (sumAverage < min) {
+            best = average;
+            min = sumAverage;
+        }
+        if (sumPaeth < min) {
+            best = paeth;
+        }
+        return best;
+    }
+
+    /**
+     * Returns the Paeth predictor for a byte.
+     *
+     * @param a  the byte to the left.
+     * @param b  the byte above.
+     * @param c  the byte above and to the left.
+     *
+     * @return The predictor.
+     */
+    private static int paethPredictor(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return pb <= pc ? b : c;
+    }
+
+    /**
+     * Returns the Adler-32 checksum of two blocks of data, given the
+     * checksum of each block (the same calculation as
+     * <code>adler32_combine()</code> in zlib).
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param length2  the length of the second block.
+     *
+     * @return The checksum of the first block followed by the second.
+     */
+    static long combineAdler(long adler1, long adler2, long length2) {
+        long rem = length2 % ADLER_BASE;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % ADLER_BASE;
+        sum1 += (adler2 & 0xFFFF) + ADLER_BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF)
+                + ADLER_BASE - rem;
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum1 >= ADLER_BASE) {
+            sum1 -= ADLER_BASE;
+        }
+        if (sum2 >= (ADLER_BASE << 1)) {
+            sum2 -= (ADLER_BASE << 1);
+        }
+        if (sum2 >= ADLER_BASE) {
+            sum2 -= ADLER_BASE;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * Writes a four byte integer into an array (most significant byte
+     * first).
+     *
+     * @param bytes  the array.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Writes a PNG chunk.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     * @param length  the number of bytes of data.
+     *
+     * @throws IOException if there are any I/O errors.
+     */
+    private static void writeChunk(OutputStream out, String type,
+            byte[] data, int length) throws IOException {
+        byte[] bytes = new byte[8];
+        putInt(bytes, 0, length);
+        for (int i = 0; i < 4; i++) {
+            bytes[4 + i] = (byte) type.charAt(i);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 4, 4);
+        crc.update(data, 0, length);
+        out.write(bytes);
+        out.write(data, 0, length);
+        putInt(bytes, 0, (int) crc.getValue());
+        out.write(bytes, 0, 4);
+    }
+
+    /**
+     * A band of rows that has been filtered and compressed by
+     * {@link StreamingPNGEncoder#encodeRows(BufferedImage)}.
+     */
+    public static final class EncodedRows {
+
+        /** The image width. */
+        private final int width;
+
+        /** The number of rows. */
+        private final int rowCount;
+
+        /** The compressed data. */
+        private final byte[] data;
+
+        /** The Adler-32 checksum of the uncompressed data. */
+        private final long adler;
+
+        /** The length of the uncompressed data. */
+        private final long length;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param width  the image width.
+         * @param rowCount  the number of rows.
+         * @param data  the compressed data.
+         * @param adler  the checksum of the uncompressed data.
+         * @param length  the length of the uncompressed data.
+         */
+        private EncodedRows(int width, int rowCount, byte[] data, long adler,
+                long length) {
+            this.width = width;
+            this.rowCount = rowCount;
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+
+        /**
+         * Returns the number of rows.
+         *
+         * @return The number of rows.
+         */
+        public int getRowCount() {
+            return this.rowCount;
+        }
+
+    }
+
+    /**
+     * An output stream that writes the compressed image data as a sequence
+     * of IDAT chunks.
+     */
+    private static class ChunkOutputStream extends OutputStream {
+
+        /** The underlying output stream. */
+        private final OutputStream out;
+
+        /** The data for the next chunk. */
+        private final byte[] buffer;
+
+        /** The number of bytes in the buffer. */
+        private int count;
+
+        /**
+         * Creates a new stream.
+         *
+         * @param out  the underlying output stream.
+         */
+        ChunkOutputStream(OutputStream out) {
+            this.out = out;
+            this.buffer = new byte[CHUNK_SIZE];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.count == this.buffer.length) {
+                flush();
+            }
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.count == this.buffer.length) {
+                    flush();
+                }
+                int n = Math.min(len, this.buffer.length - this.count);
+                System.arraycopy(b, off, this.buffer, this.count, n);
+                this.count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        /**
+         * Writes the buffered data as an IDAT chunk (the underlying stream
+         * is not flushed).
+         *
+         * @throws IOException if there are any I/O errors.
+         */
+        @Override
+        public void flush() throws IOException {
+            if (this.count > 0) {
+                writeChunk(this.out, "IDAT", this.buffer, this.count);
+                this.count = 0;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,512 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * GridEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added hashCode() to match equals() (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.ObjectUtilities;
+import org.jfree.chart.util.PublicCloneable;
+
+/**
+ * An implementation of the {@link EntityCollection} interface that uses a
+ * spatial index (a uniform grid over the bounds of the entities) to speed up
+ * the {@link #getEntity(double, double)} method, which the
+ * {@link org.jfree.chart.ChartPanel} calls for every mouse event.  For a
+ * chart with many entities (for example, a scatter plot with hundreds of
+ * thousands of items), only the entities in one cell of the grid need to be
+ * checked, instead of all of them.  The result is always the same as for
+ * {@link StandardEntityCollection}: the last entity added with an area that
+ * contains the point.
+ * <P>
+ * The index is built the first time that an entity is looked up by location
+ * after the collection changes, so adding entities (while a chart is drawn)
+ * is no slower than for {@link StandardEntityCollection}.  To use this
+ * collection, pass it to the
+ * {@link org.jfree.chart.ChartRenderingInfo#ChartRenderingInfo(
+ * EntityCollection)} constructor or to
+ * {@link org.jfree.chart.ChartRenderingInfo#setEntityCollection(
+ * EntityCollection)}.
+ */
+public class GridEntityCollection implements EntityCollection,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4725316208357283011L;
+
+    /** Storage for the entities. */
+    private List<ChartEntity> entities;
+
+    /** The spatial index (<code>null</code> if it needs to be rebuilt). */
+    private transient Grid grid;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public GridEntityCollection() {
+        this.entities = new ArrayList<ChartEntity>();
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.entities.size();
+    }
+
+    /**
+     * Returns a chart entity from the collection.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     *
+     * @see #add(ChartEntity)
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        return this.entities.get(index);
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.entities.clear();
+        this.grid = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Null 'entity' argument.");
+        }
+        this.entities.add(entity);
+        this.grid = null;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        this.entities.addAll(collection.getEntities());
+        this.grid = null;
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        Grid g = this.grid;
+        if (g == null) {
+            g = new Grid(this.entities);
+            this.grid = g;
+        }
+        int[] items = g.items;
+        int[] large = g.large;
+        int i = -1;
+        int iEnd = 0;
+        int cell = g.getCell(x, y);
+        if (cell >= 0) {
+            i = g.cellStart[cell + 1] - 1;
+            iEnd = g.cellStart[cell];
+        }
+        int j = large.length - 1;
+        // both lists are in increasing order, so visit them together from
+        // the end to check the entities in the reverse order they were added
+        while (i >= iEnd || j >= 0) {
+            int index;
+            if (j < 0 || (i >= iEnd && items[i] > large[j])) {
+                index = items[i--];
+            }
+            else {
+                index = large[j--];
+            }
+            ChartEntity entity = this.entities.get(index);
+            if (entity.getArea().contains(x, y)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return Collections.unmodifiableCollection(this.entities);
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.  The iterator
+     * does not support the <code>remove()</code> method.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return Collections.unmodifiableList(this.entities).iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof GridEntityCollection) {
+            GridEntityCollection that = (GridEntityCollection) obj;
+            return ObjectUtilities.equal(this.entities, that.entities);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.entities.hashCode();
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        GridEntityCollection clone = (GridEntityCollection) super.clone();
+        clone.entities = new ArrayList<ChartEntity>(this.entities.size());
+        for (int i = 0; i < this.entities.size(); i++) {
+            ChartEntity entity = this.entities.get(i);
+            clone.entities.add((ChartEntity) entity.clone());
+        }
+        clone.grid = null;
+        return clone;
+    }
+
+    /**
+     * A uniform grid over the bounds of the entities.  Each cell records the
+     * indices of the entities with bounds that overlap the cell, in
+     * increasing order.  Entities that overlap many cells (for example, the
+     * plot entity) or that have no finite bounds are recorded once, in a
+     * separate list that is checked for every point.
+     */
+    private static final class Grid {
+
+        /** The maximum number of cells. */
+        private static final int MAX_CELLS = 1 << 20;
+
+        /** The number of entities sampled to find a typical entity size. */
+        private static final int SAMPLE_SIZE = 1024;
+
+        /** The minimum x-coordinate. */
+        private double minX;
+
+        /** The minimum y-coordinate. */
+        private double minY;
+
+        /** The maximum x-coordinate. */
+        private double maxX;
+
+        /** The maximum y-coordinate. */
+        private double maxY;
+
+        /** The width of a cell. */
+        private double cellWidth;
+
+        /** The height of a cell. */
+        private double cellHeight;
+
+        /** The number of columns. */
+        private int columns;
+
+        /** The number of rows. */
+        private int rows;
+
+        /**
+         * The position in {@link #items} of the first entity for each cell
+         * (with an extra element for the end of the last cell).
+         */
+        private int[] cellStart;
+
+        /** The entity indices for all the cells. */
+        private int[] items;
+
+        /** The indices of the entities that are checked for every point. */
+        private int[] large;
+
+        /**
+         * Builds the grid for a list of entities.
+         *
+         * @param entities  the entities.
+         */
+        Grid(List<ChartEntity> entities) {
+            int count = entities.size();
+            Rectangle2D[] bounds = new Rectangle2D[count];
+            this.minX = Double.POSITIVE_INFINITY;
+            this.minY = Double.POSITIVE_INFINITY;
+            this.maxX = Double.NEGATIVE_INFINITY;
+            this.maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Rectangle2D b = entities.get(i).getArea().getBounds2D();
+                if (isFinite(b)) {
+                    bounds[i] = b;
+                    this.minX = Math.min(this.minX, b.getMinX());
+                    this.minY = Math.min(this.minY, b.getMinY());
+                    this.maxX = Math.max(this.maxX, b.getMaxX());
+                    this.maxY = Math.max(this.maxY, b.getMaxY());
+                }
+            }
+            chooseCells(bounds);
+
+            // the entities that overlap more than this number of cells are
+            // not recorded in the cells
+            int cellCount = this.columns * this.rows;
+            int maxSpan = Math.max(16, cellCount / 16);
+            int[] cellCounts = new int[cellCount + 1];
+            int largeCount = 0;
+            for (int i = 0; i < count; i++) {
+                Rectangle2D b = bounds[i];
+                if (b == null || getSpan(b) > maxSpan) {
+                    bounds[i] = null;
+                    largeCount++;
+                    continue;
+                }
+                int c0 = getColumn(b.getMinX());
+                int c1 = getColumn(b.getMaxX());
+                int r0 = getRow(b.getMinY());
+                int r1 = getRow(b.getMaxY());
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        cellCounts[r * this.columns + c + 1]++;
+                    }
+                }
+            }
+            for (int c = 0; c < cellCount; c++) {
+                cellCounts[c + 1] += cellCounts[c];
+            }
+            this.cellStart = cellCounts;
+            this.items = new int[cellCounts[cellCount]];
+            this.large = new int[largeCount];
+            int[] next = Arrays.copyOf(cellCounts, cellCount);
+            largeCount = 0;
+            for (int i = 0; i < count; i++) {
+                Rectangle2D b = bounds[i];
+                if (b == null) {
+                    this.large[largeCount++] = i;
+                    continue;
+                }
+                int c0 = getColumn(b.getMinX());
+                int c1 = getColumn(b.getMaxX());
+                int r0 = getRow(b.getMinY());
+                int r1 = getRow(b.getMaxY());
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        this.items[next[r * this.columns + c]++] = i;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if a rectangle has finite coordinates.
+         *
+         * @param r  the rectangle.
+         *
+         * @return A boolean.
+         */
+        private static boolean isFinite(Rectangle2D r) {
+            double s = r.getX() + r.getY() + r.getWidth() + r.getHeight();
+            return !Double.isNaN(s) && !Double.isInfinite(s);
+        }
+
+        /**
+         * Chooses the number and size of the cells.  There is roughly one
+         * cell for every two entities, but the cells are made no smaller
+         * than a typical entity so that most entities are recorded in just a
+         * few cells.
+         *
+         * @param bounds  the entity bounds (<code>null</code> for entities
+         *     without finite bounds).
+         */
+        private void chooseCells(Rectangle2D[] bounds) {
+            double width = this.maxX - this.minX;
+            double height = this.maxY - this.minY;
+            if (!(width > 0.0) || !(height > 0.0)) {
+                // no entities with finite bounds, or all in a line
+                this.columns = 1;
+                this.rows = 1;
+                this.cellWidth = Math.max(width, 1.0);
+                this.cellHeight = Math.max(height, 1.0);
+                return;
+            }
+            int step = Math.max(1, bounds.length / SAMPLE_SIZE);
+            double[] widths = new double[Math.min(bounds.length,
+                    SAMPLE_SIZE)];
+            double[] heights = new double[widths.length];
+            int n = 0;
+            for (int i = 0; i < bounds.length && n < widths.length;
+                    i += step) {
+                if (bounds[i] != null) {
+                    widths[n] = bounds[i].getWidth();
+                    heights[n] = bounds[i].getHeight();
+                    n++;
+                }
+            }
+            Arrays.sort(widths, 0, n);
+            Arrays.sort(heights, 0, n);
+            double typicalWidth = n > 0 ? widths[n / 2] : 0.0;
+            double typicalHeight = n > 0 ? heights[n / 2] : 0.0;
+
+            double target = Math.min(MAX_CELLS, Math.max(1.0,
+                    bounds.length / 2.0));
+            double cols = Math.sqrt(target * width / height);
+            cols = Math.min(cols, width / Math.max(typicalWidth, 1e-9));
+            cols = Math.max(1.0, Math.min(cols, target));
+            double rws = Math.min(target / cols,
+                    height / Math.max(typicalHeight, 1e-9));
+            rws = Math.max(1.0, rws);
+            this.columns = (int) Math.ceil(cols);
+            this.rows = (int) Math.ceil(Math.min(rws,
+                    (double) MAX_CELLS / this.columns));
+            this.cellWidth = width / this.columns;
+            this.cellHeight = height / this.rows;
+        }
+
+        /**
+         * Returns the number of cells overlapped by a rectangle.
+         *
+         * @param b  the rectangle.
+         *
+         * @return The number of cells.
+         */
+        private long getSpan(Rectangle2D b) {
+            long c = getColumn(b.getMaxX()) - getColumn(b.getMinX()) + 1;
+            long r = getRow(b.getMaxY()) - getRow(b.getMinY()) + 1;
+            return c * r;
+        }
+
+        /**
+         * Returns the column containing an x-coordinate.
+         *
+         * @param x  the x-coordinate.
+         *
+         * @return The column index (clamped to the grid).
+         */
+        private int getColumn(double x) {
+            int c = (int) ((x - this.minX) / this.cellWidth);
+            return Math.max(0, Math.min(c, this.columns - 1));
+        }
+
+        /**
+         * Returns the row containing a y-coordinate.
+         *
+         * @param y  the y-coordinate.
+         *
+         * @return The row index (clamped to the grid).
+         */
+        private int getRow(double y) {
+            int r = (int) ((y - this.minY) / this.cellHeight);
+            return Math.max(0, Math.min(r, this.rows - 1));
+        }
+
+        /**
+         * Returns the cell containing a point.
+         *
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         *
+         * @return The cell index, or -1 if the point is outside the bounds
+         *     of all the entities.
+         */
+        int getCell(double x, double y) {
+            if (!(x >= this.minX && x <= this.maxX && y >= this.minY
+                    && y <= this.maxY)) {
+                return -1;
+            }
+            return getRow(y) * this.columns + getColumn(x);
+        }
+
+    }
+
+}
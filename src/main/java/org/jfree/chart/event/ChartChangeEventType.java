@@ -35,6 +35,7 @@
  * Changes:
  * --------
  * 18-Feb-2005 : Version 1 (DG);
+ * 16-Oct-2026 : Added DATA_LAYER_UPDATED (agent);
  *
  */
 
@@ -51,7 +52,13 @@ public enum ChartChangeEventType {
     NEW_DATASET("ChartChangeEventType.NEW_DATASET"),
 
     /** DATASET_UPDATED. */
-    DATASET_UPDATED("ChartChangeEventType.DATASET_UPDATED");
+    DATASET_UPDATED("ChartChangeEventType.DATASET_UPDATED"),
+
+    /**
+     * A change that affects only the markers, annotations or crosshairs
+     * drawn in the data area of a plot.
+     */
+    DATA_LAYER_UPDATED("ChartChangeEventType.DATA_LAYER_UPDATED");
 
     /** The name. */
     private String name;
@@ -38,12 +38,14 @@
  * 07-Nov-2001 : Updated header (DG);
  * 09-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 17-Jan-2003 : Moved plot classes to a separate package (DG);
+ * 16-Oct-2026 : Added the dataset change event, if any (agent);
  *
  */
 
 package org.jfree.chart.event;
 
 import org.jfree.chart.plot.Plot;
+import org.jfree.data.general.DatasetChangeEvent;
 
 /**
  * An event that can be forwarded to any
@@ -55,6 +57,12 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private Plot plot;
 
+    /**
+     * The dataset change event that triggered this event (<code>null</code>
+     * if the plot was not changed by a dataset).
+     */
+    private DatasetChangeEvent datasetChangeEvent;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -74,4 +82,29 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the dataset change event that triggered this event.  Listeners
+     * can use the description of the change that it carries (see
+     * {@link DatasetChangeEvent#getInfo()}) to update just the affected
+     * parts of the chart.
+     *
+     * @return The dataset change event (possibly <code>null</code>).
+     *
+     * @see #setDatasetChangeEvent(DatasetChangeEvent)
+     */
+    public DatasetChangeEvent getDatasetChangeEvent() {
+        return this.datasetChangeEvent;
+    }
+
+    /**
+     * Sets the dataset change event that triggered this event.
+     *
+     * @param event  the event (<code>null</code> permitted).
+     *
+     * @see #getDatasetChangeEvent()
+     */
+    public void setDatasetChangeEvent(DatasetChangeEvent event) {
+        this.datasetChangeEvent = event;
+    }
+
 }
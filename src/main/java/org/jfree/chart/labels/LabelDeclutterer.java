@@ -0,0 +1,557 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * LabelDeclutterer.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.labels;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.geom.Area;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.jfree.chart.text.TextUtilities;
+import org.jfree.chart.ui.TextAnchor;
+
+/**
+ * Collects the item labels for a plot while it is drawn, then draws only
+ * the labels that don't overlap a label with a higher priority.  The plot
+ * creates a declutterer for the renderers that have an item label overlap
+ * policy other than {@link LabelOverlapPolicy#DRAW_ALL} (see
+ * {@link org.jfree.chart.renderer.AbstractRenderer#setItemLabelOverlapPolicy(
+ * LabelOverlapPolicy)}), the renderers add their labels to it instead of
+ * drawing them, and the plot calls {@link #draw(Graphics2D)} once all the
+ * data items have been rendered.
+ * <P>
+ * The labels are considered in order of decreasing priority (labels with
+ * the same priority in the order they were added), and each label is kept
+ * if it doesn't overlap any label kept before it.  The labels kept so far
+ * are recorded in a uniform grid with cells about the size of a typical
+ * label, so that each label is only compared with the nearby labels, and
+ * the time taken is dominated by sorting the labels by priority:
+ * O(n log n) for n labels.
+ */
+public class LabelDeclutterer {
+
+    /** The maximum number of cells in the grid. */
+    private static final int MAX_CELLS = 1 << 20;
+
+    /** The labels, in the order they were added. */
+    private List<Label> labels;
+
+    /**
+     * Creates a new declutterer with no labels.
+     */
+    public LabelDeclutterer() {
+        this.labels = new ArrayList<Label>();
+    }
+
+    /**
+     * Returns the number of labels added since the declutterer was created
+     * or last cleared.
+     *
+     * @return The label count.
+     */
+    public int getLabelCount() {
+        return this.labels.size();
+    }
+
+    /**
+     * Adds a label.  The arguments are the same as for
+     * {@link TextUtilities#drawRotatedString(String, Graphics2D, float, float,
+     * TextAnchor, double, TextAnchor)}, and the <code>bounds</code> should
+     * be calculated with
+     * {@link TextUtilities#calculateRotatedStringBounds(String, Graphics2D,
+     * float, float, TextAnchor, double, TextAnchor)}.
+     *
+     * @param text  the label text (<code>null</code> permitted, in which
+     *     case the label is ignored).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param paint  the paint (<code>null</code> not permitted).
+     * @param x  the x-coordinate for the text anchor.
+     * @param y  the y-coordinate for the text anchor.
+     * @param textAnchor  the text anchor (<code>null</code> not permitted).
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the rotation anchor (<code>null</code> not
+     *     permitted).
+     * @param bounds  the bounds of the rotated text (<code>null</code>
+     *     permitted, in which case the label is ignored).
+     * @param priority  the priority (labels with a higher priority are
+     *     kept in preference to labels with a lower priority).
+     */
+    public void add(String text, Font font, Paint paint, float x, float y,
+            TextAnchor textAnchor, double angle, TextAnchor rotationAnchor,
+            Shape bounds, double priority) {
+        if (font == null) {
+            throw new IllegalArgumentException("Null 'font' argument.");
+        }
+        if (paint == null) {
+            throw new IllegalArgumentException("Null 'paint' argument.");
+        }
+        if (textAnchor == null) {
+            throw new IllegalArgumentException("Null 'textAnchor' argument.");
+        }
+        if (rotationAnchor == null) {
+            throw new IllegalArgumentException(
+                    "Null 'rotationAnchor' argument.");
+        }
+        if (text == null || bounds == null) {
+            return;
+        }
+        this.labels.add(new Label(text, font, paint, x, y, textAnchor, angle,
+                rotationAnchor, bounds, priority));
+    }
+
+    /**
+     * Removes all the labels.
+     */
+    public void clear() {
+        this.labels.clear();
+    }
+
+    /**
+     * Returns flags that indicate which labels are kept: those that don't
+     * overlap a label with a higher priority (or with the same priority,
+     * that was added earlier) that is also kept.
+     *
+     * @return An array containing one flag for each label, in the order the
+     *     labels were added.
+     */
+    public boolean[] resolve() {
+        final int count = this.labels.size();
+        boolean[] result = new boolean[count];
+        if (count == 0) {
+            return result;
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        // a stable sort, so equal priorities keep the order labels were added
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer i1, Integer i2) {
+                return Double.compare(labels.get(i2).priority,
+                        labels.get(i1).priority);
+            }
+        });
+        Grid grid = new Grid(this.labels);
+        for (int i = 0; i < count; i++) {
+            int index = order[i];
+            Label label = this.labels.get(index);
+            if (label.box != null && !grid.overlaps(label)) {
+                grid.add(index);
+                result[index] = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws the labels that are kept (see {@link #resolve()}) in the order
+     * they were added, then removes all the labels.  The font and paint of
+     * the graphics device are restored afterwards.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The number of labels drawn.
+     */
+    public int draw(Graphics2D g2) {
+        if (g2 == null) {
+            throw new IllegalArgumentException("Null 'g2' argument.");
+        }
+        boolean[] visible = resolve();
+        int result = 0;
+        Font savedFont = g2.getFont();
+        Paint savedPaint = g2.getPaint();
+        for (int i = 0; i < visible.length; i++) {
+            if (visible[i]) {
+                Label label = this.labels.get(i);
+                g2.setFont(label.font);
+                g2.setPaint(label.paint);
+                TextUtilities.drawRotatedString(label.text, g2, label.x,
+                        label.y, label.textAnchor, label.angle,
+                        label.rotationAnchor);
+                result++;
+            }
+        }
+        g2.setFont(savedFont);
+        g2.setPaint(savedPaint);
+        clear();
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if two labels overlap, and
+     * <code>false</code> otherwise.  Labels that only touch do not overlap.
+     *
+     * @param a  the first label.
+     * @param b  the second label.
+     *
+     * @return A boolean.
+     */
+    static boolean overlaps(Label a, Label b) {
+        Rectangle2D ra = a.box;
+        Rectangle2D rb = b.box;
+        if (!(ra.getMinX() < rb.getMaxX() && rb.getMinX() < ra.getMaxX()
+                && ra.getMinY() < rb.getMaxY()
+                && rb.getMinY() < ra.getMaxY())) {
+            return false;
+        }
+        if (a.upright && b.upright) {
+            return true;
+        }
+        // at least one label is rotated, so its bounding box is larger
+        // than the label
+        Area area = new Area(a.bounds);
+        area.intersect(new Area(b.bounds));
+        return !area.isEmpty();
+    }
+
+    /**
+     * A label.
+     */
+    static final class Label {
+
+        /** The text. */
+        final String text;
+
+        /** The font. */
+        final Font font;
+
+        /** The paint. */
+        final Paint paint;
+
+        /** The x-coordinate of the text anchor. */
+        final float x;
+
+        /** The y-coordinate of the text anchor. */
+        final float y;
+
+        /** The text anchor. */
+        final TextAnchor textAnchor;
+
+        /** The rotation angle. */
+        final double angle;
+
+        /** The rotation anchor. */
+        final TextAnchor rotationAnchor;
+
+        /** The bounds of the rotated text. */
+        final Shape bounds;
+
+        /**
+         * The bounding box of the rotated text (<code>null</code> if it is
+         * not finite).
+         */
+        final Rectangle2D box;
+
+        /** Is the bounding box the same as the bounds? */
+        final boolean upright;
+
+        /** The priority. */
+        final double priority;
+
+        /**
+         * Creates a new label.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param paint  the paint.
+         * @param x  the x-coordinate of the text anchor.
+         * @param y  the y-coordinate of the text anchor.
+         * @param textAnchor  the text anchor.
+         * @param angle  the rotation angle.
+         * @param rotationAnchor  the rotation anchor.
+         * @param bounds  the bounds of the rotated text.
+         * @param priority  the priority.
+         */
+        Label(String text, Font font, Paint paint, float x, float y,
+                TextAnchor textAnchor, double angle,
+                TextAnchor rotationAnchor, Shape bounds, double priority) {
+            this.text = text;
+            this.font = font;
+            this.paint = paint;
+            this.x = x;
+            this.y = y;
+            this.textAnchor = textAnchor;
+            this.angle = angle;
+            this.rotationAnchor = rotationAnchor;
+            this.bounds = bounds;
+            Rectangle2D b = bounds.getBounds2D();
+            if (isFinite(b.getMinX()) && isFinite(b.getMinY())
+                    && isFinite(b.getMaxX()) && isFinite(b.getMaxY())) {
+                this.box = b;
+            }
+            else {
+                this.box = null;
+            }
+            this.upright = angle % (Math.PI / 2.0) == 0.0;
+            // NaN would sort ahead of all other priorities
+            this.priority = Double.isNaN(priority) ? Double.NEGATIVE_INFINITY
+                    : priority;
+        }
+
+        /**
+         * Returns <code>true</code> if a value is finite.
+         *
+         * @param v  the value.
+         *
+         * @return A boolean.
+         */
+        private static boolean isFinite(double v) {
+            return !Double.isNaN(v) && !Double.isInfinite(v);
+        }
+
+    }
+
+    /**
+     * A uniform grid over the bounding boxes of the labels, recording the
+     * labels that have been kept in each cell they overlap.  Labels that
+     * overlap many cells are recorded once, in a separate list that is
+     * checked for every label.
+     */
+    private static final class Grid {
+
+        /** The labels. */
+        private final List<Label> labels;
+
+        /** The minimum x-coordinate. */
+        private double minX;
+
+        /** The minimum y-coordinate. */
+        private double minY;
+
+        /** The width of a cell. */
+        private double cellWidth;
+
+        /** The height of a cell. */
+        private double cellHeight;
+
+        /** The number of columns. */
+        private int columns;
+
+        /** The number of rows. */
+        private int rows;
+
+        /** The maximum number of cells a label is recorded in. */
+        private int maxSpan;
+
+        /** The indices of the labels kept in each cell. */
+        private int[][] cells;
+
+        /** The number of labels kept in each cell. */
+        private int[] cellSizes;
+
+        /** The indices of the large labels kept. */
+        private int[] large;
+
+        /** The number of large labels kept. */
+        private int largeCount;
+
+        /**
+         * Creates an empty grid covering all the labels.
+         *
+         * @param labels  the labels.
+         */
+        Grid(List<Label> labels) {
+            this.labels = labels;
+            int count = labels.size();
+            double[] widths = new double[count];
+            double[] heights = new double[count];
+            this.minX = Double.POSITIVE_INFINITY;
+            this.minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            int n = 0;
+            for (int i = 0; i < count; i++) {
+                Rectangle2D b = labels.get(i).box;
+                if (b != null) {
+                    this.minX = Math.min(this.minX, b.getMinX());
+                    this.minY = Math.min(this.minY, b.getMinY());
+                    maxX = Math.max(maxX, b.getMaxX());
+                    maxY = Math.max(maxY, b.getMaxY());
+                    widths[n] = b.getWidth();
+                    heights[n] = b.getHeight();
+                    n++;
+                }
+            }
+            // cells about the size of a typical label, so that each label
+            // overlaps a few cells and each cell holds a few labels
+            double width = n > 0 ? maxX - this.minX : 0.0;
+            double height = n > 0 ? maxY - this.minY : 0.0;
+            Arrays.sort(widths, 0, n);
+            Arrays.sort(heights, 0, n);
+            this.cellWidth = Math.max(n > 0 ? widths[n / 2] : 0.0, 1.0);
+            this.cellHeight = Math.max(n > 0 ? heights[n / 2] : 0.0, 1.0);
+            int maxCells = (int) Math.min(MAX_CELLS, Math.max(16L, 4L * n));
+            while (true) {
+                this.columns = (int) Math.min(Integer.MAX_VALUE,
+                        Math.floor(width / this.cellWidth) + 1);
+                this.rows = (int) Math.min(Integer.MAX_VALUE,
+                        Math.floor(height / this.cellHeight) + 1);
+                if ((long) this.columns * this.rows <= maxCells) {
+                    break;
+                }
+                this.cellWidth *= 2.0;
+                this.cellHeight *= 2.0;
+            }
+            int cellCount = this.columns * this.rows;
+            this.maxSpan = Math.max(16, cellCount / 16);
+            this.cells = new int[cellCount][];
+            this.cellSizes = new int[cellCount];
+            this.large = new int[4];
+        }
+
+        /**
+         * Returns <code>true</code> if a label overlaps any label kept so
+         * far.
+         *
+         * @param label  the label (its bounding box must be finite).
+         *
+         * @return A boolean.
+         */
+        boolean overlaps(Label label) {
+            Rectangle2D b = label.box;
+            for (int i = 0; i < this.largeCount; i++) {
+                if (LabelDeclutterer.overlaps(label,
+                        this.labels.get(this.large[i]))) {
+                    return true;
+                }
+            }
+            int c0 = getColumn(b.getMinX());
+            int c1 = getColumn(b.getMaxX());
+            int r0 = getRow(b.getMinY());
+            int r1 = getRow(b.getMaxY());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    int[] items = this.cells[cell];
+                    for (int i = this.cellSizes[cell] - 1; i >= 0; i--) {
+                        if (LabelDeclutterer.overlaps(label,
+                                this.labels.get(items[i]))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Records a label that is kept.
+         *
+         * @param index  the label index (its bounding box must be finite).
+         */
+        void add(int index) {
+            Rectangle2D b = this.labels.get(index).box;
+            int c0 = getColumn(b.getMinX());
+            int c1 = getColumn(b.getMaxX());
+            int r0 = getRow(b.getMinY());
+            int r1 = getRow(b.getMaxY());
+            if ((long) (c1 - c0 + 1) * (r1 - r0 + 1) > this.maxSpan) {
+                this.large = append(this.large, this.largeCount, index);
+                this.largeCount++;
+                return;
+            }
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    int[] items = this.cells[cell];
+                    if (items == null) {
+                        items = new int[4];
+                    }
+                    this.cells[cell] = append(items, this.cellSizes[cell],
+                            index);
+                    this.cellSizes[cell]++;
+                }
+            }
+        }
+
+        /**
+         * Stores a value in an array, returning a larger copy of the array
+         * if it is full.
+         *
+         * @param array  the array.
+         * @param size  the number of values in the array.
+         * @param value  the value to add.
+         *
+         * @return The array holding the values.
+         */
+        private static int[] append(int[] array, int size, int value) {
+            int[] result = array;
+            if (size == result.length) {
+                result = Arrays.copyOf(array, size * 2);
+            }
+            result[size] = value;
+            return result;
+        }
+
+        /**
+         * Returns the column containing an x-coordinate.
+         *
+         * @param x  the x-coordinate.
+         *
+         * @return The column index (clamped to the grid).
+         */
+        private int getColumn(double x) {
+            double c = Math.floor((x - this.minX) / this.cellWidth);
+            return (int) Math.max(0.0, Math.min(c, this.columns - 1));
+        }
+
+        /**
+         * Returns the row containing a y-coordinate.
+         *
+         * @param y  the y-coordinate.
+         *
+         * @return The row index (clamped to the grid).
+         */
+        private int getRow(double y) {
+            double r = Math.floor((y - this.minY) / this.cellHeight);
+            return (int) Math.max(0.0, Math.min(r, this.rows - 1));
+        }
+
+    }
+
+}
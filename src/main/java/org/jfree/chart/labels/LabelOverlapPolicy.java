@@ -0,0 +1,92 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * LabelOverlapPolicy.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.labels;
+
+/**
+ * Controls how labels that overlap other labels are handled.  See
+ * {@link org.jfree.chart.renderer.AbstractRenderer#setItemLabelOverlapPolicy(
+ * LabelOverlapPolicy)} and
+ * {@link org.jfree.chart.plot.PiePlot#setSimpleLabelOverlapPolicy(
+ * LabelOverlapPolicy)}.
+ */
+public enum LabelOverlapPolicy {
+
+    /**
+     * Draw every label, even if it overlaps other labels (the default).
+     */
+    DRAW_ALL("LabelOverlapPolicy.DRAW_ALL"),
+
+    /**
+     * Hide labels that overlap a label for an item that was rendered (or a
+     * pie section that was drawn) earlier.
+     */
+    HIDE_LATER_ITEMS("LabelOverlapPolicy.HIDE_LATER_ITEMS"),
+
+    /**
+     * Hide labels that overlap a label for an item with a larger absolute
+     * value.  Labels for items with equal values are handled as for
+     * {@link #HIDE_LATER_ITEMS}.
+     */
+    HIDE_SMALLER_VALUES("LabelOverlapPolicy.HIDE_SMALLER_VALUES");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private LabelOverlapPolicy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
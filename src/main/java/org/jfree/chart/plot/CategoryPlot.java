@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -179,6 +179,11 @@
  * 18-Oct-2011 : Fixed tooltip offset with shadow generator (DG);
  * 20-Nov-2011 : Initialise shadow generator as null (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Pass on the dataset change event (agent);
+ * 16-Oct-2026 : Hide overlapping item labels for renderers that
+ *               request it (agent);
+ * 16-Oct-2026 : Stop rendering when the KEY_ABORT hint's flag is set
+ *               (agent);
  *
  */
 
@@ -212,7 +217,9 @@ import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jfree.chart.ChartHints;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.CategoryAnnotation;
@@ -241,6 +248,8 @@ import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.labels.LabelDeclutterer;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.renderer.category.AbstractCategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRendererState;
@@ -2327,6 +2336,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            e.setDatasetChangeEvent(event);
             notifyListeners(e);
         }
 
@@ -3654,6 +3664,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         g2.setComposite(AlphaComposite.getInstance(
                 AlphaComposite.SRC_OVER, getForegroundAlpha()));
 
+        LabelDeclutterer declutterer = startItemLabels();
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         if (order == DatasetRenderingOrder.FORWARD) {
             for (int i = 0; i < this.datasets.size(); i++) {
@@ -3667,6 +3678,7 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
                     || foundData;
             }
         }
+        drawItemLabels(g2, declutterer);
         // draw the foreground markers...
         for (int i = 0; i < this.renderers.size(); i++) {
             drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
@@ -3849,9 +3861,82 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
     }
 
+    /**
+     * Returns <code>true</code> if any renderer for the plot hides item
+     * labels that overlap other item labels (see
+     * {@link AbstractCategoryItemRenderer#setItemLabelOverlapPolicy(
+     * LabelOverlapPolicy)}), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    private boolean hidesOverlappingItemLabels() {
+        for (int i = 0; i < this.renderers.size(); i++) {
+            CategoryItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractCategoryItemRenderer) {
+                LabelOverlapPolicy policy = ((AbstractCategoryItemRenderer) r)
+                        .getItemLabelOverlapPolicy();
+                if (policy != LabelOverlapPolicy.DRAW_ALL) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes a new {@link LabelDeclutterer} to the renderers that hide item
+     * labels that overlap other item labels, so that they collect their
+     * labels while the data items are rendered.
+     *
+     * @return The declutterer (<code>null</code> if all the renderers draw
+     *     all their item labels).
+     *
+     * @see #drawItemLabels(Graphics2D, LabelDeclutterer)
+     */
+    private LabelDeclutterer startItemLabels() {
+        if (!hidesOverlappingItemLabels()) {
+            return null;
+        }
+        LabelDeclutterer declutterer = new LabelDeclutterer();
+        for (int i = 0; i < this.renderers.size(); i++) {
+            CategoryItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractCategoryItemRenderer) {
+                AbstractCategoryItemRenderer ar
+                        = (AbstractCategoryItemRenderer) r;
+                ar.setItemLabelDeclutterer(declutterer);
+            }
+        }
+        return declutterer;
+    }
+
+    /**
+     * Draws the item labels collected by the renderers since
+     * {@link #startItemLabels()} was called, omitting the labels that
+     * overlap labels with a higher priority.
+     *
+     * @param g2  the graphics device.
+     * @param declutterer  the declutterer (<code>null</code> permitted).
+     */
+    private void drawItemLabels(Graphics2D g2, LabelDeclutterer declutterer) {
+        if (declutterer == null) {
+            return;
+        }
+        for (int i = 0; i < this.renderers.size(); i++) {
+            CategoryItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractCategoryItemRenderer) {
+                AbstractCategoryItemRenderer ar
+                        = (AbstractCategoryItemRenderer) r;
+                ar.setItemLabelDeclutterer(null);
+            }
+        }
+        declutterer.draw(g2);
+    }
+
     /**
      * Draws a representation of a dataset within the dataArea region using the
-     * appropriate renderer.
+     * appropriate renderer.  If the {@link ChartHints#KEY_ABORT} hint is set
+     * on the graphics device, the remaining items are not drawn once its
+     * flag is set.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3882,9 +3967,14 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
             int columnCount = currentDataset.getColumnCount();
             int rowCount = currentDataset.getRowCount();
             int passCount = renderer.getPassCount();
+            AtomicBoolean abort = (AtomicBoolean) g2.getRenderingHint(
+                    ChartHints.KEY_ABORT);
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
+                        if (abort != null && abort.get()) {
+                            return foundData;  // drawing abandoned
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3903,6 +3993,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
                 }
                 else {
                     for (int column = columnCount - 1; column >= 0; column--) {
+                        if (abort != null && abort.get()) {
+                            return foundData;  // drawing abandoned
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
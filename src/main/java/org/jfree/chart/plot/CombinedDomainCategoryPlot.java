@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -61,6 +61,9 @@
  * 11-Aug-2008 : Don't store totalWeight of subplots, calculate it as
  *               required (DG);
  * 12-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added an option to draw the subplots in parallel (agent);
+ * 16-Oct-2026 : Don't draw the subplots in parallel if they share
+ *               a renderer (agent);
  *
  */
 
@@ -99,6 +102,12 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
     /** The gap between subplots. */
     private double gap;
 
+    /**
+     * A flag that controls whether the subplots are drawn in parallel (see
+     * {@link #setParallelRendering(boolean)}).
+     */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
     // TODO:  move the above to the plot state
@@ -146,6 +155,41 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * this is <code>true</code>, each subplot is drawn into its own image by
+     * a thread from the common fork/join pool, and the images are then
+     * drawn in order, so the result (including the entities collected in
+     * the rendering info) is the same as when the subplots are drawn one at
+     * a time.  The subplots are still drawn one at a time when the graphics
+     * device is a printer or is rotated, since the images have the
+     * resolution of the device, and when two subplots share a renderer.
+     * Only enable this if the datasets can be read by several threads at
+     * the same time (for example, datasets in concurrent mode, see
+     * {@link org.jfree.data.general.AbstractDataset#isConcurrent()}).
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Adds a subplot to the combined chart and sends a {@link PlotChangeEvent}
      * to all registered listeners.
@@ -465,19 +509,26 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the subplots
-        for (int i = 0; i < this.subplots.size(); i++) {
-            CategoryPlot plot = this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
-            }
-            Point2D subAnchor = null;
-            if (anchor != null && this.subplotAreas[i].contains(anchor)) {
-                subAnchor = anchor;
+        if (this.parallelRendering && ParallelSubplotRenderer.isSupported(g2,
+                this.subplots)) {
+            ParallelSubplotRenderer.draw(g2, this.subplots, this.subplotAreas,
+                    anchor, true, parentState, info);
+        }
+        else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                CategoryPlot plot = this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                Point2D subAnchor = null;
+                if (anchor != null && this.subplotAreas[i].contains(anchor)) {
+                    subAnchor = anchor;
+                }
+                plot.draw(g2, this.subplotAreas[i], subAnchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], subAnchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -640,6 +691,9 @@ public class CombinedDomainCategoryPlot extends CategoryPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!ObjectUtilities.equal(this.subplots, that.subplots)) {
             return false;
         }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2013, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -95,6 +95,10 @@
  *               required (DG);
  * 21-Dec-2011 : Apply patch 3447161 by Ulrich Voigt and Martin Hoeller (MH);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Override isDataLayerSeparable() (agent);
+ * 16-Oct-2026 : Added an option to draw the subplots in parallel (agent);
+ * 16-Oct-2026 : Don't draw the subplots in parallel if they share
+ *               a renderer (agent);
  *
  */
 
@@ -137,6 +141,12 @@ public class CombinedRangeXYPlot extends XYPlot
     /** The gap between subplots. */
     private double gap = 5.0;
 
+    /**
+     * A flag that controls whether the subplots are drawn in parallel (see
+     * {@link #setParallelRendering(boolean)}).
+     */
+    private boolean parallelRendering;
+
     /** Temporary storage for the subplot areas. */
     private transient Rectangle2D[] subplotAreas;
 
@@ -191,6 +201,41 @@ public class CombinedRangeXYPlot extends XYPlot
         this.gap = gap;
     }
 
+    /**
+     * Returns the flag that controls whether the subplots are drawn in
+     * parallel.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the subplots are drawn in parallel
+     * and sends a {@link PlotChangeEvent} to all registered listeners.  When
+     * this is <code>true</code>, each subplot is drawn into its own image by
+     * a thread from the common fork/join pool, and the images are then
+     * drawn in order, so the result (including the entities collected in
+     * the rendering info) is the same as when the subplots are drawn one at
+     * a time.  The subplots are still drawn one at a time when the graphics
+     * device is a printer or is rotated, since the images have the
+     * resolution of the device, and when two subplots share a renderer.
+     * Only enable this if the datasets can be read by several threads at
+     * the same time (for example, datasets in concurrent mode, see
+     * {@link org.jfree.data.general.AbstractDataset#isConcurrent()}).
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Adds a subplot, with a default 'weight' of 1.
      * <br><br>
@@ -361,6 +406,17 @@ public class CombinedRangeXYPlot extends XYPlot
         return space;
     }
 
+    /**
+     * Returns <code>false</code>, since the data layers of the subplots are
+     * always drawn with the subplots.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isDataLayerSeparable() {
+        return false;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
@@ -408,15 +464,22 @@ public class CombinedRangeXYPlot extends XYPlot
         parentState.getSharedAxisStates().put(axis, axisState);
 
         // draw all the charts
-        for (int i = 0; i < this.subplots.size(); i++) {
-            XYPlot plot = this.subplots.get(i);
-            PlotRenderingInfo subplotInfo = null;
-            if (info != null) {
-                subplotInfo = new PlotRenderingInfo(info.getOwner());
-                info.addSubplotInfo(subplotInfo);
+        if (this.parallelRendering && ParallelSubplotRenderer.isSupported(g2,
+                this.subplots)) {
+            ParallelSubplotRenderer.draw(g2, this.subplots, this.subplotAreas,
+                    anchor, false, parentState, info);
+        }
+        else {
+            for (int i = 0; i < this.subplots.size(); i++) {
+                XYPlot plot = this.subplots.get(i);
+                PlotRenderingInfo subplotInfo = null;
+                if (info != null) {
+                    subplotInfo = new PlotRenderingInfo(info.getOwner());
+                    info.addSubplotInfo(subplotInfo);
+                }
+                plot.draw(g2, this.subplotAreas[i], anchor, parentState,
+                        subplotInfo);
             }
-            plot.draw(g2, this.subplotAreas[i], anchor, parentState,
-                    subplotInfo);
         }
 
         if (info != null) {
@@ -694,6 +757,9 @@ public class CombinedRangeXYPlot extends XYPlot
         if (this.gap != that.gap) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         if (!ObjectUtilities.equal(this.subplots, that.subplots)) {
             return false;
         }
@@ -0,0 +1,439 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * ParallelSubplotRenderer.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added serialVersionUID and removed a redundant cast (agent);
+ * 16-Oct-2026 : Draw the subplots one at a time if they share a
+ *               renderer (agent);
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.SnapshotPin;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Draws the subplots of a combined plot in parallel, using the threads of
+ * the common fork/join pool.  Each subplot is drawn into its own image, and
+ * the images are then drawn on the graphics device in the same order that
+ * the subplots would be drawn by a single thread.  The entities for each
+ * subplot are collected separately and added to the chart's entity
+ * collection in the same order too, so the rendering info is the same as
+ * if the subplots were drawn one at a time.
+ * <p>
+ * The subplots are drawn at the resolution of the graphics device, so this
+ * is only used when the device is a screen or an image and the transform
+ * only translates and scales.  A renderer holds state while it draws (such
+ * as the labels it collects for the plot to declutter), so the subplots are
+ * also drawn one at a time if any of them share a renderer (see
+ * {@link #isSupported(Graphics2D, List)}).
+ */
+final class ParallelSubplotRenderer {
+
+    /**
+     * The space (in device pixels) around each subplot that is included in
+     * its image, for anything drawn just outside the subplot area (such as
+     * an anti-aliased outline).
+     */
+    private static final int MARGIN = 2;
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private ParallelSubplotRenderer() {
+        // no instances
+    }
+
+    /**
+     * Returns <code>true</code> if the specified subplots can be drawn in
+     * parallel on a graphics device, and <code>false</code> if they should
+     * be drawn one at a time.
+     *
+     * @param g2  the graphics device.
+     * @param subplots  the subplots.
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(Graphics2D g2, List<? extends Plot> subplots) {
+        if (subplots.size() < 2 || sharesRenderers(subplots)) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        if ((type & ~(AffineTransform.TYPE_TRANSLATION
+                | AffineTransform.TYPE_UNIFORM_SCALE
+                | AffineTransform.TYPE_GENERAL_SCALE)) != 0) {
+            return false;
+        }
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        return gc != null
+                && gc.getDevice().getType() != GraphicsDevice.TYPE_PRINTER;
+    }
+
+    /**
+     * Returns <code>true</code> if a renderer is used by more than one of
+     * the specified subplots, and <code>false</code> otherwise.
+     *
+     * @param subplots  the subplots.
+     *
+     * @return A boolean.
+     */
+    private static boolean sharesRenderers(List<? extends Plot> subplots) {
+        Set<Object> renderers = Collections.newSetFromMap(
+                new IdentityHashMap<Object, Boolean>());
+        for (Plot subplot : subplots) {
+            Set<Object> used = Collections.newSetFromMap(
+                    new IdentityHashMap<Object, Boolean>());
+            if (subplot instanceof XYPlot) {
+                XYPlot xyPlot = (XYPlot) subplot;
+                for (int i = 0; i < xyPlot.getRendererCount(); i++) {
+                    used.add(xyPlot.getRenderer(i));
+                }
+            }
+            else if (subplot instanceof CategoryPlot) {
+                CategoryPlot categoryPlot = (CategoryPlot) subplot;
+                for (int i = 0; i < categoryPlot.getRendererCount(); i++) {
+                    used.add(categoryPlot.getRenderer(i));
+                }
+            }
+            used.remove(null);
+            for (Object renderer : used) {
+                if (!renderers.add(renderer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Draws the subplots.
+     *
+     * @param g2  the graphics device.
+     * @param subplots  the subplots.
+     * @param areas  the area for each subplot.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param anchorInSubplotOnly  if <code>true</code>, the anchor is passed
+     *     only to the subplot whose area contains it.
+     * @param parentState  the state from the parent plot.
+     * @param info  the rendering info for the parent plot
+     *     (<code>null</code> permitted).
+     */
+    static void draw(Graphics2D g2, List<? extends Plot> subplots,
+            Rectangle2D[] areas, Point2D anchor, boolean anchorInSubplotOnly,
+            PlotState parentState, PlotRenderingInfo info) {
+
+        // the series paints, strokes and shapes are assigned from the
+        // drawing supplier (which is shared by the subplots) when first
+        // used, so assign them here in the order used by the legend
+        for (Plot subplot : subplots) {
+            populateSeriesAttributes(subplot);
+        }
+
+        ChartRenderingInfo owner = info != null ? info.getOwner() : null;
+        EntityCollection entities = owner != null
+                ? owner.getEntityCollection() : null;
+        AffineTransform transform = g2.getTransform();
+        Shape clip = g2.getClip();
+        Rectangle deviceClip = clip != null
+                ? transform.createTransformedShape(clip).getBounds() : null;
+        RenderingHints hints = g2.getRenderingHints();
+        SnapshotPin pin = SnapshotPin.getCurrent();
+        List<SubplotTask> tasks = new ArrayList<SubplotTask>(subplots.size());
+        for (int i = 0; i < subplots.size(); i++) {
+            PlotRenderingInfo subplotInfo = null;
+            if (info != null) {
+                // collect the entities separately until the subplot is drawn
+                ChartRenderingInfo temp = new ChartRenderingInfo(
+                        entities != null ? new StandardEntityCollection()
+                        : null);
+                subplotInfo = new PlotRenderingInfo(temp);
+                info.addSubplotInfo(subplotInfo);
+            }
+            Point2D subAnchor = anchor;
+            if (anchorInSubplotOnly && anchor != null
+                    && !areas[i].contains(anchor)) {
+                subAnchor = null;
+            }
+            Rectangle bounds = transform.createTransformedShape(areas[i])
+                    .getBounds();
+            bounds.grow(MARGIN, MARGIN);
+            if (deviceClip != null) {
+                bounds = bounds.intersection(deviceClip);
+            }
+            bounds.width = Math.max(bounds.width, 1);
+            bounds.height = Math.max(bounds.height, 1);
+            SubplotTask task = new SubplotTask(subplots.get(i), areas[i],
+                    subAnchor, parentState, subplotInfo, pin, bounds);
+            task.setGraphicsState(transform, clip, hints, g2.getFont(),
+                    g2.getPaint(), g2.getStroke(), g2.getBackground());
+            tasks.add(task);
+        }
+
+        ForkJoinTask.invokeAll(tasks);
+
+        g2.setTransform(new AffineTransform());
+        try {
+            for (SubplotTask task : tasks) {
+                g2.drawImage(task.image, task.bounds.x, task.bounds.y, null);
+                if (task.info != null) {
+                    EntityCollection e
+                            = task.info.getOwner().getEntityCollection();
+                    task.info.setOwner(owner);
+                    if (e != null) {
+                        entities.addAll(e);
+                    }
+                }
+            }
+        }
+        finally {
+            g2.setTransform(transform);
+        }
+    }
+
+    /**
+     * Looks up the paints, strokes and shapes for each series in a plot, so
+     * that those that are assigned automatically are assigned before the
+     * subplots are drawn.
+     *
+     * @param plot  the plot.
+     */
+    private static void populateSeriesAttributes(Plot plot) {
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (int i = 0; i < xyPlot.getDatasetCount(); i++) {
+                XYDataset dataset = xyPlot.getDataset(i);
+                if (dataset != null) {
+                    populateSeriesAttributes(
+                            xyPlot.getRendererForDataset(dataset),
+                            dataset.getSeriesCount());
+                }
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (int i = 0; i < categoryPlot.getDatasetCount(); i++) {
+                CategoryDataset dataset = categoryPlot.getDataset(i);
+                if (dataset != null) {
+                    populateSeriesAttributes(
+                            categoryPlot.getRendererForDataset(dataset),
+                            dataset.getRowCount());
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the paints, strokes and shapes for the series drawn by a
+     * renderer.
+     *
+     * @param renderer  the renderer (<code>null</code> permitted).
+     * @param seriesCount  the number of series.
+     */
+    private static void populateSeriesAttributes(Object renderer,
+            int seriesCount) {
+        if (!(renderer instanceof AbstractRenderer)) {
+            return;
+        }
+        AbstractRenderer r = (AbstractRenderer) renderer;
+        for (int series = 0; series < seriesCount; series++) {
+            r.lookupSeriesPaint(series);
+            r.lookupSeriesFillPaint(series);
+            r.lookupSeriesOutlinePaint(series);
+            r.lookupSeriesStroke(series);
+            r.lookupSeriesOutlineStroke(series);
+            r.lookupSeriesShape(series);
+        }
+    }
+
+    /**
+     * A task that draws one subplot into an image.
+     */
+    private static final class SubplotTask extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 4922190829806687791L;
+
+        /** The subplot. */
+        private final Plot plot;
+
+        /** The subplot area. */
+        private final Rectangle2D area;
+
+        /** The anchor point (<code>null</code> permitted). */
+        private final Point2D anchor;
+
+        /** The state from the parent plot. */
+        private final PlotState parentState;
+
+        /** The rendering info for the subplot (<code>null</code> permitted). */
+        private final PlotRenderingInfo info;
+
+        /** The pin held by the thread that started the task. */
+        private final SnapshotPin pin;
+
+        /** The bounds of the image in device space. */
+        private final Rectangle bounds;
+
+        /** The transform from the graphics device. */
+        private AffineTransform transform;
+
+        /** The clip from the graphics device. */
+        private Shape clip;
+
+        /** The rendering hints from the graphics device. */
+        private RenderingHints hints;
+
+        /** The font from the graphics device. */
+        private Font font;
+
+        /** The paint from the graphics device. */
+        private Paint paint;
+
+        /** The stroke from the graphics device. */
+        private Stroke stroke;
+
+        /** The background color from the graphics device. */
+        private Color background;
+
+        /** The image (available once the task has completed). */
+        private BufferedImage image;
+
+        /**
+         * Creates a new task.
+         *
+         * @param plot  the subplot.
+         * @param area  the subplot area.
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         * @param parentState  the state from the parent plot.
+         * @param info  the rendering info (<code>null</code> permitted).
+         * @param pin  the pin (<code>null</code> permitted).
+         * @param bounds  the bounds of the image in device space.
+         */
+        SubplotTask(Plot plot, Rectangle2D area, Point2D anchor,
+                PlotState parentState, PlotRenderingInfo info,
+                SnapshotPin pin, Rectangle bounds) {
+            this.plot = plot;
+            this.area = area;
+            this.anchor = anchor;
+            this.parentState = parentState;
+            this.info = info;
+            this.pin = pin;
+            this.bounds = bounds;
+        }
+
+        /**
+         * Records the state of the graphics device, to be copied to the
+         * graphics for the image.
+         *
+         * @param transform  the transform.
+         * @param clip  the clip (<code>null</code> permitted).
+         * @param hints  the rendering hints.
+         * @param font  the font.
+         * @param paint  the paint.
+         * @param stroke  the stroke.
+         * @param background  the background color.
+         */
+        void setGraphicsState(AffineTransform transform, Shape clip,
+                RenderingHints hints, Font font, Paint paint, Stroke stroke,
+                Color background) {
+            this.transform = transform;
+            this.clip = clip;
+            this.hints = hints;
+            this.font = font;
+            this.paint = paint;
+            this.stroke = stroke;
+            this.background = background;
+        }
+
+        /**
+         * Draws the subplot into a new image.
+         */
+        @Override
+        protected void compute() {
+            BufferedImage result = new BufferedImage(this.bounds.width,
+                    this.bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2 = result.createGraphics();
+            SnapshotPin previous = SnapshotPin.attach(this.pin);
+            try {
+                g2.setRenderingHints(this.hints);
+                g2.translate(-this.bounds.x, -this.bounds.y);
+                g2.transform(this.transform);
+                g2.setClip(this.clip);
+                g2.setFont(this.font);
+                g2.setPaint(this.paint);
+                g2.setStroke(this.stroke);
+                g2.setBackground(this.background);
+                this.plot.draw(g2, this.area, this.anchor, this.parentState,
+                        this.info);
+            }
+            finally {
+                SnapshotPin.restore(previous);
+                g2.dispose();
+            }
+            this.image = result;
+        }
+
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -38,6 +38,7 @@
  * 18-Apr-2005 : Use StringBuffer (DG);
  * 14-Jun-2007 : Now extends AbstractPieLabelDistributor (DG);
  * 31-Mar-2008 : Fix bugs in label distribution (DG);
+ * 16-Oct-2026 : Distribute overlapping labels in O(n log n) time (agent);
  *
  */
 
@@ -64,7 +65,11 @@ public class PieLabelDistributor extends AbstractPieLabelDistributor {
     }
 
     /**
-     * Distributes the labels.
+     * Distributes the labels.  If any labels overlap, they are moved as
+     * little as possible (in the least squares sense) to leave the minimum
+     * gap between neighbouring labels while staying within the available
+     * height, or spread evenly if they don't fit.  The time taken is
+     * O(n log n) for n labels.
      *
      * @param minY  the minimum y-coordinate in Java2D-space.
      * @param height  the available height (in Java2D units).
@@ -72,21 +77,70 @@ public class PieLabelDistributor extends AbstractPieLabelDistributor {
     @Override
     public void distributeLabels(double minY, double height) {
         sort();  // sorts the label records into ascending order by baseY
-//        if (isOverlap()) {
-//            adjustInwards();
-//        }
-        // if still overlapping, do something else...
         if (isOverlap()) {
-            adjustDownwards(minY, height);
+            if (!separateLabels(minY, height)) {
+                spreadEvenly(minY, height);
+            }
         }
+    }
 
-        if (isOverlap()) {
-            adjustUpwards(minY, height);
+    /**
+     * Moves the (sorted) labels to the y-coordinates closest to their base
+     * y-coordinates for which they don't overlap.  If c(i) is the distance
+     * between the first and i-th labels when they are packed together with
+     * the minimum gap, the labels don't overlap if y(i) - c(i) is
+     * non-decreasing, so the new y-coordinates are found from an isotonic
+     * regression of baseY(i) - c(i), which the pool adjacent violators
+     * algorithm finds in linear time, limited to the available height.
+     *
+     * @param minY  the minimum y value (in Java2D coordinate space).
+     * @param height  the height available for all labels.
+     *
+     * @return <code>false</code> if the labels don't fit in the available
+     *     height (in which case they are not moved).
+     */
+    private boolean separateLabels(double minY, double height) {
+        int count = this.labels.size();
+        double[] offsets = new double[count];
+        for (int i = 1; i < count; i++) {
+            offsets[i] = offsets[i - 1] + this.minGap
+                    + (getPieLabelRecord(i - 1).getLabelHeight()
+                    + getPieLabelRecord(i).getLabelHeight()) / 2.0;
+        }
+        double lower = minY + getPieLabelRecord(0).getLabelHeight() / 2.0;
+        double upper = minY + height - offsets[count - 1]
+                - getPieLabelRecord(count - 1).getLabelHeight() / 2.0;
+        if (lower > upper) {
+            return false;
         }
 
-        if (isOverlap()) {
-            spreadEvenly(minY, height);
+        // each block is a run of labels that are packed together
+        double[] means = new double[count];
+        int[] sizes = new int[count];
+        int blockCount = 0;
+        for (int i = 0; i < count; i++) {
+            means[blockCount] = getPieLabelRecord(i).getBaseY() - offsets[i];
+            sizes[blockCount] = 1;
+            blockCount++;
+            while (blockCount > 1
+                    && means[blockCount - 2] >= means[blockCount - 1]) {
+                int b = blockCount - 2;
+                int size = sizes[b] + sizes[b + 1];
+                means[b] = (means[b] * sizes[b]
+                        + means[b + 1] * sizes[b + 1]) / size;
+                sizes[b] = size;
+                blockCount--;
+            }
+        }
+        int i = 0;
+        for (int b = 0; b < blockCount; b++) {
+            double y = Math.max(lower, Math.min(upper, means[b]));
+            for (int j = 0; j < sizes[b]; j++) {
+                getPieLabelRecord(i).setAllocatedY(y + offsets[i]);
+                i++;
+            }
         }
+        return true;
     }
 
     /**
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -169,6 +169,9 @@
  * 20-Nov-2011 : Initialise shadow generator as null (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
  * 01-Jul-2012 : Removed deprecated code (DG);
+ * 16-Oct-2026 : Added simpleLabelOverlapPolicy attribute (agent);
+ * 16-Oct-2026 : Added minorSectionLimit and minorSectionKey attributes
+ *               to aggregate minor sections (agent);
  *
  */
 
@@ -198,6 +201,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -219,6 +223,8 @@ import org.jfree.chart.util.UnitType;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.PieSectionEntity;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.labels.LabelDeclutterer;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.labels.PieSectionLabelGenerator;
 import org.jfree.chart.labels.PieToolTipGenerator;
 import org.jfree.chart.labels.StandardPieSectionLabelGenerator;
@@ -432,6 +438,9 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     private RectangleInsets simpleLabelOffset;
 
+    /** The policy for simple labels that overlap other simple labels. */
+    private LabelOverlapPolicy simpleLabelOverlapPolicy;
+
     /** The maximum label width as a percentage of the plot width. */
     private double maximumLabelWidth = 0.14;
 
@@ -496,6 +505,21 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     private boolean ignoreZeroValues;
 
+    /**
+     * The fraction of the total below which sections are aggregated into a
+     * single section (zero or less for no aggregation).
+     */
+    private double minorSectionLimit;
+
+    /** The key for the section that aggregates the minor sections. */
+    private Comparable minorSectionKey;
+
+    /**
+     * The dataset with the minor sections aggregated, created when required
+     * and discarded when the dataset changes.
+     */
+    private transient volatile PieDataset sectionDataset;
+
     /** The legend item shape. */
     private transient Shape legendItemShape;
 
@@ -598,6 +622,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         this.simpleLabels = false;
         this.simpleLabelOffset = new RectangleInsets(UnitType.RELATIVE, 0.18,
                 0.18, 0.18, 0.18);
+        this.simpleLabelOverlapPolicy = LabelOverlapPolicy.DRAW_ALL;
         this.labelPadding = new RectangleInsets(2, 2, 2, 2);
 
         this.toolTipGenerator = null;
@@ -609,6 +634,8 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
         this.ignoreNullValues = false;
         this.ignoreZeroValues = false;
+        this.minorSectionLimit = 0.0;
+        this.minorSectionKey = "Other";
 
         this.shadowGenerator = null;
     }
@@ -651,6 +678,44 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         datasetChanged(event);
     }
 
+    /**
+     * Returns the dataset for the sections that are drawn.  This is the
+     * plot's dataset or, if minor sections are aggregated (see
+     * {@link #setMinorSectionLimit(double)}), a dataset created by
+     * {@link DatasetUtilities#createConsolidatedPieDataset(PieDataset,
+     * Comparable, double)} that is reused until the plot's dataset changes.
+     *
+     * @return The dataset (possibly <code>null</code>).
+     *
+     * @see #getDataset()
+     */
+    public PieDataset getSectionDataset() {
+        PieDataset source = this.dataset;
+        if (source == null || this.minorSectionLimit <= 0.0) {
+            return source;
+        }
+        PieDataset result = this.sectionDataset;
+        if (result == null) {
+            result = DatasetUtilities.createConsolidatedPieDataset(source,
+                    this.minorSectionKey, this.minorSectionLimit);
+            this.sectionDataset = result;
+        }
+        return result;
+    }
+
+    /**
+     * Receives notification of a change to the plot's dataset, discards
+     * the dataset with the minor sections aggregated, and passes the event
+     * on to the plot's listeners.
+     *
+     * @param event  information about the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.sectionDataset = null;
+        super.datasetChanged(event);
+    }
+
     /**
      * Returns the pie index (this is used by the {@link MultiplePiePlot} class
      * to track subplots).
@@ -863,6 +928,68 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         fireChangeEvent();
     }
 
+    /**
+     * Returns the fraction of the dataset total below which sections are
+     * aggregated into a single section.  The default is <code>0.0</code>
+     * (no aggregation).
+     *
+     * @return The limit (ten percent is 0.10).
+     *
+     * @see #setMinorSectionLimit(double)
+     */
+    public double getMinorSectionLimit() {
+        return this.minorSectionLimit;
+    }
+
+    /**
+     * Sets the fraction of the dataset total below which sections are
+     * aggregated into a single section (with the key returned by
+     * {@link #getMinorSectionKey()}), and sends a {@link PlotChangeEvent} to
+     * all registered listeners.  Sections are only aggregated if there are
+     * at least two of them below the limit.  Aggregating the many small
+     * sections of a dataset with a long tail of values keeps the number of
+     * sections, labels and legend items manageable.
+     *
+     * @param limit  the limit (ten percent is 0.10, zero or less for no
+     *     aggregation).
+     *
+     * @see #getMinorSectionLimit()
+     */
+    public void setMinorSectionLimit(double limit) {
+        this.minorSectionLimit = limit;
+        this.sectionDataset = null;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the key for the section that aggregates the minor sections.
+     * The default is "Other".
+     *
+     * @return The key (never <code>null</code>).
+     *
+     * @see #setMinorSectionKey(Comparable)
+     */
+    public Comparable getMinorSectionKey() {
+        return this.minorSectionKey;
+    }
+
+    /**
+     * Sets the key for the section that aggregates the minor sections, and
+     * sends a {@link PlotChangeEvent} to all registered listeners.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @see #getMinorSectionKey()
+     */
+    public void setMinorSectionKey(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        this.minorSectionKey = key;
+        this.sectionDataset = null;
+        fireChangeEvent();
+    }
+
     //// SECTION PAINT ////////////////////////////////////////////////////////
 
     /**
@@ -1590,11 +1717,12 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      * @return The percent.
      */
     public double getMaximumExplodePercent() {
-        if (this.dataset == null) {
+        PieDataset dataset = getSectionDataset();
+        if (dataset == null) {
             return 0.0;
         }
         double result = 0.0;
-        for (Comparable key : this.dataset.getKeys()) {
+        for (Comparable key : dataset.getKeys()) {
             Number explode = this.explodePercentages.get(key);
             if (explode != null) {
                 result = Math.max(result, explode.doubleValue());
@@ -2070,6 +2198,37 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         fireChangeEvent();
     }
 
+    /**
+     * Returns the policy for simple labels that overlap other simple labels.
+     * The default is {@link LabelOverlapPolicy#DRAW_ALL}.
+     *
+     * @return The policy (never <code>null</code>).
+     *
+     * @see #setSimpleLabelOverlapPolicy(LabelOverlapPolicy)
+     */
+    public LabelOverlapPolicy getSimpleLabelOverlapPolicy() {
+        return this.simpleLabelOverlapPolicy;
+    }
+
+    /**
+     * Sets the policy for simple labels that overlap other simple labels
+     * (including their backgrounds and outlines), and sends a
+     * {@link PlotChangeEvent} to all registered listeners.  The policy is
+     * not used for extended labels, which are spaced out by the label
+     * distributor instead (see {@link #getLabelDistributor()}).
+     *
+     * @param policy  the policy (<code>null</code> not permitted).
+     *
+     * @see #getSimpleLabelOverlapPolicy()
+     */
+    public void setSimpleLabelOverlapPolicy(LabelOverlapPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Null 'policy' argument.");
+        }
+        this.simpleLabelOverlapPolicy = policy;
+        fireChangeEvent();
+    }
+
     /**
      * Returns the object responsible for the vertical layout of the pie
      * section labels.
@@ -2434,6 +2593,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     protected void drawPie(Graphics2D g2, Rectangle2D plotArea,
                            PlotRenderingInfo info) {
+        PieDataset dataset = getSectionDataset();
 
         PiePlotState state = initialise(g2, plotArea, this, null, info);
 
@@ -2525,17 +2685,17 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         state.setPieHRadius(pieArea.getHeight() / 2.0);
 
         // plot the data (unless the dataset is null)...
-        if ((this.dataset != null) && (this.dataset.getKeys().size() > 0)) {
+        if ((dataset != null) && (dataset.getKeys().size() > 0)) {
 
-            List<Comparable> keys = this.dataset.getKeys();
+            List<Comparable> keys = dataset.getKeys();
             double totalValue = DatasetUtilities.calculatePieDatasetTotal(
-                    this.dataset);
+                    dataset);
 
             int passesRequired = state.getPassesRequired();
             for (int pass = 0; pass < passesRequired; pass++) {
                 double runningTotal = 0.0;
                 for (int section = 0; section < keys.size(); section++) {
-                    Number n = this.dataset.getValue(section);
+                    Number n = dataset.getValue(section);
                     if (n != null) {
                         double value = n.doubleValue();
                         if (value > 0.0) {
@@ -2570,8 +2730,9 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     protected void drawItem(Graphics2D g2, int section, Rectangle2D dataArea,
                             PiePlotState state, int currentPass) {
+        PieDataset dataset = getSectionDataset();
 
-        Number n = this.dataset.getValue(section);
+        Number n = dataset.getValue(section);
         if (n == null) {
             return;
         }
@@ -2634,15 +2795,15 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                         String tip = null;
                         if (this.toolTipGenerator != null) {
                             tip = this.toolTipGenerator.generateToolTip(
-                                    this.dataset, key);
+                                    dataset, key);
                         }
                         String url = null;
                         if (this.urlGenerator != null) {
-                            url = this.urlGenerator.generateURL(this.dataset,
+                            url = this.urlGenerator.generateURL(dataset,
                                     key, this.pieIndex);
                         }
                         PieSectionEntity entity = new PieSectionEntity(
-                                arc, this.dataset, this.pieIndex, section, key,
+                                arc, dataset, this.pieIndex, section, key,
                                 tip, url);
                         entities.add(entity);
                     }
@@ -2667,6 +2828,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     protected void drawSimpleLabels(Graphics2D g2, List<Comparable> keys,
             double totalValue, Rectangle2D plotArea, Rectangle2D pieArea,
             PiePlotState state) {
+        PieDataset dataset = getSectionDataset();
 
         Composite originalComposite = g2.getComposite();
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
@@ -2674,11 +2836,23 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
         Rectangle2D labelsArea = this.simpleLabelOffset.createInsetRectangle(
                 pieArea);
+        // if overlapping labels are hidden, the labels are collected and
+        // drawn after they have all been positioned
+        LabelDeclutterer declutterer = null;
+        List<String> labels = null;
+        List<Point2D> anchors = null;
+        List<Shape> backgrounds = null;
+        if (this.simpleLabelOverlapPolicy != LabelOverlapPolicy.DRAW_ALL) {
+            declutterer = new LabelDeclutterer();
+            labels = new ArrayList<String>();
+            anchors = new ArrayList<Point2D>();
+            backgrounds = new ArrayList<Shape>();
+        }
         double runningTotal = 0.0;
         for (Comparable key : keys) {
             boolean include;
             double v = 0.0;
-            Number n = getDataset().getValue(key);
+            Number n = dataset.getValue(key);
             if (n == null) {
                 include = !getIgnoreNullValues();
             }
@@ -2704,7 +2878,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                     continue;
                 }
                 String label = myLabelGenerator.generateSectionLabel(
-                        this.dataset, key);
+                        dataset, key);
                 if (label == null) {
                     continue;
                 }
@@ -2715,29 +2889,33 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                         bounds);
                 Shape bg = ShapeUtilities.createTranslatedShape(out,
                         x - bounds.getCenterX(), y - bounds.getCenterY());
-                if (this.labelShadowPaint != null
-                        && this.shadowGenerator == null) {
-                    Shape shadow = ShapeUtilities.createTranslatedShape(bg,
-                            this.shadowXOffset, this.shadowYOffset);
-                    g2.setPaint(this.labelShadowPaint);
-                    g2.fill(shadow);
-                }
-                if (this.labelBackgroundPaint != null) {
-                    g2.setPaint(this.labelBackgroundPaint);
-                    g2.fill(bg);
+                if (declutterer == null) {
+                    drawSimpleLabel(g2, label, x, y, bg);
                 }
-                if (this.labelOutlinePaint != null
-                        && this.labelOutlineStroke != null) {
-                    g2.setPaint(this.labelOutlinePaint);
-                    g2.setStroke(this.labelOutlineStroke);
-                    g2.draw(bg);
+                else {
+                    double priority = 0.0;
+                    if (this.simpleLabelOverlapPolicy
+                            == LabelOverlapPolicy.HIDE_SMALLER_VALUES) {
+                        priority = v;
+                    }
+                    declutterer.add(label, this.labelFont, this.labelPaint,
+                            x, y, TextAnchor.CENTER, 0.0, TextAnchor.CENTER,
+                            bg, priority);
+                    labels.add(label);
+                    anchors.add(new Point2D.Double(x, y));
+                    backgrounds.add(bg);
                 }
+            }
+        }
 
-                g2.setPaint(this.labelPaint);
-                g2.setFont(this.labelFont);
-                TextUtilities.drawAlignedString(label, g2, x, y,
-                        TextAnchor.CENTER);
-
+        if (declutterer != null) {
+            boolean[] visible = declutterer.resolve();
+            for (int i = 0; i < visible.length; i++) {
+                if (visible[i]) {
+                    Point2D anchor = anchors.get(i);
+                    drawSimpleLabel(g2, labels.get(i), (float) anchor.getX(),
+                            (float) anchor.getY(), backgrounds.get(i));
+                }
             }
         }
 
@@ -2745,6 +2923,39 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Draws one simple label, with its shadow, background and outline.
+     *
+     * @param g2  the graphics device.
+     * @param label  the label text.
+     * @param x  the x-coordinate of the center of the label.
+     * @param y  the y-coordinate of the center of the label.
+     * @param bg  the label background.
+     */
+    private void drawSimpleLabel(Graphics2D g2, String label, float x,
+            float y, Shape bg) {
+        if (this.labelShadowPaint != null && this.shadowGenerator == null) {
+            Shape shadow = ShapeUtilities.createTranslatedShape(bg,
+                    this.shadowXOffset, this.shadowYOffset);
+            g2.setPaint(this.labelShadowPaint);
+            g2.fill(shadow);
+        }
+        if (this.labelBackgroundPaint != null) {
+            g2.setPaint(this.labelBackgroundPaint);
+            g2.fill(bg);
+        }
+        if (this.labelOutlinePaint != null
+                && this.labelOutlineStroke != null) {
+            g2.setPaint(this.labelOutlinePaint);
+            g2.setStroke(this.labelOutlineStroke);
+            g2.draw(bg);
+        }
+
+        g2.setPaint(this.labelPaint);
+        g2.setFont(this.labelFont);
+        TextUtilities.drawAlignedString(label, g2, x, y, TextAnchor.CENTER);
+    }
+
     /**
      * Draws the labels for the pie sections.
      *
@@ -2758,6 +2969,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     protected void drawLabels(Graphics2D g2, List<Comparable> keys,
             double totalValue, Rectangle2D plotArea, Rectangle2D linkArea,
             PiePlotState state) {
+        PieDataset dataset = getSectionDataset();
 
         Composite originalComposite = g2.getComposite();
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
@@ -2771,7 +2983,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         for (Comparable key : keys) {
             boolean include;
             double v = 0.0;
-            Number n = this.dataset.getValue(key);
+            Number n = dataset.getValue(key);
             if (n == null) {
                 include = !this.ignoreNullValues;
             }
@@ -2831,13 +3043,14 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     protected void drawLeftLabels(KeyedValues leftKeys, Graphics2D g2,
                                   Rectangle2D plotArea, Rectangle2D linkArea,
                                   float maxLabelWidth, PiePlotState state) {
+        PieDataset dataset = getSectionDataset();
 
         this.labelDistributor.clear();
         double lGap = plotArea.getWidth() * this.labelGap;
         double verticalLinkRadius = state.getLinkArea().getHeight() / 2.0;
         for (int i = 0; i < leftKeys.getItemCount(); i++) {
             String label = this.labelGenerator.generateSectionLabel(
-                    this.dataset, leftKeys.getKey(i));
+                    dataset, leftKeys.getKey(i));
             if (label != null) {
                 TextBlock block = TextUtilities.createTextBlock(label,
                         this.labelFont, this.labelPaint, maxLabelWidth,
@@ -2889,6 +3102,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     protected void drawRightLabels(KeyedValues keys, Graphics2D g2,
                                    Rectangle2D plotArea, Rectangle2D linkArea,
                                    float maxLabelWidth, PiePlotState state) {
+        PieDataset dataset = getSectionDataset();
 
         // draw the right labels...
         this.labelDistributor.clear();
@@ -2897,7 +3111,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
 
         for (int i = 0; i < keys.getItemCount(); i++) {
             String label = this.labelGenerator.generateSectionLabel(
-                    this.dataset, keys.getKey(i));
+                    dataset, keys.getKey(i));
 
             if (label != null) {
                 TextBlock block = TextUtilities.createTextBlock(label,
@@ -2943,16 +3157,17 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      */
     @Override
     public LegendItemCollection getLegendItems() {
+        PieDataset dataset = getSectionDataset();
 
         LegendItemCollection result = new LegendItemCollection();
-        if (this.dataset == null) {
+        if (dataset == null) {
             return result;
         }
-        List<Comparable> keys = this.dataset.getKeys();
+        List<Comparable> keys = dataset.getKeys();
         int section = 0;
         Shape shape = getLegendItemShape();
         for (Comparable key : keys) {
-            Number n = this.dataset.getValue(key);
+            Number n = dataset.getValue(key);
             boolean include;
             if (n == null) {
                 include = !this.ignoreNullValues;
@@ -2968,18 +3183,18 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             }
             if (include) {
                 String label = this.legendLabelGenerator.generateSectionLabel(
-                        this.dataset, key);
+                        dataset, key);
                 if (label != null) {
                     String description = label;
                     String toolTipText = null;
                     if (this.legendLabelToolTipGenerator != null) {
                         toolTipText = this.legendLabelToolTipGenerator
-                                .generateSectionLabel(this.dataset, key);
+                                .generateSectionLabel(dataset, key);
                     }
                     String urlText = null;
                     if (this.legendLabelURLGenerator != null) {
                         urlText = this.legendLabelURLGenerator.generateURL(
-                                this.dataset, key, this.pieIndex);
+                                dataset, key, this.pieIndex);
                     }
                     Paint paint = lookupSectionPaint(key);
                     Paint outlinePaint = lookupSectionOutlinePaint(key);
@@ -2989,8 +3204,8 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                             true, outlinePaint, outlineStroke,
                             false,          // line not visible
                             new Line2D.Float(), new BasicStroke(), Color.BLACK);
-                    item.setDataset(getDataset());
-                    item.setSeriesIndex(this.dataset.getIndex(key));
+                    item.setDataset(dataset);
+                    item.setSeriesIndex(dataset.getIndex(key));
                     item.setSeriesKey(key);
                     result.add(item);
                 }
@@ -3164,6 +3379,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
      * @since 1.0.14
      */
     protected Point2D getArcCenter(PiePlotState state, Comparable key) {
+        PieDataset dataset = getSectionDataset();
         Point2D center = new Point2D.Double(state.getPieCenterX(), state
             .getPieCenterY());
 
@@ -3176,7 +3392,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
             Rectangle2D pieArea = state.getPieArea();
             Rectangle2D expPieArea = state.getExplodedPieArea();
             double angle1, angle2;
-            Number n = this.dataset.getValue(key);
+            Number n = dataset.getValue(key);
             double value = n.doubleValue();
 
             if (this.direction == Rotation.CLOCKWISE) {
@@ -3290,6 +3506,12 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         if (this.ignoreNullValues != that.ignoreNullValues) {
             return false;
         }
+        if (this.minorSectionLimit != that.minorSectionLimit) {
+            return false;
+        }
+        if (!this.minorSectionKey.equals(that.minorSectionKey)) {
+            return false;
+        }
         if (!ObjectUtilities.equal(this.sectionPaintMap,
                 that.sectionPaintMap)) {
             return false;
@@ -3362,6 +3584,9 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
         if (!this.simpleLabelOffset.equals(that.simpleLabelOffset)) {
             return false;
         }
+        if (this.simpleLabelOverlapPolicy != that.simpleLabelOverlapPolicy) {
+            return false;
+        }
         if (!this.labelPadding.equals(that.labelPadding)) {
             return false;
         }
@@ -3442,6 +3667,7 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         PiePlot clone = (PiePlot) super.clone();
+        clone.sectionDataset = null;
         if (clone.dataset != null) {
             clone.dataset.addChangeListener(clone);
         }
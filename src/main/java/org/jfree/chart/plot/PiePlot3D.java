@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -84,6 +84,7 @@
  * 10-Oct-2011 : Localization fix: bug #3353913 (MH);
  * 18-Oct-2011 : Fix tooltip offset with shadow generator (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Draw the sections from getSectionDataset() (agent);
  *
  */
 
@@ -347,8 +348,8 @@ public class PiePlot3D extends PiePlot implements Serializable {
         state.setPieHRadius((pieArea.getHeight() - depth) / 2.0);
 
         // get the data source - return if null;
-        PieDataset dataset = getDataset();
-        if (DatasetUtilities.isEmptyOrNull(getDataset())) {
+        PieDataset dataset = getSectionDataset();
+        if (DatasetUtilities.isEmptyOrNull(dataset)) {
             drawNoDataMessage(g2, plotArea);
             g2.setClip(savedClip);
             drawOutline(g2, plotArea);
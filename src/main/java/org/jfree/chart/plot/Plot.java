@@ -128,6 +128,9 @@
  * 24-Jun-2009 : Implemented AnnotationChangeListener (see patch 2809117 by
  *               PK) (DG);
  * 13-Jul-2009 : Plot background image should be clipped if necessary (DG);
+ * 16-Oct-2026 : Pass on the dataset change event (agent);
+ * 16-Oct-2026 : Added fireChangeEvent(ChartChangeEventType) and use it for
+ *               marker and annotation changes (agent);
  *
  */
 
@@ -986,6 +989,18 @@ public abstract class Plot implements AxisChangeListener,
         notifyListeners(new PlotChangeEvent(this));
     }
 
+    /**
+     * Sends a {@link PlotChangeEvent} with the specified type to all
+     * registered listeners.
+     *
+     * @param type  the event type (<code>null</code> not permitted).
+     */
+    protected void fireChangeEvent(ChartChangeEventType type) {
+        PlotChangeEvent event = new PlotChangeEvent(this);
+        event.setType(type);
+        notifyListeners(event);
+    }
+
     /**
      * Draws the plot within the specified area.  The anchor is a point on the
      * chart that is specified externally (for instance, it may be the last
@@ -1213,7 +1228,7 @@ public abstract class Plot implements AxisChangeListener,
      */
     @Override
     public void annotationChanged(AnnotationChangeEvent event) {
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -1232,12 +1247,13 @@ public abstract class Plot implements AxisChangeListener,
      * The plot reacts by passing on a plot change event to all registered
      * listeners.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
         PlotChangeEvent newEvent = new PlotChangeEvent(this);
         newEvent.setType(ChartChangeEventType.DATASET_UPDATED);
+        newEvent.setDatasetChangeEvent(event);
         notifyListeners(newEvent);
     }
 
@@ -1251,7 +1267,7 @@ public abstract class Plot implements AxisChangeListener,
      */
     @Override
     public void markerChanged(MarkerChangeEvent event) {
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
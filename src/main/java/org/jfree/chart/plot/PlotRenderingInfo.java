@@ -42,6 +42,7 @@
  * 01-Dec-2006 : Implemented clone() method properly (DG);
  * 17-Apr-2007 : Fixed bug 1698965 (NPE in CombinedDomainXYPlot) (DG);
  * 17-Jun-2012 : Removed from JCommon dependencies (DG);
+ * 16-Oct-2026 : Added setOwner() for subplots drawn in parallel (agent);
  *
  */
 
@@ -101,6 +102,17 @@ public class PlotRenderingInfo implements Cloneable, Serializable {
         return this.owner;
     }
 
+    /**
+     * Sets the owner.  This is used when subplots are drawn in parallel (see
+     * {@link ParallelSubplotRenderer}), since each subplot collects its
+     * entities in a temporary owner until it has been drawn.
+     *
+     * @param owner  the owner (<code>null</code> permitted).
+     */
+    void setOwner(ChartRenderingInfo owner) {
+        this.owner = owner;
+    }
+
     /**
      * Returns the plot area (in Java2D space).
      *
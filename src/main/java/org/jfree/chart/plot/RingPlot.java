@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -47,6 +47,7 @@
  * 13-Jul-2009 : Added support for shadow generator (DG);
  * 11-Oct-2011 : Check sectionOutlineVisible - bug 3237879 (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Draw the sections from getSectionDataset() (agent);
  *
  */
 
@@ -345,7 +346,7 @@ public class RingPlot extends PiePlot implements Cloneable, Serializable {
                             PiePlotState state,
                             int currentPass) {
 
-        PieDataset dataset = getDataset();
+        PieDataset dataset = getSectionDataset();
         Number n = dataset.getValue(section);
         if (n == null) {
             return;
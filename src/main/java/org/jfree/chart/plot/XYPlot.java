@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -228,6 +228,21 @@
  * 10-Jul-2009 : Added optional drop shadow generator (DG);
  * 18-Oct-2011 : Fix tooltip offset with shadow renderer (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added support for data decimation in render() (agent);
+ * 16-Oct-2026 : Use a pyramid index to speed up decimation (agent);
+ * 16-Oct-2026 : Keep the pyramid index when items are appended, and pass
+ *               on the dataset change event (agent);
+ * 16-Oct-2026 : Added drawAppendedItems() method (agent);
+ * 16-Oct-2026 : Split out drawDataLayer() from draw(), and flag changes
+ *               to markers, annotations and crosshairs as data layer
+ *               changes (agent);
+ * 16-Oct-2026 : Hide overlapping item labels for renderers that
+ *               request it (agent);
+ * 16-Oct-2026 : Synchronize access to the pyramid indices, which are used
+ *               by asynchronous rendering (agent);
+ * 16-Oct-2026 : Don't decimate when the renderer needs every item (agent);
+ * 16-Oct-2026 : Stop rendering when the KEY_ABORT hint's flag is set
+ *               (agent);
  *
  */
 
@@ -255,13 +270,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jfree.chart.ChartHints;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
@@ -287,18 +305,27 @@ import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.labels.LabelDeclutterer;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.DecimatedXYDataset;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.SerialUtilities;
 import org.jfree.chart.util.ShadowGenerator;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramidIndex;
+import org.jfree.data.xy.XYZDataset;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs.  This plot can
@@ -601,6 +628,16 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * The pyramid indices used to decimate large datasets, built on demand
+     * and discarded whenever a dataset changes (except when items are only
+     * appended to a series, in which case the index extends itself).  The
+     * map is read and updated both by the thread that draws the plot and by
+     * the thread that delivers dataset change events, so all access to it is
+     * synchronized on the map itself.
+     */
+    private transient Map<XYDataset, XYPyramidIndex> pyramidIndices;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -649,6 +686,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.datasetToRangeAxesMap = new TreeMap<Integer, List<Integer>>();
 
         this.annotations = new java.util.ArrayList<XYAnnotation>();
+        this.pyramidIndices = new IdentityHashMap<XYDataset, XYPyramidIndex>();
 
         this.datasets.set(0, dataset);
         if (dataset != null) {
@@ -1410,6 +1448,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         XYDataset existing = getDataset(index);
         if (existing != null) {
             existing.removeChangeListener(this);
+            synchronized (this.pyramidIndices) {
+                this.pyramidIndices.remove(existing);
+            }
         }
         this.datasets.set(index, dataset);
         if (dataset != null) {
@@ -2495,7 +2536,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
             this.foregroundDomainMarkers.clear();
         }
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -2525,7 +2566,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 markers.clear();
             }
         }
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -2590,7 +2631,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         marker.addChangeListener(this);
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -2672,7 +2713,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         boolean removed = markers.remove(marker);
         if (removed && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
         return removed;
     }
@@ -2729,7 +2770,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
             this.foregroundRangeMarkers.clear();
         }
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -2787,7 +2828,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         marker.addChangeListener(this);
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -2816,7 +2857,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 markers.clear();
             }
         }
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -2900,7 +2941,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         boolean removed = markers.remove(marker);
         if (removed && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
         return removed;
     }
@@ -2934,7 +2975,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.annotations.add(annotation);
         annotation.addChangeListener(this);
         if (notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -2971,7 +3012,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         boolean removed = this.annotations.remove(annotation);
         annotation.removeChangeListener(this);
         if (removed && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
         return removed;
     }
@@ -3000,7 +3041,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             annotation.removeChangeListener(this);
         }
         this.annotations.clear();
-        fireChangeEvent();
+        fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
     }
 
     /**
@@ -3201,6 +3242,91 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         drawBackground(g2, dataArea);
         Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, info);
 
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+
+        g2.clip(dataArea);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                getForegroundAlpha()));
+
+        AxisState domainAxisState = axisStateMap.get(
+                getDomainAxis());
+        if (domainAxisState == null) {
+            if (parentState != null) {
+                domainAxisState = parentState.getSharedAxisStates()
+                        .get(getDomainAxis());
+            }
+        }
+
+        AxisState rangeAxisState = axisStateMap.get(getRangeAxis());
+        if (rangeAxisState == null) {
+            if (parentState != null) {
+                rangeAxisState = parentState.getSharedAxisStates()
+                        .get(getRangeAxis());
+            }
+        }
+        if (domainAxisState != null) {
+            drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
+        }
+        if (rangeAxisState != null) {
+            drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
+        }
+        if (domainAxisState != null) {
+            drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
+            drawZeroDomainBaseline(g2, dataArea);
+        }
+        if (rangeAxisState != null) {
+            drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
+            drawZeroRangeBaseline(g2, dataArea);
+        }
+
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+
+        if (!Boolean.FALSE.equals(g2.getRenderingHint(
+                ChartHints.KEY_DRAW_DATA_LAYER))) {
+            drawDataLayer(g2, dataArea, anchor, info);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the data layer of this plot can be drawn
+     * separately from the rest of the plot, using
+     * {@link #drawDataLayer(Graphics2D, Rectangle2D, Point2D,
+     * PlotRenderingInfo)}, and <code>false</code> otherwise.  Subclasses
+     * that override the <code>draw()</code> method should override this
+     * method too.
+     *
+     * @return <code>true</code>.
+     */
+    public boolean isDataLayerSeparable() {
+        return true;
+    }
+
+    /**
+     * Draws the data layer of the plot: the items from each dataset, the
+     * markers, annotations and crosshairs, and the plot outline.  This is
+     * called by {@link #draw(Graphics2D, Rectangle2D, Point2D, PlotState,
+     * PlotRenderingInfo)} after the plot background, axes and gridlines
+     * have been drawn, unless the {@link ChartHints#KEY_DRAW_DATA_LAYER}
+     * hint on the graphics device is <code>Boolean.FALSE</code>.  In that
+     * case the caller can draw the data layer itself, and can redraw just
+     * the data layer over a copy of the rest of the chart when a change
+     * only affects the data layer (see
+     * {@link ChartChangeEventType#DATA_LAYER_UPDATED}), provided that the
+     * axis ranges and legend items are unchanged.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (as recorded in the plot rendering
+     *     info when the plot was drawn).
+     * @param anchor  an anchor point in Java2D space (<code>null</code>
+     *     permitted).
+     * @param info  collects chart drawing information (<code>null</code>
+     *     permitted).
+     */
+    public void drawDataLayer(Graphics2D g2, Rectangle2D dataArea,
+            Point2D anchor, PlotRenderingInfo info) {
+
         PlotOrientation orient = getOrientation();
 
         // the anchor point is typically the point where the mouse last
@@ -3251,37 +3377,6 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                 getForegroundAlpha()));
 
-        AxisState domainAxisState = axisStateMap.get(
-                getDomainAxis());
-        if (domainAxisState == null) {
-            if (parentState != null) {
-                domainAxisState = parentState.getSharedAxisStates()
-                        .get(getDomainAxis());
-            }
-        }
-
-        AxisState rangeAxisState = axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
-            if (parentState != null) {
-                rangeAxisState = parentState.getSharedAxisStates()
-                        .get(getRangeAxis());
-            }
-        }
-        if (domainAxisState != null) {
-            drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
-        }
-        if (rangeAxisState != null) {
-            drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
-        }
-        if (domainAxisState != null) {
-            drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
-            drawZeroDomainBaseline(g2, dataArea);
-        }
-        if (rangeAxisState != null) {
-            drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
-            drawZeroRangeBaseline(g2, dataArea);
-        }
-
         Graphics2D savedG2 = g2;
         BufferedImage dataImage = null;
         if (this.shadowGenerator != null) {
@@ -3301,6 +3396,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         // now draw annotations and render data items...
+        LabelDeclutterer declutterer = startItemLabels();
         boolean foundData = false;
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         if (order == DatasetRenderingOrder.FORWARD) {
@@ -3322,6 +3418,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 foundData = render(g2, dataArea, i, info, crosshairState)
                     || foundData;
             }
+            drawItemLabels(g2, declutterer);
 
             // draw foreground annotations
             for (int i = 0; i < rendererCount; i++) {
@@ -3356,6 +3453,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 foundData = render(g2, dataArea, i, info, crosshairState)
                     || foundData;
             }
+            drawItemLabels(g2, declutterer);
 
             // draw foreground annotations
             for (int i = rendererCount - 1; i >= 0; i--) {
@@ -3723,12 +3821,83 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return axisStateMap;
     }
 
+    /**
+     * Returns <code>true</code> if any renderer for the plot hides item
+     * labels that overlap other item labels (see
+     * {@link AbstractXYItemRenderer#setItemLabelOverlapPolicy(
+     * LabelOverlapPolicy)}), and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    private boolean hidesOverlappingItemLabels() {
+        for (int i = 0; i < this.renderers.size(); i++) {
+            XYItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractXYItemRenderer) {
+                LabelOverlapPolicy policy = ((AbstractXYItemRenderer) r)
+                        .getItemLabelOverlapPolicy();
+                if (policy != LabelOverlapPolicy.DRAW_ALL) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes a new {@link LabelDeclutterer} to the renderers that hide item
+     * labels that overlap other item labels, so that they collect their
+     * labels while the data items are rendered.
+     *
+     * @return The declutterer (<code>null</code> if all the renderers draw
+     *     all their item labels).
+     *
+     * @see #drawItemLabels(Graphics2D, LabelDeclutterer)
+     */
+    private LabelDeclutterer startItemLabels() {
+        if (!hidesOverlappingItemLabels()) {
+            return null;
+        }
+        LabelDeclutterer declutterer = new LabelDeclutterer();
+        for (int i = 0; i < this.renderers.size(); i++) {
+            XYItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractXYItemRenderer) {
+                AbstractXYItemRenderer ar = (AbstractXYItemRenderer) r;
+                ar.setItemLabelDeclutterer(declutterer);
+            }
+        }
+        return declutterer;
+    }
+
+    /**
+     * Draws the item labels collected by the renderers since
+     * {@link #startItemLabels()} was called, omitting the labels that
+     * overlap labels with a higher priority.
+     *
+     * @param g2  the graphics device.
+     * @param declutterer  the declutterer (<code>null</code> permitted).
+     */
+    private void drawItemLabels(Graphics2D g2, LabelDeclutterer declutterer) {
+        if (declutterer == null) {
+            return;
+        }
+        for (int i = 0; i < this.renderers.size(); i++) {
+            XYItemRenderer r = this.renderers.get(i);
+            if (r instanceof AbstractXYItemRenderer) {
+                AbstractXYItemRenderer ar = (AbstractXYItemRenderer) r;
+                ar.setItemLabelDeclutterer(null);
+            }
+        }
+        declutterer.draw(g2);
+    }
+
     /**
      * Draws a representation of the data within the dataArea region, using the
      * current renderer.
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
-     * <code>null</code>.
+     * <code>null</code>.  If the {@link ChartHints#KEY_ABORT} hint is set
+     * on the graphics device, the remaining items are not drawn once its
+     * flag is set.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3761,6 +3930,18 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
+            boolean decimate = state.getDecimate();
+            if (renderer instanceof AbstractXYItemRenderer) {
+                AbstractXYItemRenderer r = (AbstractXYItemRenderer) renderer;
+                decimate = (decimate || r.getDecimate())
+                        && r.canDecimate(dataset, info);
+            }
+            if (decimate && canDecimate(dataset)) {
+                dataset = decimate(dataset, xAxis, dataArea,
+                        state.getProcessVisibleItemsOnly());
+            }
+            AtomicBoolean abort = (AtomicBoolean) g2.getRenderingHint(
+                    ChartHints.KEY_ABORT);
             int passCount = renderer.getPassCount();
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
@@ -3784,6 +3965,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (abort != null && abort.get()) {
+                                return foundData;  // drawing abandoned
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3810,6 +3994,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (abort != null && abort.get()) {
+                                return foundData;  // drawing abandoned
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3823,6 +4010,203 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return foundData;
     }
 
+    /**
+     * Draws items that have been appended to a series over an earlier
+     * rendering of the plot (one made before the items were added), so that
+     * a display that is updated as data arrives only needs to draw the new
+     * items.  Nothing is drawn, and the method returns <code>false</code>,
+     * if the result might differ from drawing the whole plot again---for
+     * example, if the renderer does not support this (see
+     * {@link AbstractXYItemRenderer#canDrawAppendedItems(XYDataset, int)}),
+     * if the series was previously empty, if a renderer hides overlapping
+     * item labels, or if the plot has a shadow generator, foreground
+     * markers, annotations or visible crosshairs that should be drawn over
+     * the data.  The caller must also check that the
+     * axis ranges and the data area are unchanged.  Note that the new items
+     * are drawn over the items from all other series, whatever the series
+     * and dataset rendering order.
+     *
+     * @param g2  the graphics device holding the earlier rendering.
+     * @param dataArea  the data area used for the earlier rendering.
+     * @param info  collects entity information (<code>null</code>
+     *     permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the index of the first item appended.
+     * @param last  the index of the last item appended.
+     *
+     * @return A boolean that indicates whether or not the items were drawn.
+     */
+    public boolean drawAppendedItems(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, XYDataset dataset, int series, int first,
+            int last) {
+        int index = indexOf(dataset);
+        if (index < 0 || first < 1 || last < first
+                || last >= dataset.getItemCount(series)) {
+            return false;
+        }
+        ValueAxis xAxis = getDomainAxisForDataset(index);
+        ValueAxis yAxis = getRangeAxisForDataset(index);
+        XYItemRenderer renderer = getRendererForDataset(dataset);
+        if (xAxis == null || yAxis == null
+                || !(renderer instanceof AbstractXYItemRenderer)) {
+            return false;
+        }
+        if (!((AbstractXYItemRenderer) renderer).canDrawAppendedItems(
+                dataset, series) || hidesOverlappingItemLabels()) {
+            return false;
+        }
+        if (this.shadowGenerator != null || !this.annotations.isEmpty()
+                || !renderer.getAnnotations().isEmpty()
+                || hasMarkers(this.foregroundDomainMarkers)
+                || hasMarkers(this.foregroundRangeMarkers)
+                || isDomainCrosshairVisible() || isRangeCrosshairVisible()) {
+            return false;
+        }
+
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+        g2.clip(dataArea);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                getForegroundAlpha()));
+        XYItemRendererState state = renderer.initialise(g2, dataArea, this,
+                dataset, info);
+        CrosshairState crosshairState = new CrosshairState();
+        int passCount = renderer.getPassCount();
+        for (int pass = 0; pass < passCount; pass++) {
+            state.startSeriesPass(dataset, series, first, last, pass,
+                    passCount);
+            for (int item = first; item <= last; item++) {
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+            state.endSeriesPass(dataset, series, first, last, pass,
+                    passCount);
+        }
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified map (of markers by renderer
+     * index) contains at least one marker.
+     *
+     * @param markers  the markers (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean hasMarkers(
+            Map<Integer, Collection<Marker>> markers) {
+        if (markers != null) {
+            for (Collection<Marker> c : markers.values()) {
+                if (c != null && !c.isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if the specified dataset can be decimated
+     * before it is passed to the renderer, and <code>false</code> otherwise.
+     * The decimated view presents only x, y and interval values, and
+     * the items in each series are selected independently, so datasets that
+     * carry other values or that rely on the items in each series being
+     * aligned (as the stacked renderers do) are never decimated.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return A boolean.
+     */
+    private boolean canDecimate(XYDataset dataset) {
+        return !(dataset instanceof OHLCDataset)
+                && !(dataset instanceof XYZDataset)
+                && !(dataset instanceof TableXYDataset);
+    }
+
+    /**
+     * Creates a view of the specified dataset that contains, for each
+     * series, only the items needed to draw the series at the resolution of
+     * the data area.  If the x-values in the dataset are in ascending order,
+     * a pyramid index is kept for the dataset so that zooming and panning
+     * take time proportional to the size of the data area rather than to
+     * the number of visible items.
+     *
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis for the dataset.
+     * @param dataArea  the data area.
+     * @param visibleOnly  if <code>true</code>, only the items that fall
+     *     within the range of the domain axis (plus one item on either side)
+     *     are included in the view.
+     *
+     * @return The decimated view.
+     *
+     * @see RendererUtilities#findDecimatedItems(XYDataset, int, int, int,
+     *     ValueAxis, Rectangle2D, RectangleEdge)
+     */
+    private XYDataset decimate(XYDataset dataset, ValueAxis xAxis,
+            Rectangle2D dataArea, boolean visibleOnly) {
+        RectangleEdge domainEdge = getDomainAxisEdge(Math.max(
+                getDomainAxisIndex(xAxis), 0));
+        XYPyramidIndex pyramid = null;
+        if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+            synchronized (this.pyramidIndices) {
+                pyramid = this.pyramidIndices.get(dataset);
+                if (pyramid == null) {
+                    pyramid = new XYPyramidIndex(dataset);
+                    this.pyramidIndices.put(dataset, pyramid);
+                }
+            }
+        }
+        if (pyramid == null) {
+            return new DecimatedXYDataset(dataset, findDecimatedItems(dataset,
+                    xAxis, dataArea, domainEdge, visibleOnly, null));
+        }
+        // hold the index's lock while it is traversed, so that a change
+        // event delivered on another thread can't invalidate it part way
+        synchronized (pyramid) {
+            return new DecimatedXYDataset(dataset, findDecimatedItems(dataset,
+                    xAxis, dataArea, domainEdge, visibleOnly, pyramid));
+        }
+    }
+
+    /**
+     * Finds the items to draw for each series in a dataset.
+     *
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis for the dataset.
+     * @param dataArea  the data area.
+     * @param domainEdge  the edge for the domain axis.
+     * @param visibleOnly  if <code>true</code>, only the items that fall
+     *     within the range of the domain axis (plus one item on either side)
+     *     are included.
+     * @param pyramid  the pyramid index (<code>null</code> permitted).
+     *
+     * @return The indices of the items to draw, for each series.
+     */
+    private int[][] findDecimatedItems(XYDataset dataset, ValueAxis xAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge,
+            boolean visibleOnly, XYPyramidIndex pyramid) {
+        int seriesCount = dataset.getSeriesCount();
+        int[][] items = new int[seriesCount][];
+        for (int series = 0; series < seriesCount; series++) {
+            int firstItem = 0;
+            int lastItem = dataset.getItemCount(series) - 1;
+            if (visibleOnly && lastItem >= 0) {
+                int[] itemBounds = RendererUtilities.findLiveItems(dataset,
+                        series, xAxis.getLowerBound(), xAxis.getUpperBound());
+                firstItem = Math.max(itemBounds[0] - 1, 0);
+                lastItem = Math.min(itemBounds[1] + 1, lastItem);
+            }
+            items[series] = RendererUtilities.findDecimatedItems(dataset,
+                    series, firstItem, lastItem, xAxis, dataArea, domainEdge,
+                    pyramid);
+        }
+        return items;
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -4541,6 +4925,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
+            e.setType(ChartChangeEventType.DATA_LAYER_UPDATED);
             notifyListeners(e);
         }
     }
@@ -4550,10 +4935,23 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * <P>
      * The axis ranges are updated if necessary.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        XYPyramidIndex pyramid;
+        synchronized (this.pyramidIndices) {
+            pyramid = this.pyramidIndices.get(event.getDataset());
+        }
+        if (pyramid != null) {
+            DatasetChangeInfo info = event.getInfo();
+            if (info == null) {
+                pyramid.invalidate();
+            }
+            else if (!info.getSeriesChange().isPureAppend()) {
+                pyramid.invalidate(info.getSeries());
+            }
+        }
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
@@ -4562,6 +4960,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            e.setDatasetChangeEvent(event);
             notifyListeners(e);
         }
     }
@@ -4605,7 +5004,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairVisible(boolean flag) {
         if (this.domainCrosshairVisible != flag) {
             this.domainCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -4673,7 +5072,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setDomainCrosshairValue(double value, boolean notify) {
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -4760,7 +5159,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairVisible(boolean flag) {
         if (this.rangeCrosshairVisible != flag) {
             this.rangeCrosshairVisible = flag;
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -4830,7 +5229,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireChangeEvent(ChartChangeEventType.DATA_LAYER_UPDATED);
         }
     }
 
@@ -5643,6 +6042,8 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         clone.quadrantOrigin = ObjectUtilities.clone(
                 this.quadrantOrigin);
         clone.quadrantPaint = this.quadrantPaint.clone();
+        clone.pyramidIndices
+                = new IdentityHashMap<XYDataset, XYPyramidIndex>();
         return clone;
 
     }
@@ -5692,6 +6093,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         throws IOException, ClassNotFoundException {
 
         stream.defaultReadObject();
+        this.pyramidIndices = new IdentityHashMap<XYDataset, XYPyramidIndex>();
         this.domainGridlineStroke = SerialUtilities.readStroke(stream);
         this.domainGridlinePaint = SerialUtilities.readPaint(stream);
         this.rangeGridlineStroke = SerialUtilities.readStroke(stream);
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -89,6 +89,8 @@
  *               AbstractXYItemRenderer class (DG);
  * 28-Apr-2009 : Added flag to allow a renderer to treat the legend shape as
  *               a line (DG);
+ * 16-Oct-2026 : Added itemLabelOverlapPolicy attribute and
+ *               drawItemLabelText() method (agent);
  *
  */
 
@@ -97,6 +99,7 @@ package org.jfree.chart.renderer;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
 import java.awt.Stroke;
@@ -126,8 +129,11 @@ import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
+import org.jfree.chart.labels.LabelDeclutterer;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.plot.DrawingSupplier;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.text.TextUtilities;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.util.SerialUtilities;
 
@@ -300,6 +306,15 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
     /** The item label anchor offset. */
     private double itemLabelAnchorOffset = 2.0;
 
+    /** The policy for item labels that overlap other item labels. */
+    private LabelOverlapPolicy itemLabelOverlapPolicy;
+
+    /**
+     * Collects the item labels while the plot is drawn (<code>null</code>
+     * if the labels are drawn immediately).
+     */
+    private transient LabelDeclutterer itemLabelDeclutterer;
+
     /**
      * Flags that control whether or not entities are generated for each
      * series.  This will be overridden by 'createEntities'.
@@ -426,6 +441,8 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         this.itemLabelPaintList = new PaintList();
         this.defaultItemLabelPaint = Color.BLACK;
 
+        this.itemLabelOverlapPolicy = LabelOverlapPolicy.DRAW_ALL;
+
         this.positiveItemLabelPositionList = new ObjectList<ItemLabelPosition>();
         this.defaultPositiveItemLabelPosition = new ItemLabelPosition(
                 ItemLabelAnchor.OUTSIDE12, TextAnchor.BOTTOM_CENTER);
@@ -2252,6 +2269,110 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         fireChangeEvent();
     }
 
+    /**
+     * Returns the policy for item labels that overlap other item labels.
+     * The default is {@link LabelOverlapPolicy#DRAW_ALL}.
+     *
+     * @return The policy (never <code>null</code>).
+     *
+     * @see #setItemLabelOverlapPolicy(LabelOverlapPolicy)
+     */
+    public LabelOverlapPolicy getItemLabelOverlapPolicy() {
+        return this.itemLabelOverlapPolicy;
+    }
+
+    /**
+     * Sets the policy for item labels that overlap other item labels, and
+     * sends a {@link RendererChangeEvent} to all registered listeners.  For
+     * any policy other than {@link LabelOverlapPolicy#DRAW_ALL}, the plot
+     * collects the item labels from all the renderers in the plot that don't
+     * draw all their labels, and draws them after all the data items,
+     * omitting each label that overlaps a label with a higher priority (see
+     * {@link LabelDeclutterer}).  Labels from renderers with different
+     * policies are compared by priority, so the renderers in a plot should
+     * normally use the same policy.
+     *
+     * @param policy  the policy (<code>null</code> not permitted).
+     *
+     * @see #getItemLabelOverlapPolicy()
+     */
+    public void setItemLabelOverlapPolicy(LabelOverlapPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Null 'policy' argument.");
+        }
+        this.itemLabelOverlapPolicy = policy;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the object that collects the item labels while the plot is
+     * drawn.
+     *
+     * @return The declutterer (possibly <code>null</code>).
+     *
+     * @see #setItemLabelDeclutterer(LabelDeclutterer)
+     */
+    public LabelDeclutterer getItemLabelDeclutterer() {
+        return this.itemLabelDeclutterer;
+    }
+
+    /**
+     * Sets the object that collects the item labels while the plot is
+     * drawn.  This method is called by the plot (before and after the data
+     * items are rendered) for renderers that don't draw all their labels
+     * (see {@link #setItemLabelOverlapPolicy(LabelOverlapPolicy)}), and
+     * does not send a change event.
+     *
+     * @param declutterer  the declutterer (<code>null</code> permitted).
+     *
+     * @see #getItemLabelDeclutterer()
+     */
+    public void setItemLabelDeclutterer(LabelDeclutterer declutterer) {
+        this.itemLabelDeclutterer = declutterer;
+    }
+
+    /**
+     * Draws an item label with the current font and paint of the graphics
+     * device or, if the plot is collecting the item labels (see
+     * {@link #getItemLabelDeclutterer()}), adds the label to the collection
+     * so that it is drawn later if it doesn't overlap a label with a higher
+     * priority.
+     *
+     * @param g2  the graphics device.
+     * @param label  the label (<code>null</code> permitted).
+     * @param anchorPoint  the label anchor point.
+     * @param position  the label position.
+     * @param value  the data value for the item (used to find the priority
+     *     of the label).
+     */
+    protected void drawItemLabelText(Graphics2D g2, String label,
+            Point2D anchorPoint, ItemLabelPosition position, double value) {
+        float x = (float) anchorPoint.getX();
+        float y = (float) anchorPoint.getY();
+        LabelDeclutterer declutterer = this.itemLabelDeclutterer;
+        if (declutterer == null
+                || this.itemLabelOverlapPolicy == LabelOverlapPolicy.DRAW_ALL) {
+            TextUtilities.drawRotatedString(label, g2, x, y,
+                    position.getTextAnchor(), position.getAngle(),
+                    position.getRotationAnchor());
+            return;
+        }
+        if (label == null) {
+            return;
+        }
+        Shape bounds = TextUtilities.calculateRotatedStringBounds(label, g2,
+                x, y, position.getTextAnchor(), position.getAngle(),
+                position.getRotationAnchor());
+        double priority = 0.0;
+        if (this.itemLabelOverlapPolicy
+                == LabelOverlapPolicy.HIDE_SMALLER_VALUES) {
+            priority = Math.abs(value);
+        }
+        declutterer.add(label, g2.getFont(), g2.getPaint(), x, y,
+                position.getTextAnchor(), position.getAngle(),
+                position.getRotationAnchor(), bounds, priority);
+    }
+
     /**
      * Returns a boolean that indicates whether or not the specified item
      * should have a chart entity created for it.
@@ -2979,6 +3100,9 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         if (this.itemLabelAnchorOffset != that.itemLabelAnchorOffset) {
             return false;
         }
+        if (this.itemLabelOverlapPolicy != that.itemLabelOverlapPolicy) {
+            return false;
+        }
         if (!ObjectUtilities.equal(this.createEntitiesList,
                 that.createEntitiesList)) {
             return false;
@@ -3158,6 +3282,7 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         if (this.legendTextPaint != null) {
             clone.legendTextPaint = (PaintList) this.legendTextPaint.clone();
         }
+        clone.itemLabelDeclutterer = null;
         clone.listenerList = new EventListenerList();
         clone.event = null;
         return clone;
@@ -38,13 +38,20 @@
  * 27-Mar-2009 : Fixed results for unsorted datasets (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 23-Aug-2012 : Fixed rendering anomaly bug 3561093 (DG);
+ * 16-Oct-2026 : Added findDecimatedItems() method (agent);
+ * 16-Oct-2026 : Added support for XYPyramidIndex (agent);
  *
  */
 
 package org.jfree.chart.renderer;
 
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramidIndex;
 
 /**
  * Utility methods related to the rendering process.
@@ -267,4 +274,338 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Finds the items in a range of a data series that are needed to draw
+     * the series as a line at the resolution of the output device (the
+     * "M4" algorithm).  Each run of consecutive items whose x-values fall
+     * within the same pixel column along the domain axis is reduced to (at
+     * most) four items:  the first and last items in the run, and the items
+     * with the lowest and highest y-values.  A line joining these items
+     * covers the same pixels as a line joining all the items in the run, so
+     * the number of items that need to be drawn is proportional to the
+     * width of the data area rather than to the size of the series.  Items
+     * with a <code>NaN</code> x or y-value are always retained, since
+     * renderers use them to mark gaps in the series.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item to consider.
+     * @param lastItem  the index of the last item to consider.
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param domainEdge  the edge of the data area along which the domain
+     *     axis lies (<code>null</code> not permitted).
+     *
+     * @return The indices of the items to draw, in increasing order.
+     *
+     * @see #findLiveItems(XYDataset, int, double, double)
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge) {
+        return findDecimatedItems(dataset, series, firstItem, lastItem,
+                domainAxis, dataArea, domainEdge, null);
+    }
+
+    /**
+     * Finds the items in a range of a data series that are needed to draw
+     * the series as a line at the resolution of the output device, using a
+     * pyramid index (if one is supplied) to avoid visiting every item.  The
+     * result is the same as for
+     * {@link #findDecimatedItems(XYDataset, int, int, int, ValueAxis,
+     * Rectangle2D, RectangleEdge)}, but when the x-values in the dataset
+     * are in ascending order the time taken is proportional to the number
+     * of pixels in the data area rather than to the number of items in the
+     * range.  The index is used at the coarsest level that has at least one
+     * bucket per pixel, and a bucket is only summarised when all its items
+     * fall within a single pixel column, otherwise the finer levels (and
+     * ultimately the items themselves) are examined.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item to consider.
+     * @param lastItem  the index of the last item to consider.
+     * @param domainAxis  the domain axis (<code>null</code> not permitted).
+     * @param dataArea  the data area (<code>null</code> not permitted).
+     * @param domainEdge  the edge of the data area along which the domain
+     *     axis lies (<code>null</code> not permitted).
+     * @param index  an index for the dataset (<code>null</code> permitted).
+     *
+     * @return The indices of the items to draw, in increasing order.
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge,
+            XYPyramidIndex index) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (domainAxis == null) {
+            throw new IllegalArgumentException("Null 'domainAxis' argument.");
+        }
+        int count = lastItem - firstItem + 1;
+        if (count <= 0) {
+            return new int[0];
+        }
+        DecimatedItems items = new DecimatedItems(dataset, series, domainAxis,
+                dataArea, domainEdge, count);
+        int level = -1;
+        if (index != null
+                && dataset.getDomainOrder() == DomainOrder.ASCENDING) {
+            double pixels = RectangleEdge.isTopOrBottom(domainEdge)
+                    ? dataArea.getWidth() : dataArea.getHeight();
+            level = index.findLevel(series, (int) (count / Math.max(pixels,
+                    1.0)));
+        }
+        if (level < 0) {
+            items.addItems(firstItem, lastItem);
+        }
+        else {
+            int size = XYPyramidIndex.getBucketSize(level);
+            int firstBucket = (firstItem + size - 1) / size;
+            int lastBucket = (lastItem + 1) / size - 1;
+            if (firstBucket > lastBucket) {
+                items.addItems(firstItem, lastItem);
+            }
+            else {
+                items.addItems(firstItem, firstBucket * size - 1);
+                for (int b = firstBucket; b <= lastBucket; b++) {
+                    items.addBucket(index, level, b);
+                }
+                items.addItems((lastBucket + 1) * size, lastItem);
+            }
+        }
+        return items.toArray();
+    }
+
+    /**
+     * Collects the items found by the findDecimatedItems() methods.
+     */
+    private static class DecimatedItems {
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /** The series index. */
+        private int series;
+
+        /** The domain axis. */
+        private ValueAxis domainAxis;
+
+        /** The data area. */
+        private Rectangle2D dataArea;
+
+        /** The domain axis edge. */
+        private RectangleEdge domainEdge;
+
+        /** The maximum number of items that can be collected. */
+        private int capacity;
+
+        /** The items collected so far. */
+        private int[] result;
+
+        /** The number of items collected so far. */
+        private int n;
+
+        /** The pixel column for the current run of items. */
+        private double runColumn;
+
+        /** The first item in the current run (-1 if there is no run). */
+        private int runFirst;
+
+        /** The last item in the current run. */
+        private int runLast;
+
+        /** The item with the lowest y-value in the current run. */
+        private int runMin;
+
+        /** The item with the highest y-value in the current run. */
+        private int runMax;
+
+        /** The lowest y-value in the current run. */
+        private double minY;
+
+        /** The highest y-value in the current run. */
+        private double maxY;
+
+        /**
+         * Creates a new collector.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param domainAxis  the domain axis.
+         * @param dataArea  the data area.
+         * @param domainEdge  the domain axis edge.
+         * @param capacity  the number of items in the range.
+         */
+        DecimatedItems(XYDataset dataset, int series, ValueAxis domainAxis,
+                Rectangle2D dataArea, RectangleEdge domainEdge, int capacity) {
+            this.dataset = dataset;
+            this.series = series;
+            this.domainAxis = domainAxis;
+            this.dataArea = dataArea;
+            this.domainEdge = domainEdge;
+            this.capacity = capacity;
+            this.result = new int[Math.min(capacity, 64)];
+            this.runFirst = -1;
+        }
+
+        /**
+         * Returns the pixel column for an item.
+         *
+         * @param item  the item index.
+         *
+         * @return The column (<code>NaN</code> if the x or y-value is
+         *     <code>NaN</code>).
+         */
+        private double column(int item) {
+            double x = this.dataset.getXValue(this.series, item);
+            double y = this.dataset.getYValue(this.series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                return Double.NaN;
+            }
+            return Math.floor(this.domainAxis.valueToJava2D(x, this.dataArea,
+                    this.domainEdge));
+        }
+
+        /**
+         * Adds the items in a range, one at a time.
+         *
+         * @param first  the first item.
+         * @param last  the last item.
+         */
+        void addItems(int first, int last) {
+            for (int item = first; item <= last; item++) {
+                double y = this.dataset.getYValue(this.series, item);
+                add(item, column(item), item, y, item, y, item);
+            }
+        }
+
+        /**
+         * Adds the items in a bucket of a pyramid index, using the summary
+         * for the bucket when all its items are in the same pixel column.
+         *
+         * @param index  the index.
+         * @param level  the level.
+         * @param bucket  the bucket.
+         */
+        void addBucket(XYPyramidIndex index, int level, int bucket) {
+            int size = XYPyramidIndex.getBucketSize(level);
+            int first = bucket * size;
+            int last = first + size - 1;
+            if (!index.hasGap(this.series, level, bucket)) {
+                double column = column(first);
+                if (column == column(last)) {
+                    int min = index.getMinItem(this.series, level, bucket);
+                    int max = index.getMaxItem(this.series, level, bucket);
+                    add(first, column, min,
+                            this.dataset.getYValue(this.series, min), max,
+                            this.dataset.getYValue(this.series, max), last);
+                    return;
+                }
+            }
+            if (level == 0) {
+                addItems(first, last);
+            }
+            else {
+                addBucket(index, level - 1, bucket * 2);
+                addBucket(index, level - 1, bucket * 2 + 1);
+            }
+        }
+
+        /**
+         * Adds a group of consecutive items in the same pixel column.
+         *
+         * @param first  the first item in the group.
+         * @param column  the pixel column (<code>NaN</code> for an item with
+         *     a <code>NaN</code> value, which is always retained).
+         * @param min  the item with the lowest y-value.
+         * @param lowY  the lowest y-value.
+         * @param max  the item with the highest y-value.
+         * @param highY  the highest y-value.
+         * @param last  the last item in the group.
+         */
+        private void add(int first, double column, int min, double lowY,
+                int max, double highY, int last) {
+            if (this.runFirst >= 0 && column == this.runColumn) {
+                this.runLast = last;
+                if (lowY < this.minY) {
+                    this.minY = lowY;
+                    this.runMin = min;
+                }
+                if (highY > this.maxY) {
+                    this.maxY = highY;
+                    this.runMax = max;
+                }
+                return;
+            }
+            // the run (if there is one) has ended, so record its items
+            addRun();
+            if (Double.isNaN(column)) {
+                append(first);
+                this.runFirst = -1;
+            }
+            else {
+                this.runColumn = column;
+                this.runFirst = first;
+                this.runLast = last;
+                this.runMin = min;
+                this.runMax = max;
+                this.minY = lowY;
+                this.maxY = highY;
+            }
+        }
+
+        /**
+         * Records the distinct items of the current run, in increasing
+         * order.
+         */
+        private void addRun() {
+            if (this.runFirst < 0) {
+                return;
+            }
+            int lo = Math.min(this.runMin, this.runMax);
+            int hi = Math.max(this.runMin, this.runMax);
+            append(this.runFirst);
+            if (lo != this.runFirst && lo != this.runLast) {
+                append(lo);
+            }
+            if (hi != lo && hi != this.runFirst && hi != this.runLast) {
+                append(hi);
+            }
+            if (this.runLast != this.runFirst) {
+                append(this.runLast);
+            }
+            this.runFirst = -1;
+        }
+
+        /**
+         * Appends an item to the result.
+         *
+         * @param item  the item index.
+         */
+        private void append(int item) {
+            if (this.n == this.result.length) {
+                int[] larger = new int[Math.min(this.capacity,
+                        this.result.length * 2)];
+                System.arraycopy(this.result, 0, larger, 0, this.n);
+                this.result = larger;
+            }
+            this.result[this.n++] = item;
+        }
+
+        /**
+         * Returns the items collected.
+         *
+         * @return The item indices.
+         */
+        int[] toArray() {
+            addRun();
+            int[] items = new int[this.n];
+            System.arraycopy(this.result, 0, items, 0, this.n);
+            return items;
+        }
+
+    }
+
 }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -104,6 +104,7 @@
  * 01-Apr-2009 : Added new addEntity() method (DG);
  * 09-Feb-2010 : Fixed bug 2947660 (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Draw item labels with drawItemLabelText() (agent);
  *
  */
 
@@ -1469,10 +1470,9 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
             }
             Point2D anchorPoint = calculateLabelAnchorPoint(
                     position.getItemLabelAnchor(), x, y, orientation);
-            TextUtilities.drawRotatedString(label, g2,
-                    (float) anchorPoint.getX(), (float) anchorPoint.getY(),
-                    position.getTextAnchor(),
-                    position.getAngle(), position.getRotationAnchor());
+            Number value = dataset.getValue(row, column);
+            drawItemLabelText(g2, label, anchorPoint, position,
+                    value != null ? value.doubleValue() : Double.NaN);
         }
 
     }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -90,6 +90,7 @@
  * 14-Jan-2009 : Added support for seriesVisible flags (PK);
  * 03-Feb-2009 : Added defaultShadowsVisible flag - see patch 2511330 (PK);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Draw item labels with drawItemLabelText() (agent);
  *
  */
 
@@ -1189,10 +1190,9 @@ public class BarRenderer extends AbstractCategoryItemRenderer
         }
 
         if (position != null) {
-            TextUtilities.drawRotatedString(label, g2,
-                    (float) anchorPoint.getX(), (float) anchorPoint.getY(),
-                    position.getTextAnchor(), position.getAngle(),
-                    position.getRotationAnchor());
+            Number value = data.getValue(row, column);
+            drawItemLabelText(g2, label, anchorPoint, position,
+                    value != null ? value.doubleValue() : Double.NaN);
         }
     }
 
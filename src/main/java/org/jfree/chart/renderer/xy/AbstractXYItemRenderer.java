@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -119,6 +119,11 @@
  *               annotations (DG);
  * 06-Oct-2011 : Add utility methods to work with 1.4 API in GeneralPath (MK);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added decimate flag (agent);
+ * 16-Oct-2026 : Added canDrawAppendedItems() method (agent);
+ * 16-Oct-2026 : Draw item labels with drawItemLabelText() (agent);
+ * 16-Oct-2026 : Added canDecimate() and map the entities for a
+ *               decimated dataset to the underlying dataset (agent);
  *
  */
 
@@ -232,6 +237,13 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     /** The legend item URL generator. */
     private XYSeriesLabelGenerator legendItemURLGenerator;
 
+    /**
+     * A flag that controls whether the plot reduces each series to the items
+     * that matter at the current resolution before passing them to the
+     * renderer.
+     */
+    private boolean decimate;
+
     /**
      * Creates a renderer where the tooltip generator and the URL generator are
      * both <code>null</code>.
@@ -245,6 +257,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         this.foregroundAnnotations = new java.util.ArrayList<XYAnnotation>();
         this.legendItemLabelGenerator = new StandardXYSeriesLabelGenerator(
                 "{0}");
+        this.decimate = false;
     }
 
     /**
@@ -748,6 +761,89 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the plot decimates the data
+     * before passing it to this renderer.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setDecimate(boolean)
+     */
+    public boolean getDecimate() {
+        return this.decimate;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot decimates the data before
+     * passing it to this renderer, and sends a {@link RendererChangeEvent} to
+     * all registered listeners.  When the flag is set, each series is reduced
+     * to (at most) the first, lowest, highest and last items that fall within
+     * each pixel column of the data area (see
+     * {@link XYItemRendererState#setDecimate(boolean)}).  This makes drawing
+     * a large series much faster while leaving the lines that are drawn
+     * visually unchanged.  The data is only decimated when
+     * {@link #canDecimate(XYDataset, PlotRenderingInfo)} returns
+     * <code>true</code>, since otherwise the omitted items would lose their
+     * entities, shapes or item labels (to decimate the data drawn in a
+     * {@link org.jfree.chart.ChartPanel}, switch off entity creation for
+     * the renderer).
+     *
+     * @param decimate  the new flag value.
+     *
+     * @see #getDecimate()
+     */
+    public void setDecimate(boolean decimate) {
+        this.decimate = decimate;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns <code>true</code> if items appended to a series can be drawn
+     * over an earlier rendering of the series (one that did not include the
+     * new items) to give the same result as drawing the whole series again,
+     * and <code>false</code> otherwise.  This is only possible for renderers
+     * where the representation of each item depends on (at most) the item
+     * before it.  The default implementation returns <code>false</code>,
+     * subclasses that support this should override the method.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     *
+     * @see XYPlot#drawAppendedItems(Graphics2D, Rectangle2D,
+     *     PlotRenderingInfo, XYDataset, int, int, int)
+     */
+    public boolean canDrawAppendedItems(XYDataset dataset, int series) {
+        return false;
+    }
+
+    /**
+     * Returns <code>true</code> if the plot can decimate the dataset before
+     * passing it to this renderer (see {@link #setDecimate(boolean)}), and
+     * <code>false</code> if the renderer needs every item.  The default
+     * implementation returns <code>false</code> if item labels are visible
+     * for any visible series, or if entities are being collected for one;
+     * subclasses that draw shapes for the items should override this.
+     *
+     * @param dataset  the dataset.
+     * @param info  the plot rendering info (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean canDecimate(XYDataset dataset, PlotRenderingInfo info) {
+        boolean entities = info != null && info.getOwner() != null
+                && info.getOwner().getEntityCollection() != null;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            if (isSeriesVisible(s) && (isSeriesItemLabelsVisible(s)
+                    || (entities && getItemCreateEntity(s, 0)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the lower and upper bounds (range) of the x-values in the
      * specified dataset.
@@ -1640,6 +1736,9 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                 that.legendItemURLGenerator)) {
             return false;
         }
+        if (this.decimate != that.decimate) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -1744,10 +1843,8 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
             // work out the label anchor point...
             Point2D anchorPoint = calculateLabelAnchorPoint(
                     position.getItemLabelAnchor(), x, y, orientation);
-            TextUtilities.drawRotatedString(label, g2,
-                    (float) anchorPoint.getX(), (float) anchorPoint.getY(),
-                    position.getTextAnchor(), position.getAngle(),
-                    position.getRotationAnchor());
+            drawItemLabelText(g2, label, anchorPoint, position,
+                    dataset.getYValue(series, item));
         }
 
     }
@@ -1807,6 +1904,12 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     protected void addEntity(EntityCollection entities, Shape area,
                              XYDataset dataset, int series, int item,
                              double entityX, double entityY) {
+        if (dataset instanceof DecimatedXYDataset) {
+            // the entity refers to the item in the underlying dataset
+            DecimatedXYDataset view = (DecimatedXYDataset) dataset;
+            item = view.getSourceItem(series, item);
+            dataset = view.getSource();
+        }
         if (!getItemCreateEntity(series, item)) {
             return;
         }
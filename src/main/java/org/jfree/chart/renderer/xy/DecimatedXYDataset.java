@@ -0,0 +1,289 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A read-only view of a subset of the items in an {@link XYDataset}.  The
+ * {@link org.jfree.chart.plot.XYPlot} passes an instance of this class to
+ * renderers that have requested decimation (see
+ * {@link XYItemRendererState#setDecimate(boolean)}), so the item indices
+ * seen by the renderer (for example, in the entities that it creates) refer
+ * to this view - use {@link #getSourceItem(int, int)} to find the
+ * corresponding item in the underlying dataset.
+ * <p>
+ * If the underlying dataset is an {@link IntervalXYDataset}, the interval
+ * values are taken from it, otherwise the start and end values are the same
+ * as the x and y-values.  The view does not listen for changes to the
+ * underlying dataset, it is intended to be used only for the duration of a
+ * single drawing operation.
+ */
+public class DecimatedXYDataset extends AbstractIntervalXYDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2587372411526386815L;
+
+    /** The underlying dataset. */
+    private XYDataset source;
+
+    /** The underlying dataset, if it has interval values. */
+    private IntervalXYDataset intervalSource;
+
+    /** The indices of the items in the view, for each series. */
+    private int[][] items;
+
+    /**
+     * Creates a new view.
+     *
+     * @param source  the underlying dataset (<code>null</code> not
+     *     permitted).
+     * @param items  for each series in the underlying dataset, the indices of
+     *     the items that are included in the view, in increasing order
+     *     (<code>null</code> not permitted).
+     */
+    public DecimatedXYDataset(XYDataset source, int[][] items) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        if (items == null) {
+            throw new IllegalArgumentException("Null 'items' argument.");
+        }
+        if (items.length != source.getSeriesCount()) {
+            throw new IllegalArgumentException(
+                    "Requires one array of items for each series.");
+        }
+        this.source = source;
+        if (source instanceof IntervalXYDataset) {
+            this.intervalSource = (IntervalXYDataset) source;
+        }
+        this.items = items;
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index of the item in the underlying dataset that
+     * corresponds to an item in this view.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getSourceItem(int series, int item) {
+        return this.items[series][item];
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain values, which is the same as for the
+     * underlying dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items in a series of this view.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.items[series].length;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The x-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.source.getX(series, this.items[series][item]);
+    }
+
+    /**
+     * Returns the x-value for an item as a double primitive.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, this.items[series][item]);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.source.getY(series, this.items[series][item]);
+    }
+
+    /**
+     * Returns the y-value for an item as a double primitive.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, this.items[series][item]);
+    }
+
+    /**
+     * Returns the starting x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The starting x-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        if (this.intervalSource == null) {
+            return getX(series, item);
+        }
+        return this.intervalSource.getStartX(series,
+                this.items[series][item]);
+    }
+
+    /**
+     * Returns the ending x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The ending x-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        if (this.intervalSource == null) {
+            return getX(series, item);
+        }
+        return this.intervalSource.getEndX(series, this.items[series][item]);
+    }
+
+    /**
+     * Returns the starting y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The starting y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        if (this.intervalSource == null) {
+            return getY(series, item);
+        }
+        return this.intervalSource.getStartY(series,
+                this.items[series][item]);
+    }
+
+    /**
+     * Returns the ending y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index (in this view).
+     *
+     * @return The ending y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        if (this.intervalSource == null) {
+            return getY(series, item);
+        }
+        return this.intervalSource.getEndY(series, this.items[series][item]);
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -39,6 +39,7 @@
  * 11-Apr-2008 : New override for findRangeBounds() (DG);
  * 27-Mar-2009 : Updated findRangeBounds() to call new inherited method (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added canDrawAppendedItems() override (agent);
  * 
  */
 
@@ -216,6 +217,20 @@ public class DeviationRenderer extends XYLineAndShapeRenderer {
         return 3;
     }
 
+    /**
+     * Returns <code>false</code>, since the shading for each series is
+     * filled in one piece, below the lines for all the items.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean canDrawAppendedItems(XYDataset dataset, int series) {
+        return false;
+    }
+
     /**
      * Returns <code>true</code> if this is the pass where the shapes are
      * drawn.
@@ -43,6 +43,7 @@
  *               Ulrich Voigt (DG);
  * 19-Sep-2008 : Added first and last item indices, based on patch by Greg
  *               Darke (DG);
+ * 16-Oct-2026 : Added decimate flag (agent);
  *
  */
 
@@ -53,6 +54,7 @@ import java.awt.geom.Line2D;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -88,6 +90,12 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A flag that controls whether the plot should reduce each series to the
+     * items that are significant at the resolution of the output device.
+     */
+    private boolean decimate;
+
     /**
      * Creates a new state.
      *
@@ -97,6 +105,7 @@ public class XYItemRendererState extends RendererState {
         super(info);
         this.workingLine = new Line2D.Double();
         this.processVisibleItemsOnly = true;
+        this.decimate = false;
     }
 
     /**
@@ -126,6 +135,39 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the flag that controls whether the plot decimates the data
+     * before passing it to the renderer.  The default value is
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setDecimate(boolean)
+     */
+    public boolean getDecimate() {
+        return this.decimate;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot decimates the data before
+     * passing it to the renderer.  When this flag is set, the plot passes the
+     * renderer a {@link DecimatedXYDataset} in which each run of items that
+     * falls within a single pixel column (along the domain axis) is reduced
+     * to the first, lowest, highest and last items of the run, so a line
+     * drawn through the remaining items covers the same pixels as a line
+     * drawn through all of them.  A renderer can set this flag in its
+     * <code>initialise()</code> method to opt in to decimation.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see RendererUtilities#findDecimatedItems(XYDataset, int, int, int,
+     *     org.jfree.chart.axis.ValueAxis, java.awt.geom.Rectangle2D,
+     *     org.jfree.chart.ui.RectangleEdge)
+     */
+    public void setDecimate(boolean flag) {
+        this.decimate = flag;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
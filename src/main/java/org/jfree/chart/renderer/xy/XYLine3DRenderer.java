@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -37,6 +37,7 @@
  * 14-Jan-2005 : Added standard header (DG);
  * 01-May-2007 : Fixed equals() and serialization bugs (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added canDrawAppendedItems() override (agent);
  *
  */
 
@@ -55,6 +56,7 @@ import org.jfree.chart.Effect3D;
 import org.jfree.chart.util.PaintUtilities;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.util.SerialUtilities;
+import org.jfree.data.xy.XYDataset;
 
 /**
  * A XYLineAndShapeRenderer that adds a shadow line to the graph
@@ -169,6 +171,20 @@ public class XYLine3DRenderer extends XYLineAndShapeRenderer
         return 3;
     }
 
+    /**
+     * Returns <code>false</code>, since the shadows for all the items are
+     * drawn in a separate pass, below the lines.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean canDrawAppendedItems(XYDataset dataset, int series) {
+        return false;
+    }
+
     /**
      * Returns <code>true</code> if the specified pass involves drawing lines.
      *
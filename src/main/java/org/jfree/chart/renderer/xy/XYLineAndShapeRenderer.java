@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -67,6 +67,10 @@
  * 18-May-2009 : Clip lines in drawPrimaryLine() (DG);
  * 15-Jun-2012 : Removed JCommon dependencies (DG);
  * 01-Jul-2012 : Remove deprecated code (DG);
+ * 16-Oct-2026 : Added canDrawAppendedItems() override (agent);
+ * 16-Oct-2026 : Don't draw appended items when shapes or item labels
+ *               are visible (agent);
+ * 16-Oct-2026 : Added canDecimate() override (agent);
  * 
  */
 
@@ -230,6 +234,53 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns <code>true</code> if items appended to a series can be drawn
+     * over an earlier rendering of the series.  This is the case unless the
+     * series line is drawn as a path, the data is decimated, or shapes or
+     * item labels are visible for any series in the dataset (they are drawn
+     * in a second pass, over the lines for all the items, so the lines to
+     * the new items would be drawn over them).
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean canDrawAppendedItems(XYDataset dataset, int series) {
+        if (this.drawSeriesLineAsPath || getDecimate()) {
+            return false;
+        }
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            if (isSeriesVisible(s) && (getItemShapeVisible(s, 0)
+                    || isSeriesItemLabelsVisible(s))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the plot can decimate the dataset before
+     * passing it to this renderer.  This is the case unless shapes, item
+     * labels or entities are needed for the items of a visible series.
+     *
+     * @param dataset  the dataset.
+     * @param info  the plot rendering info (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean canDecimate(XYDataset dataset, PlotRenderingInfo info) {
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            if (isSeriesVisible(s) && getItemShapeVisible(s, 0)) {
+                return false;
+            }
+        }
+        return super.canDecimate(dataset, info);
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -41,6 +41,7 @@
  * 25-Oct-2007 : Prevent duplicate control points (KR);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added canDrawAppendedItems() override (agent);
  *
  */
 
@@ -131,6 +132,20 @@ public class XYSplineRenderer extends XYLineAndShapeRenderer {
         fireChangeEvent();
     }
 
+    /**
+     * Returns <code>false</code>, since the spline through each item depends
+     * on all the items in the series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean canDrawAppendedItems(XYDataset dataset, int series) {
+        return false;
+    }
+
     /**
      * Initialises the renderer.
      * <P>
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -46,6 +46,7 @@
  * 26-May-2008 : Added item label support (DG);
  * 27-Mar-2009 : Updated findRangeBounds() (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Draw item labels with drawItemLabelText() (agent);
  * 
  */
 
@@ -74,7 +75,6 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
-import org.jfree.chart.text.TextUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -281,10 +281,8 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
         ItemLabelPosition position = getNegativeItemLabelPosition(series, item);
         Point2D anchorPoint = calculateLabelAnchorPoint(
                 position.getItemLabelAnchor(), x, y, orientation);
-        TextUtilities.drawRotatedString(label, g2,
-                (float) anchorPoint.getX(), (float) anchorPoint.getY(),
-                position.getTextAnchor(), position.getAngle(),
-                position.getRotationAnchor());
+        drawItemLabelText(g2, label, anchorPoint, position,
+                dataset.getYValue(series, item));
     }
 
     /**
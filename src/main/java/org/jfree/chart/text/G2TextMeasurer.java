@@ -27,7 +27,7 @@
  * -------------------
  * G2TextMeasurer.java
  * -------------------
- * (C) Copyright 2004-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   -;
@@ -37,6 +37,7 @@
  * Changes
  * -------
  * 07-Jan-2004 : Version 1 (DG);
+ * 16-Oct-2026 : Added getGraphics() for the text measurement cache (agent);
  *
  */
 
@@ -65,6 +66,15 @@ public class G2TextMeasurer implements TextMeasurer {
         this.g2 = g2;
     }
 
+    /**
+     * Returns the graphics device.
+     *
+     * @return The graphics device.
+     */
+    Graphics2D getGraphics() {
+        return this.g2;
+    }
+
     /**
      * Returns the string width.
      *
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -47,6 +47,7 @@
  *               --> TextUtilities (DG);
  * 16-Mar-2007 : Fixed serialization for GradientPaint (DG);
  * 17-Jun-2012 : Moved from JCommon to JFreeChart (DG);
+ * 16-Oct-2026 : Use cached line metrics (agent);
  *
  */
 
@@ -240,8 +241,8 @@ public class TextFragment implements Serializable {
     public float calculateBaselineOffset(final Graphics2D g2,
                                          final TextAnchor anchor) {
         float result = 0.0f;
-        final FontMetrics fm = g2.getFontMetrics(this.font);
-        final LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+        final LineMetrics lm = TextUtilities.getLineMetrics("ABCxyz",
+                this.font, g2.getFontRenderContext());
         if (anchor == TextAnchor.TOP_LEFT || anchor == TextAnchor.TOP_CENTER
                                           || anchor == TextAnchor.TOP_RIGHT) {
             result = lm.getAscent();
@@ -0,0 +1,267 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jfree.chart.util.ObjectUtilities;
+
+/**
+ * A bounded cache of text measurements (string bounds and widths, line
+ * metrics, and the lines that text is broken into to fit a given width),
+ * used by {@link TextUtilities} so that the labels in a chart (tick labels,
+ * category labels, titles, legend items and so on) are not measured again
+ * each time the chart is drawn.  Each measurement is keyed by the text, the
+ * font, the <code>FontRenderContext</code> and (for line breaking) the
+ * width and line limit.  When the cache is full, the least recently used
+ * measurement is discarded.
+ * <p>
+ * One cache is shared by all charts (see
+ * {@link TextUtilities#getMeasurementCache()}).  The hit and miss counts
+ * can be used to check that the cache is large enough for an application.
+ * This class is thread-safe.
+ */
+public final class TextMeasurementCache {
+
+    /** The default maximum number of measurements in the cache. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /** The maximum number of measurements. */
+    private final int maximumSize;
+
+    /** The measurements, least recently used first. */
+    private final Map<Key, Object> entries;
+
+    /** The number of lookups that found a measurement. */
+    private long hitCount;
+
+    /** The number of lookups that did not find a measurement. */
+    private long missCount;
+
+    /**
+     * Creates a new cache with the default maximum size.
+     */
+    public TextMeasurementCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize  the maximum number of measurements (zero or
+     *     greater).
+     */
+    public TextMeasurementCache(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumSize' >= 0.");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> e) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum number of measurements held by the cache.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the number of measurements in the cache.
+     *
+     * @return The size.
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a measurement in the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a measurement in the
+     * cache (in which case the text was measured).
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Removes all the measurements from the cache and resets the hit and
+     * miss counts.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.hitCount = 0L;
+        this.missCount = 0L;
+    }
+
+    /**
+     * Returns a measurement from the cache.
+     *
+     * @param key  the key.
+     * @param type  the type of the measurement.
+     *
+     * @param <T>  the type of the measurement.
+     *
+     * @return The measurement (<code>null</code> if it is not in the
+     *     cache).  The caller must not modify it.
+     *
+     * @throws ClassCastException if the measurement is not of the
+     *     specified type.
+     */
+    synchronized <T> T get(Key key, Class<T> type) {
+        T result = type.cast(this.entries.get(key));
+        if (result != null) {
+            this.hitCount++;
+        }
+        else {
+            this.missCount++;
+        }
+        return result;
+    }
+
+    /**
+     * Adds a measurement to the cache, discarding the least recently used
+     * measurement if the cache is full.
+     *
+     * @param key  the key.
+     * @param measurement  the measurement (not <code>null</code>), which
+     *     must not be modified after it is added.
+     */
+    synchronized void put(Key key, Object measurement) {
+        this.entries.put(key, measurement);
+    }
+
+    /**
+     * The key for a measurement.
+     */
+    static final class Key {
+
+        /** The type of measurement (for example, "bounds" or "lines"). */
+        private final String type;
+
+        /** The text. */
+        private final String text;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The maximum width (zero if not relevant). */
+        private final float width;
+
+        /** The maximum number of lines (zero if not relevant). */
+        private final int lines;
+
+        /**
+         * Creates a new key.
+         *
+         * @param type  the type of measurement.
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param width  the maximum width (zero if not relevant).
+         * @param lines  the maximum number of lines (zero if not relevant).
+         */
+        Key(String type, String text, Font font, FontRenderContext frc,
+                float width, int lines) {
+            this.type = type;
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.width = width;
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.type.equals(that.type)
+                    && ObjectUtilities.equal(this.text, that.text)
+                    && ObjectUtilities.equal(this.font, that.font)
+                    && ObjectUtilities.equal(this.frc, that.frc)
+                    && Float.floatToIntBits(this.width)
+                            == Float.floatToIntBits(that.width)
+                    && this.lines == that.lines;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.type.hashCode();
+            result = 37 * result + ObjectUtilities.hashCode(this.text);
+            result = 37 * result + ObjectUtilities.hashCode(this.font);
+            result = 37 * result + ObjectUtilities.hashCode(this.frc);
+            result = 37 * result + Float.floatToIntBits(this.width);
+            result = 37 * result + this.lines;
+            return result;
+        }
+
+    }
+
+}
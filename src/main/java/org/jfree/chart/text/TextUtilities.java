@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,7 +27,7 @@
  * ------------------
  * TextUtilities.java
  * ------------------
- * (C) Copyright 2004-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2004-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   -;
@@ -53,6 +53,9 @@
  * 27-Apr-2009 : Fix text wrapping with new lines (DG);
  * 27-Jul-2009 : Use AttributedString in drawRotatedString() (DG);
  * 16-Jun-2012 : Moved from JCommon to JFreeChart (DG);
+ * 16-Oct-2026 : Cache text measurements and line breaks (agent);
+ * 16-Oct-2026 : Cache line breaks as arrays and use the typed cache
+ *               accessor (agent);
  *
  */
 
@@ -70,6 +73,9 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.text.AttributedString;
 import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jfree.chart.ui.TextAnchor;
 import org.jfree.chart.util.ObjectUtilities;
@@ -91,6 +97,13 @@ public class TextUtilities {
      */
     private static boolean useFontMetricsGetStringBounds;
 
+    /**
+     * The cache for text measurements (<code>null</code> if measurements are
+     * not cached).
+     */
+    private static volatile TextMeasurementCache measurementCache
+            = new TextMeasurementCache();
+
     static {
 
         final boolean isJava14 = ObjectUtilities.isJDK14();
@@ -108,6 +121,30 @@ public class TextUtilities {
     private TextUtilities() {
     }
 
+    /**
+     * Returns the cache used for text measurements.  The cache is shared by
+     * all charts, and is used when measuring text with
+     * {@link #getTextBounds(String, Graphics2D, FontMetrics)},
+     * {@link #getStringWidth(String, FontMetrics)} and
+     * {@link #getLineMetrics(String, Font, FontRenderContext)}, and when
+     * breaking text into lines with a {@link G2TextMeasurer}.
+     *
+     * @return The cache (possibly <code>null</code>).
+     */
+    public static TextMeasurementCache getMeasurementCache() {
+        return measurementCache;
+    }
+
+    /**
+     * Sets the cache used for text measurements.
+     *
+     * @param cache  the cache (<code>null</code> permitted, in which case
+     *     text measurements are not cached).
+     */
+    public static void setMeasurementCache(TextMeasurementCache cache) {
+        measurementCache = cache;
+    }
+
     /**
      * Creates a {@link TextBlock} from a <code>String</code>.  Line breaks
      * are added where the <code>String</code> contains '\n' characters.
@@ -179,7 +216,8 @@ public class TextUtilities {
     /**
      * Creates a new text block from the given string, breaking the
      * text into lines so that the <code>maxWidth</code> value is
-     * respected.
+     * respected.  If the measurer is a {@link G2TextMeasurer}, the line
+     * breaks are cached (see {@link #getMeasurementCache()}).
      *
      * @param text  the text.
      * @param font  the font.
@@ -194,7 +232,53 @@ public class TextUtilities {
             final Paint paint, final float maxWidth, final int maxLines,
             final TextMeasurer measurer) {
 
+        final TextMeasurementCache cache = measurementCache;
+        List<String> lines = null;
+        if (cache != null && measurer != null
+                && measurer.getClass() == G2TextMeasurer.class) {
+            // a G2TextMeasurer measures with the current font of the
+            // graphics device, not the font for the text block
+            final Graphics2D g2 = ((G2TextMeasurer) measurer).getGraphics();
+            final TextMeasurementCache.Key key = new TextMeasurementCache.Key(
+                    "lines", text, g2.getFont(), g2.getFontRenderContext(),
+                    maxWidth, maxLines);
+            String[] cached = cache.get(key, String[].class);
+            if (cached == null) {
+                lines = breakLines(text, maxWidth, maxLines, measurer);
+                cache.put(key, lines.toArray(new String[lines.size()]));
+            }
+            else {
+                lines = Arrays.asList(cached);
+            }
+        }
+        else {
+            lines = breakLines(text, maxWidth, maxLines, measurer);
+        }
         final TextBlock result = new TextBlock();
+        for (String line : lines) {
+            result.addLine(line, font, paint);
+        }
+        return result;
+    }
+
+    /**
+     * Breaks text into lines so that the <code>maxWidth</code> value is
+     * respected, for {@link #createTextBlock(String, Font, Paint, float,
+     * int, TextMeasurer)}.
+     *
+     * @param text  the text.
+     * @param maxWidth  the maximum width for each line.
+     * @param maxLines  the maximum number of lines.
+     * @param measurer  the text measurer.
+     *
+     * @return The lines (if the text doesn't fit in the maximum number of
+     *     lines, the last line ends with "...").
+     */
+    private static List<String> breakLines(final String text,
+            final float maxWidth, final int maxLines,
+            final TextMeasurer measurer) {
+
+        final List<String> result = new ArrayList<String>();
         final BreakIterator iterator = BreakIterator.getLineInstance();
         iterator.setText(text);
         int current = 0;
@@ -204,10 +288,10 @@ public class TextUtilities {
             final int next = nextLineBreak(text, current, maxWidth, iterator,
                     measurer);
             if (next == BreakIterator.DONE) {
-                result.addLine(text.substring(current), font, paint);
+                result.add(text.substring(current));
                 return result;
             }
-            result.addLine(text.substring(current, next), font, paint);
+            result.add(text.substring(current, next));
             lines++;
             current = next;
             while (current < text.length()&& text.charAt(current) == '\n') {
@@ -215,18 +299,12 @@ public class TextUtilities {
             }
         }
         if (current < length) {
-            final TextLine lastLine = result.getLastLine();
-            final TextFragment lastFragment = lastLine.getLastTextFragment();
-            final String oldStr = lastFragment.getText();
+            final String oldStr = result.get(result.size() - 1);
             String newStr = "...";
             if (oldStr.length() > 3) {
                 newStr = oldStr.substring(0, oldStr.length() - 3) + "...";
             }
-
-            lastLine.removeFragment(lastFragment);
-            final TextFragment newFragment = new TextFragment(newStr,
-                    lastFragment.getFont(), lastFragment.getPaint());
-            lastLine.addFragment(newFragment);
+            result.set(result.size() - 1, newStr);
         }
         return result;
     }
@@ -286,7 +364,8 @@ public class TextUtilities {
     }
 
     /**
-     * Returns the bounds for the specified text.
+     * Returns the bounds for the specified text.  The bounds are cached (see
+     * {@link #getMeasurementCache()}).
      *
      * @param text  the text (<code>null</code> permitted).
      * @param g2  the graphics context (not <code>null</code>).
@@ -298,19 +377,49 @@ public class TextUtilities {
     public static Rectangle2D getTextBounds(final String text,
             final Graphics2D g2, final FontMetrics fm) {
 
+        final TextMeasurementCache cache = measurementCache;
+        if (cache == null || text == null) {
+            return calculateTextBounds(text, g2, fm);
+        }
+        final boolean stringBounds = useFontMetricsGetStringBounds;
+        final TextMeasurementCache.Key key = new TextMeasurementCache.Key(
+                stringBounds ? "string-bounds" : "bounds", text, fm.getFont(),
+                stringBounds ? g2.getFontRenderContext()
+                : fm.getFontRenderContext(), 0.0f, 0);
+        Rectangle2D bounds = cache.get(key, Rectangle2D.class);
+        if (bounds == null) {
+            bounds = calculateTextBounds(text, g2, fm);
+            cache.put(key, bounds);
+        }
+        // return a copy, since the caller may modify the bounds
+        return (Rectangle2D) bounds.clone();
+    }
+
+    /**
+     * Calculates the bounds for the specified text.
+     *
+     * @param text  the text (<code>null</code> permitted).
+     * @param g2  the graphics context (not <code>null</code>).
+     * @param fm  the font metrics (not <code>null</code>).
+     *
+     * @return The text bounds.
+     */
+    private static Rectangle2D calculateTextBounds(final String text,
+            final Graphics2D g2, final FontMetrics fm) {
+
         final Rectangle2D bounds;
         if (TextUtilities.useFontMetricsGetStringBounds) {
             bounds = fm.getStringBounds(text, g2);
             // getStringBounds() can return incorrect height for some Unicode
             // characters...see bug parade 6183356, let's replace it with
             // something correct
-            LineMetrics lm = fm.getFont().getLineMetrics(text,
+            LineMetrics lm = getLineMetrics(text, fm.getFont(),
                     g2.getFontRenderContext());
             bounds.setRect(bounds.getX(), bounds.getY(), bounds.getWidth(),
                     lm.getHeight());
         }
         else {
-            final double width = fm.stringWidth(text);
+            final double width = getStringWidth(text, fm);
             final double height = fm.getHeight();
             bounds = new Rectangle2D.Double(0.0, -fm.getAscent(), width,
                     height);
@@ -318,6 +427,61 @@ public class TextUtilities {
         return bounds;
     }
 
+    /**
+     * Returns the width of the specified text, as given by
+     * <code>FontMetrics.stringWidth()</code>.  The width is cached (see
+     * {@link #getMeasurementCache()}).
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param fm  the font metrics (<code>null</code> not permitted).
+     *
+     * @return The width.
+     */
+    public static int getStringWidth(final String text,
+            final FontMetrics fm) {
+        final TextMeasurementCache cache = measurementCache;
+        if (cache == null) {
+            return fm.stringWidth(text);
+        }
+        final TextMeasurementCache.Key key = new TextMeasurementCache.Key(
+                "width", text, fm.getFont(), fm.getFontRenderContext(), 0.0f,
+                0);
+        Integer width = cache.get(key, Integer.class);
+        if (width == null) {
+            width = fm.stringWidth(text);
+            cache.put(key, width);
+        }
+        return width;
+    }
+
+    /**
+     * Returns the line metrics for the specified text, as given by
+     * <code>Font.getLineMetrics()</code>.  The metrics are cached (see
+     * {@link #getMeasurementCache()}).
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param frc  the font render context (<code>null</code> not
+     *     permitted).
+     *
+     * @return The line metrics (which should not be modified).
+     */
+    public static LineMetrics getLineMetrics(final String text,
+            final Font font, final FontRenderContext frc) {
+        final TextMeasurementCache cache = measurementCache;
+        if (cache == null) {
+            return font.getLineMetrics(text, frc);
+        }
+        final TextMeasurementCache.Key key = new TextMeasurementCache.Key(
+                "line-metrics", text, font, frc, 0.0f, 0);
+        LineMetrics metrics = cache.get(key, LineMetrics.class);
+        if (metrics == null) {
+            metrics = font.getLineMetrics(text, frc);
+            cache.put(key, metrics);
+        }
+        return metrics;
+    }
+
     /**
      * Draws a string such that the specified anchor point is aligned to the
      * given (x, y) location.
@@ -369,7 +533,7 @@ public class TextUtilities {
         final Font f = g2.getFont();
         final FontMetrics fm = g2.getFontMetrics(f);
         final Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
-        final LineMetrics metrics = f.getLineMetrics(text, frc);
+        final LineMetrics metrics = getLineMetrics(text, f, frc);
         final float ascent = metrics.getAscent();
         result[2] = -ascent;
         final float halfAscent = ascent / 2.0f;
@@ -625,7 +789,7 @@ public class TextUtilities {
         final Font f = g2.getFont();
         final FontMetrics fm = g2.getFontMetrics(f);
         final Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
-        final LineMetrics metrics = f.getLineMetrics(text, frc);
+        final LineMetrics metrics = getLineMetrics(text, f, frc);
         final float ascent = metrics.getAscent();
         final float halfAscent = ascent / 2.0f;
         final float descent = metrics.getDescent();
@@ -709,7 +873,7 @@ public class TextUtilities {
 
         final float[] result = new float[2];
         final FontRenderContext frc = g2.getFontRenderContext();
-        final LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
+        final LineMetrics metrics = getLineMetrics(text, g2.getFont(), frc);
         final FontMetrics fm = g2.getFontMetrics();
         final Rectangle2D bounds = TextUtilities.getTextBounds(text, g2, fm);
         final float ascent = metrics.getAscent();
@@ -0,0 +1,389 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * CircularArrayList.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Like an <code>ArrayList</code>, items
+ * can be read by index in constant time but, unlike an
+ * <code>ArrayList</code>, items can also be added or removed at the START of
+ * the list in constant time.  This makes it a good choice of storage for
+ * series that have a maximum item count, where every new item appended to
+ * the end of the series causes the oldest item to be removed from the
+ * front.  Inserting or removing items elsewhere in the list costs time
+ * proportional to the distance from the nearest end of the list.
+ *
+ * @param <E>  the element type.
+ */
+public class CircularArrayList<E> extends AbstractList<E>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4393837405838462181L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Storage for the elements. */
+    private transient Object[] elements;
+
+    /** The position in the array of the first element in the list. */
+    private transient int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (zero or greater).
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.elements = new Object[Math.max(initialCapacity, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the elements from the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c  the collection (<code>null</code> not permitted).
+     */
+    public CircularArrayList(Collection<? extends E> c) {
+        ParamChecks.nullNotPermitted(c, "c");
+        Object[] array = c.toArray();
+        this.elements = new Object[Math.max(array.length,
+                DEFAULT_INITIAL_CAPACITY)];
+        System.arraycopy(array, 0, this.elements, 0, array.length);
+        this.head = 0;
+        this.size = array.length;
+    }
+
+    /**
+     * Returns the position in the storage array for the specified index.
+     *
+     * @param index  the list index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     *
+     * @return The array position.
+     */
+    private int position(int index) {
+        int p = this.head + index;
+        int capacity = this.elements.length;
+        return p < capacity ? p : p - capacity;
+    }
+
+    /**
+     * Checks that the index refers to an existing element.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Makes sure the storage array can hold at least the specified number
+     * of elements, moving the elements to the start of a new (larger) array
+     * if necessary.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    private void ensureCapacity(int minCapacity) {
+        int capacity = this.elements.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(capacity + (capacity >> 1) + 1,
+                    minCapacity);
+            Object[] newElements = new Object[newCapacity];
+            int firstPart = Math.min(this.size, capacity - this.head);
+            System.arraycopy(this.elements, this.head, newElements, 0,
+                    firstPart);
+            System.arraycopy(this.elements, 0, newElements, firstPart,
+                    this.size - firstPart);
+            this.elements = newElements;
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The element.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) this.elements[position(index)];
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @param index  the index.
+     * @param element  the new element.
+     *
+     * @return The element previously at the specified index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int p = position(index);
+        E old = (E) this.elements[p];
+        this.elements[p] = element;
+        return old;
+    }
+
+    /**
+     * Appends an element to the end of the list.
+     *
+     * @param element  the element.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(this.size + 1);
+        this.elements[position(this.size)] = element;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified index, shifting the elements on
+     * whichever side of the index is shorter.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param element  the element.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        ensureCapacity(this.size + 1);
+        int capacity = this.elements.length;
+        if (index < this.size / 2) {
+            // shift the leading elements one place towards the front
+            this.head = (this.head == 0) ? capacity - 1 : this.head - 1;
+            for (int i = 0; i < index; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+        }
+        else {
+            // shift the trailing elements one place towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+        }
+        this.elements[position(index)] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index, shifting the elements on
+     * whichever side of the index is shorter.
+     *
+     * @param index  the index.
+     *
+     * @return The element that was removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        E old = (E) this.elements[position(index)];
+        if (index < this.size / 2) {
+            for (int i = index; i > 0; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = position(1);
+        }
+        else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+            this.elements[position(this.size - 1)] = null;
+        }
+        this.size--;
+        this.modCount++;
+        return old;
+    }
+
+    /**
+     * Removes the elements from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  This is called by
+     * <code>subList(fromIndex, toIndex).clear()</code>.
+     *
+     * @param fromIndex  the index of the first element to remove.
+     * @param toIndex  the index after the last element to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            for (int i = 0; i < count; i++) {
+                this.elements[position(i)] = null;
+            }
+            this.head = position(count);
+        }
+        else {
+            for (int i = fromIndex; i < this.size - count; i++) {
+                this.elements[position(i)]
+                        = this.elements[position(i + count)];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[position(i)] = null;
+            }
+        }
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all the elements from the list.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.elements[position(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns a clone of the list.  The elements themselves are not cloned.
+     *
+     * @return A clone.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CircularArrayList<E> clone() {
+        try {
+            CircularArrayList<E> clone = (CircularArrayList<E>) super.clone();
+            clone.elements = this.elements.clone();
+            clone.modCount = 0;
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int i = 0; i < this.size; i++) {
+            stream.writeObject(this.elements[position(i)]);
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.elements = new Object[Math.max(this.size, 1)];
+        this.head = 0;
+        for (int i = 0; i < this.size; i++) {
+            this.elements[i] = stream.readObject();
+        }
+    }
+
+}
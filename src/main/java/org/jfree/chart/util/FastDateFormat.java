@@ -0,0 +1,725 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * FastDateFormat.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Leave patterns that use standalone month names to the
+ *               underlying formatter (agent);
+ * 16-Oct-2026 : Added serialVersionUID (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.Serializable;
+import java.text.DateFormat;
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * A date formatter that gives the same results as a
+ * <code>SimpleDateFormat</code>, but calculates the calendar fields for
+ * each date directly (without a <code>Calendar</code> instance).  Patterns
+ * containing the letters <code>y M d D E F u a H k K h m s S Z</code> are
+ * supported, which covers the patterns typically used for axis labels (for
+ * example <code>"d-MMM, HH:mm"</code>).  Other patterns, dates before the
+ * Gregorian calendar was introduced, and formatters that don't use the
+ * Gregorian calendar are handled by the underlying formatter.
+ * <P>
+ * Unlike <code>SimpleDateFormat</code>, an instance of this class can be
+ * shared by several threads, provided that its attributes (such as the time
+ * zone) are not changed while it is in use.  The standard tick units
+ * created by {@link org.jfree.chart.axis.DateAxis} use this class.
+ */
+public class FastDateFormat extends DateFormat {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6823505776241643673L;
+
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** The time the Gregorian calendar was introduced (15-Oct-1582 UTC). */
+    private static final long GREGORIAN_CHANGE = -12219292800000L;
+
+    /**
+     * Dates before this (2-Jan-1583 UTC, so that the whole of the year in
+     * which the calendar changed is excluded in any time zone) are formatted
+     * by the underlying formatter.
+     */
+    private static final long MIN_MILLIS = -12212467200000L;
+
+    /** The number of days before each month, in a year that isn't leap. */
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151,
+            181, 212, 243, 273, 304, 334};
+
+    /** The underlying formatter. */
+    private DateFormat format;
+
+    /**
+     * The layout used to format dates without the underlying formatter
+     * (<code>null</code> if the formatter uses unsupported features).
+     */
+    private volatile Layout layout;
+
+    /**
+     * Creates a new formatter for the specified
+     * <code>SimpleDateFormat</code> pattern.
+     *
+     * @param pattern  the pattern (<code>null</code> not permitted).
+     * @param locale  the locale (<code>null</code> not permitted).
+     */
+    public FastDateFormat(String pattern, Locale locale) {
+        this(new SimpleDateFormat(pattern, locale));
+    }
+
+    /**
+     * Creates a new formatter that gives the same results as the specified
+     * formatter.  If the formatter is not a <code>SimpleDateFormat</code>,
+     * all dates are formatted by (a copy of) the formatter.
+     *
+     * @param format  the formatter (<code>null</code> not permitted, a copy
+     *     is made so later changes to the formatter have no effect).
+     */
+    public FastDateFormat(DateFormat format) {
+        ParamChecks.nullNotPermitted(format, "format");
+        this.format = (DateFormat) format.clone();
+        // the inherited fields are only used by the accessor methods
+        this.calendar = (Calendar) this.format.getCalendar().clone();
+        this.numberFormat = (NumberFormat) this.format.getNumberFormat()
+                .clone();
+        this.layout = Layout.create(this.format);
+    }
+
+    /**
+     * Sets the time zone.
+     *
+     * @param zone  the time zone.
+     */
+    @Override
+    public void setTimeZone(TimeZone zone) {
+        synchronized (this.format) {
+            super.setTimeZone(zone);
+            this.format.setTimeZone(zone);
+            this.layout = Layout.create(this.format);
+        }
+    }
+
+    /**
+     * Sets the calendar.
+     *
+     * @param calendar  the calendar.
+     */
+    @Override
+    public void setCalendar(Calendar calendar) {
+        synchronized (this.format) {
+            super.setCalendar(calendar);
+            this.format.setCalendar(calendar);
+            this.layout = Layout.create(this.format);
+        }
+    }
+
+    /**
+     * Sets the number formatter.
+     *
+     * @param format  the number formatter.
+     */
+    @Override
+    public void setNumberFormat(NumberFormat format) {
+        synchronized (this.format) {
+            super.setNumberFormat(format);
+            this.format.setNumberFormat(format);
+            this.layout = Layout.create(this.format);
+        }
+    }
+
+    /**
+     * Sets the flag that controls whether or not parsing is lenient.
+     *
+     * @param lenient  the new flag value.
+     */
+    @Override
+    public void setLenient(boolean lenient) {
+        synchronized (this.format) {
+            super.setLenient(lenient);
+            this.format.setLenient(lenient);
+        }
+    }
+
+    /**
+     * Formats a date and appends the result to a buffer.
+     *
+     * @param date  the date.
+     * @param toAppendTo  the buffer to append to.
+     * @param pos  the field position.
+     *
+     * @return The buffer.
+     */
+    @Override
+    public StringBuffer format(Date date, StringBuffer toAppendTo,
+            FieldPosition pos) {
+        Layout l = this.layout;
+        long millis = date.getTime();
+        if (l == null || pos.getFieldAttribute() != null
+                || millis < MIN_MILLIS) {
+            synchronized (this.format) {
+                return this.format.format(date, toAppendTo, pos);
+            }
+        }
+        l.format(millis, toAppendTo, pos);
+        return toAppendTo;
+    }
+
+    /**
+     * Parses a date using the underlying formatter.
+     *
+     * @param source  the string to parse.
+     * @param pos  the parse position.
+     *
+     * @return The date (possibly <code>null</code>).
+     */
+    @Override
+    public Date parse(String source, ParsePosition pos) {
+        synchronized (this.format) {
+            return this.format.parse(source, pos);
+        }
+    }
+
+    /**
+     * Tests this formatter for equality with an arbitrary object.  Two
+     * instances are equal if their underlying formatters are equal.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FastDateFormat)) {
+            return false;
+        }
+        FastDateFormat that = (FastDateFormat) obj;
+        return this.format.equals(that.format);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.format.hashCode();
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     */
+    @Override
+    public Object clone() {
+        FastDateFormat clone = (FastDateFormat) super.clone();
+        synchronized (this.format) {
+            clone.format = (DateFormat) this.format.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * The layout of a <code>SimpleDateFormat</code>, that is, the pattern
+     * split into fields and literal text, plus the symbols and time zone
+     * needed to format a date the same way.  Instances are immutable.
+     */
+    private static final class Layout implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3013627251323271609L;
+
+        /** The pattern letters that are supported. */
+        private static final String LETTERS = "yMdDEFuaHkKhmsSZ";
+
+        /** The DateFormat field ids for the supported letters. */
+        private static final int[] FIELD_IDS = {DateFormat.YEAR_FIELD,
+                DateFormat.MONTH_FIELD, DateFormat.DATE_FIELD,
+                DateFormat.DAY_OF_YEAR_FIELD, DateFormat.DAY_OF_WEEK_FIELD,
+                DateFormat.DAY_OF_WEEK_IN_MONTH_FIELD,
+                DateFormat.DAY_OF_WEEK_FIELD, DateFormat.AM_PM_FIELD,
+                DateFormat.HOUR_OF_DAY0_FIELD, DateFormat.HOUR_OF_DAY1_FIELD,
+                DateFormat.HOUR0_FIELD, DateFormat.HOUR1_FIELD,
+                DateFormat.MINUTE_FIELD, DateFormat.SECOND_FIELD,
+                DateFormat.MILLISECOND_FIELD, DateFormat.TIMEZONE_FIELD};
+
+        /**
+         * The pattern letter for each item, or zero for literal text.
+         */
+        private final char[] letters;
+
+        /** The letter count for each field item. */
+        private final int[] counts;
+
+        /** The text for each literal item. */
+        private final String[] literals;
+
+        /** The time zone. */
+        private final TimeZone zone;
+
+        /** The zero digit. */
+        private final char zero;
+
+        /** The month names. */
+        private final String[] months;
+
+        /** The short month names. */
+        private final String[] shortMonths;
+
+        /** The weekday names. */
+        private final String[] weekdays;
+
+        /** The short weekday names. */
+        private final String[] shortWeekdays;
+
+        /** The AM/PM strings. */
+        private final String[] amPmStrings;
+
+        /** The maximum length of a formatted date. */
+        private final int capacity;
+
+        /**
+         * Creates a new layout.
+         *
+         * @param letters  the pattern letter for each item.
+         * @param counts  the letter counts.
+         * @param literals  the literal text.
+         * @param format  the formatter.
+         * @param zero  the zero digit.
+         */
+        private Layout(char[] letters, int[] counts, String[] literals,
+                SimpleDateFormat format, char zero) {
+            DateFormatSymbols symbols = format.getDateFormatSymbols();
+            this.letters = letters;
+            this.counts = counts;
+            this.literals = literals;
+            this.zone = (TimeZone) format.getTimeZone().clone();
+            this.zero = zero;
+            this.months = symbols.getMonths();
+            this.shortMonths = symbols.getShortMonths();
+            this.weekdays = symbols.getWeekdays();
+            this.shortWeekdays = symbols.getShortWeekdays();
+            this.amPmStrings = symbols.getAmPmStrings();
+            int c = 0;
+            for (int i = 0; i < letters.length; i++) {
+                switch (letters[i]) {
+                    case 0:
+                        c += literals[i].length();
+                        break;
+                    case 'M':
+                        c += Math.max(Math.max(maxLength(this.months),
+                                maxLength(this.shortMonths)), counts[i]);
+                        break;
+                    case 'E':
+                        c += Math.max(maxLength(this.weekdays),
+                                maxLength(this.shortWeekdays));
+                        break;
+                    case 'a':
+                        c += maxLength(this.amPmStrings);
+                        break;
+                    default:
+                        // a number has at most 10 digits
+                        c += Math.max(counts[i], 10);
+                }
+            }
+            this.capacity = c;
+        }
+
+        /**
+         * Returns the length of the longest string in an array.
+         *
+         * @param strings  the strings (<code>null</code> entries permitted).
+         *
+         * @return The maximum length.
+         */
+        private static int maxLength(String[] strings) {
+            int result = 0;
+            for (int i = 0; i < strings.length; i++) {
+                if (strings[i] != null) {
+                    result = Math.max(result, strings[i].length());
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Creates the layout for a formatter.
+         *
+         * @param format  the formatter.
+         *
+         * @return The layout, or <code>null</code> if the formatter uses
+         *     features that aren't supported.
+         */
+        static Layout create(DateFormat format) {
+            if (!(format instanceof SimpleDateFormat)) {
+                return null;
+            }
+            SimpleDateFormat sdf = (SimpleDateFormat) format;
+            Calendar calendar = sdf.getCalendar();
+            // subclasses such as the Buddhist calendar number years
+            // differently
+            if (calendar.getClass() != GregorianCalendar.class
+                    || ((GregorianCalendar) calendar).getGregorianChange()
+                    .getTime() != GREGORIAN_CHANGE) {
+                return null;
+            }
+            if (!(sdf.getNumberFormat() instanceof DecimalFormat)) {
+                return null;
+            }
+            DecimalFormat df = (DecimalFormat) sdf.getNumberFormat();
+            if (df.isGroupingUsed() || df.getPositivePrefix().length() > 0
+                    || df.getPositiveSuffix().length() > 0) {
+                return null;
+            }
+
+            List<Character> letters = new ArrayList<Character>();
+            List<Integer> counts = new ArrayList<Integer>();
+            List<String> literals = new ArrayList<String>();
+            StringBuilder text = new StringBuilder();
+            String pattern = sdf.toPattern();
+            boolean quoted = false;
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    if (i + 1 < pattern.length()
+                            && pattern.charAt(i + 1) == '\'') {
+                        text.append(c);
+                        i++;
+                    }
+                    else {
+                        quoted = !quoted;
+                    }
+                    i++;
+                }
+                else if (quoted || !(c >= 'a' && c <= 'z'
+                        || c >= 'A' && c <= 'Z')) {
+                    text.append(c);
+                    i++;
+                }
+                else {
+                    if (LETTERS.indexOf(c) < 0) {
+                        return null;
+                    }
+                    int count = 1;
+                    while (i + count < pattern.length()
+                            && pattern.charAt(i + count) == c) {
+                        count++;
+                    }
+                    if (text.length() > 0) {
+                        letters.add((char) 0);
+                        counts.add(0);
+                        literals.add(text.toString());
+                        text.setLength(0);
+                    }
+                    letters.add(c);
+                    counts.add(count);
+                    literals.add(null);
+                    i += count;
+                }
+            }
+            if (text.length() > 0) {
+                letters.add((char) 0);
+                counts.add(0);
+                literals.add(text.toString());
+            }
+            int n = letters.size();
+            char[] letterArray = new char[n];
+            int[] countArray = new int[n];
+            for (int j = 0; j < n; j++) {
+                letterArray[j] = letters.get(j);
+                countArray[j] = counts.get(j);
+            }
+            Layout layout = new Layout(letterArray, countArray,
+                    literals.toArray(new String[n]), sdf,
+                    df.getDecimalFormatSymbols().getZeroDigit());
+            return layout.matchesMonthNames(sdf) ? layout : null;
+        }
+
+        /**
+         * Returns <code>true</code> if this layout formats a date in each
+         * month the same way as the specified formatter.  The month names
+         * in <code>DateFormatSymbols</code> are the forms used within a
+         * date, but <code>SimpleDateFormat</code> uses the standalone forms
+         * (for example "Sep" rather than "Sept." in German, or "joulukuu"
+         * rather than "joulukuuta" in Finnish) for patterns that contain
+         * only a month, so those patterns are left to the formatter.
+         *
+         * @param format  the formatter.
+         *
+         * @return A boolean.
+         */
+        private boolean matchesMonthNames(SimpleDateFormat format) {
+            boolean monthNames = false;
+            for (int i = 0; i < this.letters.length; i++) {
+                if (this.letters[i] == 'M' && this.counts[i] >= 3) {
+                    monthNames = true;
+                }
+            }
+            if (!monthNames) {
+                return true;
+            }
+            Calendar calendar = (Calendar) format.getCalendar().clone();
+            StringBuffer expected = new StringBuffer();
+            StringBuffer actual = new StringBuffer();
+            for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER;
+                    month++) {
+                calendar.clear();
+                calendar.set(2001, month, 15, 12, 0);
+                Date date = calendar.getTime();
+                expected.setLength(0);
+                actual.setLength(0);
+                format.format(date, expected, new FieldPosition(0));
+                format(date.getTime(), actual, new FieldPosition(0));
+                if (!expected.toString().equals(actual.toString())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Formats a date and appends the result to a buffer.
+         *
+         * @param millis  the date (in milliseconds since 1-Jan-1970 UTC, and
+         *     not before the introduction of the Gregorian calendar).
+         * @param buffer  the buffer.
+         * @param pos  the field position.
+         */
+        void format(long millis, StringBuffer buffer, FieldPosition pos) {
+            int offset = this.zone.getOffset(millis);
+            long local = millis + offset;
+            long days = local / MILLIS_PER_DAY;
+            if (local % MILLIS_PER_DAY < 0) {
+                days--;
+            }
+            int millisOfDay = (int) (local - days * MILLIS_PER_DAY);
+
+            // the civil date, see "chrono-Compatible Low-Level Date
+            // Algorithms" by Howard Hinnant
+            long z = days + 719468L;
+            long era = (z >= 0 ? z : z - 146096L) / 146097L;
+            int dayOfEra = (int) (z - era * 146097L);
+            int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524
+                    - dayOfEra / 146096) / 365;
+            int dayOfYear0 = dayOfEra - (365 * yearOfEra + yearOfEra / 4
+                    - yearOfEra / 100);
+            int mp = (5 * dayOfYear0 + 2) / 153;
+            int day = dayOfYear0 - (153 * mp + 2) / 5 + 1;
+            int month = mp < 10 ? mp + 3 : mp - 9;
+            int year = (int) (yearOfEra + era * 400L) + (month <= 2 ? 1 : 0);
+            boolean leap = year % 4 == 0
+                    && (year % 100 != 0 || year % 400 == 0);
+            int dayOfYear = DAYS_BEFORE_MONTH[month - 1] + day
+                    + (leap && month > 2 ? 1 : 0);
+            int dayOfWeek = (int) ((days + 4L) % 7L);  // 0 is Sunday
+            if (dayOfWeek < 0) {
+                dayOfWeek += 7;
+            }
+            int hour = millisOfDay / 3600000;
+
+            // the result is built in an array and appended in one step,
+            // since each append to a StringBuffer is synchronized
+            char[] out = new char[this.capacity];
+            int n = 0;
+            int fieldStart = 0;
+            int fieldEnd = 0;
+            for (int i = 0; i < this.letters.length; i++) {
+                char letter = this.letters[i];
+                int count = this.counts[i];
+                int start = n;
+                switch (letter) {
+                    case 0:
+                        n = put(this.literals[i], out, n);
+                        break;
+                    case 'y':
+                        if (count == 2) {
+                            n = putNumber(year % 100, 2, out, n);
+                        }
+                        else {
+                            n = putNumber(year, count, out, n);
+                        }
+                        break;
+                    case 'M':
+                        if (count >= 4) {
+                            n = put(this.months[month - 1], out, n);
+                        }
+                        else if (count == 3) {
+                            n = put(this.shortMonths[month - 1], out, n);
+                        }
+                        else {
+                            n = putNumber(month, count, out, n);
+                        }
+                        break;
+                    case 'd':
+                        n = putNumber(day, count, out, n);
+                        break;
+                    case 'D':
+                        n = putNumber(dayOfYear, count, out, n);
+                        break;
+                    case 'E':
+                        n = put(count >= 4 ? this.weekdays[dayOfWeek + 1]
+                                : this.shortWeekdays[dayOfWeek + 1], out, n);
+                        break;
+                    case 'F':
+                        n = putNumber((day - 1) / 7 + 1, count, out, n);
+                        break;
+                    case 'u':
+                        n = putNumber(dayOfWeek == 0 ? 7 : dayOfWeek, count,
+                                out, n);
+                        break;
+                    case 'a':
+                        n = put(this.amPmStrings[hour < 12 ? 0 : 1], out, n);
+                        break;
+                    case 'H':
+                        n = putNumber(hour, count, out, n);
+                        break;
+                    case 'k':
+                        n = putNumber(hour == 0 ? 24 : hour, count, out, n);
+                        break;
+                    case 'K':
+                        n = putNumber(hour % 12, count, out, n);
+                        break;
+                    case 'h':
+                        n = putNumber(hour % 12 == 0 ? 12 : hour % 12, count,
+                                out, n);
+                        break;
+                    case 'm':
+                        n = putNumber(millisOfDay / 60000 % 60, count, out, n);
+                        break;
+                    case 's':
+                        n = putNumber(millisOfDay / 1000 % 60, count, out, n);
+                        break;
+                    case 'S':
+                        n = putNumber(millisOfDay % 1000, count, out, n);
+                        break;
+                    case 'Z':
+                        // RFC 822 time zone, always with ASCII digits
+                        int minutes = offset / 60000;
+                        out[n++] = minutes < 0 ? '-' : '+';
+                        minutes = Math.abs(minutes);
+                        int value = minutes / 60 * 100 + minutes % 60;
+                        for (int d = 1000; d > 0; d = d / 10) {
+                            out[n++] = (char) ('0' + value / d % 10);
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected letter.");
+                }
+                if (letter != 0 && fieldEnd == 0 && n > start
+                        && pos.getField() == FIELD_IDS[
+                        LETTERS.indexOf(letter)]) {
+                    fieldStart = start;
+                    fieldEnd = n;
+                }
+            }
+            int start = buffer.length();
+            buffer.append(out, 0, n);
+            if (fieldEnd > 0) {
+                pos.setBeginIndex(start + fieldStart);
+                pos.setEndIndex(start + fieldEnd);
+            }
+            else {
+                pos.setBeginIndex(0);
+                pos.setEndIndex(0);
+            }
+        }
+
+        /**
+         * Copies a string into an array.
+         *
+         * @param text  the string.
+         * @param out  the array.
+         * @param n  the index of the first character to write.
+         *
+         * @return The index following the last character written.
+         */
+        private static int put(String text, char[] out, int n) {
+            text.getChars(0, text.length(), out, n);
+            return n + text.length();
+        }
+
+        /**
+         * Writes a number to an array, padded with zeros to the specified
+         * number of digits.
+         *
+         * @param value  the value (not negative).
+         * @param minDigits  the minimum number of digits.
+         * @param out  the array.
+         * @param n  the index of the first character to write.
+         *
+         * @return The index following the last character written.
+         */
+        private int putNumber(int value, int minDigits, char[] out, int n) {
+            int digits = 1;
+            int unit = 1;
+            while (value / unit >= 10) {
+                unit = unit * 10;
+                digits++;
+            }
+            for (int i = digits; i < minDigits; i++) {
+                out[n++] = this.zero;
+            }
+            while (unit > 0) {
+                out[n++] = (char) (this.zero + value / unit % 10);
+                unit = unit / 10;
+            }
+            return n;
+        }
+
+    }
+
+}
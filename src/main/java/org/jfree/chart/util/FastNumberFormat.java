@@ -0,0 +1,807 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * FastNumberFormat.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added serialVersionUID (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.Serializable;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Currency;
+
+/**
+ * A number formatter that gives the same results as a
+ * <code>DecimalFormat</code>, but formats most values using simple integer
+ * arithmetic instead of the general purpose code in the JDK.  Values that
+ * can't be formatted this way (for example, values that lie so close to a
+ * rounding boundary that the result depends on the exact binary value, or
+ * values that are too large) are passed to the underlying formatter, as are
+ * formatters using features that aren't supported (currencies, multipliers,
+ * rounding modes other than <code>HALF_EVEN</code> and so on).  Plain
+ * decimal patterns (such as <code>"#,##0.00"</code>) and scientific patterns
+ * with a fixed number of integer digits (such as <code>"0.0E0"</code>) are
+ * supported.
+ * <P>
+ * Unlike <code>DecimalFormat</code>, an instance of this class can be shared
+ * by several threads, provided that its attributes are not changed while it
+ * is in use.  The standard tick units created by {@link
+ * org.jfree.chart.axis.NumberAxis} use this class.
+ */
+public class FastNumberFormat extends NumberFormat {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4688492986495084121L;
+
+    /** Powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Scaled values must be less than this (2^52), so that the ulp is
+     * small enough for the rounding to be decided.
+     */
+    private static final double MAX_SCALED = 4503599627370496.0;
+
+    /** The largest long value that can be converted to a double exactly. */
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    /** The underlying formatter. */
+    private NumberFormat format;
+
+    /**
+     * The layout used to format values without the underlying formatter
+     * (<code>null</code> if the formatter uses unsupported features).
+     */
+    private volatile Layout layout;
+
+    /**
+     * Creates a new formatter for the specified <code>DecimalFormat</code>
+     * pattern, using the symbols for the default locale.
+     *
+     * @param pattern  the pattern (<code>null</code> not permitted).
+     */
+    public FastNumberFormat(String pattern) {
+        this(new DecimalFormat(pattern));
+    }
+
+    /**
+     * Creates a new formatter that gives the same results as the specified
+     * formatter.  If the formatter is not a <code>DecimalFormat</code>, all
+     * values are formatted by (a copy of) the formatter.
+     *
+     * @param format  the formatter (<code>null</code> not permitted, a copy
+     *     is made so later changes to the formatter have no effect).
+     */
+    public FastNumberFormat(NumberFormat format) {
+        ParamChecks.nullNotPermitted(format, "format");
+        this.format = (NumberFormat) format.clone();
+        this.layout = Layout.create(this.format);
+    }
+
+    /**
+     * Updates the layout after the underlying formatter has been changed.
+     * The caller should hold the lock on the formatter.
+     */
+    private void updateLayout() {
+        this.layout = Layout.create(this.format);
+    }
+
+    /**
+     * Returns <code>true</code> if grouping is used.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isGroupingUsed() {
+        return this.format.isGroupingUsed();
+    }
+
+    /**
+     * Sets the flag that controls whether or not grouping is used.
+     *
+     * @param used  the new flag value.
+     */
+    @Override
+    public void setGroupingUsed(boolean used) {
+        synchronized (this.format) {
+            this.format.setGroupingUsed(used);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the maximum number of integer digits.
+     *
+     * @return The maximum number of integer digits.
+     */
+    @Override
+    public int getMaximumIntegerDigits() {
+        return this.format.getMaximumIntegerDigits();
+    }
+
+    /**
+     * Sets the maximum number of integer digits.
+     *
+     * @param digits  the number of digits.
+     */
+    @Override
+    public void setMaximumIntegerDigits(int digits) {
+        synchronized (this.format) {
+            this.format.setMaximumIntegerDigits(digits);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the minimum number of integer digits.
+     *
+     * @return The minimum number of integer digits.
+     */
+    @Override
+    public int getMinimumIntegerDigits() {
+        return this.format.getMinimumIntegerDigits();
+    }
+
+    /**
+     * Sets the minimum number of integer digits.
+     *
+     * @param digits  the number of digits.
+     */
+    @Override
+    public void setMinimumIntegerDigits(int digits) {
+        synchronized (this.format) {
+            this.format.setMinimumIntegerDigits(digits);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the maximum number of fraction digits.
+     *
+     * @return The maximum number of fraction digits.
+     */
+    @Override
+    public int getMaximumFractionDigits() {
+        return this.format.getMaximumFractionDigits();
+    }
+
+    /**
+     * Sets the maximum number of fraction digits.
+     *
+     * @param digits  the number of digits.
+     */
+    @Override
+    public void setMaximumFractionDigits(int digits) {
+        synchronized (this.format) {
+            this.format.setMaximumFractionDigits(digits);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the minimum number of fraction digits.
+     *
+     * @return The minimum number of fraction digits.
+     */
+    @Override
+    public int getMinimumFractionDigits() {
+        return this.format.getMinimumFractionDigits();
+    }
+
+    /**
+     * Sets the minimum number of fraction digits.
+     *
+     * @param digits  the number of digits.
+     */
+    @Override
+    public void setMinimumFractionDigits(int digits) {
+        synchronized (this.format) {
+            this.format.setMinimumFractionDigits(digits);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the currency used by the underlying formatter.
+     *
+     * @return The currency.
+     */
+    @Override
+    public Currency getCurrency() {
+        return this.format.getCurrency();
+    }
+
+    /**
+     * Sets the currency used by the underlying formatter.
+     *
+     * @param currency  the currency.
+     */
+    @Override
+    public void setCurrency(Currency currency) {
+        synchronized (this.format) {
+            this.format.setCurrency(currency);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns the rounding mode.
+     *
+     * @return The rounding mode.
+     */
+    @Override
+    public RoundingMode getRoundingMode() {
+        return this.format.getRoundingMode();
+    }
+
+    /**
+     * Sets the rounding mode.
+     *
+     * @param mode  the rounding mode.
+     */
+    @Override
+    public void setRoundingMode(RoundingMode mode) {
+        synchronized (this.format) {
+            this.format.setRoundingMode(mode);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if only integers are parsed.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isParseIntegerOnly() {
+        return this.format.isParseIntegerOnly();
+    }
+
+    /**
+     * Sets the flag that controls whether only integers are parsed.
+     *
+     * @param value  the new flag value.
+     */
+    @Override
+    public void setParseIntegerOnly(boolean value) {
+        synchronized (this.format) {
+            this.format.setParseIntegerOnly(value);
+            updateLayout();
+        }
+    }
+
+    /**
+     * Formats a number and appends the result to a buffer.
+     *
+     * @param number  the number.
+     * @param toAppendTo  the buffer to append to.
+     * @param pos  the field position.
+     *
+     * @return The buffer.
+     */
+    @Override
+    public StringBuffer format(double number, StringBuffer toAppendTo,
+            FieldPosition pos) {
+        Layout l = this.layout;
+        if (l == null || pos.getFieldAttribute() != null
+                || Double.isNaN(number) || Double.isInfinite(number)
+                || !l.format(number, toAppendTo, pos)) {
+            synchronized (this.format) {
+                return this.format.format(number, toAppendTo, pos);
+            }
+        }
+        return toAppendTo;
+    }
+
+    /**
+     * Formats a number and appends the result to a buffer.
+     *
+     * @param number  the number.
+     * @param toAppendTo  the buffer to append to.
+     * @param pos  the field position.
+     *
+     * @return The buffer.
+     */
+    @Override
+    public StringBuffer format(long number, StringBuffer toAppendTo,
+            FieldPosition pos) {
+        Layout l = this.layout;
+        if (l == null || pos.getFieldAttribute() != null
+                || number > MAX_EXACT_LONG || number < -MAX_EXACT_LONG
+                || !l.format(number, toAppendTo, pos)) {
+            synchronized (this.format) {
+                return this.format.format(number, toAppendTo, pos);
+            }
+        }
+        return toAppendTo;
+    }
+
+    /**
+     * Parses a number using the underlying formatter.
+     *
+     * @param source  the string to parse.
+     * @param parsePosition  the parse position.
+     *
+     * @return The number (possibly <code>null</code>).
+     */
+    @Override
+    public Number parse(String source, ParsePosition parsePosition) {
+        synchronized (this.format) {
+            return this.format.parse(source, parsePosition);
+        }
+    }
+
+    /**
+     * Tests this formatter for equality with an arbitrary object.  Two
+     * instances are equal if their underlying formatters are equal.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof FastNumberFormat)) {
+            return false;
+        }
+        FastNumberFormat that = (FastNumberFormat) obj;
+        return this.format.equals(that.format);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.format.hashCode();
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     */
+    @Override
+    public Object clone() {
+        FastNumberFormat clone = (FastNumberFormat) super.clone();
+        synchronized (this.format) {
+            clone.format = (NumberFormat) this.format.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * The layout of a <code>DecimalFormat</code>, that is, everything needed
+     * to format a value the same way.  Instances are immutable.
+     */
+    private static final class Layout implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -389388948293501331L;
+
+        /** The values used to check a new layout. */
+        private static final double[] PROBES = {0.0, -0.0123456, 0.987654,
+                -1234567.891, 76543.21};
+
+        /** Is the value shown in scientific notation? */
+        private final boolean exponential;
+
+        /** The minimum number of integer digits. */
+        private final int minIntDigits;
+
+        /** The minimum number of fraction digits. */
+        private final int minFractionDigits;
+
+        /** The maximum number of fraction digits. */
+        private final int maxFractionDigits;
+
+        /** The grouping size (zero if grouping is not used). */
+        private final int groupingSize;
+
+        /** The minimum number of exponent digits. */
+        private final int minExponentDigits;
+
+        /** The zero digit. */
+        private final char zero;
+
+        /** The grouping separator. */
+        private final char groupingSeparator;
+
+        /** The decimal separator. */
+        private final char decimalSeparator;
+
+        /** The minus sign (used for negative exponents). */
+        private final char minusSign;
+
+        /** The exponent separator. */
+        private final String exponentSeparator;
+
+        /** The positive prefix. */
+        private final String positivePrefix;
+
+        /** The positive suffix. */
+        private final String positiveSuffix;
+
+        /** The negative prefix. */
+        private final String negativePrefix;
+
+        /** The negative suffix. */
+        private final String negativeSuffix;
+
+        /** The maximum length of a formatted value. */
+        private final int capacity;
+
+        /**
+         * Creates a new layout.
+         *
+         * @param format  the formatter.
+         * @param exponential  is the value shown in scientific notation?
+         * @param minExponentDigits  the minimum number of exponent digits.
+         */
+        private Layout(DecimalFormat format, boolean exponential,
+                int minExponentDigits) {
+            DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+            this.exponential = exponential;
+            this.minIntDigits = format.getMinimumIntegerDigits();
+            this.minFractionDigits = format.getMinimumFractionDigits();
+            this.maxFractionDigits = format.getMaximumFractionDigits();
+            this.groupingSize = format.isGroupingUsed()
+                    ? format.getGroupingSize() : 0;
+            this.minExponentDigits = minExponentDigits;
+            this.zero = symbols.getZeroDigit();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.minusSign = symbols.getMinusSign();
+            this.exponentSeparator = symbols.getExponentSeparator();
+            this.positivePrefix = format.getPositivePrefix();
+            this.positiveSuffix = format.getPositiveSuffix();
+            this.negativePrefix = format.getNegativePrefix();
+            this.negativeSuffix = format.getNegativeSuffix();
+            // at most 17 significant digits, plus padding, grouping
+            // separators, the decimal separator and the exponent
+            this.capacity = Math.max(this.positivePrefix.length(),
+                    this.negativePrefix.length())
+                    + Math.max(this.positiveSuffix.length(),
+                    this.negativeSuffix.length())
+                    + 2 * Math.max(this.minIntDigits, 17) + 1
+                    + this.maxFractionDigits + this.exponentSeparator.length()
+                    + 1 + Math.max(this.minExponentDigits, 3);
+        }
+
+        /**
+         * Creates the layout for a formatter.
+         *
+         * @param format  the formatter.
+         *
+         * @return The layout, or <code>null</code> if the formatter uses
+         *     features that aren't supported.
+         */
+        static Layout create(NumberFormat format) {
+            if (!(format instanceof DecimalFormat)) {
+                return null;
+            }
+            DecimalFormat df = (DecimalFormat) format;
+            if (df.getMultiplier() != 1 || df.isDecimalSeparatorAlwaysShown()
+                    || df.getRoundingMode() != RoundingMode.HALF_EVEN
+                    || df.getMaximumFractionDigits() > 22
+                    || df.getMinimumIntegerDigits() > 40) {
+                return null;
+            }
+            String pattern = df.toPattern();
+            boolean quoted = false;
+            int exponentDigits = -1;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                }
+                else if (quoted) {
+                    continue;
+                }
+                else if (c == '\u00A4') {
+                    return null;  // currency format
+                }
+                else if (c == ';') {
+                    break;
+                }
+                else if (c == 'E' && exponentDigits < 0) {
+                    exponentDigits = 0;
+                }
+                else if (c == '0' && exponentDigits >= 0) {
+                    exponentDigits++;
+                }
+            }
+            if (exponentDigits < 0) {
+                // the integer part is never truncated for a double
+                if (df.getMaximumIntegerDigits() < 309) {
+                    return null;
+                }
+                return verify(new Layout(df, false, 0), df);
+            }
+            int intDigits = df.getMinimumIntegerDigits();
+            if (intDigits < 1 || intDigits != df.getMaximumIntegerDigits()
+                    || intDigits + df.getMaximumFractionDigits() > 15
+                    || (df.isGroupingUsed() && df.getGroupingSize() > 0)) {
+                return null;
+            }
+            return verify(new Layout(df, true, exponentDigits), df);
+        }
+
+        /**
+         * Checks that a layout gives the same results as the formatter for
+         * a few values.  This guards against symbols that can't be read from
+         * the formatter (in some locales the minus sign used in the exponent
+         * is more than one character, for example).
+         *
+         * @param layout  the layout.
+         * @param format  the formatter.
+         *
+         * @return The layout, or <code>null</code> if the results differ.
+         */
+        private static Layout verify(Layout layout, DecimalFormat format) {
+            for (int i = 0; i < PROBES.length; i++) {
+                StringBuffer buffer = new StringBuffer();
+                FieldPosition pos = new FieldPosition(0);
+                if (layout.format(PROBES[i], buffer, pos) && !buffer.toString()
+                        .equals(format.format(PROBES[i]))) {
+                    return null;
+                }
+            }
+            return layout;
+        }
+
+        /**
+         * Formats a value and appends the result to a buffer, unless the
+         * value can't be formatted exactly with this layout.
+         *
+         * @param value  the value (not NaN or infinite).
+         * @param buffer  the buffer.
+         * @param pos  the field position.
+         *
+         * @return <code>true</code> if the value was formatted, and
+         *     <code>false</code> if it must be formatted by the underlying
+         *     formatter (nothing is appended in that case).
+         */
+        boolean format(double value, StringBuffer buffer, FieldPosition pos) {
+            boolean negative = value < 0.0
+                    || (value == 0.0 && 1.0 / value < 0.0);
+            double a = Math.abs(value);
+            long digits;
+            int scale;  // the number of digits after the decimal point
+            int exponent = 0;
+            if (this.exponential) {
+                int significant = this.minIntDigits + this.maxFractionDigits;
+                scale = significant - this.minIntDigits;
+                if (a == 0.0) {
+                    digits = 0L;
+                }
+                else {
+                    int e = (int) Math.floor(Math.log10(a));
+                    double s = scale(a, significant - 1 - e);
+                    if (s < POWERS_OF_TEN[significant - 1]) {
+                        e--;
+                        s = scale(a, significant - 1 - e);
+                    }
+                    else if (s >= POWERS_OF_TEN[significant]) {
+                        e++;
+                        s = scale(a, significant - 1 - e);
+                    }
+                    digits = round(s);
+                    if (digits < 0L) {
+                        return false;
+                    }
+                    if (digits == (long) POWERS_OF_TEN[significant]) {
+                        digits = digits / 10L;
+                        e++;
+                    }
+                    exponent = e - (this.minIntDigits - 1);
+                }
+            }
+            else {
+                scale = this.maxFractionDigits;
+                digits = round(a * POWERS_OF_TEN[scale]);
+                if (digits < 0L) {
+                    return false;
+                }
+            }
+
+            // drop the trailing zeros that aren't required
+            while (scale > this.minFractionDigits && digits % 10L == 0L) {
+                digits = digits / 10L;
+                scale--;
+            }
+            long unit = (long) POWERS_OF_TEN[scale];
+            long integer = digits / unit;
+            long fraction = digits % unit;
+
+            // the result is built in an array and appended in one step,
+            // since each append to a StringBuffer is synchronized
+            char[] out = new char[this.capacity];
+            int n = put(negative ? this.negativePrefix : this.positivePrefix,
+                    out, 0);
+            int integerStart = n;
+            int count = Math.max(digitCount(integer), this.minIntDigits);
+            for (int i = count - 1; i >= 0; i--) {
+                out[n++] = digit(integer, i);
+                if (this.groupingSize > 0 && i > 0
+                        && i % this.groupingSize == 0) {
+                    out[n++] = this.groupingSeparator;
+                }
+            }
+            if (count == 0 && scale == 0) {
+                out[n++] = this.zero;
+            }
+            int integerEnd = n;
+            if (scale > 0) {
+                out[n++] = this.decimalSeparator;
+            }
+            int fractionStart = n;
+            for (int i = scale - 1; i >= 0; i--) {
+                out[n++] = digit(fraction, i);
+            }
+            int fractionEnd = n;
+            if (this.exponential) {
+                n = put(this.exponentSeparator, out, n);
+                if (exponent < 0) {
+                    out[n++] = this.minusSign;
+                }
+                long e = Math.abs(exponent);
+                count = Math.max(digitCount(e), this.minExponentDigits);
+                for (int i = count - 1; i >= 0; i--) {
+                    out[n++] = digit(e, i);
+                }
+            }
+            n = put(negative ? this.negativeSuffix : this.positiveSuffix,
+                    out, n);
+
+            int start = buffer.length();
+            buffer.append(out, 0, n);
+            if (pos.getField() == NumberFormat.INTEGER_FIELD) {
+                pos.setBeginIndex(start + integerStart);
+                pos.setEndIndex(start + integerEnd);
+            }
+            else if (pos.getField() == NumberFormat.FRACTION_FIELD) {
+                pos.setBeginIndex(start + fractionStart);
+                pos.setEndIndex(start + fractionEnd);
+            }
+            return true;
+        }
+
+        /**
+         * Multiplies a value by a power of ten, with a single rounding
+         * error.
+         *
+         * @param a  the value.
+         * @param power  the power.
+         *
+         * @return The scaled value, or <code>NaN</code> if the power of ten
+         *     can't be represented exactly.
+         */
+        private static double scale(double a, int power) {
+            if (power >= 0 && power < POWERS_OF_TEN.length) {
+                return a * POWERS_OF_TEN[power];
+            }
+            if (power < 0 && -power < POWERS_OF_TEN.length) {
+                return a / POWERS_OF_TEN[-power];
+            }
+            return Double.NaN;
+        }
+
+        /**
+         * Rounds a scaled value to the nearest integer (with ties to even),
+         * provided that the result is the same for the exact product that
+         * the scaled value approximates.
+         *
+         * @param s  the scaled value (not negative).
+         *
+         * @return The rounded value, or -1 if the value is too large or too
+         *     close to a rounding boundary.
+         */
+        private static long round(double s) {
+            if (!(s < MAX_SCALED)) {
+                return -1L;
+            }
+            double floor = Math.floor(s);
+            double fraction = s - floor;
+            if (Math.abs(fraction - 0.5) <= Math.ulp(s)) {
+                return -1L;
+            }
+            return (long) floor + (fraction > 0.5 ? 1L : 0L);
+        }
+
+        /**
+         * Copies a string into an array.
+         *
+         * @param text  the string.
+         * @param out  the array.
+         * @param n  the index of the first character to write.
+         *
+         * @return The index following the last character written.
+         */
+        private static int put(String text, char[] out, int n) {
+            text.getChars(0, text.length(), out, n);
+            return n + text.length();
+        }
+
+        /**
+         * Returns the number of decimal digits in a value (zero for zero).
+         *
+         * @param value  the value (not negative).
+         *
+         * @return The number of digits.
+         */
+        private static int digitCount(long value) {
+            int result = 0;
+            while (value > 0L) {
+                value = value / 10L;
+                result++;
+            }
+            return result;
+        }
+
+        /**
+         * Returns one digit of a value.
+         *
+         * @param value  the value (not negative).
+         * @param index  the digit index (zero for the units).
+         *
+         * @return The digit, using this layout's zero digit.
+         */
+        private char digit(long value, int index) {
+            if (index > 18) {
+                return this.zero;
+            }
+            long d = value / (long) POWERS_OF_TEN[index];
+            return (char) (this.zero + (int) (d % 10L));
+        }
+
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -27,7 +27,7 @@
  * --------------
  * LogFormat.java
  * --------------
- * (C) Copyright 2007-2009, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2007-2026, by Object Refinery Limited and Contributors.
  *
  * Original Author:  David Gilbert (for Object Refinery Limited);
  * Contributor(s):   -;
@@ -39,12 +39,13 @@
  *               attribute as per Feature Request 1886036 (DG);
  * 14-Jan-2009 : Added default constructor, and accessor methods for
  *               exponent formatter (DG);
+ * 16-Oct-2026 : Append to the supplied buffer, and use FastNumberFormat for
+ *               the exponent by default (agent);
  *
  */
 
 package org.jfree.chart.util;
 
-import java.text.DecimalFormat;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
@@ -77,7 +78,7 @@ public class LogFormat extends NumberFormat {
     private boolean showBase;
 
     /** The number formatter for the exponent. */
-    private NumberFormat formatter = new DecimalFormat("0.0#");
+    private NumberFormat formatter = new FastNumberFormat("0.0#");
 
     /**
      * Creates a new instance using base 10.
@@ -167,42 +168,33 @@ public class LogFormat extends NumberFormat {
      *
      * @param number  the number.
      * @param toAppendTo  the string buffer to append to.
-     * @param pos  the position.
+     * @param pos  the field position (passed to the exponent formatter).
      *
-     * @return A string buffer containing the formatted value.
+     * @return The string buffer.
      */
     @Override
     public StringBuffer format(double number, StringBuffer toAppendTo,
             FieldPosition pos) {
-        StringBuffer result = new StringBuffer();
         if (this.showBase) {
-            result.append(this.baseLabel);
-            result.append(this.powerLabel);
+            toAppendTo.append(this.baseLabel);
+            toAppendTo.append(this.powerLabel);
         }
-        result.append(this.formatter.format(calculateLog(number)));
-        return result;
+        return this.formatter.format(calculateLog(number), toAppendTo, pos);
     }
 
     /**
-     * Formats the specified number as a hexadecimal string.  The decimal
-     * fraction is ignored.
+     * Returns a formatted representation of the specified number.
      *
      * @param number  the number to format.
-     * @param toAppendTo  the buffer to append to (ignored here).
-     * @param pos  the field position (ignored here).
+     * @param toAppendTo  the buffer to append to.
+     * @param pos  the field position (passed to the exponent formatter).
      *
      * @return The string buffer.
      */
     @Override
     public StringBuffer format(long number, StringBuffer toAppendTo,
             FieldPosition pos) {
-        StringBuffer result = new StringBuffer();
-        if (this.showBase) {
-            result.append(this.baseLabel);
-            result.append(this.powerLabel);
-        }
-        result.append(this.formatter.format(calculateLog(number)));
-        return result;
+        return format((double) number, toAppendTo, pos);
     }
 
     /**
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -44,6 +44,9 @@
  * 08-Mar-2007 : Implemented clone() (DG);
  * 09-May-2008 : Implemented PublicCloneable (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added concurrent mode (agent);
+ * 16-Oct-2026 : Implement NotifyingDataset, so the bounds are cached (agent);
+ * 16-Oct-2026 : Implement SnapshotSource (agent);
  *
  */
 
@@ -57,12 +60,16 @@ import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.NotifyingDataset;
+import org.jfree.data.general.SnapshotSource;
 
 /**
  * A default implementation of the {@link CategoryDataset} interface.
  */
 public class DefaultCategoryDataset extends AbstractDataset
-        implements CategoryDataset, PublicCloneable, Serializable {
+        implements CategoryDataset, NotifyingDataset, SnapshotSource,
+        PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -8168173757291644622L;
@@ -77,6 +84,17 @@ public class DefaultCategoryDataset extends AbstractDataset
         this.data = new DefaultKeyedValues2D();
     }
 
+    /**
+     * Returns the data that the current thread should read: in concurrent
+     * mode, this is the snapshot pinned by the thread (if any).
+     *
+     * @return The data.
+     */
+    private DefaultKeyedValues2D readData() {
+        DefaultKeyedValues2D snapshot = (DefaultKeyedValues2D) getSnapshot();
+        return snapshot != null ? snapshot : this.data;
+    }
+
     /**
      * Returns the number of rows in the table.
      *
@@ -86,7 +104,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public int getRowCount() {
-        return this.data.getRowCount();
+        return readData().getRowCount();
     }
 
     /**
@@ -98,7 +116,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public int getColumnCount() {
-        return this.data.getColumnCount();
+        return readData().getColumnCount();
     }
 
     /**
@@ -114,7 +132,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public Number getValue(int row, int column) {
-        return this.data.getValue(row, column);
+        return readData().getValue(row, column);
     }
 
     /**
@@ -130,7 +148,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public Comparable getRowKey(int row) {
-        return this.data.getRowKey(row);
+        return readData().getRowKey(row);
     }
 
     /**
@@ -145,7 +163,7 @@ public class DefaultCategoryDataset extends AbstractDataset
     @Override
     public int getRowIndex(Comparable key) {
         // defer null argument check
-        return this.data.getRowIndex(key);
+        return readData().getRowIndex(key);
     }
 
     /**
@@ -157,7 +175,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public List<Comparable> getRowKeys() {
-        return this.data.getRowKeys();
+        return readData().getRowKeys();
     }
 
     /**
@@ -171,7 +189,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public Comparable getColumnKey(int column) {
-        return this.data.getColumnKey(column);
+        return readData().getColumnKey(column);
     }
 
     /**
@@ -186,7 +204,7 @@ public class DefaultCategoryDataset extends AbstractDataset
     @Override
     public int getColumnIndex(Comparable key) {
         // defer null argument check
-        return this.data.getColumnIndex(key);
+        return readData().getColumnIndex(key);
     }
 
     /**
@@ -198,7 +216,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public List<Comparable> getColumnKeys() {
-        return this.data.getColumnKeys();
+        return readData().getColumnKeys();
     }
 
     /**
@@ -215,7 +233,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     @Override
     public Number getValue(Comparable rowKey, Comparable columnKey) {
-        return this.data.getValue(rowKey, columnKey);
+        return readData().getValue(rowKey, columnKey);
     }
 
     /**
@@ -293,7 +311,7 @@ public class DefaultCategoryDataset extends AbstractDataset
                                Comparable rowKey,
                                Comparable columnKey) {
         double existing = 0.0;
-        Number n = getValue(rowKey, columnKey);
+        Number n = this.data.getValue(rowKey, columnKey);
         if (n != null) {
             existing = n.doubleValue();
         }
@@ -429,6 +447,41 @@ public class DefaultCategoryDataset extends AbstractDataset
         return this.data.hashCode();
     }
 
+    /**
+     * Switches concurrent mode on or off.  In concurrent mode, a thread
+     * holding a {@link org.jfree.data.general.SnapshotPin} (for example, a
+     * thread drawing a chart) reads an immutable snapshot of the data, so
+     * the dataset can be updated in another thread at the same time.  Each
+     * change copies the data, so in concurrent mode changes should be
+     * grouped with {@link #beginBatch()} where possible.
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @see #isConcurrent()
+     */
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        super.setConcurrent(concurrent);
+    }
+
+    /**
+     * Creates a snapshot of the data, for concurrent mode.
+     *
+     * @param previous  the previous snapshot (ignored).
+     * @param info  a description of the changes (ignored).
+     *
+     * @return The snapshot.
+     */
+    @Override
+    public Object createSnapshot(Object previous, DatasetChangeInfo info) {
+        try {
+            return this.data.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Returns a clone of the dataset.
      *
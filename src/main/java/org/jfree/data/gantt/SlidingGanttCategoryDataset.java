@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -36,11 +36,14 @@
  * -------
  * 09-May-2008 : Version 1 (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Pass on changes to the underlying dataset (agent);
  *
  */
 
 package org.jfree.data.gantt;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,17 +51,19 @@ import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
 
 /**
  * A {@link GanttCategoryDataset} implementation that presents a subset of the
  * categories in an underlying dataset.  The index of the first "visible"
  * category can be modified, which provides a means of "sliding" through
- * the categories in the underlying dataset.
+ * the categories in the underlying dataset.  Changes to the underlying
+ * dataset are passed on to the listeners registered with this dataset.
  *
  * @since 1.0.10
  */
 public class SlidingGanttCategoryDataset extends AbstractDataset
-        implements GanttCategoryDataset {
+        implements GanttCategoryDataset, DatasetChangeListener {
 
     /** The underlying dataset. */
     private GanttCategoryDataset underlying;
@@ -83,6 +88,7 @@ public class SlidingGanttCategoryDataset extends AbstractDataset
         this.underlying = underlying;
         this.firstCategoryIndex = firstColumn;
         this.maximumCategoryCount = maxColumns;
+        this.underlying.addChangeListener(this);
     }
 
     /**
@@ -632,7 +638,33 @@ public class SlidingGanttCategoryDataset extends AbstractDataset
             PublicCloneable pc = (PublicCloneable) this.underlying;
             clone.underlying = (GanttCategoryDataset) pc.clone();
         }
+        clone.underlying.addChangeListener(clone);
         return clone;
     }
 
+    /**
+     * Receives a change event from the underlying dataset and responds by
+     * firing a change event for this dataset.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        fireDatasetChanged();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.underlying.addChangeListener(this);
+    }
+
 }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2011, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -52,6 +52,12 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 16-Oct-2026 : Added a cache for the bounds found by DatasetUtilities (agent);
+ * 16-Oct-2026 : Update the bounds cache from the change info, if any (agent);
+ * 16-Oct-2026 : Added beginBatch() (agent);
+ * 16-Oct-2026 : Added concurrent mode (agent);
+ * 16-Oct-2026 : Moved createSnapshot() to the SnapshotSource interface (agent);
+ * 16-Oct-2026 : Added getOldestSnapshot() (agent);
  *
  */
 
@@ -64,11 +70,14 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EventListener;
 import java.util.List;
 
 import javax.swing.event.EventListenerList;
 
+import org.jfree.data.xy.XYDataset;
+
 /**
  * An abstract implementation of the {@link Dataset} interface, containing a
  * mechanism for registering change listeners.
@@ -85,6 +94,33 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
+    /** The bounds cache (created on demand). */
+    private transient volatile DatasetBoundsCache boundsCache;
+
+    /** The number of open batches (see {@link #beginBatch()}). */
+    private transient int batchDepth;
+
+    /** A flag that indicates whether the dataset changed in a batch. */
+    private transient boolean batchChanged;
+
+    /**
+     * The indices of the series changed in a batch (<code>null</code> if
+     * not known).
+     */
+    private transient BitSet batchSeries;
+
+    /**
+     * A description of all the changes made in a batch (<code>null</code>
+     * if they can't be described by a single info).
+     */
+    private transient DatasetChangeInfo batchInfo;
+
+    /**
+     * The newest version of the data published in concurrent mode
+     * (<code>null</code> if the dataset is not in concurrent mode).
+     */
+    private transient volatile SnapshotPin.Version version;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -163,6 +199,216 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         return list.contains(listener);
     }
 
+    /**
+     * Starts a batch of changes to the dataset.  Until the batch is closed,
+     * the change events for the dataset (including those for changes to
+     * the series that belong to it) are held back, then a single event is
+     * sent to the registered listeners.  This makes loading or updating
+     * many items (in many series) much faster when the dataset is displayed
+     * in a chart.  Batches can be nested, see {@link DatasetBatch} for
+     * details.  Batches are not thread-safe, the changes must be made by
+     * the thread that starts and closes the batch.
+     *
+     * @return The batch (never <code>null</code>), which must be closed.
+     */
+    public DatasetBatch beginBatch() {
+        this.batchDepth++;
+        return new DatasetBatch(this);
+    }
+
+    /**
+     * Ends a batch of changes started with {@link #beginBatch()}.  When the
+     * outermost batch ends, if the dataset changed, a single event is sent
+     * to the registered listeners.
+     */
+    void endBatch() {
+        if (this.batchDepth == 0) {
+            return;
+        }
+        this.batchDepth--;
+        if (this.batchDepth > 0 || !this.batchChanged) {
+            return;
+        }
+        int[] changedSeries = null;
+        if (this.batchSeries != null) {
+            changedSeries = new int[this.batchSeries.cardinality()];
+            int i = 0;
+            for (int s = this.batchSeries.nextSetBit(0); s >= 0;
+                    s = this.batchSeries.nextSetBit(s + 1)) {
+                changedSeries[i++] = s;
+            }
+        }
+        DatasetChangeEvent event = new DatasetChangeEvent(this, this,
+                this.batchInfo, changedSeries);
+        this.batchChanged = false;
+        this.batchSeries = null;
+        this.batchInfo = null;
+        // the bounds cache was kept up to date during the batch
+        fireChangeEvent(event);
+    }
+
+    /**
+     * Records a change made during a batch.
+     *
+     * @param info  a description of the change (<code>null</code>
+     *     permitted).
+     */
+    private void recordBatchChange(DatasetChangeInfo info) {
+        if (!this.batchChanged) {
+            this.batchChanged = true;
+            this.batchInfo = info;
+            this.batchSeries = info == null ? null : new BitSet();
+        }
+        else {
+            this.batchInfo = merge(this.batchInfo, info);
+        }
+        if (info == null) {
+            this.batchSeries = null;
+        }
+        else if (this.batchSeries != null) {
+            this.batchSeries.set(info.getSeries());
+        }
+    }
+
+    /**
+     * Returns a single description of two successive changes, if there is
+     * one.  This is the case when items are appended to the end of a series,
+     * then more items are appended to the same series.
+     *
+     * @param info1  the first change (<code>null</code> permitted).
+     * @param info2  the second change (<code>null</code> permitted).
+     *
+     * @return A description of both changes (possibly <code>null</code>).
+     */
+    private static DatasetChangeInfo merge(DatasetChangeInfo info1,
+            DatasetChangeInfo info2) {
+        if (info1 == null || info2 == null
+                || info1.getSeries() != info2.getSeries()) {
+            return null;
+        }
+        SeriesChangeInfo change1 = info1.getSeriesChange();
+        SeriesChangeInfo change2 = info2.getSeriesChange();
+        if (!change1.isPureAppend() || !change2.isPureAppend()
+                || change2.getFirstItem() != change1.getLastItem() + 1) {
+            return null;
+        }
+        return new DatasetChangeInfo(info1.getSeries(), new SeriesChangeInfo(
+                SeriesChangeType.APPEND, change1.getFirstItem(),
+                change2.getLastItem()));
+    }
+
+    /**
+     * Returns <code>true</code> if the dataset is in concurrent mode, and
+     * <code>false</code> otherwise.  In concurrent mode, each time the
+     * dataset changes (or a batch of changes ends) an immutable snapshot of
+     * the data is published before the listeners are notified, and a thread
+     * holding a {@link SnapshotPin} (for example, a thread drawing a chart)
+     * reads the snapshot that was current when the pin was taken.  So the
+     * data can be updated by one thread while charts are drawn in others,
+     * without the drawing thread ever waiting or seeing a partly updated
+     * dataset.  Threads that don't hold a pin read the data directly, as
+     * usual.
+     *
+     * @return A boolean.
+     *
+     * @see #setConcurrent(boolean)
+     */
+    public boolean isConcurrent() {
+        return this.version != null;
+    }
+
+    /**
+     * Switches concurrent mode on or off (see {@link #isConcurrent()}).
+     * Subclasses that support concurrent mode implement
+     * {@link SnapshotSource} and make this method public.
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @throws UnsupportedOperationException if <code>concurrent</code> is
+     *     <code>true</code> and the dataset doesn't implement
+     *     {@link SnapshotSource}.
+     */
+    protected void setConcurrent(boolean concurrent) {
+        if (concurrent && !(this instanceof SnapshotSource)) {
+            throw new UnsupportedOperationException(
+                    "Concurrent mode requires a SnapshotSource.");
+        }
+        if (concurrent == isConcurrent()) {
+            return;
+        }
+        if (concurrent) {
+            this.version = publishSnapshot(null, null);
+        }
+        else {
+            this.version = null;
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current data (even if the current thread
+     * holds a pin) and publishes it as the newest version.
+     *
+     * @param previous  the previous version (<code>null</code> permitted).
+     * @param info  a description of the changes since the previous version
+     *     (<code>null</code> permitted).
+     *
+     * @return The new version.
+     */
+    private SnapshotPin.Version publishSnapshot(SnapshotPin.Version previous,
+            DatasetChangeInfo info) {
+        SnapshotPin pin = SnapshotPin.attach(null);
+        try {
+            Object snapshot = ((SnapshotSource) this).createSnapshot(
+                    previous == null ? null : previous.getSnapshot(), info);
+            return SnapshotPin.publish(snapshot, previous);
+        }
+        finally {
+            SnapshotPin.restore(pin);
+        }
+    }
+
+    /**
+     * Returns the snapshot that the current thread should read, in
+     * concurrent mode.
+     *
+     * @return The snapshot, or <code>null</code> if the current thread
+     *     should read the data directly (because the dataset is not in
+     *     concurrent mode, or the thread holds no {@link SnapshotPin}).
+     */
+    protected Object getSnapshot() {
+        SnapshotPin.Version v = this.version;
+        if (v == null) {
+            return null;
+        }
+        SnapshotPin pin = SnapshotPin.getCurrent();
+        if (pin == null) {
+            return null;
+        }
+        return pin.resolve(this, v);
+    }
+
+    /**
+     * Returns the oldest snapshot that a thread holding a
+     * {@link SnapshotPin} may still read, in concurrent mode.  A dataset
+     * whose snapshots share storage with the current data can use this to
+     * find out whether it is safe to overwrite that storage.
+     *
+     * @return The snapshot, or <code>null</code> if the dataset is not in
+     *     concurrent mode.
+     */
+    protected Object getOldestSnapshot() {
+        SnapshotPin.Version v = this.version;
+        if (v == null) {
+            return null;
+        }
+        SnapshotPin.Version previous = v.getPrevious();
+        while (previous != null) {
+            v = previous;
+            previous = v.getPrevious();
+        }
+        return v.getSnapshot();
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed.
      *
@@ -172,6 +418,20 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
+    /**
+     * Notifies all registered listeners that the dataset has changed, with a
+     * description of the change.
+     *
+     * @param info  a description of the change (<code>null</code>
+     *     permitted, in which case the listeners must assume that any part of
+     *     the dataset has changed).
+     *
+     * @see #addChangeListener(DatasetChangeListener)
+     */
+    protected void fireDatasetChanged(DatasetChangeInfo info) {
+        notifyListeners(new DatasetChangeEvent(this, this, info));
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed.
      *
@@ -183,6 +443,46 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     protected void notifyListeners(DatasetChangeEvent event) {
 
+        // update the bounds cache first, so that listeners never see bounds
+        // for the old data
+        DatasetBoundsCache cache = this.boundsCache;
+        if (cache != null) {
+            if (event.getInfo() != null && this instanceof XYDataset) {
+                // in concurrent mode, read the current data even if this
+                // thread holds a pin
+                SnapshotPin pin = isConcurrent() ? SnapshotPin.attach(null)
+                        : null;
+                try {
+                    cache.update((XYDataset) this, event.getInfo());
+                }
+                finally {
+                    if (pin != null) {
+                        SnapshotPin.restore(pin);
+                    }
+                }
+            }
+            else {
+                cache.invalidate();
+            }
+        }
+        if (this.batchDepth > 0) {
+            recordBatchChange(event.getInfo());
+            return;
+        }
+        fireChangeEvent(event);
+
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void fireChangeEvent(DatasetChangeEvent event) {
+        SnapshotPin.Version v = this.version;
+        if (v != null) {
+            this.version = publishSnapshot(v, event.getInfo());
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -190,7 +490,6 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
                         event);
             }
         }
-
     }
 
     /**
@@ -207,9 +506,28 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.boundsCache = null;
+        clone.batchDepth = 0;
+        clone.batchChanged = false;
+        clone.batchSeries = null;
+        clone.batchInfo = null;
+        clone.version = null;
         return clone;
     }
 
+    /**
+     * Returns the cache used by {@link DatasetUtilities} for the bounds
+     * that it finds by iterating over the data items.
+     *
+     * @return The cache (never <code>null</code>).
+     */
+    synchronized DatasetBoundsCache getBoundsCache() {
+        if (this.boundsCache == null) {
+            this.boundsCache = new DatasetBoundsCache();
+        }
+        return this.boundsCache;
+    }
+
     /**
      * Handles serialization.
      *
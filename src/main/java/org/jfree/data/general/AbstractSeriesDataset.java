@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 16-Oct-2026 : Pass on series change info (agent);
  *
  */
 
@@ -105,12 +106,38 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
     }
 
     /**
-     * Called when a series belonging to the dataset changes.
+     * Returns the index of the specified series in this dataset, so that a
+     * description of a change to the series can be passed on to the
+     * dataset's listeners.  A subclass should only return an index if the
+     * items in the dataset's series are exactly the items in the series, in
+     * the same order.  This default implementation returns <code>-1</code>.
+     *
+     * @param series  the series.
+     *
+     * @return The series index, or <code>-1</code>.
+     */
+    protected int indexOfChangedSeries(Series series) {
+        return -1;
+    }
+
+    /**
+     * Called when a series belonging to the dataset changes.  If the event
+     * describes the change and {@link #indexOfChangedSeries(Series)} returns
+     * an index for the series, the description is passed on in the dataset
+     * change event.
      *
      * @param event  information about the change.
      */
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
+        SeriesChangeInfo info = event.getInfo();
+        if (info != null && event.getSource() instanceof Series) {
+            int series = indexOfChangedSeries((Series) event.getSource());
+            if (series >= 0) {
+                fireDatasetChanged(new DatasetChangeInfo(series, info));
+                return;
+            }
+        }
         fireDatasetChanged();
     }
 
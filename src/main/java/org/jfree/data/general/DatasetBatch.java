@@ -0,0 +1,101 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * DatasetBatch.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A scope in which the change events for a dataset are held back, so that
+ * its listeners receive a single {@link DatasetChangeEvent} for all the
+ * changes made in the scope.  A batch is started with
+ * {@link AbstractDataset#beginBatch()} and should be used in a
+ * try-with-resources statement, for example:
+ * <pre>
+ * try (DatasetBatch batch = dataset.beginBatch()) {
+ *     series1.add(1.0, 2.0);
+ *     series2.add(1.0, 3.0);
+ * }
+ * </pre>
+ * Batches can be nested, the event is sent when the outermost batch is
+ * closed (and only if something changed).  The event lists the series
+ * that changed (see {@link DatasetChangeEvent#getChangedSeries()}), and
+ * describes the change if all the changes were appends to the end of a
+ * single series.
+ */
+public final class DatasetBatch implements AutoCloseable {
+
+    /** The dataset. */
+    private final AbstractDataset dataset;
+
+    /** A flag that indicates whether the batch has been closed. */
+    private boolean closed;
+
+    /**
+     * Creates a new batch for a dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     */
+    DatasetBatch(AbstractDataset dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * Returns the dataset that the batch belongs to.
+     *
+     * @return The dataset (never <code>null</code>).
+     */
+    public AbstractDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Closes the batch.  If this is the outermost open batch for the
+     * dataset and the dataset changed, a {@link DatasetChangeEvent} is sent
+     * to the registered listeners.  Closing a batch more than once has no
+     * further effect.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.dataset.endBatch();
+        }
+    }
+
+}
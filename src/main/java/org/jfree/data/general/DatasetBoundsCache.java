@@ -0,0 +1,375 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DatasetBoundsCache.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Extend the bounds when items are appended (agent);
+ * 16-Oct-2026 : Only used for datasets that implement NotifyingDataset
+ *               (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ObjectUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A cache of the data bounds calculated by iterating over the items in a
+ * dataset, used by {@link DatasetUtilities} so that repeated requests for
+ * the bounds of an unchanged dataset (for example, each time a chart is
+ * redrawn) do not require every item to be visited again.  Each
+ * {@link AbstractDataset} that implements {@link NotifyingDataset} holds
+ * its own cache, which is shared by all the plots that use the dataset, and
+ * which is cleared by the dataset before it notifies its listeners of a
+ * change.  If the change is described by a {@link DatasetChangeInfo} that
+ * shows items were only appended to one series of an {@link XYDataset}, the
+ * affected bounds are extended using just the new items instead.
+ */
+final class DatasetBoundsCache {
+
+    /** The maximum number of bounds cached. */
+    private static final int MAX_BOUNDS = 16;
+
+    /** Incremented each time the dataset changes. */
+    private int version;
+
+    /** The cached bounds, least recently used first. */
+    private final Map<Object, Bounds> bounds;
+
+    /**
+     * Creates a new empty cache.
+     */
+    DatasetBoundsCache() {
+        this.bounds = new LinkedHashMap<Object, Bounds>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Object, Bounds> eldest) {
+                return size() > MAX_BOUNDS;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached bounds for the specified key.
+     *
+     * @param key  the key that identifies the type of bounds (for example,
+     *     the domain bounds including only the visible series).  The key
+     *     must be immutable and implement <code>equals()</code>.
+     *
+     * @return The bounds (never <code>null</code>).  If
+     *     {@link Bounds#isCached()} returns <code>false</code>, the caller
+     *     should calculate the range, then call
+     *     {@link #put(Object, Bounds)}.
+     */
+    synchronized Bounds get(Object key) {
+        Bounds result = this.bounds.get(key);
+        if (result == null) {
+            // record the version, so that bounds calculated from a dataset
+            // that changes during the calculation are not cached
+            result = new Bounds(this.version);
+        }
+        return result;
+    }
+
+    /**
+     * Caches bounds.  If the dataset has changed since the bounds were
+     * requested from {@link #get(Object)}, the bounds are not cached.
+     *
+     * @param key  the key that identifies the type of bounds.
+     * @param bounds  the bounds returned by {@link #get(Object)}, updated
+     *     with the calculated range.
+     */
+    synchronized void put(Object key, Bounds bounds) {
+        if (bounds.version == this.version) {
+            bounds.cached = true;
+            this.bounds.put(key, bounds);
+        }
+    }
+
+    /**
+     * Discards all the cached bounds.  The dataset calls this method each
+     * time it changes.
+     */
+    synchronized void invalidate() {
+        this.version++;
+        this.bounds.clear();
+    }
+
+    /**
+     * Updates the cached bounds following a change to one series in the
+     * dataset.  Bounds that don't include the series are kept, bounds that
+     * do are extended if items were only appended to the series, and all
+     * other bounds are discarded.
+     *
+     * @param dataset  the dataset (after the change).
+     * @param info  a description of the change.
+     */
+    synchronized void update(XYDataset dataset, DatasetChangeInfo info) {
+        this.version++;
+        int series = info.getSeries();
+        SeriesChangeInfo change = info.getSeriesChange();
+        Comparable seriesKey = dataset.getSeriesKey(series);
+        Iterator<Map.Entry<Object, Bounds>> iterator
+                = this.bounds.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Bounds> entry = iterator.next();
+            if (!(entry.getKey() instanceof Key)) {
+                iterator.remove();
+                continue;
+            }
+            Key key = (Key) entry.getKey();
+            if (key.seriesKeys != null && !key.seriesKeys.contains(seriesKey)) {
+                continue;
+            }
+            if (!change.isPureAppend() || !key.isExtensible(dataset)) {
+                iterator.remove();
+                continue;
+            }
+            // replace the bounds rather than modifying them, since they may
+            // have been returned to a caller in another thread
+            Bounds extended = new Bounds(this.version);
+            extended.cached = true;
+            extended.range = key.extend(dataset, series,
+                    change.getFirstItem(), change.getLastItem() + 1,
+                    entry.getValue().range);
+            entry.setValue(extended);
+        }
+    }
+
+    /**
+     * Returns the number of bounds in the cache.
+     *
+     * @return The number of bounds.
+     */
+    synchronized int size() {
+        return this.bounds.size();
+    }
+
+    /**
+     * The bounds for one key.
+     */
+    static final class Bounds {
+
+        /** The dataset version when the bounds were requested. */
+        private final int version;
+
+        /** A flag that indicates whether the bounds are from the cache. */
+        private boolean cached;
+
+        /** The range (possibly <code>null</code>). */
+        private Range range;
+
+        /**
+         * Creates new (not yet calculated) bounds.
+         *
+         * @param version  the dataset version.
+         */
+        private Bounds(int version) {
+            this.version = version;
+        }
+
+        /**
+         * Returns <code>true</code> if these bounds were found in the
+         * cache, and <code>false</code> if they still need calculating.
+         *
+         * @return A boolean.
+         */
+        boolean isCached() {
+            return this.cached;
+        }
+
+        /**
+         * Returns the range.
+         *
+         * @return The range (possibly <code>null</code>).
+         */
+        Range getRange() {
+            return this.range;
+        }
+
+        /**
+         * Sets the range.
+         *
+         * @param range  the range (<code>null</code> permitted).
+         */
+        void setRange(Range range) {
+            this.range = range;
+        }
+
+    }
+
+    /**
+     * A key for the bounds of a dataset.
+     */
+    static final class Key {
+
+        /** The type of bounds (for example, "domain" or "range"). */
+        private final String type;
+
+        /** The keys of the series included (<code>null</code> for all). */
+        private final List<Comparable> seriesKeys;
+
+        /** The x-range for the items included (<code>null</code> for all). */
+        private final Range xRange;
+
+        /** Include the intervals? */
+        private final boolean includeInterval;
+
+        /**
+         * Creates a new key.
+         *
+         * @param type  the type of bounds.
+         * @param seriesKeys  the keys of the series included
+         *     (<code>null</code> for all series).
+         * @param xRange  the x-range (<code>null</code> for all items).
+         * @param includeInterval  include the intervals?
+         */
+        Key(String type, List<Comparable> seriesKeys, Range xRange,
+                boolean includeInterval) {
+            this.type = type;
+            this.seriesKeys = seriesKeys == null ? null
+                    : new ArrayList<Comparable>(seriesKeys);
+            this.xRange = xRange;
+            this.includeInterval = includeInterval;
+        }
+
+        /**
+         * Returns <code>true</code> if bounds with this key can be extended
+         * to include items appended to a series, and <code>false</code> if
+         * they must be calculated again.  The x-intervals in an
+         * {@link IntervalXYDataset} may depend on the spacing of all the
+         * items (see {@link org.jfree.data.xy.IntervalXYDelegate}), so
+         * domain bounds that include the interval are never extended.
+         *
+         * @param dataset  the dataset.
+         *
+         * @return A boolean.
+         */
+        boolean isExtensible(XYDataset dataset) {
+            if (this.type.equals("xy-range")) {
+                return true;
+            }
+            if (this.type.equals("xy-domain")) {
+                return !(this.includeInterval
+                        && dataset instanceof IntervalXYDataset);
+            }
+            return false;
+        }
+
+        /**
+         * Extends bounds with this key to include the specified items,
+         * following the same rules as the methods in
+         * {@link DatasetUtilities} that find the bounds by iteration.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param first  the index of the first item.
+         * @param end  the index of the item after the last item.
+         * @param range  the bounds before the items were added
+         *     (<code>null</code> permitted).
+         *
+         * @return The extended bounds (possibly <code>null</code>).
+         */
+        Range extend(XYDataset dataset, int series, int first, int end,
+                Range range) {
+            double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY};
+            if (this.type.equals("xy-range")) {
+                RangeBoundsTask.Accumulator accumulator;
+                if (this.xRange == null) {
+                    accumulator = new RangeBoundsTask.XYAccumulator(dataset,
+                            this.includeInterval);
+                }
+                else {
+                    accumulator = new RangeBoundsTask.XYRangeAccumulator(
+                            dataset, this.xRange, this.includeInterval);
+                }
+                accumulator.accumulate(series, first, end, bounds);
+            }
+            else {
+                for (int item = first; item < end; item++) {
+                    double x = dataset.getXValue(series, item);
+                    if (!Double.isNaN(x)) {
+                        bounds[0] = Math.min(bounds[0], x);
+                        bounds[1] = Math.max(bounds[1], x);
+                    }
+                }
+            }
+            if (bounds[0] > bounds[1]) {
+                return range;
+            }
+            if (range == null) {
+                return new Range(bounds[0], bounds[1]);
+            }
+            return new Range(Math.min(range.getLowerBound(), bounds[0]),
+                    Math.max(range.getUpperBound(), bounds[1]));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.type.equals(that.type)
+                    && this.includeInterval == that.includeInterval
+                    && ObjectUtilities.equal(this.seriesKeys, that.seriesKeys)
+                    && ObjectUtilities.equal(this.xRange, that.xRange);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.type.hashCode();
+            result = 37 * result + (this.includeInterval ? 1 : 0);
+            result = 37 * result + ObjectUtilities.hashCode(this.seriesKeys);
+            result = 37 * result + ObjectUtilities.hashCode(this.xRange);
+            return result;
+        }
+
+    }
+
+}
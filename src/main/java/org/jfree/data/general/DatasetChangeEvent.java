@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2011, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -42,6 +42,9 @@
  *               Updated Javadocs (DG);
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 05-Oct-2004 : Minor Javadoc updates (DG);
+ * 16-Oct-2026 : Added change info (agent);
+ * 16-Oct-2026 : Added the indices of the changed series (agent);
+ * 16-Oct-2026 : Removed redundant casts (agent);
  *
  */
 
@@ -49,6 +52,11 @@ package org.jfree.data.general;
 
 /**
  * A change event that encapsulates information about a change to a dataset.
+ * If the change can be described by a {@link DatasetChangeInfo} (for
+ * example, items appended to the end of one series) the event carries it, so
+ * that listeners can react to just the items that changed.  Listeners that
+ * don't need this can ignore it, and must treat an event with no info as a
+ * change to the whole dataset.
  */
 public class DatasetChangeEvent extends java.util.EventObject {
 
@@ -57,6 +65,15 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private Dataset dataset;
 
+    /** A description of the change (<code>null</code> if not known). */
+    private DatasetChangeInfo info;
+
+    /**
+     * The indices of the series that changed (<code>null</code> if not
+     * known).
+     */
+    private int[] changedSeries;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +85,43 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, null);
+    }
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param info  a description of the change (<code>null</code>
+     *     permitted).
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset,
+            DatasetChangeInfo info) {
+        this(source, dataset, info, null);
+    }
+
+    /**
+     * Constructs a new event for a change that may affect several series,
+     * for example the changes made during a {@link DatasetBatch}.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param info  a description of the change (<code>null</code>
+     *     permitted).
+     * @param changedSeries  the indices of the series that changed, in
+     *     ascending order (<code>null</code> permitted, in which case any
+     *     series may have changed).
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset,
+            DatasetChangeInfo info, int[] changedSeries) {
         super(source);
         this.dataset = dataset;
+        this.info = info;
+        this.changedSeries = changedSeries == null ? null
+                : changedSeries.clone();
     }
 
     /**
@@ -83,4 +135,33 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns a description of the change.
+     *
+     * @return The change info (possibly <code>null</code>, in which case
+     *     any part of the dataset may have changed).
+     */
+    public DatasetChangeInfo getInfo() {
+        return this.info;
+    }
+
+    /**
+     * Returns the indices of the series that changed, in ascending order.
+     * If the event has change info but no other record of the series that
+     * changed, this is the series described by the info.
+     *
+     * @return The series indices (possibly <code>null</code>, in which case
+     *     any series may have changed, or series may have been added or
+     *     removed).
+     */
+    public int[] getChangedSeries() {
+        if (this.changedSeries != null) {
+            return this.changedSeries.clone();
+        }
+        if (this.info != null) {
+            return new int[] {this.info.getSeries()};
+        }
+        return null;
+    }
+
 }
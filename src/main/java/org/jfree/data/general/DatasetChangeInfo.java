@@ -0,0 +1,145 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * DatasetChangeInfo.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * A description of a change to one series in a dataset, carried by a
+ * {@link DatasetChangeEvent} so that listeners (for example, the bounds
+ * cache used by {@link DatasetUtilities} and the plots) can react to the
+ * items that changed rather than to the whole dataset.  A dataset sends an
+ * event with no change info (<code>null</code>) for any change that it
+ * cannot describe this way.
+ */
+public class DatasetChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4581398137467829023L;
+
+    /** The index of the series that changed. */
+    private int series;
+
+    /** The change to the series. */
+    private SeriesChangeInfo seriesChange;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param series  the index of the series that changed (zero or greater).
+     * @param seriesChange  the change to the series (<code>null</code> not
+     *     permitted).
+     */
+    public DatasetChangeInfo(int series, SeriesChangeInfo seriesChange) {
+        if (series < 0) {
+            throw new IllegalArgumentException("Negative 'series' argument.");
+        }
+        if (seriesChange == null) {
+            throw new IllegalArgumentException(
+                    "Null 'seriesChange' argument.");
+        }
+        this.series = series;
+        this.seriesChange = seriesChange;
+    }
+
+    /**
+     * Returns the index of the series that changed.
+     *
+     * @return The series index.
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the change to the series.
+     *
+     * @return The change (never <code>null</code>).
+     */
+    public SeriesChangeInfo getSeriesChange() {
+        return this.seriesChange;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DatasetChangeInfo)) {
+            return false;
+        }
+        DatasetChangeInfo that = (DatasetChangeInfo) obj;
+        if (this.series != that.series) {
+            return false;
+        }
+        return this.seriesChange.equals(that.seriesChange);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 29 * this.series + this.seriesChange.hashCode();
+    }
+
+    /**
+     * Returns a string representing this instance, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "DatasetChangeInfo[series=" + this.series + ", "
+                + this.seriesChange + "]";
+    }
+
+}
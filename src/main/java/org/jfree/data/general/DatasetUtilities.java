@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -122,13 +122,25 @@
  *               MultiValueCategoryDataset (PK);
  * 10-Sep-2009 : Fix bug 2849731 for IntervalCategoryDataset (DG);
  * 16-Feb-2010 : Patch 2952086 - find z-bounds (MH);
+ * 16-Oct-2026 : Cache the bounds found by iteration (agent);
+ * 16-Oct-2026 : Added parallel range bounds for large datasets (agent);
+ * 16-Oct-2026 : Don't cache bounds found from a dataset snapshot (agent);
+ * 16-Oct-2026 : Cache the pie dataset total and find the items to
+ *               consolidate with a hash set (agent);
+ * 16-Oct-2026 : Only cache the bounds of datasets that implement
+ *               NotifyingDataset (agent);
+ * 16-Oct-2026 : Only cache the pie total for datasets that implement
+ *               NotifyingDataset (agent);
  *
  */
 
 package org.jfree.data.general;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jfree.chart.util.ArrayUtilities;
 import org.jfree.chart.util.ParamChecks;
@@ -162,6 +174,12 @@ import org.jfree.data.xy.XYZDataset;
  */
 public final class DatasetUtilities {
 
+    /**
+     * The minimum number of items for which the range bounds are found in
+     * parallel (<code>Integer.MAX_VALUE</code> disables this).
+     */
+    private static volatile int parallelThreshold = Integer.MAX_VALUE;
+
     /**
      * Private constructor for non-instanceability.
      */
@@ -169,10 +187,99 @@ public final class DatasetUtilities {
         // now try to instantiate this ;-)
     }
 
+    /**
+     * Returns the minimum number of items for which the
+     * <code>iterateRangeBounds()</code> and
+     * <code>iterateToFindRangeBounds()</code> methods for
+     * {@link XYDataset} and {@link CategoryDataset} divide the work between
+     * the threads of the common fork/join pool.  The default value is
+     * <code>Integer.MAX_VALUE</code>, so that the bounds are always found
+     * by the calling thread.
+     *
+     * @return The threshold.
+     *
+     * @see #setParallelThreshold(int)
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the minimum number of items for which the range bounds of a
+     * dataset are found in parallel.  The result is always the same as when
+     * the bounds are found by a single thread, but the dataset will be read
+     * by several threads at the same time - only enable this if all of the
+     * datasets used by your application support this (most of the datasets
+     * in JFreeChart do, provided that they are not modified at the same
+     * time, but <code>TimeSeriesCollection</code>, for example, does not
+     * because it uses a shared calendar to calculate the x-values).
+     *
+     * @param threshold  the threshold (must be greater than zero, use
+     *     <code>Integer.MAX_VALUE</code> to disable parallel calculation).
+     *
+     * @see #getParallelThreshold()
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threshold' > 0.");
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Returns <code>true</code> if the range bounds for the specified items
+     * should be found in parallel.
+     *
+     * @param itemCounts  the item count for each series.
+     *
+     * @return A boolean.
+     */
+    private static boolean isParallel(int[] itemCounts) {
+        int threshold = parallelThreshold;
+        return threshold < Integer.MAX_VALUE
+                && RangeBoundsTask.getTotalItemCount(itemCounts) >= threshold;
+    }
+
+    /**
+     * Returns the item count for each series in an {@link XYDataset}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series indices.
+     *
+     * @return The item counts.
+     */
+    private static int[] getItemCounts(XYDataset dataset, int[] series) {
+        int[] result = new int[series.length];
+        for (int i = 0; i < series.length; i++) {
+            result[i] = dataset.getItemCount(series[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an array containing the indices of all the series in a
+     * dataset.
+     *
+     * @param seriesCount  the number of series.
+     *
+     * @return The series indices.
+     */
+    private static int[] getAllSeries(int seriesCount) {
+        int[] result = new int[seriesCount];
+        for (int i = 0; i < seriesCount; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
     /**
      * Calculates the total of all the values in a {@link PieDataset}.  If
      * the dataset contains negative or <code>null</code> values, they are
-     * ignored.
+     * ignored.  The total is requested for every section label, so it is
+     * cached by datasets that extend {@link AbstractDataset} and implement
+     * {@link NotifyingDataset} (such as {@link DefaultPieDataset}).  For
+     * other datasets it is calculated every time.
      *
      * @param dataset  the dataset (<code>null</code> not permitted).
      *
@@ -180,6 +287,26 @@ public final class DatasetUtilities {
      */
     public static double calculatePieDatasetTotal(PieDataset dataset) {
         ParamChecks.nullNotPermitted(dataset, "dataset");
+        DatasetBoundsCache.Key key = new DatasetBoundsCache.Key("pie-total",
+                null, null, false);
+        DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+        if (bounds != null && bounds.isCached()) {
+            return bounds.getRange().getLowerBound();
+        }
+        double result = iteratePieDatasetTotal(dataset);
+        cacheBounds(dataset, key, bounds, new Range(result, result));
+        return result;
+    }
+
+    /**
+     * Iterates over the items in a {@link PieDataset} to find the total of
+     * the (positive) values.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @return The total.
+     */
+    private static double iteratePieDatasetTotal(PieDataset dataset) {
         List<Comparable> keys = dataset.getKeys();
         double totalValue = 0;
         for (Comparable current : keys) {
@@ -309,7 +436,7 @@ public final class DatasetUtilities {
 
         //  Iterate and find all keys below threshold percentThreshold
         List<Comparable> keys = source.getKeys();
-        List<Comparable> otherKeys = new ArrayList<Comparable>();
+        Set<Comparable> otherKeys = new HashSet<Comparable>();
         for (Comparable currentKey : keys) {
             Number dataValue = source.getValue(currentKey);
             if (dataValue != null) {
@@ -651,7 +778,14 @@ public final class DatasetUtilities {
             result = info.getDomainBounds(includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "xy-domain", null, null, includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateDomainBounds(dataset, includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
 
@@ -681,8 +815,15 @@ public final class DatasetUtilities {
             result = info.getDomainBounds(visibleSeriesKeys, includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "xy-domain", visibleSeriesKeys, null, includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateToFindDomainBounds(dataset, visibleSeriesKeys,
                     includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
     }
@@ -793,7 +934,14 @@ public final class DatasetUtilities {
             result = info.getRangeBounds(includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "category-range", null, null, includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateRangeBounds(dataset, includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
     }
@@ -822,8 +970,16 @@ public final class DatasetUtilities {
             result = info.getRangeBounds(visibleSeriesKeys, includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "category-range", visibleSeriesKeys, null,
+                    includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateToFindRangeBounds(dataset, visibleSeriesKeys,
                     includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
     }
@@ -860,7 +1016,14 @@ public final class DatasetUtilities {
             result = info.getRangeBounds(includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "xy-range", null, null, includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateRangeBounds(dataset, includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
     }
@@ -891,12 +1054,67 @@ public final class DatasetUtilities {
                     includeInterval);
         }
         else {
+            DatasetBoundsCache.Key key = new DatasetBoundsCache.Key(
+                    "xy-range", visibleSeriesKeys, xRange, includeInterval);
+            DatasetBoundsCache.Bounds bounds = getCachedBounds(dataset, key);
+            if (bounds != null && bounds.isCached()) {
+                return bounds.getRange();
+            }
             result = iterateToFindRangeBounds(dataset, visibleSeriesKeys,
                     xRange, includeInterval);
+            cacheBounds(dataset, key, bounds, result);
         }
         return result;
     }
 
+    /**
+     * Returns the bounds cached by a dataset for the specified key.  Only
+     * datasets that extend {@link AbstractDataset} and implement
+     * {@link NotifyingDataset} have a cache, since they clear the cache
+     * whenever they change (and every change to their data fires an event).
+     * Other datasets might be changed without an event, so their bounds are
+     * calculated every time.  The cache holds the bounds of
+     * the current data, so it is not used when the current thread reads an
+     * older snapshot of the data (see {@link SnapshotPin}).
+     *
+     * @param dataset  the dataset.
+     * @param key  the key.
+     *
+     * @return The bounds (<code>null</code> if the dataset has no cache).
+     *     Call {@link DatasetBoundsCache.Bounds#isCached()} to check whether
+     *     the bounds have already been calculated.
+     */
+    private static DatasetBoundsCache.Bounds getCachedBounds(Dataset dataset,
+            DatasetBoundsCache.Key key) {
+        if (dataset instanceof AbstractDataset
+                && dataset instanceof NotifyingDataset) {
+            AbstractDataset d = (AbstractDataset) dataset;
+            if (d.getSnapshot() == null) {
+                return d.getBoundsCache().get(key);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores calculated bounds in a dataset's cache.
+     *
+     * @param dataset  the dataset.
+     * @param key  the key.
+     * @param bounds  the bounds returned by
+     *     {@link #getCachedBounds(Dataset, DatasetBoundsCache.Key)}
+     *     (<code>null</code> permitted, in which case nothing is cached).
+     * @param range  the calculated range (<code>null</code> permitted).
+     */
+    private static void cacheBounds(Dataset dataset,
+            DatasetBoundsCache.Key key, DatasetBoundsCache.Bounds bounds,
+            Range range) {
+        if (bounds != null) {
+            bounds.setRange(range);
+            ((AbstractDataset) dataset).getBoundsCache().put(key, bounds);
+        }
+    }
+
     /**
      * Iterates over the data item of the category dataset to find
      * the range bounds.
@@ -929,6 +1147,15 @@ public final class DatasetUtilities {
         double maximum = Double.NEGATIVE_INFINITY;
         int rowCount = dataset.getRowCount();
         int columnCount = dataset.getColumnCount();
+        if (parallelThreshold < Integer.MAX_VALUE) {
+            int[] itemCounts = new int[rowCount];
+            Arrays.fill(itemCounts, columnCount);
+            if (isParallel(itemCounts)) {
+                return RangeBoundsTask.findBounds(
+                        new RangeBoundsTask.CategoryAccumulator(dataset,
+                        includeInterval), getAllSeries(rowCount), itemCounts);
+            }
+        }
         if (includeInterval && dataset instanceof IntervalCategoryDataset) {
             // handle the special case where the dataset has y-intervals that
             // we want to measure
@@ -1153,6 +1380,15 @@ public final class DatasetUtilities {
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
         int seriesCount = dataset.getSeriesCount();
+        if (parallelThreshold < Integer.MAX_VALUE) {
+            int[] allSeries = getAllSeries(seriesCount);
+            int[] itemCounts = getItemCounts(dataset, allSeries);
+            if (isParallel(itemCounts)) {
+                return RangeBoundsTask.findBounds(
+                        new RangeBoundsTask.XYAccumulator(dataset,
+                        includeInterval), allSeries, itemCounts);
+            }
+        }
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof IntervalXYDataset) {
@@ -1409,6 +1645,19 @@ public final class DatasetUtilities {
 
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
+        if (parallelThreshold < Integer.MAX_VALUE) {
+            int[] visibleSeries = new int[visibleSeriesKeys.size()];
+            int i = 0;
+            for (Comparable seriesKey : visibleSeriesKeys) {
+                visibleSeries[i++] = dataset.indexOf(seriesKey);
+            }
+            int[] itemCounts = getItemCounts(dataset, visibleSeries);
+            if (isParallel(itemCounts)) {
+                return RangeBoundsTask.findBounds(
+                        new RangeBoundsTask.XYRangeAccumulator(dataset,
+                        xRange, includeInterval), visibleSeries, itemCounts);
+            }
+        }
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof OHLCDataset) {
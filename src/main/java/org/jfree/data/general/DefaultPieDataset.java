@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -52,6 +52,7 @@
  * 28-Sep-2006 : Added sortByKeys() and sortByValues() methods (DG);
  * 30-Apr-2007 : Added new insertValues() methods (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Implement NotifyingDataset, so the total is cached (agent);
  *
  */
 
@@ -71,7 +72,8 @@ import org.jfree.data.UnknownKeyException;
  * A default implementation of the {@link PieDataset} interface.
  */
 public class DefaultPieDataset extends AbstractDataset
-        implements PieDataset, Cloneable, PublicCloneable, Serializable {
+        implements PieDataset, NotifyingDataset, Cloneable, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 2904745139106540618L;
@@ -0,0 +1,59 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * NotifyingDataset.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A marker interface for a dataset that sends a {@link DatasetChangeEvent}
+ * to its listeners for every change to its data.  The bounds (and pie
+ * totals) that {@link DatasetUtilities} finds by iterating over the items
+ * of an {@link AbstractDataset} that implements this interface are cached
+ * until the dataset next changes.  For any other dataset they are
+ * calculated every time, since its data might be changed without an event
+ * (for example, through the arrays passed to
+ * {@link org.jfree.data.xy.DefaultXYDataset#addSeries(Comparable,
+ * double[][])}).
+ * <p>
+ * A subclass of a dataset that implements this interface must also send an
+ * event for every change to its data.
+ */
+public interface NotifyingDataset extends Dataset {
+
+}
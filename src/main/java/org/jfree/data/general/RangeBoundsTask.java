@@ -0,0 +1,487 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * RangeBoundsTask.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Read the snapshots pinned by the calling thread (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.IntervalCategoryDataset;
+import org.jfree.data.statistics.BoxAndWhiskerXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A fork/join task that finds the range of the y-values in a large dataset,
+ * used by the <code>iterateRangeBounds()</code> and
+ * <code>iterateToFindRangeBounds()</code> methods in {@link DatasetUtilities}
+ * when the dataset has more items than the parallel threshold (see
+ * {@link DatasetUtilities#setParallelThreshold(int)}).  The items are divided
+ * into chunks (by series, then by item) and the chunks are split between
+ * the threads in the common pool.  Since the minimum and maximum of a set of
+ * values do not depend on the order in which the values are visited, the
+ * result is always the same as for the serial calculation.
+ */
+final class RangeBoundsTask extends RecursiveTask<double[]> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4406720573716287781L;
+
+    /** The minimum number of items in a chunk. */
+    static final int MIN_CHUNK_SIZE = 4096;
+
+    /** The number of chunks per thread (to balance the load). */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Updates the bounds from the items in a chunk. */
+    private final Accumulator accumulator;
+
+    /**
+     * The chunks, three elements per chunk: the series index, the first item
+     * and the item after the last item.
+     */
+    private final int[] chunks;
+
+    /** The index of the first chunk for this task. */
+    private final int first;
+
+    /** The index of the chunk after the last chunk for this task. */
+    private final int end;
+
+    /** The pin held by the thread that started the task (if any). */
+    private final transient SnapshotPin pin;
+
+    /**
+     * Creates a new task.
+     *
+     * @param accumulator  the accumulator.
+     * @param chunks  the chunks.
+     * @param first  the index of the first chunk.
+     * @param end  the index of the chunk after the last chunk.
+     * @param pin  the pin held by the thread that started the task
+     *     (<code>null</code> permitted), so that the items are read from the
+     *     same snapshots as in that thread.
+     */
+    private RangeBoundsTask(Accumulator accumulator, int[] chunks, int first,
+            int end, SnapshotPin pin) {
+        this.accumulator = accumulator;
+        this.chunks = chunks;
+        this.first = first;
+        this.end = end;
+        this.pin = pin;
+    }
+
+    /**
+     * Finds the bounds for the chunks belonging to this task, splitting the
+     * work with a subtask if there is more than one chunk.
+     *
+     * @return An array containing the minimum and maximum values (the
+     *     minimum is <code>Double.POSITIVE_INFINITY</code> if no values were
+     *     found).
+     */
+    @Override
+    protected double[] compute() {
+        if (this.end - this.first == 1) {
+            double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY};
+            int i = this.first * 3;
+            SnapshotPin previous = SnapshotPin.attach(this.pin);
+            try {
+                this.accumulator.accumulate(this.chunks[i],
+                        this.chunks[i + 1], this.chunks[i + 2], bounds);
+            }
+            finally {
+                SnapshotPin.restore(previous);
+            }
+            return bounds;
+        }
+        int middle = (this.first + this.end) >>> 1;
+        RangeBoundsTask left = new RangeBoundsTask(this.accumulator,
+                this.chunks, this.first, middle, this.pin);
+        RangeBoundsTask right = new RangeBoundsTask(this.accumulator,
+                this.chunks, middle, this.end, this.pin);
+        left.fork();
+        double[] result = right.compute();
+        double[] other = left.join();
+        result[0] = Math.min(result[0], other[0]);
+        result[1] = Math.max(result[1], other[1]);
+        return result;
+    }
+
+    /**
+     * Returns the total number of items.
+     *
+     * @param itemCounts  the item count for each series.
+     *
+     * @return The total.
+     */
+    static long getTotalItemCount(int[] itemCounts) {
+        long result = 0L;
+        for (int count : itemCounts) {
+            result += count;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the bounds in parallel.
+     *
+     * @param accumulator  the accumulator.
+     * @param series  the indices of the series to include.
+     * @param itemCounts  the item count for each of the series.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    static Range findBounds(Accumulator accumulator, int[] series,
+            int[] itemCounts) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long total = getTotalItemCount(itemCounts);
+        long size = Math.max(MIN_CHUNK_SIZE, total
+                / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        int chunkSize = (int) Math.min(size, Integer.MAX_VALUE);
+        int chunkCount = 0;
+        for (int count : itemCounts) {
+            chunkCount += (count + chunkSize - 1) / chunkSize;
+        }
+        if (chunkCount == 0) {
+            return null;
+        }
+        int[] chunks = new int[chunkCount * 3];
+        int i = 0;
+        for (int s = 0; s < series.length; s++) {
+            for (int item = 0; item < itemCounts[s]; item += chunkSize) {
+                chunks[i++] = series[s];
+                chunks[i++] = item;
+                chunks[i++] = (int) Math.min((long) item + chunkSize,
+                        itemCounts[s]);
+            }
+        }
+        double[] bounds = pool.invoke(new RangeBoundsTask(accumulator,
+                chunks, 0, chunkCount, SnapshotPin.getCurrent()));
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Updates the bounds from a chunk of items.  Implementations are called
+     * concurrently from several threads.
+     */
+    interface Accumulator {
+
+        /**
+         * Updates the bounds from the items in a chunk.
+         *
+         * @param series  the series index.
+         * @param first  the index of the first item.
+         * @param end  the index of the item after the last item.
+         * @param bounds  an array containing the minimum and maximum values
+         *     found so far, to be updated.
+         */
+        void accumulate(int series, int first, int end, double[] bounds);
+
+    }
+
+    /**
+     * An accumulator for the y-values in an {@link XYDataset}, following the
+     * same rules as {@link DatasetUtilities#iterateRangeBounds(XYDataset,
+     * boolean)}.
+     */
+    static final class XYAccumulator implements Accumulator {
+
+        /** The dataset. */
+        private final XYDataset dataset;
+
+        /** Include the y-interval? */
+        private final boolean includeInterval;
+
+        /**
+         * Creates a new accumulator.
+         *
+         * @param dataset  the dataset.
+         * @param includeInterval  include the y-interval?
+         */
+        XYAccumulator(XYDataset dataset, boolean includeInterval) {
+            this.dataset = dataset;
+            this.includeInterval = includeInterval;
+        }
+
+        @Override
+        public void accumulate(int series, int first, int end,
+                double[] bounds) {
+            double minimum = bounds[0];
+            double maximum = bounds[1];
+            if (this.includeInterval
+                    && this.dataset instanceof IntervalXYDataset) {
+                IntervalXYDataset ixyd = (IntervalXYDataset) this.dataset;
+                for (int item = first; item < end; item++) {
+                    double value = ixyd.getYValue(series, item);
+                    double lvalue = ixyd.getStartYValue(series, item);
+                    double uvalue = ixyd.getEndYValue(series, item);
+                    if (!Double.isNaN(value)) {
+                        minimum = Math.min(minimum, value);
+                        maximum = Math.max(maximum, value);
+                    }
+                    if (!Double.isNaN(lvalue)) {
+                        minimum = Math.min(minimum, lvalue);
+                        maximum = Math.max(maximum, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        minimum = Math.min(minimum, uvalue);
+                        maximum = Math.max(maximum, uvalue);
+                    }
+                }
+            }
+            else if (this.includeInterval
+                    && this.dataset instanceof OHLCDataset) {
+                OHLCDataset ohlc = (OHLCDataset) this.dataset;
+                for (int item = first; item < end; item++) {
+                    double lvalue = ohlc.getLowValue(series, item);
+                    double uvalue = ohlc.getHighValue(series, item);
+                    if (!Double.isNaN(lvalue)) {
+                        minimum = Math.min(minimum, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        maximum = Math.max(maximum, uvalue);
+                    }
+                }
+            }
+            else {
+                for (int item = first; item < end; item++) {
+                    double value = this.dataset.getYValue(series, item);
+                    if (!Double.isNaN(value)) {
+                        minimum = Math.min(minimum, value);
+                        maximum = Math.max(maximum, value);
+                    }
+                }
+            }
+            bounds[0] = minimum;
+            bounds[1] = maximum;
+        }
+
+    }
+
+    /**
+     * An accumulator for the y-values of the items in an {@link XYDataset}
+     * that have x-values within a given range, following the same rules as
+     * {@link DatasetUtilities#iterateToFindRangeBounds(XYDataset,
+     * java.util.List, Range, boolean)}.
+     */
+    static final class XYRangeAccumulator implements Accumulator {
+
+        /** The dataset. */
+        private final XYDataset dataset;
+
+        /** The x-range. */
+        private final Range xRange;
+
+        /** Include the y-interval? */
+        private final boolean includeInterval;
+
+        /**
+         * Creates a new accumulator.
+         *
+         * @param dataset  the dataset.
+         * @param xRange  the x-range.
+         * @param includeInterval  include the y-interval?
+         */
+        XYRangeAccumulator(XYDataset dataset, Range xRange,
+                boolean includeInterval) {
+            this.dataset = dataset;
+            this.xRange = xRange;
+            this.includeInterval = includeInterval;
+        }
+
+        @Override
+        public void accumulate(int series, int first, int end,
+                double[] bounds) {
+            double minimum = bounds[0];
+            double maximum = bounds[1];
+            if (this.includeInterval && this.dataset instanceof OHLCDataset) {
+                OHLCDataset ohlc = (OHLCDataset) this.dataset;
+                for (int item = first; item < end; item++) {
+                    double x = ohlc.getXValue(series, item);
+                    if (this.xRange.contains(x)) {
+                        double lvalue = ohlc.getLowValue(series, item);
+                        double uvalue = ohlc.getHighValue(series, item);
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                        }
+                        if (!Double.isNaN(uvalue)) {
+                            maximum = Math.max(maximum, uvalue);
+                        }
+                    }
+                }
+            }
+            else if (this.includeInterval
+                    && this.dataset instanceof BoxAndWhiskerXYDataset) {
+                BoxAndWhiskerXYDataset bx
+                        = (BoxAndWhiskerXYDataset) this.dataset;
+                for (int item = first; item < end; item++) {
+                    double x = bx.getXValue(series, item);
+                    if (this.xRange.contains(x)) {
+                        Number lvalue = bx.getMinRegularValue(series, item);
+                        Number uvalue = bx.getMaxRegularValue(series, item);
+                        if (lvalue != null) {
+                            minimum = Math.min(minimum, lvalue.doubleValue());
+                        }
+                        if (uvalue != null) {
+                            maximum = Math.max(maximum, uvalue.doubleValue());
+                        }
+                    }
+                }
+            }
+            else if (this.includeInterval
+                    && this.dataset instanceof IntervalXYDataset) {
+                IntervalXYDataset ixyd = (IntervalXYDataset) this.dataset;
+                for (int item = first; item < end; item++) {
+                    double x = ixyd.getXValue(series, item);
+                    if (this.xRange.contains(x)) {
+                        double lvalue = ixyd.getStartYValue(series, item);
+                        double uvalue = ixyd.getEndYValue(series, item);
+                        if (!Double.isNaN(lvalue)) {
+                            minimum = Math.min(minimum, lvalue);
+                        }
+                        if (!Double.isNaN(uvalue)) {
+                            maximum = Math.max(maximum, uvalue);
+                        }
+                    }
+                }
+            }
+            else {
+                for (int item = first; item < end; item++) {
+                    double x = this.dataset.getXValue(series, item);
+                    double y = this.dataset.getYValue(series, item);
+                    if (this.xRange.contains(x)) {
+                        if (!Double.isNaN(y)) {
+                            minimum = Math.min(minimum, y);
+                            maximum = Math.max(maximum, y);
+                        }
+                    }
+                }
+            }
+            bounds[0] = minimum;
+            bounds[1] = maximum;
+        }
+
+    }
+
+    /**
+     * An accumulator for the values in a {@link CategoryDataset}, following
+     * the same rules as {@link DatasetUtilities#iterateRangeBounds(
+     * CategoryDataset, boolean)}.  Each row is treated as a series, and each
+     * column as an item.
+     */
+    static final class CategoryAccumulator implements Accumulator {
+
+        /** The dataset. */
+        private final CategoryDataset dataset;
+
+        /** Include the interval? */
+        private final boolean includeInterval;
+
+        /**
+         * Creates a new accumulator.
+         *
+         * @param dataset  the dataset.
+         * @param includeInterval  include the interval?
+         */
+        CategoryAccumulator(CategoryDataset dataset,
+                boolean includeInterval) {
+            this.dataset = dataset;
+            this.includeInterval = includeInterval;
+        }
+
+        @Override
+        public void accumulate(int row, int first, int end,
+                double[] bounds) {
+            double minimum = bounds[0];
+            double maximum = bounds[1];
+            if (this.includeInterval
+                    && this.dataset instanceof IntervalCategoryDataset) {
+                IntervalCategoryDataset icd
+                        = (IntervalCategoryDataset) this.dataset;
+                Number value, lvalue, uvalue;
+                for (int column = first; column < end; column++) {
+                    value = icd.getValue(row, column);
+                    double v;
+                    if ((value != null)
+                            && !Double.isNaN(v = value.doubleValue())) {
+                        minimum = Math.min(v, minimum);
+                        maximum = Math.max(v, maximum);
+                    }
+                    lvalue = icd.getStartValue(row, column);
+                    if (lvalue != null
+                            && !Double.isNaN(v = lvalue.doubleValue())) {
+                        minimum = Math.min(v, minimum);
+                        maximum = Math.max(v, maximum);
+                    }
+                    uvalue = icd.getEndValue(row, column);
+                    if (uvalue != null
+                            && !Double.isNaN(v = uvalue.doubleValue())) {
+                        minimum = Math.min(v, minimum);
+                        maximum = Math.max(v, maximum);
+                    }
+                }
+            }
+            else {
+                for (int column = first; column < end; column++) {
+                    Number value = this.dataset.getValue(row, column);
+                    if (value != null) {
+                        double v = value.doubleValue();
+                        if (!Double.isNaN(v)) {
+                            minimum = Math.min(minimum, v);
+                            maximum = Math.max(maximum, v);
+                        }
+                    }
+                }
+            }
+            bounds[0] = minimum;
+            bounds[1] = maximum;
+        }
+
+    }
+
+}
@@ -51,6 +51,7 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added fireSeriesChanged(SeriesChangeInfo) (agent);
  * 
  */
 
@@ -331,6 +332,20 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Signals to registered listeners that the series has been changed, with
+     * a description of the change.
+     *
+     * @param info  a description of the change (<code>null</code>
+     *     permitted, in which case the listeners must assume that any part of
+     *     the series has changed).
+     */
+    protected void fireSeriesChanged(SeriesChangeInfo info) {
+        if (this.notify) {
+            notifyListeners(new SeriesChangeEvent(this, info));
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
@@ -36,6 +36,7 @@
  * -------
  * 15-Nov-2001 : Version 1 (DG);
  * 18-Aug-2003 : Implemented Serializable (DG);
+ * 16-Oct-2026 : Added change info (agent);
  *
  */
 
@@ -45,20 +46,49 @@ import java.io.Serializable;
 import java.util.EventObject;
 
 /**
- * An event with details of a change to a series.
+ * An event with details of a change to a series.  If the change can be
+ * described by a {@link SeriesChangeInfo} (for example, items appended to the
+ * end of the series) the event carries it, so that listeners can react to
+ * just the items that changed.  Listeners that don't need this can ignore
+ * it, and must treat an event with no info as a change to the whole series.
  */
 public class SeriesChangeEvent extends EventObject implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** A description of the change (<code>null</code> if not known). */
+    private SeriesChangeInfo info;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the change event.
+     * @param info  a description of the change (<code>null</code>
+     *     permitted).
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeInfo info) {
         super(source);
+        this.info = info;
+    }
+
+    /**
+     * Returns a description of the change.
+     *
+     * @return The change info (possibly <code>null</code>, in which case
+     *     any part of the series may have changed).
+     */
+    public SeriesChangeInfo getInfo() {
+        return this.info;
     }
 
 }
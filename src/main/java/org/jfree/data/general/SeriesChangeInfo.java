@@ -0,0 +1,244 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeInfo.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * A description of a change to a series, carried by a
+ * {@link SeriesChangeEvent} so that listeners can react to the items that
+ * changed rather than to the whole series.  Three types of change are
+ * described:
+ * <ul>
+ * <li>{@link SeriesChangeType#APPEND} - the items from
+ *     <code>firstItem</code> to <code>lastItem</code> (indices in the
+ *     series after the change) were added to the end of the series.  Before
+ *     that, {@link #getRemovedCount()} items may have been removed from the
+ *     front of the series (for example, to respect a maximum item count), in
+ *     which case the indices of the remaining items have been reduced by that
+ *     amount;</li>
+ * <li>{@link SeriesChangeType#REMOVE_FROM_FRONT} - the items from
+ *     <code>0</code> to <code>lastItem</code> (indices in the series before
+ *     the change) were removed;</li>
+ * <li>{@link SeriesChangeType#UPDATE} - the y-values of the items from
+ *     <code>firstItem</code> to <code>lastItem</code> were changed.</li>
+ * </ul>
+ * Instances of this class are immutable.
+ */
+public class SeriesChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6024958310957516352L;
+
+    /** The type of change. */
+    private SeriesChangeType type;
+
+    /** The index of the first item affected. */
+    private int firstItem;
+
+    /** The index of the last item affected. */
+    private int lastItem;
+
+    /** The number of items removed from the front of the series. */
+    private int removedCount;
+
+    /**
+     * Creates a new instance.  For the {@link SeriesChangeType#APPEND} type,
+     * no items were removed from the front of the series, and for the
+     * {@link SeriesChangeType#REMOVE_FROM_FRONT} type, <code>firstItem</code>
+     * must be zero.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     */
+    public SeriesChangeInfo(SeriesChangeType type, int firstItem,
+            int lastItem) {
+        this(type, firstItem, lastItem,
+                type == SeriesChangeType.REMOVE_FROM_FRONT ? lastItem + 1 : 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     * @param removedCount  the number of items removed from the front of the
+     *     series (this must be zero for the {@link SeriesChangeType#UPDATE}
+     *     type, and <code>lastItem + 1</code> for the
+     *     {@link SeriesChangeType#REMOVE_FROM_FRONT} type).
+     */
+    public SeriesChangeInfo(SeriesChangeType type, int firstItem,
+            int lastItem, int removedCount) {
+        if (type == null) {
+            throw new IllegalArgumentException("Null 'type' argument.");
+        }
+        if (firstItem < 0 || lastItem < firstItem) {
+            throw new IllegalArgumentException("Invalid item range "
+                    + firstItem + " to " + lastItem + ".");
+        }
+        if (removedCount < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'removedCount' argument.");
+        }
+        if (type == SeriesChangeType.UPDATE && removedCount != 0) {
+            throw new IllegalArgumentException(
+                    "Updates do not remove items.");
+        }
+        if (type == SeriesChangeType.REMOVE_FROM_FRONT && (firstItem != 0
+                || removedCount != lastItem + 1)) {
+            throw new IllegalArgumentException(
+                    "Items must be removed from the front of the series.");
+        }
+        this.type = type;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+        this.removedCount = removedCount;
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return The type of change (never <code>null</code>).
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getLastItem() {
+        return this.lastItem;
+    }
+
+    /**
+     * Returns the number of items removed from the front of the series.
+     *
+     * @return The number of items removed (zero or greater).
+     */
+    public int getRemovedCount() {
+        return this.removedCount;
+    }
+
+    /**
+     * Returns <code>true</code> if the change only added items to the end
+     * of the series, leaving the existing items (and their indices)
+     * unchanged.
+     *
+     * @return A boolean.
+     */
+    public boolean isPureAppend() {
+        return this.type == SeriesChangeType.APPEND
+                && this.removedCount == 0;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeInfo)) {
+            return false;
+        }
+        SeriesChangeInfo that = (SeriesChangeInfo) obj;
+        if (this.type != that.type) {
+            return false;
+        }
+        if (this.firstItem != that.firstItem) {
+            return false;
+        }
+        if (this.lastItem != that.lastItem) {
+            return false;
+        }
+        if (this.removedCount != that.removedCount) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.type.hashCode();
+        result = 29 * result + this.firstItem;
+        result = 29 * result + this.lastItem;
+        result = 29 * result + this.removedCount;
+        return result;
+    }
+
+    /**
+     * Returns a string representing this instance, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "SeriesChangeInfo[" + this.type + ", " + this.firstItem
+                + "-" + this.lastItem + ", removed=" + this.removedCount
+                + "]";
+    }
+
+}
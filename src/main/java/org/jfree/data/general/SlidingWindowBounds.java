@@ -0,0 +1,298 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * SlidingWindowBounds.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * Tracks the minimum and maximum of a window of values that only grows at
+ * the end and shrinks from the front (as in a series with a maximum item
+ * count).  Each call to {@link #add(double)} and {@link #removeFirst()} takes
+ * amortized constant time, and the current bounds are available in constant
+ * time, so there is never any need to iterate over the whole window when the
+ * value holding the minimum or maximum is removed.
+ * <p>
+ * Internally, two "monotonic" queues are maintained: one holding the values
+ * that could still become the minimum (in increasing order) and one holding
+ * the values that could still become the maximum (in decreasing order).
+ * <code>Double.NaN</code> values occupy a position in the window but are
+ * ignored for the bounds.
+ */
+public class SlidingWindowBounds implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2853297407236421035L;
+
+    /** The candidates for the minimum value, in increasing order. */
+    private MonotonicQueue minQueue;
+
+    /** The candidates for the maximum value, in decreasing order. */
+    private MonotonicQueue maxQueue;
+
+    /** The sequence number of the first value in the window. */
+    private long first;
+
+    /** The sequence number that will be given to the next value added. */
+    private long next;
+
+    /**
+     * Creates a new empty window.
+     */
+    public SlidingWindowBounds() {
+        this.minQueue = new MonotonicQueue();
+        this.maxQueue = new MonotonicQueue();
+        this.first = 0L;
+        this.next = 0L;
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The number of values in the window.
+     */
+    public int getItemCount() {
+        return (int) (this.next - this.first);
+    }
+
+    /**
+     * Returns the smallest value in the window, ignoring any
+     * <code>Double.NaN</code> values.
+     *
+     * @return The smallest value (<code>Double.NaN</code> if there is no
+     *     smallest value, for example if the window is empty).
+     */
+    public double getMinimum() {
+        return this.minQueue.isEmpty() ? Double.NaN
+                : this.minQueue.firstValue();
+    }
+
+    /**
+     * Returns the largest value in the window, ignoring any
+     * <code>Double.NaN</code> values.
+     *
+     * @return The largest value (<code>Double.NaN</code> if there is no
+     *     largest value, for example if the window is empty).
+     */
+    public double getMaximum() {
+        return this.maxQueue.isEmpty() ? Double.NaN
+                : this.maxQueue.firstValue();
+    }
+
+    /**
+     * Adds a value to the end of the window.
+     *
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void add(double value) {
+        long seq = this.next++;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        // values that are not smaller than the new value can never again
+        // be the minimum, since the new value will outlive them
+        while (!this.minQueue.isEmpty()
+                && this.minQueue.lastValue() >= value) {
+            this.minQueue.removeLast();
+        }
+        this.minQueue.addLast(seq, value);
+        while (!this.maxQueue.isEmpty()
+                && this.maxQueue.lastValue() <= value) {
+            this.maxQueue.removeLast();
+        }
+        this.maxQueue.addLast(seq, value);
+    }
+
+    /**
+     * Removes the first (oldest) value from the window.
+     *
+     * @throws IllegalStateException if the window is empty.
+     */
+    public void removeFirst() {
+        if (this.first == this.next) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        long seq = this.first++;
+        if (!this.minQueue.isEmpty() && this.minQueue.firstSeq() == seq) {
+            this.minQueue.removeFirst();
+        }
+        if (!this.maxQueue.isEmpty() && this.maxQueue.firstSeq() == seq) {
+            this.maxQueue.removeFirst();
+        }
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        this.first = this.next;
+    }
+
+    /**
+     * Returns an independent copy of this window.
+     *
+     * @return A clone.
+     */
+    @Override
+    public SlidingWindowBounds clone() {
+        try {
+            SlidingWindowBounds clone = (SlidingWindowBounds) super.clone();
+            clone.minQueue = this.minQueue.copy();
+            clone.maxQueue = this.maxQueue.copy();
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e.getMessage());
+        }
+    }
+
+    /**
+     * A double-ended queue of (sequence number, value) pairs, stored in
+     * circular primitive arrays.
+     */
+    private static final class MonotonicQueue implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6232963829620925016L;
+
+        /** The sequence numbers. */
+        private long[] seqs;
+
+        /** The values. */
+        private double[] values;
+
+        /** The array position of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new empty queue.
+         */
+        MonotonicQueue() {
+            this.seqs = new long[16];
+            this.values = new double[16];
+        }
+
+        /** Returns <code>true</code> if the queue is empty. */
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /** Returns the sequence number of the first entry. */
+        long firstSeq() {
+            return this.seqs[this.head];
+        }
+
+        /** Returns the value of the first entry. */
+        double firstValue() {
+            return this.values[this.head];
+        }
+
+        /** Returns the value of the last entry. */
+        double lastValue() {
+            return this.values[position(this.size - 1)];
+        }
+
+        /** Adds an entry at the end of the queue. */
+        void addLast(long seq, double value) {
+            if (this.size == this.seqs.length) {
+                grow();
+            }
+            int p = position(this.size);
+            this.seqs[p] = seq;
+            this.values[p] = value;
+            this.size++;
+        }
+
+        /** Removes the first entry. */
+        void removeFirst() {
+            this.head = position(1);
+            this.size--;
+        }
+
+        /** Removes the last entry. */
+        void removeLast() {
+            this.size--;
+        }
+
+        /** Removes all entries. */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /** Returns an independent copy of the queue. */
+        MonotonicQueue copy() {
+            MonotonicQueue copy = new MonotonicQueue();
+            copy.seqs = this.seqs.clone();
+            copy.values = this.values.clone();
+            copy.head = this.head;
+            copy.size = this.size;
+            return copy;
+        }
+
+        /** Returns the array position for an index into the queue. */
+        private int position(int index) {
+            int p = this.head + index;
+            return p < this.seqs.length ? p : p - this.seqs.length;
+        }
+
+        /** Doubles the capacity of the queue. */
+        private void grow() {
+            int capacity = this.seqs.length;
+            long[] newSeqs = new long[capacity * 2];
+            double[] newValues = new double[capacity * 2];
+            int firstPart = capacity - this.head;
+            System.arraycopy(this.seqs, this.head, newSeqs, 0, firstPart);
+            System.arraycopy(this.seqs, 0, newSeqs, firstPart, this.head);
+            System.arraycopy(this.values, this.head, newValues, 0, firstPart);
+            System.arraycopy(this.values, 0, newValues, firstPart, this.head);
+            this.seqs = newSeqs;
+            this.values = newValues;
+            this.head = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,320 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * SnapshotPin.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pins the data seen by a thread (typically while it draws a chart) to the
+ * versions of the datasets that were current at a point in time.  A dataset
+ * in concurrent mode (see {@link AbstractDataset#isConcurrent()}) publishes
+ * an immutable snapshot of its data each time it changes, and while a
+ * thread holds a pin the dataset methods called by that thread read the
+ * newest snapshot published before the pin was taken, so that the thread
+ * sees a consistent view of the data while other threads continue to
+ * update it.  Snapshots that are older than all the pins are discarded.
+ * <p>
+ * {@link org.jfree.chart.JFreeChart#draw(java.awt.Graphics2D,
+ * java.awt.geom.Rectangle2D, java.awt.geom.Point2D,
+ * org.jfree.chart.ChartRenderingInfo)} pins the drawing thread, so most
+ * applications never need to use this class directly:
+ * <pre>
+ * SnapshotPin pin = SnapshotPin.pin();
+ * try {
+ *     // read the datasets
+ * }
+ * finally {
+ *     pin.release();
+ * }
+ * </pre>
+ * Code that hands part of the work to other threads can make them read the
+ * same versions with {@link #attach(SnapshotPin)} and
+ * {@link #restore(SnapshotPin)}.
+ */
+public final class SnapshotPin {
+
+    /** The clock used to order the pins and versions. */
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    /** The pin for each thread. */
+    private static final ThreadLocal<SnapshotPin> CURRENT
+            = new ThreadLocal<SnapshotPin>();
+
+    /** The pins that have not been released. */
+    private static final Set<SnapshotPin> ACTIVE = Collections.newSetFromMap(
+            new ConcurrentHashMap<SnapshotPin, Boolean>());
+
+    /**
+     * The time of the pin (the minimum value until the pin is registered, so
+     * that no version it could read is discarded in the meantime).
+     */
+    private volatile long time;
+
+    /** The number of calls to {@link #pin()} not yet released. */
+    private int depth;
+
+    /** The snapshot read from each dataset, so that it never changes. */
+    private final Map<Object, Object> snapshots;
+
+    /** The most recently read snapshot (<code>null</code> if none). */
+    private volatile Resolved last;
+
+    /**
+     * Creates a new pin.
+     */
+    private SnapshotPin() {
+        this.time = Long.MIN_VALUE;
+        this.depth = 1;
+        this.snapshots = new IdentityHashMap<Object, Object>();
+    }
+
+    /**
+     * Pins the current thread to the current versions of the datasets.  If
+     * the thread already holds a pin, that pin is returned (and must be
+     * released one more time).
+     *
+     * @return The pin (never <code>null</code>), which must be released.
+     */
+    public static SnapshotPin pin() {
+        SnapshotPin pin = CURRENT.get();
+        if (pin != null) {
+            pin.depth++;
+            return pin;
+        }
+        pin = new SnapshotPin();
+        ACTIVE.add(pin);
+        pin.time = CLOCK.get();
+        CURRENT.set(pin);
+        return pin;
+    }
+
+    /**
+     * Releases the pin.  This must be called by the thread that called
+     * {@link #pin()}, once for each call.
+     */
+    public void release() {
+        if (this.depth == 0) {
+            throw new IllegalStateException("The pin has been released.");
+        }
+        this.depth--;
+        if (this.depth == 0) {
+            ACTIVE.remove(this);
+            if (CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the pin held by the current thread.
+     *
+     * @return The pin (<code>null</code> if the thread holds no pin).
+     */
+    public static SnapshotPin getCurrent() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes the current thread read the versions pinned by another thread,
+     * until {@link #restore(SnapshotPin)} is called.  The pin must not be
+     * released until then.
+     *
+     * @param pin  the pin (<code>null</code> permitted, in which case the
+     *     thread reads the current data).
+     *
+     * @return The pin previously held by the current thread (possibly
+     *     <code>null</code>), which must be passed to
+     *     {@link #restore(SnapshotPin)}.
+     */
+    public static SnapshotPin attach(SnapshotPin pin) {
+        SnapshotPin previous = CURRENT.get();
+        if (pin == null) {
+            CURRENT.remove();
+        }
+        else {
+            CURRENT.set(pin);
+        }
+        return previous;
+    }
+
+    /**
+     * Restores the pin held by the current thread before a call to
+     * {@link #attach(SnapshotPin)}.
+     *
+     * @param previous  the pin returned by {@link #attach(SnapshotPin)}
+     *     (<code>null</code> permitted).
+     */
+    public static void restore(SnapshotPin previous) {
+        attach(previous);
+    }
+
+    /**
+     * Returns the snapshot that this pin reads from a dataset, choosing it
+     * from the published versions the first time the dataset is read.
+     *
+     * @param owner  the dataset.
+     * @param head  the newest version published by the dataset.
+     *
+     * @return The snapshot.
+     */
+    Object resolve(Object owner, Version head) {
+        Resolved resolved = this.last;
+        if (resolved != null && resolved.owner == owner) {
+            return resolved.snapshot;
+        }
+        Object result;
+        synchronized (this.snapshots) {
+            result = this.snapshots.get(owner);
+            if (result == null) {
+                Version version = head;
+                while (version.time > this.time && version.previous != null) {
+                    version = version.previous;
+                }
+                result = version.snapshot;
+                this.snapshots.put(owner, result);
+            }
+        }
+        this.last = new Resolved(owner, result);
+        return result;
+    }
+
+    /**
+     * Creates a new version of a dataset's data, and discards the older
+     * versions that no pin can read.
+     *
+     * @param snapshot  the snapshot.
+     * @param previous  the previous version (<code>null</code> permitted).
+     *
+     * @return The new version.
+     */
+    static Version publish(Object snapshot, Version previous) {
+        Version result = new Version(CLOCK.incrementAndGet(), snapshot,
+                previous);
+        long oldest = Long.MAX_VALUE;
+        for (SnapshotPin pin : ACTIVE) {
+            oldest = Math.min(oldest, pin.time);
+        }
+        Version version = result;
+        while (version.time > oldest && version.previous != null) {
+            version = version.previous;
+        }
+        version.previous = null;
+        return result;
+    }
+
+    /**
+     * A version of the data published by a dataset.
+     */
+    static final class Version {
+
+        /** The time the version was published. */
+        private final long time;
+
+        /** The snapshot. */
+        private final Object snapshot;
+
+        /** The previous version (<code>null</code> if discarded). */
+        private volatile Version previous;
+
+        /**
+         * Creates a new version.
+         *
+         * @param time  the time.
+         * @param snapshot  the snapshot.
+         * @param previous  the previous version.
+         */
+        Version(long time, Object snapshot, Version previous) {
+            this.time = time;
+            this.snapshot = snapshot;
+            this.previous = previous;
+        }
+
+        /**
+         * Returns the snapshot.
+         *
+         * @return The snapshot.
+         */
+        Object getSnapshot() {
+            return this.snapshot;
+        }
+
+        /**
+         * Returns the previous version.
+         *
+         * @return The previous version (<code>null</code> if it has been
+         *     discarded).
+         */
+        Version getPrevious() {
+            return this.previous;
+        }
+
+    }
+
+    /**
+     * The snapshot most recently read through a pin.
+     */
+    private static final class Resolved {
+
+        /** The dataset. */
+        private final Object owner;
+
+        /** The snapshot. */
+        private final Object snapshot;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param owner  the dataset.
+         * @param snapshot  the snapshot.
+         */
+        Resolved(Object owner, Object snapshot) {
+            this.owner = owner;
+            this.snapshot = snapshot;
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * SnapshotSource.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A dataset that can create immutable snapshots of its data, so that it
+ * can be used in concurrent mode (see {@link AbstractDataset#isConcurrent()}
+ * and {@link SnapshotPin}).  Only an {@link AbstractDataset} that
+ * implements this interface can be switched to concurrent mode.
+ */
+public interface SnapshotSource {
+
+    /**
+     * Creates an immutable snapshot of the data.  This is called by the
+     * thread that changes the dataset, after each change (or batch of
+     * changes), and the dataset methods called by a thread that holds a
+     * {@link SnapshotPin} read the snapshot instead of the current data.
+     *
+     * @param previous  the previous snapshot (<code>null</code> if there is
+     *     none), which may share data with the new snapshot provided that
+     *     it is not modified.
+     * @param info  a description of the changes since the previous
+     *     snapshot (<code>null</code> if they are not known).
+     *
+     * @return The snapshot.
+     */
+    Object createSnapshot(Object previous, DatasetChangeInfo info);
+
+}
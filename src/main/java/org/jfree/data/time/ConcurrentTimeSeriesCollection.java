@@ -0,0 +1,805 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * ConcurrentTimeSeriesCollection.java
+ * ------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added serialVersionUID and removed a redundant cast (agent);
+ * 16-Oct-2026 : Read a single view for each pinned thread (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SlidingWindowBounds;
+import org.jfree.data.general.SnapshotPin;
+import org.jfree.data.general.SnapshotSource;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * A dataset that holds a window of the most recent values for a fixed
+ * number of series, where the values can be appended by several threads at
+ * once.  Like {@link DynamicTimeSeriesCollection}, it is intended for
+ * real-time charts, but the threads that supply the data never wait for a
+ * lock (or for each other, or for the chart to be drawn):
+ * <ul>
+ * <li>{@link #append(int, long, float)} may be called from any thread.  The
+ * value is placed in a bounded buffer for the series, without locking.  If
+ * the buffer is full, the {@link OverflowPolicy} decides whether the new
+ * value or the oldest buffered value is dropped, or whether the thread
+ * waits;</li>
+ * <li>{@link #refresh()} moves the buffered values into the window (the
+ * oldest values are discarded once each series holds
+ * {@link #getWindowSize()} values), publishes a new view of the window and
+ * notifies the listeners.  This is typically called from a
+ * <code>javax.swing.Timer</code> at the frame rate of the chart.</li>
+ * </ul>
+ * The dataset is always in concurrent mode (see
+ * {@link #isConcurrent()}).  A thread that holds a {@link SnapshotPin}
+ * (such as a thread drawing a chart with
+ * {@link org.jfree.chart.JFreeChart#draw(java.awt.Graphics2D,
+ * java.awt.geom.Rectangle2D)}) reads the view that was current when the
+ * pin was taken, for as long as it holds the pin, so a chart always sees a
+ * consistent view of the data even if <code>refresh()</code> is called by
+ * another thread while the chart is drawn.  Other threads read the view
+ * published by the last refresh.
+ * <p>
+ * The window is stored in circular arrays with space for a full buffer
+ * beyond the window size, so a refresh never overwrites the values in the
+ * previous view and normally nothing needs to be copied.  If a thread still
+ * holds a pin on an older view, the refresh copies the arrays before
+ * changing them.
+ */
+public class ConcurrentTimeSeriesCollection extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, SnapshotSource {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5896708916570469747L;
+
+    /** The time (in nanoseconds) a blocked thread waits before retrying. */
+    private static final long BLOCK_NANOS = 100000L;
+
+    /** The series keys. */
+    private Comparable[] seriesKeys;
+
+    /** The maximum number of items in each series. */
+    private int windowSize;
+
+    /** The policy for values appended to a full buffer. */
+    private OverflowPolicy overflowPolicy;
+
+    /** The buffers (one per series) that hold the values appended. */
+    private Buffer[] buffers;
+
+    /**
+     * The windows (one per series) that the buffered values are moved into.
+     * These are only accessed while holding the lock.
+     */
+    private Window[] windows;
+
+    /** The lock for refreshing the window. */
+    private final Object lock = new Object();
+
+    /** The data published by the last refresh. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new dataset with a buffer the same size as the window (so
+     * that a full window of values can be appended between refreshes) that
+     * drops the oldest values when it is full.
+     *
+     * @param seriesKeys  the series keys (<code>null</code> not permitted).
+     * @param windowSize  the maximum number of items in each series.
+     */
+    public ConcurrentTimeSeriesCollection(Comparable[] seriesKeys,
+            int windowSize) {
+        this(seriesKeys, windowSize, windowSize, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param seriesKeys  the series keys (<code>null</code> not permitted).
+     * @param windowSize  the maximum number of items in each series.
+     * @param bufferSize  the number of values that can be appended to each
+     *     series between refreshes (this is rounded up to a power of 2).
+     * @param overflowPolicy  the policy for values appended to a full buffer
+     *     (<code>null</code> not permitted).
+     */
+    public ConcurrentTimeSeriesCollection(Comparable[] seriesKeys,
+            int windowSize, int bufferSize, OverflowPolicy overflowPolicy) {
+        ParamChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ParamChecks.nullNotPermitted(overflowPolicy, "overflowPolicy");
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Requires 'windowSize' > 0.");
+        }
+        if (bufferSize <= 0 || bufferSize > (1 << 30)) {
+            throw new IllegalArgumentException(
+                    "Requires 0 < 'bufferSize' <= 2^30.");
+        }
+        int capacity = Integer.highestOneBit(bufferSize);
+        if (capacity < bufferSize) {
+            capacity = capacity << 1;
+        }
+        this.seriesKeys = seriesKeys.clone();
+        this.windowSize = windowSize;
+        this.overflowPolicy = overflowPolicy;
+        int seriesCount = seriesKeys.length;
+        this.buffers = new Buffer[seriesCount];
+        this.windows = new Window[seriesCount];
+        long[][] times = new long[seriesCount][];
+        float[][] values = new float[seriesCount][];
+        for (int s = 0; s < seriesCount; s++) {
+            this.buffers[s] = new Buffer(capacity);
+            this.windows[s] = new Window(windowSize, capacity);
+            times[s] = this.windows[s].times;
+            values[s] = this.windows[s].values;
+        }
+        this.snapshot = new Snapshot(times, values, new int[seriesCount],
+                new int[seriesCount], null, null);
+        setConcurrent(true);
+    }
+
+    /**
+     * Returns the maximum number of items in each series.
+     *
+     * @return The window size.
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Returns the number of values that can be appended to each series
+     * between refreshes before the overflow policy is applied.
+     *
+     * @return The buffer size.
+     */
+    public int getBufferSize() {
+        return this.buffers.length > 0 ? this.buffers[0].mask + 1 : 0;
+    }
+
+    /**
+     * Returns the policy for values appended to a full buffer.
+     *
+     * @return The policy (never <code>null</code>).
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Returns the number of values appended to a series that have been
+     * dropped because the buffer was full.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The number of values dropped.
+     */
+    public long getDroppedCount(int series) {
+        return this.buffers[series].dropped.get();
+    }
+
+    /**
+     * Appends a value to a series.  The value does not appear in the
+     * dataset until the next call to {@link #refresh()}.  This method can be
+     * called from any thread, and does not lock.
+     *
+     * @param series  the series index (zero-based).
+     * @param millisecond  the time of the value, in milliseconds since
+     *     1-Jan-1970 00:00 UTC (the same as the x-values in a
+     *     {@link TimeSeriesCollection}).
+     * @param value  the value.
+     *
+     * @return A boolean indicating whether the value was accepted (this is
+     *     <code>false</code> if the buffer was full and the overflow policy
+     *     is {@link OverflowPolicy#DROP_NEWEST}, or the policy is
+     *     {@link OverflowPolicy#BLOCK} and the thread was interrupted while
+     *     waiting).
+     */
+    public boolean append(int series, long millisecond, float value) {
+        Buffer buffer = this.buffers[series];
+        while (!buffer.offer(millisecond, value)) {
+            if (this.overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                long position = buffer.claim();
+                if (position >= 0L) {
+                    buffer.release(position);
+                    buffer.dropped.incrementAndGet();
+                }
+            }
+            else if (this.overflowPolicy == OverflowPolicy.BLOCK
+                    && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(this, BLOCK_NANOS);
+            }
+            else {
+                buffer.dropped.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the values appended since the last refresh into the dataset and,
+     * if there were any, sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @return A boolean indicating whether the dataset changed.
+     */
+    public boolean refresh() {
+        synchronized (this.lock) {
+            Snapshot previous = this.snapshot;
+            // the previous view is never overwritten, but an older view
+            // that is still pinned might be
+            boolean copy = getOldestSnapshot() != previous;
+            int seriesCount = this.windows.length;
+            long[][] times = new long[seriesCount][];
+            float[][] values = new float[seriesCount][];
+            int[] starts = previous.starts.clone();
+            int[] counts = previous.counts.clone();
+            boolean changed = false;
+            for (int s = 0; s < seriesCount; s++) {
+                Window window = this.windows[s];
+                if (window.drain(this.buffers[s], copy)) {
+                    starts[s] = window.start;
+                    counts[s] = window.count;
+                    changed = true;
+                }
+                times[s] = window.times;
+                values[s] = window.values;
+            }
+            if (!changed) {
+                return false;
+            }
+            double xMin = Double.NaN;
+            double xMax = Double.NaN;
+            double yMin = Double.NaN;
+            double yMax = Double.NaN;
+            for (int s = 0; s < seriesCount; s++) {
+                Window window = this.windows[s];
+                xMin = min(xMin, window.xBounds.getMinimum());
+                xMax = max(xMax, window.xBounds.getMaximum());
+                yMin = min(yMin, window.yBounds.getMinimum());
+                yMax = max(yMax, window.yBounds.getMaximum());
+            }
+            Range domain = Double.isNaN(xMin) ? null : new Range(xMin, xMax);
+            Range range = Double.isNaN(yMin) ? null : new Range(yMin, yMax);
+            this.snapshot = new Snapshot(times, values, starts, counts,
+                    domain, range);
+        }
+        fireDatasetChanged();
+        return true;
+    }
+
+    /**
+     * Returns the view published by the last refresh, which is never
+     * modified, as the snapshot read by threads holding a
+     * {@link SnapshotPin}.
+     *
+     * @param previous  the previous snapshot (ignored).
+     * @param info  a description of the changes (ignored).
+     *
+     * @return The snapshot.
+     */
+    @Override
+    public Object createSnapshot(Object previous, DatasetChangeInfo info) {
+        return this.snapshot;
+    }
+
+    /**
+     * Returns the view read by the current thread: the pinned view if the
+     * thread holds a {@link SnapshotPin}, and otherwise the view published
+     * by the last refresh.
+     *
+     * @return The view.
+     */
+    private Snapshot getData() {
+        Snapshot data = (Snapshot) getSnapshot();
+        return data != null ? data : this.snapshot;
+    }
+
+    /**
+     * Returns the smaller of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum.
+     */
+    private static double min(double a, double b) {
+        return Double.isNaN(a) || b < a ? b : a;
+    }
+
+    /**
+     * Returns the larger of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum.
+     */
+    private static double max(double a, double b) {
+        return Double.isNaN(a) || b > a ? b : a;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.seriesKeys[series];
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getData().counts[series];
+    }
+
+    /**
+     * Returns the x-value (the time in milliseconds) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        Snapshot data = getData();
+        return data.times[series][data.index(series, item)];
+    }
+
+    /**
+     * Returns the x-value (the time in milliseconds) for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        Snapshot data = getData();
+        return data.times[series][data.index(series, item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        Snapshot data = getData();
+        return data.values[series][data.index(series, item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        Snapshot data = getData();
+        return data.values[series][data.index(series, item)];
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no x-interval.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range range = getData().domain;
+        return range == null ? Double.NaN : range.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no x-interval.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range range = getData().domain;
+        return range == null ? Double.NaN : range.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no x-interval.
+     *
+     * @return The range (<code>null</code> if the dataset is empty).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return getData().domain;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no y-interval.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getData().range;
+        return range == null ? Double.NaN : range.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no y-interval.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getData().range;
+        return range == null ? Double.NaN : range.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored, since the items have no y-interval.
+     *
+     * @return The range (<code>null</code> if the dataset is empty).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return getData().range;
+    }
+
+    /**
+     * A bounded buffer that values can be added to and removed from by
+     * several threads without locking.  Each slot has a sequence number that
+     * shows whether it is free for the value at a position (the sequence
+     * number equals the position), or holds the value for the position (the
+     * sequence number is one more than the position).
+     */
+    private static final class Buffer {
+
+        /** The capacity minus one (the capacity is a power of 2). */
+        private final int mask;
+
+        /** The times. */
+        private final long[] times;
+
+        /** The values. */
+        private final float[] values;
+
+        /** The sequence numbers for the slots. */
+        private final AtomicLongArray sequences;
+
+        /** The position for the next value added. */
+        private final AtomicLong tail;
+
+        /** The position of the next value to remove. */
+        private final AtomicLong head;
+
+        /** The number of values dropped. */
+        private final AtomicLong dropped;
+
+        /**
+         * Creates a new empty buffer.
+         *
+         * @param capacity  the capacity (a power of 2).
+         */
+        Buffer(int capacity) {
+            this.mask = capacity - 1;
+            this.times = new long[capacity];
+            this.values = new float[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                this.sequences.set(i, i);
+            }
+            this.tail = new AtomicLong();
+            this.head = new AtomicLong();
+            this.dropped = new AtomicLong();
+        }
+
+        /**
+         * Adds a value to the buffer, if there is space.
+         *
+         * @param time  the time.
+         * @param value  the value.
+         *
+         * @return A boolean indicating whether the value was added.
+         */
+        boolean offer(long time, float value) {
+            long position = this.tail.get();
+            while (true) {
+                int index = (int) position & this.mask;
+                long difference = this.sequences.get(index) - position;
+                if (difference == 0L) {
+                    if (this.tail.compareAndSet(position, position + 1)) {
+                        this.times[index] = time;
+                        this.values[index] = value;
+                        // the volatile write publishes the time and value
+                        this.sequences.set(index, position + 1);
+                        return true;
+                    }
+                }
+                else if (difference < 0L) {
+                    // the slot still holds the value from one lap earlier
+                    return false;
+                }
+                position = this.tail.get();
+            }
+        }
+
+        /**
+         * Claims the oldest value in the buffer.  The value can be read
+         * from the slot at the returned position (masked), which is not
+         * reused until {@link #release(long)} is called.
+         *
+         * @return The position of the value, or <code>-1</code> if the
+         *     buffer is empty (or the oldest value is still being written).
+         */
+        long claim() {
+            long position = this.head.get();
+            while (true) {
+                int index = (int) position & this.mask;
+                long difference = this.sequences.get(index) - (position + 1);
+                if (difference == 0L) {
+                    if (this.head.compareAndSet(position, position + 1)) {
+                        return position;
+                    }
+                }
+                else if (difference < 0L) {
+                    return -1L;
+                }
+                position = this.head.get();
+            }
+        }
+
+        /**
+         * Frees the slot for a value returned by {@link #claim()}.
+         *
+         * @param position  the position.
+         */
+        void release(long position) {
+            this.sequences.set((int) position & this.mask,
+                    position + this.mask + 1);
+        }
+
+    }
+
+    /**
+     * The values in the window for one series, in circular arrays.
+     */
+    private static final class Window {
+
+        /** The maximum number of items. */
+        private final int size;
+
+        /** The times. */
+        private long[] times;
+
+        /** The values. */
+        private float[] values;
+
+        /** The array position of the oldest item. */
+        private int start;
+
+        /** The number of items. */
+        private int count;
+
+        /** The bounds of the times. */
+        private final SlidingWindowBounds xBounds;
+
+        /** The bounds of the values. */
+        private final SlidingWindowBounds yBounds;
+
+        /**
+         * Creates a new empty window.
+         *
+         * @param size  the maximum number of items.
+         * @param bufferSize  the buffer size (the arrays have space for this
+         *     many items beyond the maximum, so that the items in the
+         *     previous view are not overwritten by the next refresh).
+         */
+        Window(int size, int bufferSize) {
+            this.size = size;
+            this.times = new long[size + bufferSize];
+            this.values = new float[size + bufferSize];
+            this.xBounds = new SlidingWindowBounds();
+            this.yBounds = new SlidingWindowBounds();
+        }
+
+        /**
+         * Moves the values from a buffer into the window, discarding the
+         * oldest items in the window if necessary.  At most one buffer full
+         * of values is moved, so that threads appending values faster than
+         * they can be moved do not keep the caller here indefinitely.
+         *
+         * @param buffer  the buffer.
+         * @param copy  if <code>true</code>, the arrays are copied before
+         *     they are changed (because an older view may still be read).
+         *
+         * @return A boolean indicating whether any values were moved.
+         */
+        boolean drain(Buffer buffer, boolean copy) {
+            int capacity = this.times.length;
+            boolean result = false;
+            int remaining = buffer.mask + 1;
+            long position = buffer.claim();
+            if (position >= 0L && copy) {
+                this.times = this.times.clone();
+                this.values = this.values.clone();
+            }
+            while (position >= 0L) {
+                int index = (int) position & buffer.mask;
+                if (this.count == this.size) {
+                    this.start = this.start + 1 == capacity ? 0
+                            : this.start + 1;
+                    this.count--;
+                    this.xBounds.removeFirst();
+                    this.yBounds.removeFirst();
+                }
+                int i = this.start + this.count;
+                if (i >= capacity) {
+                    i -= capacity;
+                }
+                this.times[i] = buffer.times[index];
+                this.values[i] = buffer.values[index];
+                buffer.release(position);
+                this.count++;
+                this.xBounds.add(this.times[i]);
+                this.yBounds.add(this.values[i]);
+                result = true;
+                remaining--;
+                position = remaining > 0 ? buffer.claim() : -1L;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The view of the window published by a refresh.
+     */
+    private static final class Snapshot {
+
+        /** The times for each series (circular arrays). */
+        private final long[][] times;
+
+        /** The values for each series (circular arrays). */
+        private final float[][] values;
+
+        /** The array position of the first item in each series. */
+        private final int[] starts;
+
+        /** The number of items in each series. */
+        private final int[] counts;
+
+        /** The range of the times (<code>null</code> if empty). */
+        private final Range domain;
+
+        /** The range of the values (<code>null</code> if empty). */
+        private final Range range;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param times  the times.
+         * @param values  the values.
+         * @param starts  the array positions of the first items.
+         * @param counts  the item counts.
+         * @param domain  the range of the times.
+         * @param range  the range of the values.
+         */
+        Snapshot(long[][] times, float[][] values, int[] starts,
+                int[] counts, Range domain, Range range) {
+            this.times = times;
+            this.values = values;
+            this.starts = starts;
+            this.counts = counts;
+            this.domain = domain;
+            this.range = range;
+        }
+
+        /**
+         * Returns the array position of an item.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The array position.
+         */
+        int index(int series, int item) {
+            if (item < 0 || item >= this.counts[series]) {
+                throw new IndexOutOfBoundsException("Item " + item
+                        + " not in series " + series + ".");
+            }
+            int result = this.starts[series] + item;
+            int capacity = this.times[series].length;
+            return result < capacity ? result : result - capacity;
+        }
+
+    }
+
+}
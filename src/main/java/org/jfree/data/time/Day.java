@@ -58,6 +58,8 @@
  * 06-Oct-2006 : Refactored to cache first and last millisecond values (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 16-Oct-2026 : Calculate the first and last milliseconds without a
+ *               calendar where possible (agent);
  *
  */
 
@@ -126,7 +128,7 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     public Day(int day, int month, int year) {
         this.serialDate = SerialDate.createInstance(day, month, year);
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -139,7 +141,7 @@ public class Day extends RegularTimePeriod implements Serializable {
             throw new IllegalArgumentException("Null 'serialDate' argument.");
         }
         this.serialDate = serialDate;
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -265,6 +267,21 @@ public class Day extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the first and last milliseconds for this day relative
+     * to the default time zone, without a calendar where possible.
+     */
+    private void pegDefault() {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getDefault();
+        if (offsets != null && usesZoneOffsets()) {
+            this.firstMillisecond = calculateFirstMillisecond(offsets);
+            this.lastMillisecond = calculateLastMillisecond(offsets);
+        }
+        else {
+            peg(Calendar.getInstance());
+        }
+    }
+
     /**
      * Returns the day preceding this one.
      *
@@ -351,6 +368,44 @@ public class Day extends RegularTimePeriod implements Serializable {
         return calendar.getTimeInMillis();
     }
 
+    /**
+     * Returns <code>true</code> if this is an instance of this class (and
+     * not a subclass), see {@link RegularTimePeriod#usesZoneOffsets()}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    boolean usesZoneOffsets() {
+        return getClass() == Day.class;
+    }
+
+    /**
+     * Returns the first millisecond of the day, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    @Override
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.serialDate.toSerial(), 0L);
+    }
+
+    /**
+     * Returns the last millisecond of the day, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    @Override
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.serialDate.toSerial(),
+                86399999L);
+    }
+
     /**
      * Tests the equality of this Day object to an arbitrary object.  Returns
      * true if the target is a Day instance or a SerialDate instance
@@ -59,6 +59,8 @@
  *               time zone (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 16-Oct-2026 : Calculate the first and last milliseconds without a
+ *               calendar where possible (agent);
  *
  */
 
@@ -116,7 +118,7 @@ public class Hour extends RegularTimePeriod implements Serializable {
         }
         this.hour = (byte) hour;
         this.day = day;
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -260,6 +262,21 @@ public class Hour extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the first and last milliseconds for this hour relative
+     * to the default time zone, without a calendar where possible.
+     */
+    private void pegDefault() {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getDefault();
+        if (offsets != null && usesZoneOffsets()) {
+            this.firstMillisecond = calculateFirstMillisecond(offsets);
+            this.lastMillisecond = calculateLastMillisecond(offsets);
+        }
+        else {
+            peg(Calendar.getInstance());
+        }
+    }
+
     /**
      * Returns the hour preceding this one.
      *
@@ -356,6 +373,45 @@ public class Hour extends RegularTimePeriod implements Serializable {
         return calendar.getTimeInMillis();
     }
 
+    /**
+     * Returns <code>true</code> if this is an instance of this class (and
+     * not a subclass), see {@link RegularTimePeriod#usesZoneOffsets()}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    boolean usesZoneOffsets() {
+        return getClass() == Hour.class;
+    }
+
+    /**
+     * Returns the first millisecond of the hour, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    @Override
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                this.hour * 3600000L);
+    }
+
+    /**
+     * Returns the last millisecond of the hour, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    @Override
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                this.hour * 3600000L + 3599999L);
+    }
+
     /**
      * Tests the equality of this object against an arbitrary Object.
      * <P>
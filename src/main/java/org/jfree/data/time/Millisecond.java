@@ -54,6 +54,8 @@
  *               see http://www.jfree.org/phpBB2/viewtopic.php?t=24805 (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 16-Oct-2026 : Calculate the first and last milliseconds without a
+ *               calendar where possible (agent);
  *
  */
 
@@ -119,7 +121,7 @@ public class Millisecond extends RegularTimePeriod implements Serializable, Comp
         this.minute = (byte) second.getMinute().getMinute();
         this.hour = (byte) second.getMinute().getHourValue();
         this.day = second.getMinute().getDay();
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -234,6 +236,20 @@ public class Millisecond extends RegularTimePeriod implements Serializable, Comp
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the first millisecond for this time period relative to
+     * the default time zone, without a calendar where possible.
+     */
+    private void pegDefault() {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getDefault();
+        if (offsets != null && usesZoneOffsets()) {
+            this.firstMillisecond = calculateFirstMillisecond(offsets);
+        }
+        else {
+            peg(Calendar.getInstance());
+        }
+    }
+
     /**
      * Returns the millisecond preceding this one.
      *
@@ -424,4 +440,43 @@ public class Millisecond extends RegularTimePeriod implements Serializable, Comp
         return getFirstMillisecond(calendar);
     }
 
+    /**
+     * Returns <code>true</code> if this is an instance of this class (and
+     * not a subclass), see {@link RegularTimePeriod#usesZoneOffsets()}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    boolean usesZoneOffsets() {
+        return getClass() == Millisecond.class;
+    }
+
+    /**
+     * Returns the first millisecond of the time period, evaluated in the
+     * time zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    @Override
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                ((this.hour * 60L + this.minute) * 60L + this.second) * 1000L
+                + this.millisecond);
+    }
+
+    /**
+     * Returns the last millisecond of the time period, evaluated in the
+     * time zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    @Override
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return calculateFirstMillisecond(offsets);
+    }
+
 }
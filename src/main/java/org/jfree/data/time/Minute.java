@@ -60,6 +60,8 @@
  * 11-Dec-2006 : Fix for previous() - bug 1611872 (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor that specifies Locale (DG);
+ * 16-Oct-2026 : Calculate the first and last milliseconds without a
+ *               calendar where possible (agent);
  *
  */
 
@@ -121,7 +123,7 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.minute = (byte) minute;
         this.hour = (byte) hour.getHour();
         this.day = hour.getDay();
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -262,6 +264,21 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.lastMillisecond = getLastMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the first and last milliseconds for this minute relative
+     * to the default time zone, without a calendar where possible.
+     */
+    private void pegDefault() {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getDefault();
+        if (offsets != null && usesZoneOffsets()) {
+            this.firstMillisecond = calculateFirstMillisecond(offsets);
+            this.lastMillisecond = calculateLastMillisecond(offsets);
+        }
+        else {
+            peg(Calendar.getInstance());
+        }
+    }
+
     /**
      * Returns the minute preceding this one.
      *
@@ -367,6 +384,45 @@ public class Minute extends RegularTimePeriod implements Serializable {
         return calendar.getTimeInMillis();
     }
 
+    /**
+     * Returns <code>true</code> if this is an instance of this class (and
+     * not a subclass), see {@link RegularTimePeriod#usesZoneOffsets()}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    boolean usesZoneOffsets() {
+        return getClass() == Minute.class;
+    }
+
+    /**
+     * Returns the first millisecond of the minute, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    @Override
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                (this.hour * 60L + this.minute) * 60000L);
+    }
+
+    /**
+     * Returns the last millisecond of the minute, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    @Override
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                (this.hour * 60L + this.minute) * 60000L + 59999L);
+    }
+
     /**
      * Tests the equality of this object against an arbitrary Object.
      * <P>
@@ -48,6 +48,7 @@
  * 06-Oct-2006 : Deprecated the WORKING_CALENDAR field and several methods,
  *               added new peg() method (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
+ * 16-Oct-2026 : Added methods that use a ZoneOffsetCache (agent);
  *
  */
 
@@ -277,6 +278,65 @@ public abstract class RegularTimePeriod implements TimePeriod, Comparable<TimePe
         return m1 + (m2 - m1) / 2;
     }
 
+    /**
+     * Returns <code>true</code> if this time period calculates its first
+     * and last milliseconds from a {@link ZoneOffsetCache} without using a
+     * calendar, and <code>false</code> otherwise.  The time periods with a
+     * fixed length in local time ({@link Day}, {@link Hour}, {@link Minute},
+     * {@link Second} and {@link Millisecond}) return <code>true</code>, but
+     * not their subclasses (which might override the methods that use a
+     * calendar).
+     *
+     * @return A boolean.
+     */
+    boolean usesZoneOffsets() {
+        return false;
+    }
+
+    /**
+     * Returns the first millisecond of the time period, evaluated in the
+     * time zone of the supplied cache.  The result is the same as
+     * {@link #getFirstMillisecond(Calendar)} with a standard calendar for
+     * the time zone.  This implementation creates a calendar, subclasses
+     * that return <code>true</code> from {@link #usesZoneOffsets()}
+     * override it.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond of the time period.
+     */
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return getFirstMillisecond(offsets.createCalendar());
+    }
+
+    /**
+     * Returns the last millisecond of the time period, evaluated in the
+     * time zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond of the time period.
+     *
+     * @see #calculateFirstMillisecond(ZoneOffsetCache)
+     */
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return getLastMillisecond(offsets.createCalendar());
+    }
+
+    /**
+     * Returns the millisecond closest to the middle of the time period,
+     * evaluated in the time zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The middle millisecond.
+     */
+    long calculateMiddleMillisecond(ZoneOffsetCache offsets) {
+        long m1 = calculateFirstMillisecond(offsets);
+        long m2 = calculateLastMillisecond(offsets);
+        return m1 + (m2 - m1) / 2;
+    }
+
     /**
      * Returns a string representation of the time period.
      *
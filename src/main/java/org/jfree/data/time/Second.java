@@ -55,6 +55,8 @@
  * 06-Oct-2006 : Refactored to cache first and last millisecond values (DG);
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
+ * 16-Oct-2026 : Calculate the first and last milliseconds without a
+ *               calendar where possible (agent);
  *
  */
 
@@ -120,7 +122,7 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.hour = (byte) minute.getHourValue();
         this.minute = (byte) minute.getMinute();
         this.second = (byte) second;
-        peg(Calendar.getInstance());
+        pegDefault();
     }
 
     /**
@@ -230,6 +232,20 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.firstMillisecond = getFirstMillisecond(calendar);
     }
 
+    /**
+     * Recalculates the first millisecond for this second relative to the
+     * default time zone, without a calendar where possible.
+     */
+    private void pegDefault() {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getDefault();
+        if (offsets != null && usesZoneOffsets()) {
+            this.firstMillisecond = calculateFirstMillisecond(offsets);
+        }
+        else {
+            peg(Calendar.getInstance());
+        }
+    }
+
     /**
      * Returns the second preceding this one.
      *
@@ -319,6 +335,44 @@ public class Second extends RegularTimePeriod implements Serializable {
         return getFirstMillisecond(calendar) + 999L;
     }
 
+    /**
+     * Returns <code>true</code> if this is an instance of this class (and
+     * not a subclass), see {@link RegularTimePeriod#usesZoneOffsets()}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    boolean usesZoneOffsets() {
+        return getClass() == Second.class;
+    }
+
+    /**
+     * Returns the first millisecond of the second, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    @Override
+    long calculateFirstMillisecond(ZoneOffsetCache offsets) {
+        return offsets.getMillisecond(this.day.getSerialIndex(),
+                ((this.hour * 60L + this.minute) * 60L + this.second) * 1000L);
+    }
+
+    /**
+     * Returns the last millisecond of the second, evaluated in the time
+     * zone of the supplied cache.
+     *
+     * @param offsets  the offsets (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    @Override
+    long calculateLastMillisecond(ZoneOffsetCache offsets) {
+        return calculateFirstMillisecond(offsets) + 999L;
+    }
+
     /**
      * Tests the equality of this object against an arbitrary Object.
      * <P>
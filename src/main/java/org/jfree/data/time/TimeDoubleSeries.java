@@ -0,0 +1,751 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * TimeDoubleSeries.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ObjectUtilities;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A time series where each time period is stored as its first millisecond in
+ * an array of <code>long</code> primitives, and each value in an array of
+ * <code>double</code> primitives, rather than as a list of
+ * {@link TimeSeriesDataItem} objects.  This uses far less memory than a
+ * {@link TimeSeries} for large series (16 bytes per item), and the values
+ * can be read without any object allocation.  Missing values are represented
+ * by <code>Double.NaN</code>.
+ * <P>
+ * All the time periods in the series are instances of one class, which must
+ * be {@link Millisecond}, {@link Second}, {@link Minute}, {@link Hour} or
+ * {@link Day}, and are evaluated in a time zone specified in the
+ * constructor.  The items are always sorted by time period, and duplicate
+ * time periods are not permitted.
+ *
+ * @see TimeDoubleSeriesCollection
+ */
+public class TimeDoubleSeries extends Series implements Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3384658457442963640L;
+
+    /** The default initial capacity for the value arrays. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** The type of time period in the series. */
+    private Class<? extends RegularTimePeriod> timePeriodClass;
+
+    /** The time zone used to evaluate the time periods. */
+    private TimeZone zone;
+
+    /** The offsets for the time zone. */
+    private transient ZoneOffsetCache offsets;
+
+    /** The length of each time period, in milliseconds of local time. */
+    private long periodLength;
+
+    /** Storage for the first millisecond of each time period. */
+    private long[] periodStarts;
+
+    /** Storage for the values. */
+    private double[] values;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /** The lowest value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series for time periods evaluated in the default
+     * time zone.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period ({@link Millisecond},
+     *     {@link Second}, {@link Minute}, {@link Hour} or {@link Day}).
+     */
+    public TimeDoubleSeries(Comparable key,
+            Class<? extends RegularTimePeriod> timePeriodClass) {
+        this(key, timePeriodClass, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period ({@link Millisecond},
+     *     {@link Second}, {@link Minute}, {@link Hour} or {@link Day}).
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    public TimeDoubleSeries(Comparable key,
+            Class<? extends RegularTimePeriod> timePeriodClass,
+            TimeZone zone) {
+        this(key, timePeriodClass, zone, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series with storage pre-allocated for the
+     * specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period ({@link Millisecond},
+     *     {@link Second}, {@link Minute}, {@link Hour} or {@link Day}).
+     * @param zone  the time zone (<code>null</code> not permitted).  This
+     *     must be a time zone from <code>TimeZone.getTimeZone()</code> or a
+     *     <code>SimpleTimeZone</code>.
+     * @param initialCapacity  the initial capacity (must be zero or
+     *     greater).
+     */
+    public TimeDoubleSeries(Comparable key,
+            Class<? extends RegularTimePeriod> timePeriodClass,
+            TimeZone zone, int initialCapacity) {
+        super(key);
+        ParamChecks.nullNotPermitted(timePeriodClass, "timePeriodClass");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.periodLength = getPeriodLength(timePeriodClass);
+        if (this.periodLength <= 0L) {
+            throw new IllegalArgumentException("The time period class must "
+                    + "be Millisecond, Second, Minute, Hour or Day.");
+        }
+        this.offsets = ZoneOffsetCache.getInstance(zone);
+        if (this.offsets == null) {
+            throw new IllegalArgumentException("Unsupported time zone: "
+                    + zone.getID());
+        }
+        this.timePeriodClass = timePeriodClass;
+        this.zone = (TimeZone) zone.clone();
+        this.periodStarts = new long[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.itemCount = 0;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the length of a time period in milliseconds of local time.
+     *
+     * @param c  the time period class.
+     *
+     * @return The length, or zero if the class is not supported.
+     */
+    private static long getPeriodLength(Class<?> c) {
+        if (c == Millisecond.class) {
+            return 1L;
+        }
+        else if (c == Second.class) {
+            return 1000L;
+        }
+        else if (c == Minute.class) {
+            return 60L * 1000L;
+        }
+        else if (c == Hour.class) {
+            return 60L * 60L * 1000L;
+        }
+        else if (c == Day.class) {
+            return 24L * 60L * 60L * 1000L;
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns the type of time period in the series.
+     *
+     * @return The time period class (never <code>null</code>).
+     */
+    public Class<? extends RegularTimePeriod> getTimePeriodClass() {
+        return this.timePeriodClass;
+    }
+
+    /**
+     * Returns the time zone used to evaluate the time periods.
+     *
+     * @return The time zone (a new instance each time).
+     */
+    public TimeZone getTimeZone() {
+        return (TimeZone) this.zone.clone();
+    }
+
+    /**
+     * Returns the smallest value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest value.
+     *
+     * @see #getMaxY()
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest value
+     * (for example, when the series is empty).
+     *
+     * @return The largest value.
+     *
+     * @see #getMinY()
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param y  the value of the item added.
+     */
+    private void updateBoundsForAddedItem(double y) {
+        if (!Double.isNaN(y)) {
+            this.minY = Double.isNaN(this.minY) ? y : Math.min(this.minY, y);
+            this.maxY = Double.isNaN(this.maxY) ? y : Math.max(this.maxY, y);
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param y  the value of the item removed.
+     */
+    private void updateBoundsForRemovedItem(double y) {
+        if (!Double.isNaN(y) && (y <= this.minY || y >= this.maxY)) {
+            findBoundsByIteration();
+        }
+    }
+
+    /**
+     * Finds the bounds of the values for the series, by iterating through
+     * all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            updateBoundsForAddedItem(this.values[i]);
+        }
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed, ensuring that the maximum item count is not
+     * exceeded.
+     * <p>
+     * Typically this value is set before the series is populated with data,
+     * but if it is applied later, it may cause some items to be removed from
+     * the series (in which case a {@link SeriesChangeEvent} will be sent to
+     * all registered listeners).
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        if (maximum < 0) {
+            throw new IllegalArgumentException("Negative 'maximum' argument.");
+        }
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Ensures that the series can hold at least the specified number of items
+     * without growing its storage arrays.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = this.periodStarts.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(capacity + (capacity >> 1) + 1,
+                    minCapacity);
+            this.periodStarts = Arrays.copyOf(this.periodStarts, newCapacity);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+    }
+
+    /**
+     * Trims the storage arrays so that their capacity matches the number of
+     * items in the series.
+     */
+    public void trimToSize() {
+        if (this.periodStarts.length > this.itemCount) {
+            this.periodStarts = Arrays.copyOf(this.periodStarts,
+                    this.itemCount);
+            this.values = Arrays.copyOf(this.values, this.itemCount);
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws SeriesException if the time period is not an instance of the
+     *     time period class for the series, or the series already contains
+     *     an item for the time period.
+     */
+    public void add(RegularTimePeriod period, double value) {
+        add(period, value, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the time period is not an instance of the
+     *     time period class for the series, or the series already contains
+     *     an item for the time period.
+     */
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        ParamChecks.nullNotPermitted(period, "period");
+        if (period.getClass() != this.timePeriodClass) {
+            throw new SeriesException("You are trying to add data where the "
+                    + "time period class is " + period.getClass().getName()
+                    + ", but the series is expecting an instance of "
+                    + this.timePeriodClass.getName() + ".");
+        }
+        long start = period.calculateFirstMillisecond(this.offsets);
+        int oldItemCount = this.itemCount;
+        int index;
+        if (this.itemCount == 0
+                || start > this.periodStarts[this.itemCount - 1]) {
+            // the common case, appending at the end of the series
+            index = this.itemCount;
+        }
+        else {
+            index = Arrays.binarySearch(this.periodStarts, 0, this.itemCount,
+                    start);
+            if (index >= 0) {
+                throw new SeriesException("You are attempting to add an "
+                        + "observation for the time period " + period
+                        + " but the series already contains an observation "
+                        + "for that time period. Duplicates are not "
+                        + "permitted.");
+            }
+            index = -index - 1;
+        }
+        insert(index, start, value);
+        updateBoundsForAddedItem(value);
+        if (this.itemCount > this.maximumItemCount) {
+            double removed = this.values[0];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(removed);
+            index--;
+        }
+        if (notify) {
+            boolean appended = this.itemCount > 0
+                    && index == this.itemCount - 1;
+            fireSeriesChanged(appended ? new SeriesChangeInfo(
+                    SeriesChangeType.APPEND, index, index,
+                    oldItemCount + 1 - this.itemCount) : null);
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage arrays if
+     * necessary.  No bounds are updated and no events are sent.
+     *
+     * @param index  the index.
+     * @param start  the first millisecond of the time period.
+     * @param value  the value.
+     */
+    private void insert(int index, long start, double value) {
+        ensureCapacity(this.itemCount + 1);
+        if (index < this.itemCount) {
+            int moved = this.itemCount - index;
+            System.arraycopy(this.periodStarts, index, this.periodStarts,
+                    index + 1, moved);
+            System.arraycopy(this.values, index, this.values, index + 1,
+                    moved);
+        }
+        this.periodStarts[index] = start;
+        this.values[index] = value;
+        this.itemCount++;
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).  No bounds are updated and no events are
+     * sent.
+     *
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     */
+    private void removeRange(int start, int end) {
+        if (start < 0 || end > this.itemCount || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range " + start
+                    + " to " + end + " for series with " + this.itemCount
+                    + " items.");
+        }
+        int moved = this.itemCount - end;
+        System.arraycopy(this.periodStarts, end, this.periodStarts, start,
+                moved);
+        System.arraycopy(this.values, end, this.values, start, moved);
+        this.itemCount -= (end - start);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based, inclusive).
+     */
+    public void delete(int start, int end) {
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged(start == 0 ? new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, end) : null);
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Checks that an item index is valid for the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Returns the first millisecond of the time period at the specified
+     * index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The first millisecond.
+     */
+    public long getFirstMillisecond(int index) {
+        checkIndex(index);
+        return this.periodStarts[index];
+    }
+
+    /**
+     * Returns the last millisecond of the time period at the specified
+     * index.  This is the same as the last millisecond of the time period
+     * evaluated with a calendar for the series time zone.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The last millisecond.
+     */
+    public long getLastMillisecond(int index) {
+        checkIndex(index);
+        long start = this.periodStarts[index];
+        if (this.periodLength <= 1000L) {
+            // see Millisecond and Second
+            return start + this.periodLength - 1L;
+        }
+        long local = this.offsets.toLocalMillisecond(start);
+        long offset = local % this.periodLength;
+        if (offset < 0) {
+            offset += this.periodLength;
+        }
+        return this.offsets.toMillisecond(local - offset
+                + this.periodLength - 1L);
+    }
+
+    /**
+     * Returns the millisecond closest to the middle of the time period at
+     * the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The middle millisecond.
+     */
+    public long getMiddleMillisecond(int index) {
+        long m1 = getFirstMillisecond(index);
+        long m2 = getLastMillisecond(index);
+        return m1 + (m2 - m1) / 2;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        return this.values[index];
+    }
+
+    /**
+     * Returns the time period at the specified index.  Note that this
+     * method creates a new object.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The time period (never <code>null</code>).
+     */
+    public RegularTimePeriod getTimePeriod(int index) {
+        return RegularTimePeriod.createInstance(this.timePeriodClass,
+                new Date(getFirstMillisecond(index)), this.zone,
+                Locale.getDefault());
+    }
+
+    /**
+     * Returns the index of the item for the specified time period, or a
+     * negative index if the series does not contain an item for that time
+     * period.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int getIndex(RegularTimePeriod period) {
+        ParamChecks.nullNotPermitted(period, "period");
+        if (period.getClass() != this.timePeriodClass) {
+            return -1;
+        }
+        return Arrays.binarySearch(this.periodStarts, 0, this.itemCount,
+                period.calculateFirstMillisecond(this.offsets));
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param value  the new value (<code>Double.NaN</code> for a missing
+     *     value).
+     */
+    public void update(int index, double value) {
+        checkIndex(index);
+        double oldValue = this.values[index];
+        this.values[index] = value;
+        if (!Double.isNaN(oldValue)
+                && (oldValue <= this.minY || oldValue >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else {
+            updateBoundsForAddedItem(value);
+        }
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                index));
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        TimeDoubleSeries clone = (TimeDoubleSeries) super.clone();
+        clone.periodStarts = this.periodStarts.clone();
+        clone.values = this.values.clone();
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeDoubleSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        TimeDoubleSeries that = (TimeDoubleSeries) obj;
+        if (this.timePeriodClass != that.timePeriodClass) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.zone, that.zone)) {
+            return false;
+        }
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.periodStarts[i] != that.periodStarts[i]) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.values[i])
+                    != Double.doubleToLongBits(that.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 29 * result + this.timePeriodClass.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first and last items...
+        int count = this.itemCount;
+        if (count > 0) {
+            result = 29 * result + hashCodeForItem(0);
+        }
+        if (count > 1) {
+            result = 29 * result + hashCodeForItem(count - 1);
+        }
+        result = 29 * result + this.maximumItemCount;
+        return result;
+    }
+
+    /**
+     * Returns a hash code for a single item in the series.
+     *
+     * @param index  the item index.
+     *
+     * @return A hash code.
+     */
+    private int hashCodeForItem(int index) {
+        long x = this.periodStarts[index];
+        long y = Double.doubleToLongBits(this.values[index]);
+        int result = (int) (x ^ (x >>> 32));
+        return 29 * result + (int) (y ^ (y >>> 32));
+    }
+
+    /**
+     * Restores a serialized object.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.offsets = ZoneOffsetCache.getInstance(this.zone);
+    }
+
+}
@@ -0,0 +1,699 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * TimeDoubleSeriesCollection.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1, based on XYDoubleSeriesCollection (agent);
+ * 16-Oct-2026 : Implement NotifyingDataset, so the bounds are cached (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyVetoException;
+import java.beans.VetoableChangeListener;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.HashUtilities;
+import org.jfree.chart.util.ObjectUtilities;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.NotifyingDataset;
+import org.jfree.data.general.Series;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+
+/**
+ * A collection of {@link TimeDoubleSeries} objects that can be used as a
+ * dataset.  This is a memory efficient alternative to
+ * {@link TimeSeriesCollection}: the <code>getXValue()</code>,
+ * <code>getStartXValue()</code>, <code>getEndXValue()</code> and
+ * <code>getYValue()</code> methods (used by the renderers) read directly
+ * from the primitive arrays in each series, without creating any objects.
+ * Each series evaluates its time periods in its own time zone.
+ */
+public class TimeDoubleSeriesCollection extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, RangeInfo,
+        NotifyingDataset, VetoableChangeListener, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5170893376620591745L;
+
+    /** The series that are included in the collection. */
+    private List<TimeDoubleSeries> data;
+
+    /**
+     * The point within each time period that is used for the x-value.  This
+     * can be the start, middle or end of the time period.
+     */
+    private TimePeriodAnchor xPosition;
+
+    /**
+     * Constructs an empty dataset.
+     */
+    public TimeDoubleSeriesCollection() {
+        this(null);
+    }
+
+    /**
+     * Constructs a dataset and populates it with a single series.
+     *
+     * @param series  the series (<code>null</code> ignored).
+     */
+    public TimeDoubleSeriesCollection(TimeDoubleSeries series) {
+        this.data = new ArrayList<TimeDoubleSeries>();
+        this.xPosition = TimePeriodAnchor.START;
+        if (series != null) {
+            this.data.add(series);
+            series.addChangeListener(this);
+            series.addVetoableChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the order of the domain (x) values, the items in each series
+     * are always sorted.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the position within each time period that is used for the x
+     * value.
+     *
+     * @return The anchor position (never <code>null</code>).
+     *
+     * @see #setXPosition(TimePeriodAnchor)
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each time period that is used for the x
+     * values, then sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param anchor  the anchor position (<code>null</code> not permitted).
+     *
+     * @see #getXPosition()
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        ParamChecks.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a series to the collection and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @throws IllegalArgumentException if the key for the series is null or
+     *     not unique within the dataset.
+     */
+    public void addSeries(TimeDoubleSeries series) {
+        ParamChecks.nullNotPermitted(series, "series");
+        if (getSeriesIndex(series.getKey()) >= 0) {
+            throw new IllegalArgumentException(
+                "This dataset already contains a series with the key "
+                + series.getKey());
+        }
+        this.data.add(series);
+        series.addChangeListener(this);
+        series.addVetoableChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        TimeDoubleSeries s = getSeries(series);
+        s.removeChangeListener(this);
+        s.removeVetoableChangeListener(this);
+        this.data.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void removeSeries(TimeDoubleSeries series) {
+        ParamChecks.nullNotPermitted(series, "series");
+        if (this.data.contains(series)) {
+            series.removeChangeListener(this);
+            series.removeVetoableChangeListener(this);
+            this.data.remove(series);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Removes all the series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void removeAllSeries() {
+        for (TimeDoubleSeries series : this.data) {
+            series.removeChangeListener(this);
+            series.removeVetoableChangeListener(this);
+        }
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a list of all the series in the collection.
+     *
+     * @return The list (which is unmodifiable).
+     */
+    public List<TimeDoubleSeries> getSeries() {
+        return Collections.unmodifiableList(this.data);
+    }
+
+    /**
+     * Returns the index of the specified series, so that a description of a
+     * change to the series can be passed on to the dataset's listeners.
+     *
+     * @param series  the series.
+     *
+     * @return The series index, or <code>-1</code>.
+     */
+    @Override
+    protected int indexOfChangedSeries(Series series) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if <code>series</code> is not in the
+     *     range <code>0</code> to <code>getSeriesCount() - 1</code>.
+     */
+    public TimeDoubleSeries getSeries(int series) {
+        if ((series < 0) || (series >= getSeriesCount())) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return this.data.get(series);
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The series with the specified key.
+     *
+     * @throws UnknownKeyException if <code>key</code> is not found in the
+     *         collection.
+     */
+    public TimeDoubleSeries getSeries(Comparable key) {
+        int index = getSeriesIndex(key);
+        if (index < 0) {
+            throw new UnknownKeyException("Key not found: " + key);
+        }
+        return this.data.get(index);
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for a series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        // defer argument checking
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1 if no
+     * series has that key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int getSeriesIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        for (int i = 0; i < this.data.size(); i++) {
+            if (key.equals(this.data.get(i).getKey())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        // defer argument checking
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.  Note that this
+     * method creates a new object, the renderers use
+     * {@link #getXValue(int, int)} instead.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the x-value for the specified series and item, which is the
+     * start, middle or end of the time period depending on the
+     * {@link #getXPosition()} setting.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        TimeDoubleSeries s = this.data.get(series);
+        if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            return s.getMiddleMillisecond(item);
+        }
+        else if (this.xPosition == TimePeriodAnchor.END) {
+            return s.getLastMillisecond(item);
+        }
+        return s.getFirstMillisecond(item);
+    }
+
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value (the first millisecond of the time
+     * period) for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.data.get(series).getFirstMillisecond(item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the ending x-value (the last millisecond of the time period)
+     * for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.data.get(series).getLastMillisecond(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.  Note that this
+     * method creates a new object, the renderers use
+     * {@link #getYValue(int, int)} instead.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.data.get(series).getValue(item);
+    }
+
+    /**
+     * Returns the starting y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain, found from
+     * the first and last items in each series.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < this.data.size(); s++) {
+            int count = this.data.get(s).getItemCount();
+            if (count > 0) {
+                if (includeInterval) {
+                    lower = Math.min(lower, getStartXValue(s, 0));
+                    upper = Math.max(upper, getEndXValue(s, count - 1));
+                }
+                else {
+                    lower = Math.min(lower, getXValue(s, 0));
+                    upper = Math.max(upper, getXValue(s, count - 1));
+                }
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (TimeDoubleSeries series : this.data) {
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                lower = Math.min(lower, minY);
+            }
+            double maxY = series.getMaxY();
+            if (!Double.isNaN(maxY)) {
+                upper = Math.max(upper, maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Receives notification that the key for one of the series in the
+     * collection has changed, and vetos it if the key is already present in
+     * the collection.
+     *
+     * @param e  the event.
+     */
+    @Override
+    public void vetoableChange(PropertyChangeEvent e)
+            throws PropertyVetoException {
+        // if it is not the series name, then we have no interest
+        if (!"Key".equals(e.getPropertyName())) {
+            return;
+        }
+        // to be defensive, let's check that the source series does in fact
+        // belong to this collection
+        Series s = (Series) e.getSource();
+        if (getSeriesIndex(s.getKey()) == -1) {
+            throw new IllegalStateException("Receiving events from a series "
+                    + "that does not belong to this collection.");
+        }
+        // check if the new series name already exists for another series
+        Comparable key = (Comparable) e.getNewValue();
+        if (getSeriesIndex(key) >= 0) {
+            throw new PropertyVetoException("Duplicate key", e);
+        }
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeDoubleSeriesCollection)) {
+            return false;
+        }
+        TimeDoubleSeriesCollection that = (TimeDoubleSeriesCollection) obj;
+        if (this.xPosition != that.xPosition) {
+            return false;
+        }
+        return ObjectUtilities.equal(this.data, that.data);
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        TimeDoubleSeriesCollection clone
+                = (TimeDoubleSeriesCollection) super.clone();
+        clone.data = ObjectUtilities.deepClone(this.data);
+        return clone;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = HashUtilities.hashCode(hash, this.xPosition);
+        hash = HashUtilities.hashCode(hash, this.data);
+        return hash;
+    }
+
+}
@@ -85,6 +85,12 @@
  * 03-Dec-2011 : Fixed bug 3446965 which affects the y-range calculation for
  *               the series (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use circular storage when there is a maximum item count or
+ *               age (agent);
+ * 16-Oct-2026 : Track bounds incrementally for a sliding window of
+ *               items (agent);
+ * 16-Oct-2026 : Describe appends, updates and removals in change
+ *               events (agent);
  *
  */
 
@@ -99,10 +105,14 @@ import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
+import org.jfree.chart.util.CircularArrayList;
 import org.jfree.chart.util.ObjectUtilities;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.SlidingWindowBounds;
 
 /**
  * Represents a sequence of zero or more data items in the form (period, value)
@@ -157,6 +167,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the y-values while items are only appended to
+     * the end of the series and evicted from the front.  This is only used
+     * when the series has a maximum item count or age, and is
+     * <code>null</code> at other times.
+     */
+    private SlidingWindowBounds yWindow;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -283,6 +301,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      * exceed the maximum item count, then the FIRST element in the series is
      * automatically removed, ensuring that the maximum item count is not
      * exceeded.
+     * <p>
+     * When a maximum is set, the items are held in a circular buffer so that
+     * removing the first item (as each new item is appended) does not require
+     * the remaining items to be shifted.  In addition, while items are only
+     * appended to the end of the series, the bounds are tracked incrementally
+     * (see {@link SlidingWindowBounds}) so that they do not need to be
+     * recalculated by iteration when the first item is removed.
      *
      * @param maximum  the maximum (requires >= 0).
      *
@@ -293,10 +318,16 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE) {
+            useCircularStorage();
+        }
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
         }
+        else {
+            findBoundsByIteration();
+        }
     }
 
     /**
@@ -327,9 +358,37 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        if (periods < Long.MAX_VALUE) {
+            useCircularStorage();
+        }
+        findBoundsByIteration();
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
+    /**
+     * Switches the storage for the data items to a circular buffer, so that
+     * items can be removed from the start of the series in constant time.
+     */
+    private void useCircularStorage() {
+        if (!(this.data instanceof CircularArrayList)) {
+            this.data = new CircularArrayList<TimeSeriesDataItem>(this.data);
+        }
+    }
+
+    /**
+     * Creates a new (empty) list for storing data items, using a circular
+     * buffer if this series has a maximum item count or age.
+     *
+     * @return A new list.
+     */
+    private List<TimeSeriesDataItem> createDataList() {
+        if (this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE) {
+            return new CircularArrayList<TimeSeriesDataItem>();
+        }
+        return new java.util.ArrayList<TimeSeriesDataItem>();
+    }
+
     /**
      * Returns the smallest y-value in the series, ignoring any null and
      * Double.NaN values.  This method returns Double.NaN if there is no
@@ -586,6 +645,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // make the change (if it's not a duplicate time period)...
         boolean added;
+        boolean appended = true;
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
@@ -601,7 +661,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    this.yWindow = null;
                     added = true;
+                    appended = false;
                 }
                 else {
                     StringBuilder b = new StringBuilder();
@@ -617,22 +679,42 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (added) {
             updateBoundsForAddedItem(item);
+            if (this.yWindow != null) {
+                this.yWindow.add(yValue(item));
+            }
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                updateBoundsForEvictedItem(d);
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(appended ? createAppendInfo(count) : null);
             }
         }
 
     }
 
+    /**
+     * Returns a description of the change for an item that has just been
+     * appended to the series.
+     *
+     * @param oldItemCount  the item count before the item was added.
+     *
+     * @return The change info (<code>null</code> if the series is empty).
+     */
+    private SeriesChangeInfo createAppendInfo(int oldItemCount) {
+        int last = getItemCount() - 1;
+        if (last < 0) {
+            return null;
+        }
+        return new SeriesChangeInfo(SeriesChangeType.APPEND, last, last,
+                oldItemCount - last);
+    }
+
     /**
      * Adds a new data item to the series and sends a {@link SeriesChangeEvent}
      * to all registered listeners.
@@ -724,6 +806,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     public void update(int index, Number value) {
         TimeSeriesDataItem item = this.data.get(index);
+        // the sliding window bounds can't handle updates to existing items
+        this.yWindow = null;
         boolean iterate = false;
         Number oldYN = item.getValue();
         if (oldYN != null) {
@@ -741,7 +825,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                index));
     }
 
     /**
@@ -826,11 +911,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new SeriesException(msg);
         }
         TimeSeriesDataItem overwritten = null;
+        int oldItemCount = getItemCount();
+        boolean appended = false;
         int index = Collections.binarySearch(this.data, item);
         if (index >= 0) {
             TimeSeriesDataItem existing
                     = this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
+            this.yWindow = null;
             // figure out if we need to iterate through all the y-values
             // to find the revised minY / maxY
             boolean iterate = false;
@@ -851,19 +939,38 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
+            appended = (-index - 1 == this.data.size());
             this.data.add(-index - 1, item);
             updateBoundsForAddedItem(item);
+            if (this.yWindow != null) {
+                if (appended) {
+                    this.yWindow.add(yValue(item));
+                }
+                else {
+                    this.yWindow = null;
+                }
+            }
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                updateBoundsForEvictedItem(d);
             }
         }
         removeAgedItems(false);  // remove old items if necessary, but
                                  // don't notify anyone, because that
                                  // happens next anyway...
-        fireSeriesChanged();
+        SeriesChangeInfo info = null;
+        if (index >= 0) {
+            if (getItemCount() == oldItemCount) {
+                info = new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                        index);
+            }
+        }
+        else if (appended) {
+            info = createAppendInfo(oldItemCount);
+        }
+        fireSeriesChanged(info);
         return overwritten;
 
     }
@@ -881,16 +988,21 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
+            int removed = 0;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
                 this.data.remove(0);
-                removed = true;
+                if (this.yWindow != null) {
+                    this.yWindow.removeFirst();
+                }
+                removed++;
             }
-            if (removed) {
-                findBoundsByIteration();
+            if (removed > 0) {
+                updateBoundsAfterEviction();
                 if (notify) {
-                    fireSeriesChanged();
+                    fireSeriesChanged(new SeriesChangeInfo(
+                            SeriesChangeType.REMOVE_FROM_FRONT, 0,
+                            removed - 1));
                 }
             }
         }
@@ -918,16 +1030,20 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
+        int removed = 0;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
             this.data.remove(0);
-            removed = true;
+            if (this.yWindow != null) {
+                this.yWindow.removeFirst();
+            }
+            removed++;
         }
-        if (removed) {
-            findBoundsByIteration();
+        if (removed > 0) {
+            updateBoundsAfterEviction();
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(new SeriesChangeInfo(
+                        SeriesChangeType.REMOVE_FROM_FRONT, 0, removed - 1));
             }
         }
     }
@@ -942,6 +1058,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
+            resetWindowBounds();
             fireSeriesChanged();
         }
     }
@@ -959,11 +1076,18 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem item = this.data.remove(
                     index);
-            updateBoundsForRemovedItem(item);
+            if (index == 0) {
+                updateBoundsForEvictedItem(item);
+            }
+            else {
+                this.yWindow = null;
+                updateBoundsForRemovedItem(item);
+            }
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
-            fireSeriesChanged();
+            fireSeriesChanged(index == 0 ? new SeriesChangeInfo(
+                    SeriesChangeType.REMOVE_FROM_FRONT, 0, 0) : null);
         }
     }
 
@@ -998,7 +1122,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             this.timePeriodClass = null;
         }
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(start == 0 ? new SeriesChangeInfo(
+                    SeriesChangeType.REMOVE_FROM_FRONT, 0, end) : null);
         }
     }
 
@@ -1021,6 +1146,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = ObjectUtilities.deepClone(this.data);
+        if (this.yWindow != null) {
+            clone.yWindow = this.yWindow.clone();
+        }
         return clone;
     }
 
@@ -1047,7 +1175,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         TimeSeries copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList<TimeSeriesDataItem>();
+        copy.resetWindowBounds();
+        copy.data = createDataList();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1109,7 +1238,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
-            copy.data = new java.util.ArrayList<TimeSeriesDataItem>();
+            copy.data = createDataList();
+            copy.minY = Double.NaN;
+            copy.maxY = Double.NaN;
+            copy.resetWindowBounds();
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1237,10 +1369,71 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     private void findBoundsByIteration() {
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        resetWindowBounds();
         for (TimeSeriesDataItem aData : this.data) {
             TimeSeriesDataItem item = aData;
             updateBoundsForAddedItem(item);
+            if (this.yWindow != null) {
+                this.yWindow.add(yValue(item));
+            }
+        }
+    }
+
+    /**
+     * Starts tracking the bounds with a {@link SlidingWindowBounds} (with no
+     * items) if the series has a maximum item count or age.
+     */
+    private void resetWindowBounds() {
+        this.yWindow = null;
+        if (this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE) {
+            this.yWindow = new SlidingWindowBounds();
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the FIRST item in the series has just been removed.
+     * When the sliding window bounds are being tracked, this does not require
+     * any iteration through the remaining items.
+     *
+     * @param item  the item removed (<code>null</code> not permitted).
+     */
+    private void updateBoundsForEvictedItem(TimeSeriesDataItem item) {
+        if (this.yWindow == null) {
+            updateBoundsForRemovedItem(item);
+            return;
+        }
+        this.yWindow.removeFirst();
+        updateBoundsAfterEviction();
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values
+     * after one or more items have been removed from the front of the series
+     * (and from the sliding window bounds, if they are being tracked).
+     */
+    private void updateBoundsAfterEviction() {
+        if (this.yWindow != null) {
+            this.minY = this.yWindow.getMinimum();
+            this.maxY = this.yWindow.getMaximum();
         }
+        else {
+            findBoundsByIteration();
+        }
+    }
+
+    /**
+     * Returns the y-value for an item as a primitive.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    private static double yValue(TimeSeriesDataItem item) {
+        Number y = item.getValue();
+        return y != null ? y.doubleValue() : Double.NaN;
     }
 
     /**
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -83,11 +83,19 @@
  * 26-Jun-2009 : Fixed clone() (DG);
  * 08-Jan-2012 : Fixed getRangeBounds() method (bug 3445507) (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Pass on series change info (agent);
+ * 16-Oct-2026 : Calculate x-values without locking the working calendar
+ *               where possible (agent);
+ * 16-Oct-2026 : Added concurrent mode (agent);
+ * 16-Oct-2026 : Implement NotifyingDataset, so the bounds are cached (agent);
+ * 16-Oct-2026 : Implement SnapshotSource (agent);
  *
  */
 
 package org.jfree.data.time;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -100,9 +108,14 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.NotifyingDataset;
+import org.jfree.data.general.SnapshotSource;
+import org.jfree.data.general.Series;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDatasetSnapshot;
 import org.jfree.data.xy.XYDomainInfo;
 import org.jfree.data.xy.XYRangeInfo;
 
@@ -114,7 +127,7 @@ import org.jfree.data.xy.XYRangeInfo;
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, Serializable {
+        XYRangeInfo, NotifyingDataset, SnapshotSource, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -125,6 +138,14 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     /** A working calendar (to recycle) */
     private Calendar workingCalendar;
 
+    /**
+     * The offsets for the time zone of the working calendar, used to
+     * calculate the x-values for most time periods without the calendar
+     * (and therefore without synchronization).  This is <code>null</code> if
+     * the calendar is not a standard Gregorian calendar.
+     */
+    private transient ZoneOffsetCache offsets;
+
     /**
      * The point within each time period that is used for the X value when this
      * collection is used as an {@link org.jfree.data.xy.XYDataset}.  This can
@@ -175,6 +196,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
             zone = TimeZone.getDefault();
         }
         this.workingCalendar = Calendar.getInstance(zone);
+        this.offsets = ZoneOffsetCache.getInstance(this.workingCalendar);
         this.data = new ArrayList<TimeSeries>();
         if (series != null) {
             this.data.add(series);
@@ -236,6 +258,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public int getSeriesCount() {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesCount();
+        }
         return this.data.size();
     }
 
@@ -256,6 +282,24 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series, so that a description of a
+     * change to the series can be passed on to the dataset's listeners.
+     *
+     * @param series  the series.
+     *
+     * @return The series index, or <code>-1</code>.
+     */
+    @Override
+    protected int indexOfChangedSeries(Series series) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series.
      *
@@ -299,6 +343,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Comparable getSeriesKey(int series) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesKey(series);
+        }
         // check arguments...delegated
         // fetch the series name...
         return getSeries(series).getKey();
@@ -374,6 +422,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public int getItemCount(int series) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getItemCount(series);
+        }
         return getSeries(series).getItemCount();
     }
 
@@ -387,6 +439,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getXValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getXValue(series, item);
+        }
         TimeSeries s = this.data.get(series);
         RegularTimePeriod period = s.getTimePeriod(item);
         return getX(period);
@@ -402,6 +458,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Long((long) snapshot.getXValue(series, item));
+        }
         TimeSeries ts = this.data.get(series);
         RegularTimePeriod period = ts.getTimePeriod(item);
         return getX(period);
@@ -414,20 +474,74 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      *
      * @return The x-value.
      */
-    protected synchronized long getX(RegularTimePeriod period) {
+    protected long getX(RegularTimePeriod period) {
         long result = 0L;
         if (this.xPosition == TimePeriodAnchor.START) {
-            result = period.getFirstMillisecond(this.workingCalendar);
+            result = getFirstMillisecond(period);
         }
         else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
-            result = period.getMiddleMillisecond(this.workingCalendar);
+            result = getMiddleMillisecond(period);
         }
         else if (this.xPosition == TimePeriodAnchor.END) {
-            result = period.getLastMillisecond(this.workingCalendar);
+            result = getLastMillisecond(period);
         }
         return result;
     }
 
+    /**
+     * Returns the first millisecond of a time period, evaluated in the time
+     * zone for this collection.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The first millisecond.
+     */
+    private long getFirstMillisecond(RegularTimePeriod period) {
+        ZoneOffsetCache zoneOffsets = this.offsets;
+        if (zoneOffsets != null && period.usesZoneOffsets()) {
+            return period.calculateFirstMillisecond(zoneOffsets);
+        }
+        synchronized (this.workingCalendar) {
+            return period.getFirstMillisecond(this.workingCalendar);
+        }
+    }
+
+    /**
+     * Returns the middle millisecond of a time period, evaluated in the time
+     * zone for this collection.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The middle millisecond.
+     */
+    private long getMiddleMillisecond(RegularTimePeriod period) {
+        ZoneOffsetCache zoneOffsets = this.offsets;
+        if (zoneOffsets != null && period.usesZoneOffsets()) {
+            return period.calculateMiddleMillisecond(zoneOffsets);
+        }
+        synchronized (this.workingCalendar) {
+            return period.getMiddleMillisecond(this.workingCalendar);
+        }
+    }
+
+    /**
+     * Returns the last millisecond of a time period, evaluated in the time
+     * zone for this collection.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The last millisecond.
+     */
+    private long getLastMillisecond(RegularTimePeriod period) {
+        ZoneOffsetCache zoneOffsets = this.offsets;
+        if (zoneOffsets != null && period.usesZoneOffsets()) {
+            return period.calculateLastMillisecond(zoneOffsets);
+        }
+        synchronized (this.workingCalendar) {
+            return period.getLastMillisecond(this.workingCalendar);
+        }
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -437,10 +551,13 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Long((long) snapshot.getStartXValue(series, item));
+        }
         TimeSeries ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(
-                this.workingCalendar);
+        return getFirstMillisecond(ts.getTimePeriod(item));
     }
 
     /**
@@ -452,10 +569,13 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Long((long) snapshot.getEndXValue(series, item));
+        }
         TimeSeries ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(
-                this.workingCalendar);
+        return getLastMillisecond(ts.getTimePeriod(item));
     }
 
     /**
@@ -468,10 +588,32 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getY(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getY(series, item);
+        }
         TimeSeries ts = this.data.get(series);
         return ts.getValue(item);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for an item within a
+     * series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getYValue(series, item);
+        }
+        return super.getYValue(series, item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -572,6 +714,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Range getDomainBounds(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getDomainBounds(includeInterval);
+        }
         Range result = null;
         for (TimeSeries series : this.data) {
             int count = series.getItemCount();
@@ -582,9 +728,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
                 if (!includeInterval) {
                     temp = new Range(getX(start), getX(end));
                 } else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(getFirstMillisecond(start),
+                            getLastMillisecond(end));
                 }
                 result = Range.combine(result, temp);
             }
@@ -605,6 +750,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Range getDomainBounds(List<Comparable> visibleSeriesKeys,
             boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getDomainBounds(visibleSeriesKeys, includeInterval);
+        }
         Range result = null;
         for (Comparable seriesKey : visibleSeriesKeys) {
             TimeSeries series = getSeries(seriesKey);
@@ -616,9 +765,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
                 if (!includeInterval) {
                     temp = new Range(getX(start), getX(end));
                 } else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(getFirstMillisecond(start),
+                            getLastMillisecond(end));
                 }
                 result = Range.combine(result, temp);
             }
@@ -636,6 +784,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @since 1.0.15
      */
     public Range getRangeBounds(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getRangeBounds();
+        }
         Range result = null;
         for (TimeSeries series : this.data) {
             Range r = new Range(series.getMinY(), series.getMaxY());
@@ -658,6 +810,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Range getRangeBounds(List<Comparable> visibleSeriesKeys, Range xRange,
             boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getRangeBounds(visibleSeriesKeys);
+        }
         Range result = null;
         for (Comparable seriesKey : visibleSeriesKeys) {
             TimeSeries series = getSeries(seriesKey);
@@ -668,6 +824,38 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Switches concurrent mode on or off.  In concurrent mode, a thread
+     * holding a {@link org.jfree.data.general.SnapshotPin} (for example, a
+     * thread drawing a chart) reads an immutable snapshot of the data, so
+     * the series can be updated in another thread at the same time.  The
+     * series themselves (see {@link #getSeries(int)}) are not protected, and
+     * should be read only by the thread that updates them.
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @see #isConcurrent()
+     */
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        super.setConcurrent(concurrent);
+    }
+
+    /**
+     * Creates a snapshot of the data, for concurrent mode.
+     *
+     * @param previous  the previous snapshot (<code>null</code> permitted).
+     * @param info  a description of the changes since the previous snapshot
+     *     (<code>null</code> permitted).
+     *
+     * @return The snapshot.
+     */
+    @Override
+    public Object createSnapshot(Object previous, DatasetChangeInfo info) {
+        return XYDatasetSnapshot.update((XYDatasetSnapshot) previous, this,
+                info);
+    }
+
     /**
      * Tests this time series collection for equality with another object.
      *
@@ -724,4 +912,18 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return clone;
     }
 
+    /**
+     * Restores a serialized object.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     * @throws ClassNotFoundException if there is a problem loading a class.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.offsets = ZoneOffsetCache.getInstance(this.workingCalendar);
+    }
+
 }
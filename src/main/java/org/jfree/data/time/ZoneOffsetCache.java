@@ -0,0 +1,329 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ZoneOffsetCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added conversions from local times (agent);
+ * 16-Oct-2026 : Keep the default locale check in one immutable object, so
+ *               that getDefault() is thread-safe (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A cache of the UTC offsets for one time zone, used to convert local
+ * date/times to milliseconds since 1-Jan-1970 without a {@link Calendar}.
+ * Calendars are relatively slow to create and (since they are modified by
+ * each calculation) cannot be shared between threads, whereas this class is
+ * thread-safe.
+ * <P>
+ * The results are identical to those from a lenient
+ * {@link GregorianCalendar} in the same time zone, including for the local
+ * times that are skipped or repeated at daylight saving transitions.  For
+ * each day, the offset is found using a calendar at the first and last
+ * millisecond of the day.  If these are the same, the offset is cached and
+ * used for every time in the day.  Otherwise the day contains a transition,
+ * and times on that day are always calculated with a calendar.
+ */
+final class ZoneOffsetCache {
+
+    /** The number of milliseconds in one day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /**
+     * The serial index (see {@link Day#getSerialIndex()}) of 1-Jan-1970.
+     */
+    private static final long EPOCH_SERIAL = 25569L;
+
+    /** The default date of the change from the Julian calendar. */
+    private static final long GREGORIAN_CHANGE = new GregorianCalendar()
+            .getGregorianChange().getTime();
+
+    /** The number of days cached (must be a power of two). */
+    private static final int SIZE = 2048;
+
+    /** The offset recorded for days that contain a transition. */
+    private static final int TRANSITION = Integer.MIN_VALUE;
+
+    /** The class of the time zones provided by the JRE. */
+    private static final Class<?> ZONE_CLASS
+            = TimeZone.getTimeZone("UTC").getClass();
+
+    /** The caches for each time zone, by time zone ID. */
+    private static final ConcurrentHashMap<String, ZoneOffsetCache> CACHES
+            = new ConcurrentHashMap<String, ZoneOffsetCache>();
+
+    /**
+     * The result of the last check of the default locale by
+     * {@link #getDefault()} (<code>null</code> before the first check).
+     */
+    private static volatile LocaleCheck defaultCheck;
+
+    /** The time zone. */
+    private final TimeZone zone;
+
+    /**
+     * The cached offsets.  Each entry holds a day (relative to 1-Jan-1970)
+     * in the upper 32 bits and the offset for that day in the lower 32 bits.
+     */
+    private final AtomicLongArray offsets;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param zone  the time zone (not shared with any calendar).
+     */
+    private ZoneOffsetCache(TimeZone zone) {
+        this.zone = zone;
+        this.offsets = new AtomicLongArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            // a day that can never be stored in this entry
+            this.offsets.set(i, (long) (i + 1) << 32);
+        }
+    }
+
+    /**
+     * Returns the cache for the specified time zone.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @return The cache, or <code>null</code> if the time zone is not one of
+     *     the standard implementations (in which case its offsets might
+     *     change without notice).
+     */
+    static ZoneOffsetCache getInstance(TimeZone zone) {
+        if (zone.getClass() != ZONE_CLASS
+                && zone.getClass() != SimpleTimeZone.class) {
+            return null;
+        }
+        ZoneOffsetCache result = CACHES.get(zone.getID());
+        if (result == null || !result.zone.hasSameRules(zone)) {
+            result = new ZoneOffsetCache((TimeZone) zone.clone());
+            CACHES.put(zone.getID(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cache for the time zone of the specified calendar, if the
+     * calendar is a lenient {@link GregorianCalendar} with the default
+     * change date (so that the cache gives the same results as the
+     * calendar).
+     *
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     *
+     * @return The cache, or <code>null</code>.
+     */
+    static ZoneOffsetCache getInstance(Calendar calendar) {
+        if (calendar.getClass() != GregorianCalendar.class
+                || !calendar.isLenient()) {
+            return null;
+        }
+        GregorianCalendar gc = (GregorianCalendar) calendar;
+        if (gc.getGregorianChange().getTime() != GREGORIAN_CHANGE) {
+            return null;
+        }
+        return getInstance(calendar.getTimeZone());
+    }
+
+    /**
+     * Returns the cache that gives the same results as
+     * <code>Calendar.getInstance()</code>, which uses the default time zone
+     * and locale.
+     *
+     * @return The cache, or <code>null</code> if the default locale doesn't
+     *     use a standard Gregorian calendar.
+     */
+    static ZoneOffsetCache getDefault() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleCheck check = defaultCheck;
+        if (check == null || check.locale != locale) {
+            // the calendar type and time zone can be set by extensions
+            Calendar calendar = Calendar.getInstance(locale);
+            check = new LocaleCheck(locale,
+                    locale.getUnicodeLocaleKeys().isEmpty()
+                    && getInstance(calendar) != null);
+            defaultCheck = check;
+        }
+        if (!check.gregorian) {
+            return null;
+        }
+        return getInstance(TimeZone.getDefault());
+    }
+
+    /**
+     * Returns the time in milliseconds since 1-Jan-1970 UTC for a local
+     * date/time.
+     *
+     * @param serial  the serial index of the day (see
+     *     {@link Day#getSerialIndex()}).
+     * @param time  the local time in milliseconds since the start of the
+     *     day (values outside the day are permitted, provided the result is
+     *     within the range supported by {@link Day}).
+     *
+     * @return The time in milliseconds.
+     */
+    long getMillisecond(long serial, long time) {
+        return toMillisecond((serial - EPOCH_SERIAL) * MILLIS_PER_DAY + time);
+    }
+
+    /**
+     * Returns the time in milliseconds since 1-Jan-1970 UTC for a local
+     * date/time.
+     *
+     * @param local  the local date/time, in milliseconds since 1-Jan-1970
+     *     (local time).
+     *
+     * @return The time in milliseconds.
+     */
+    long toMillisecond(long local) {
+        long day = local / MILLIS_PER_DAY;
+        if (local % MILLIS_PER_DAY < 0) {
+            day--;
+        }
+        int index = (int) day & (SIZE - 1);
+        long entry = this.offsets.get(index);
+        if ((int) (entry >> 32) != day) {
+            entry = (day << 32) | (getOffset(day) & 0xFFFFFFFFL);
+            this.offsets.set(index, entry);
+        }
+        int offset = (int) entry;
+        if (offset == TRANSITION) {
+            return calculate(day, local);
+        }
+        return local - offset;
+    }
+
+    /**
+     * Returns the local date/time, in milliseconds since 1-Jan-1970 (local
+     * time), for a time in milliseconds since 1-Jan-1970 UTC.  For the
+     * first millisecond of any time period that uses this cache, the result
+     * is a local time that {@link #toMillisecond(long)} converts back to the
+     * same millisecond.
+     *
+     * @param millisecond  the time in milliseconds.
+     *
+     * @return The local date/time.
+     */
+    long toLocalMillisecond(long millisecond) {
+        return millisecond + this.zone.getOffset(millisecond);
+    }
+
+    /**
+     * Returns the offset for every time in the specified day, or
+     * {@link #TRANSITION} if the day contains a transition.
+     *
+     * @param day  the day (relative to 1-Jan-1970).
+     *
+     * @return The offset.
+     */
+    private int getOffset(long day) {
+        long start = day * MILLIS_PER_DAY;
+        long end = start + MILLIS_PER_DAY - 1;
+        long startOffset = start - calculate(day, start);
+        long endOffset = end - calculate(day, end);
+        if (startOffset != endOffset || startOffset != (int) startOffset
+                || startOffset == TRANSITION) {
+            return TRANSITION;
+        }
+        return (int) startOffset;
+    }
+
+    /**
+     * Creates a new calendar for the time zone.
+     *
+     * @return A new calendar.
+     */
+    Calendar createCalendar() {
+        return new GregorianCalendar((TimeZone) this.zone.clone());
+    }
+
+    /**
+     * Calculates the time in milliseconds for a local date/time using a
+     * calendar.
+     *
+     * @param day  the day (relative to 1-Jan-1970).
+     * @param local  the local date/time, in milliseconds since 1-Jan-1970.
+     *
+     * @return The time in milliseconds.
+     */
+    private long calculate(long day, long local) {
+        Calendar calendar = createCalendar();
+        calendar.clear();
+        // the calendar is lenient, so the day of the month can be outside
+        // the usual range
+        calendar.set(1970, Calendar.JANUARY, 1 + (int) day, 0, 0, 0);
+        calendar.set(Calendar.MILLISECOND,
+                (int) (local - day * MILLIS_PER_DAY));
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * A locale and whether or not it uses a standard Gregorian calendar.
+     * The two values are held in one immutable object so that a thread
+     * never sees the result for one locale paired with another locale.
+     */
+    private static final class LocaleCheck {
+
+        /** The locale. */
+        private final Locale locale;
+
+        /** Does the locale use a standard Gregorian calendar? */
+        private final boolean gregorian;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param locale  the locale.
+         * @param gregorian  does the locale use a standard Gregorian
+         *     calendar?
+         */
+        LocaleCheck(Locale locale, boolean gregorian) {
+            this.locale = locale;
+            this.gregorian = gregorian;
+        }
+
+    }
+
+}
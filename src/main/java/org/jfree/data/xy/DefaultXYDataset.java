@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -39,6 +39,8 @@
  *               as an existing series (see bug 1589392) (DG);
  * 25-Jan-2007 : Implemented PublicCloneable (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added concurrent mode (agent);
+ * 16-Oct-2026 : Implement SnapshotSource (agent);
  *
  */
 
@@ -51,6 +53,8 @@ import java.util.List;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SnapshotSource;
 
 /**
  * A default implementation of the {@link XYDataset} interface that stores
@@ -59,7 +63,7 @@ import org.jfree.data.general.DatasetChangeEvent;
  * @since 1.0.2
  */
 public class DefaultXYDataset extends AbstractXYDataset
-        implements XYDataset, PublicCloneable {
+        implements XYDataset, SnapshotSource, PublicCloneable {
 
     /**
      * Storage for the series keys.  This list must be kept in sync with the
@@ -90,6 +94,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public int getSeriesCount() {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesCount();
+        }
         return this.seriesList.size();
     }
 
@@ -106,6 +114,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public Comparable getSeriesKey(int series) {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesKey(series);
+        }
         if ((series < 0) || (series >= getSeriesCount())) {
             throw new IllegalArgumentException("Series index out of bounds");
         }
@@ -122,6 +134,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public int indexOf(Comparable seriesKey) {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.indexOf(seriesKey);
+        }
         return this.seriesKeys.indexOf(seriesKey);
     }
 
@@ -150,6 +166,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public int getItemCount(int series) {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getItemCount(series);
+        }
         if ((series < 0) || (series >= getSeriesCount())) {
             throw new IllegalArgumentException("Series index out of bounds");
         }
@@ -174,6 +194,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public double getXValue(int series, int item) {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getXValue(series, item);
+        }
         double[][] seriesData = this.seriesList.get(series);
         return seriesData[0][item];
     }
@@ -215,6 +239,10 @@ public class DefaultXYDataset extends AbstractXYDataset
      */
     @Override
     public double getYValue(int series, int item) {
+        DefaultXYDataset snapshot = (DefaultXYDataset) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getYValue(series, item);
+        }
         double[][] seriesData = this.seriesList.get(series);
         return seriesData[1][item];
     }
@@ -293,6 +321,42 @@ public class DefaultXYDataset extends AbstractXYDataset
         }
     }
 
+    /**
+     * Switches concurrent mode on or off.  In concurrent mode, a thread
+     * holding a {@link org.jfree.data.general.SnapshotPin} (for example, a
+     * thread drawing a chart) reads an immutable snapshot of the data, so
+     * series can be added or removed in another thread at the same time.
+     * The snapshot refers to the arrays passed to
+     * {@link #addSeries(Comparable, double[][])} rather than copying them,
+     * so in concurrent mode those arrays must not be modified (to change a
+     * series, add new arrays with the same series key).
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @see #isConcurrent()
+     */
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        super.setConcurrent(concurrent);
+    }
+
+    /**
+     * Creates a snapshot of the data, for concurrent mode.  The snapshot is
+     * a new dataset containing the same arrays.
+     *
+     * @param previous  the previous snapshot (ignored).
+     * @param info  a description of the changes (ignored).
+     *
+     * @return The snapshot.
+     */
+    @Override
+    public Object createSnapshot(Object previous, DatasetChangeInfo info) {
+        DefaultXYDataset snapshot = new DefaultXYDataset();
+        snapshot.seriesKeys.addAll(this.seriesKeys);
+        snapshot.seriesList.addAll(this.seriesList);
+        return snapshot;
+    }
+
     /**
      * Tests this <code>DefaultXYDataset</code> instance for equality with an
      * arbitrary object.  This method returns <code>true</code> if and only if:
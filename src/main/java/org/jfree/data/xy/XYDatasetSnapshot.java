@@ -0,0 +1,579 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDatasetSnapshot.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.List;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * An immutable copy of the data in an {@link XYDataset}, used as the
+ * snapshot for datasets in concurrent mode (see
+ * {@link org.jfree.data.general.AbstractDataset#isConcurrent()}).  The x-
+ * and y-values (and the start and end x-values, for an
+ * {@link IntervalXYDataset}) are held in arrays of primitives.  A snapshot
+ * can be updated to include items appended to a series (or removed from
+ * the front of a series) without copying the existing items: the new
+ * snapshot shares the arrays with the old one and only writes beyond the
+ * items in the old snapshot, so the old snapshot is unaffected.  The start
+ * and end y-values are assumed to be the same as the y-values.
+ */
+public final class XYDatasetSnapshot {
+
+    /** The minimum capacity of the arrays for a series. */
+    private static final int MIN_CAPACITY = 16;
+
+    /** The series keys. */
+    private final Comparable[] keys;
+
+    /** The data for each series. */
+    private final SeriesData[] data;
+
+    /** The domain order. */
+    private final DomainOrder domainOrder;
+
+    /** Include the start and end x-values? */
+    private final boolean intervals;
+
+    /**
+     * The bounds (x, x including the interval, y) for each series,
+     * calculated when first needed.
+     */
+    private volatile Range[][] bounds;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param keys  the series keys.
+     * @param data  the data for each series.
+     * @param domainOrder  the domain order.
+     * @param intervals  include the start and end x-values?
+     */
+    private XYDatasetSnapshot(Comparable[] keys, SeriesData[] data,
+            DomainOrder domainOrder, boolean intervals) {
+        this.keys = keys;
+        this.data = data;
+        this.domainOrder = domainOrder;
+        this.intervals = intervals;
+    }
+
+    /**
+     * Creates a snapshot of a dataset.  If the dataset is an
+     * {@link IntervalXYDataset}, the snapshot includes the start and end
+     * x-values.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @return The snapshot.
+     */
+    public static XYDatasetSnapshot create(XYDataset dataset) {
+        return update(null, dataset, null);
+    }
+
+    /**
+     * Creates a snapshot of a dataset, reusing the data from the previous
+     * snapshot where the change allows it.
+     *
+     * @param previous  the previous snapshot (<code>null</code> permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param info  a description of the change to the dataset since the
+     *     previous snapshot (<code>null</code> if unknown, in which case all
+     *     the data is copied).
+     *
+     * @return The snapshot.
+     */
+    public static XYDatasetSnapshot update(XYDatasetSnapshot previous,
+            XYDataset dataset, DatasetChangeInfo info) {
+        int seriesCount = dataset.getSeriesCount();
+        Comparable[] keys = new Comparable[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            keys[s] = dataset.getSeriesKey(s);
+        }
+        boolean intervals = dataset instanceof IntervalXYDataset;
+        SeriesData[] data;
+        if (previous != null && info != null
+                && previous.data.length == seriesCount
+                && previous.intervals == intervals) {
+            data = previous.data.clone();
+            int s = info.getSeries();
+            data[s] = data[s].update(dataset, s, info.getSeriesChange());
+        }
+        else {
+            data = new SeriesData[seriesCount];
+            for (int s = 0; s < seriesCount; s++) {
+                data[s] = SeriesData.copy(dataset, s, intervals);
+            }
+        }
+        return new XYDatasetSnapshot(keys, data, dataset.getDomainOrder(),
+                intervals);
+    }
+
+    /**
+     * Returns the number of series.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The key.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the index of the series with the specified key.
+     *
+     * @param key  the key.
+     *
+     * @return The index, or <code>-1</code>.
+     */
+    public int indexOf(Comparable key) {
+        for (int s = 0; s < this.keys.length; s++) {
+            if (this.keys[s].equals(key)) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the domain order.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.domainOrder;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.data[series].count;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        SeriesData d = this.data[series];
+        return d.x[d.index(item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    public double getYValue(int series, int item) {
+        SeriesData d = this.data[series];
+        return d.y[d.index(item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (<code>null</code> for <code>Double.NaN</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the start x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value (the x-value if the snapshot has no
+     *     intervals).
+     */
+    public double getStartXValue(int series, int item) {
+        SeriesData d = this.data[series];
+        int i = d.index(item);
+        return this.intervals ? d.startX[i] : d.x[i];
+    }
+
+    /**
+     * Returns the end x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value (the x-value if the snapshot has no
+     *     intervals).
+     */
+    public double getEndXValue(int series, int item) {
+        SeriesData d = this.data[series];
+        int i = d.index(item);
+        return this.intervals ? d.endX[i] : d.x[i];
+    }
+
+    /**
+     * Returns the range of the x-values in the snapshot.
+     *
+     * @param includeInterval  include the start and end x-values?
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return combine(null, includeInterval ? 1 : 0);
+    }
+
+    /**
+     * Returns the range of the x-values in some of the series.
+     *
+     * @param visibleSeriesKeys  the keys of the series.
+     * @param includeInterval  include the start and end x-values?
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public Range getDomainBounds(List<Comparable> visibleSeriesKeys,
+            boolean includeInterval) {
+        return combine(visibleSeriesKeys, includeInterval ? 1 : 0);
+    }
+
+    /**
+     * Returns the range of the y-values in the snapshot (ignoring
+     * <code>Double.NaN</code>).
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public Range getRangeBounds() {
+        return combine(null, 2);
+    }
+
+    /**
+     * Returns the range of the y-values in some of the series (ignoring
+     * <code>Double.NaN</code>).
+     *
+     * @param visibleSeriesKeys  the keys of the series.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public Range getRangeBounds(List<Comparable> visibleSeriesKeys) {
+        return combine(visibleSeriesKeys, 2);
+    }
+
+    /**
+     * Combines the bounds of the specified type for some of the series.
+     *
+     * @param seriesKeys  the series keys (<code>null</code> for all series).
+     * @param type  the type of bounds (0 for x, 1 for x including the
+     *     interval, 2 for y).
+     *
+     * @return The combined range (possibly <code>null</code>).
+     */
+    private Range combine(List<Comparable> seriesKeys, int type) {
+        Range[][] b = this.bounds;
+        if (b == null) {
+            b = new Range[this.data.length][];
+            for (int s = 0; s < this.data.length; s++) {
+                b[s] = this.data[s].findBounds(this.intervals);
+            }
+            this.bounds = b;
+        }
+        Range result = null;
+        if (seriesKeys == null) {
+            for (int s = 0; s < b.length; s++) {
+                result = Range.combine(result, b[s][type]);
+            }
+        }
+        else {
+            for (Comparable key : seriesKeys) {
+                int s = indexOf(key);
+                if (s >= 0) {
+                    result = Range.combine(result, b[s][type]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The data for one series.  The items are held from position
+     * <code>start</code> in the arrays, which may have spare capacity at the
+     * end for appended items.
+     */
+    private static final class SeriesData {
+
+        /** The x-values. */
+        private final double[] x;
+
+        /** The y-values. */
+        private final double[] y;
+
+        /** The start x-values (<code>null</code> if no intervals). */
+        private final double[] startX;
+
+        /** The end x-values (<code>null</code> if no intervals). */
+        private final double[] endX;
+
+        /** The array position of the first item. */
+        private final int start;
+
+        /** The number of items. */
+        private final int count;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param x  the x-values.
+         * @param y  the y-values.
+         * @param startX  the start x-values (<code>null</code> permitted).
+         * @param endX  the end x-values (<code>null</code> permitted).
+         * @param start  the array position of the first item.
+         * @param count  the number of items.
+         */
+        SeriesData(double[] x, double[] y, double[] startX, double[] endX,
+                int start, int count) {
+            this.x = x;
+            this.y = y;
+            this.startX = startX;
+            this.endX = endX;
+            this.start = start;
+            this.count = count;
+        }
+
+        /**
+         * Creates a copy of the items in a series.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param intervals  include the start and end x-values?
+         *
+         * @return The data.
+         */
+        static SeriesData copy(XYDataset dataset, int series,
+                boolean intervals) {
+            int count = dataset.getItemCount(series);
+            int capacity = Math.max(count, MIN_CAPACITY);
+            SeriesData result = new SeriesData(new double[capacity],
+                    new double[capacity],
+                    intervals ? new double[capacity] : null,
+                    intervals ? new double[capacity] : null, 0, count);
+            result.read(dataset, series, 0, 0, count);
+            return result;
+        }
+
+        /**
+         * Returns the data after a change to the series, sharing the arrays
+         * if the change only appended items or removed items from the front
+         * of the series.
+         *
+         * @param dataset  the dataset (after the change).
+         * @param series  the series index.
+         * @param change  a description of the change.
+         *
+         * @return The data.
+         */
+        SeriesData update(XYDataset dataset, int series,
+                SeriesChangeInfo change) {
+            boolean intervals = this.startX != null;
+            int newCount = dataset.getItemCount(series);
+            if (change.getType() == SeriesChangeType.UPDATE) {
+                if (newCount != this.count) {
+                    return copy(dataset, series, intervals);
+                }
+                // the arrays are shared with older snapshots, so copy them
+                SeriesData result = resize(this.count);
+                result.read(dataset, series, change.getFirstItem(),
+                        change.getFirstItem(),
+                        change.getLastItem() - change.getFirstItem() + 1);
+                return result;
+            }
+            int removed = Math.min(change.getRemovedCount(), this.count);
+            int kept = this.count - removed;
+            int appended = change.getType() == SeriesChangeType.APPEND
+                    ? change.getLastItem() - change.getFirstItem() + 1 : 0;
+            if (kept + appended != newCount
+                    || (appended > 0 && change.getFirstItem() != kept)) {
+                return copy(dataset, series, intervals);
+            }
+            SeriesData result = new SeriesData(this.x, this.y, this.startX,
+                    this.endX, this.start + removed, kept);
+            if (result.start + newCount > this.x.length) {
+                result = result.resize(Math.max(2 * newCount, MIN_CAPACITY));
+            }
+            result.read(dataset, series, kept, result.start + kept, appended);
+            return new SeriesData(result.x, result.y, result.startX,
+                    result.endX, result.start, newCount);
+        }
+
+        /**
+         * Returns a copy of this data in new arrays.
+         *
+         * @param capacity  the capacity of the new arrays (at least the
+         *     item count).
+         *
+         * @return The copy.
+         */
+        private SeriesData resize(int capacity) {
+            capacity = Math.max(capacity, MIN_CAPACITY);
+            double[] newX = new double[capacity];
+            double[] newY = new double[capacity];
+            System.arraycopy(this.x, this.start, newX, 0, this.count);
+            System.arraycopy(this.y, this.start, newY, 0, this.count);
+            double[] newStartX = null;
+            double[] newEndX = null;
+            if (this.startX != null) {
+                newStartX = new double[capacity];
+                newEndX = new double[capacity];
+                System.arraycopy(this.startX, this.start, newStartX, 0,
+                        this.count);
+                System.arraycopy(this.endX, this.start, newEndX, 0,
+                        this.count);
+            }
+            return new SeriesData(newX, newY, newStartX, newEndX, 0,
+                    this.count);
+        }
+
+        /**
+         * Reads items from a dataset into the arrays.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param item  the index of the first item to read.
+         * @param position  the array position for the first item.
+         * @param n  the number of items.
+         */
+        private void read(XYDataset dataset, int series, int item,
+                int position, int n) {
+            IntervalXYDataset intervalDataset = this.startX != null
+                    ? (IntervalXYDataset) dataset : null;
+            for (int i = 0; i < n; i++) {
+                int p = position + i;
+                this.x[p] = dataset.getXValue(series, item + i);
+                this.y[p] = dataset.getYValue(series, item + i);
+                if (intervalDataset != null) {
+                    this.startX[p] = intervalDataset.getStartXValue(series,
+                            item + i);
+                    this.endX[p] = intervalDataset.getEndXValue(series,
+                            item + i);
+                }
+            }
+        }
+
+        /**
+         * Returns the array position of an item.
+         *
+         * @param item  the item index.
+         *
+         * @return The array position.
+         */
+        int index(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index: " + item
+                        + ", item count: " + this.count);
+            }
+            return this.start + item;
+        }
+
+        /**
+         * Finds the bounds of the x-values, the x-values including the
+         * interval and the y-values (ignoring <code>Double.NaN</code>).
+         *
+         * @param intervals  include the start and end x-values?
+         *
+         * @return The bounds (elements may be <code>null</code>).
+         */
+        Range[] findBounds(boolean intervals) {
+            double xMin = Double.POSITIVE_INFINITY;
+            double xMax = Double.NEGATIVE_INFINITY;
+            double iMin = Double.POSITIVE_INFINITY;
+            double iMax = Double.NEGATIVE_INFINITY;
+            double yMin = Double.POSITIVE_INFINITY;
+            double yMax = Double.NEGATIVE_INFINITY;
+            int end = this.start + this.count;
+            for (int i = this.start; i < end; i++) {
+                xMin = Math.min(xMin, this.x[i]);
+                xMax = Math.max(xMax, this.x[i]);
+                if (intervals) {
+                    iMin = Math.min(iMin, this.startX[i]);
+                    iMax = Math.max(iMax, this.endX[i]);
+                }
+                if (!Double.isNaN(this.y[i])) {
+                    yMin = Math.min(yMin, this.y[i]);
+                    yMax = Math.max(yMax, this.y[i]);
+                }
+            }
+            if (!intervals) {
+                iMin = xMin;
+                iMax = xMax;
+            }
+            return new Range[] {
+                xMin <= xMax ? new Range(xMin, xMax) : null,
+                iMin <= iMax ? new Range(iMin, iMax) : null,
+                yMin <= yMax ? new Range(yMin, yMax) : null};
+        }
+
+    }
+
+}
@@ -0,0 +1,914 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * XYDoubleSeries.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Describe appends, updates and removals in change
+ *               events (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A sequence of zero or more (x, y) data items, stored in two growable arrays
+ * of <code>double</code> primitives rather than as a list of
+ * {@link XYDataItem} objects.  This uses far less memory than an
+ * {@link XYSeries} for large series, and values can be read without any
+ * object allocation.  Missing y-values are represented by
+ * <code>Double.NaN</code>.
+ * <P>
+ * By default, items in the series will be sorted into ascending order by
+ * x-value, and duplicate x-values are permitted.  Both the sorting and
+ * duplicate defaults can be changed in the constructor.
+ *
+ * @see XYDoubleSeriesCollection
+ */
+public class XYDoubleSeries extends Series implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4120426137251337367L;
+
+    /** The default initial capacity for the value arrays. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values. */
+    private double[] yValues;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /**
+     * A flag that controls whether the items are automatically sorted
+     * (by x-value ascending).
+     */
+    private boolean autoSort;
+
+    /** A flag that controls whether or not duplicate x-values are allowed. */
+    private boolean allowDuplicateXValues;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public XYDoubleSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Creates a new empty series with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public XYDoubleSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public XYDoubleSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series with storage pre-allocated for the
+     * specified number of items.  If you know in advance (roughly) how many
+     * items will be added to the series, this avoids the cost of growing the
+     * value arrays.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be zero or
+     *                         greater).
+     */
+    public XYDoubleSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.itemCount = 0;
+        this.autoSort = autoSort;
+        this.allowDuplicateXValues = allowDuplicateXValues;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     *
+     * @see #getMaxX()
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     *
+     * @see #getMinX()
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     *
+     * @see #getMaxY()
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     *
+     * @see #getMinY()
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean itemContributesToXBounds = false;
+        boolean itemContributesToYBounds = false;
+        if (!Double.isNaN(x)) {
+            if (x <= this.minX || x >= this.maxX) {
+                itemContributesToXBounds = true;
+            }
+        }
+        if (!Double.isNaN(y)) {
+            if (y <= this.minY || y >= this.maxY) {
+                itemContributesToYBounds = true;
+            }
+        }
+        if (itemContributesToYBounds) {
+            findBoundsByIteration();
+        }
+        else if (itemContributesToXBounds) {
+            if (this.autoSort && this.itemCount > 0) {
+                this.minX = this.xValues[0];
+                this.maxX = this.xValues[this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the items in the series are
+     * automatically sorted.  There is no setter for this flag, it must be
+     * defined in the series constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAutoSort() {
+        return this.autoSort;
+    }
+
+    /**
+     * Returns a flag that controls whether duplicate x-values are allowed.
+     * This flag can only be set in the constructor.
+     *
+     * @return A boolean.
+     */
+    public boolean getAllowDuplicateXValues() {
+        return this.allowDuplicateXValues;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed, ensuring that the maximum item count is not
+     * exceeded.
+     * <p>
+     * Typically this value is set before the series is populated with data,
+     * but if it is applied later, it may cause some items to be removed from
+     * the series (in which case a {@link SeriesChangeEvent} will be sent to
+     * all registered listeners).
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Ensures that the series can hold at least the specified number of items
+     * without growing its storage arrays.
+     *
+     * @param minCapacity  the required capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = this.xValues.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(capacity + (capacity >> 1) + 1,
+                    minCapacity);
+            this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+            this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        }
+    }
+
+    /**
+     * Trims the storage arrays so that their capacity matches the number of
+     * items in the series.
+     */
+    public void trimToSize() {
+        if (this.xValues.length > this.itemCount) {
+            this.xValues = Arrays.copyOf(this.xValues, this.itemCount);
+            this.yValues = Arrays.copyOf(this.yValues, this.itemCount);
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series (in the correct position if the
+     * <code>autoSort</code> flag is set for the series) and, if requested,
+     * sends a {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y, boolean notify) {
+        int oldItemCount = this.itemCount;
+        boolean appended = addItem(x, y);
+        if (notify) {
+            fireSeriesChanged(appended ? createAppendInfo(oldItemCount, 1)
+                    : null);
+        }
+    }
+
+    /**
+     * Adds a data item to the series (in the correct position if the
+     * <code>autoSort</code> flag is set for the series), removing the first
+     * item if the maximum item count is exceeded.  No events are sent.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return A boolean indicating whether the item was added at the end of
+     *     the series.
+     */
+    private boolean addItem(double x, double y) {
+        int index;
+        if (this.autoSort) {
+            if (this.itemCount == 0 || x > this.xValues[this.itemCount - 1]) {
+                // the common case, appending at the end of the series
+                index = this.itemCount;
+            }
+            else {
+                index = insertionPoint(x);
+            }
+        }
+        else {
+            if (!this.allowDuplicateXValues && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        insert(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        if (this.itemCount > this.maximumItemCount) {
+            double removedX = this.xValues[0];
+            double removedY = this.yValues[0];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(removedX, removedY);
+            index--;
+        }
+        return index == this.itemCount - 1;
+    }
+
+    /**
+     * Returns a description of the change for items that have just been
+     * appended to the series.
+     *
+     * @param oldItemCount  the item count before the items were added.
+     * @param addedCount  the number of items added.
+     *
+     * @return The change info (<code>null</code> if no items were added, or
+     *     some of them have already been removed to respect the maximum item
+     *     count).
+     */
+    private SeriesChangeInfo createAppendInfo(int oldItemCount,
+            int addedCount) {
+        if (addedCount == 0 || addedCount > this.itemCount) {
+            return null;
+        }
+        return new SeriesChangeInfo(SeriesChangeType.APPEND,
+                this.itemCount - addedCount, this.itemCount - 1,
+                oldItemCount + addedCount - this.itemCount);
+    }
+
+    /**
+     * Adds all the (x, y) pairs in the supplied arrays to the series, then
+     * sends a single {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *     same length as <code>x</code>).
+     */
+    public void add(double[] x, double[] y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        if (y == null) {
+            throw new IllegalArgumentException("Null 'y' argument.");
+        }
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        ensureCapacity(this.itemCount + x.length);
+        int oldItemCount = this.itemCount;
+        boolean appended = true;
+        for (int i = 0; i < x.length; i++) {
+            appended = addItem(x[i], y[i]) && appended;
+        }
+        fireSeriesChanged(appended ? createAppendInfo(oldItemCount, x.length)
+                : null);
+    }
+
+    /**
+     * Returns the index at which an item with the specified x-value should
+     * be inserted into a sorted series (after any existing items with the
+     * same x-value).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    private int insertionPoint(double x) {
+        int index = Arrays.binarySearch(this.xValues, 0, this.itemCount, x);
+        if (index < 0) {
+            return -index - 1;
+        }
+        if (!this.allowDuplicateXValues) {
+            throw new SeriesException("X-value already exists.");
+        }
+        // need to make sure we are adding *after* any duplicates
+        while (index < this.itemCount
+                && Double.compare(this.xValues[index], x) == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage arrays if
+     * necessary.  No bounds are updated and no events are sent.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        ensureCapacity(this.itemCount + 1);
+        if (index < this.itemCount) {
+            int moved = this.itemCount - index;
+            System.arraycopy(this.xValues, index, this.xValues, index + 1,
+                    moved);
+            System.arraycopy(this.yValues, index, this.yValues, index + 1,
+                    moved);
+        }
+        this.xValues[index] = x;
+        this.yValues[index] = y;
+        this.itemCount++;
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive).  No bounds are updated and no events are
+     * sent.
+     *
+     * @param start  the start index.
+     * @param end  the end index (exclusive).
+     */
+    private void removeRange(int start, int end) {
+        if (start < 0 || end > this.itemCount || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range " + start
+                    + " to " + end + " for series with " + this.itemCount
+                    + " items.");
+        }
+        int moved = this.itemCount - end;
+        System.arraycopy(this.xValues, end, this.xValues, start, moved);
+        System.arraycopy(this.yValues, end, this.yValues, start, moved);
+        this.itemCount -= (end - start);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based, inclusive).
+     */
+    public void delete(int start, int end) {
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged(start == 0 ? new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, end) : null);
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        double x = this.xValues[index];
+        double y = this.yValues[index];
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(x, y);
+        fireSeriesChanged(index == 0 ? new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, 0) : null);
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Checks that an item index is valid for the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[index];
+    }
+
+    /**
+     * Returns the x-value at the specified index.  Note that this method
+     * creates a new object, in general you should use
+     * {@link #getXValue(int)} instead.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.  Note that this method
+     * creates a new object, in general you should use
+     * {@link #getYValue(int)} instead.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (never <code>null</code>).
+     */
+    public Number getY(int index) {
+        return new Double(getYValue(index));
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return A new data item.
+     */
+    public XYDataItem getDataItem(int index) {
+        return new XYDataItem(getXValue(index), getYValue(index));
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>Double.NaN</code> for a missing value).
+     */
+    public void updateByIndex(int index, double y) {
+        checkIndex(index);
+        double oldY = this.yValues[index];
+        // figure out if we need to iterate through all the y-values
+        boolean iterate = false;
+        if (!Double.isNaN(oldY)) {
+            iterate = oldY <= this.minY || oldY >= this.maxY;
+        }
+        this.yValues[index] = y;
+        if (iterate) {
+            findBoundsByIteration();
+        }
+        else {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                index));
+    }
+
+    /**
+     * Updates the y-value of the item with the specified x-value and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws SeriesException if there is no existing item with the specified
+     *         x-value.
+     */
+    public void update(double x, double y) {
+        int index = indexOf(x);
+        if (index < 0) {
+            throw new SeriesException("No observation for x = " + x);
+        }
+        updateByIndex(index, y);
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  Be
+     * aware that for an unsorted series, the index is found by iterating
+     * through all items in the series.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (this.autoSort) {
+            return Arrays.binarySearch(this.xValues, 0, this.itemCount, x);
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.compare(this.xValues[i], x) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        result[0] = Arrays.copyOf(this.xValues, this.itemCount);
+        result[1] = Arrays.copyOf(this.yValues, this.itemCount);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYDoubleSeries clone = (XYDoubleSeries) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        return clone;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYDoubleSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        XYDoubleSeries that = (XYDoubleSeries) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.autoSort != that.autoSort) {
+            return false;
+        }
+        if (this.allowDuplicateXValues != that.allowDuplicateXValues) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xValues[i])
+                    != Double.doubleToLongBits(that.xValues[i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[i])
+                    != Double.doubleToLongBits(that.yValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        int count = this.itemCount;
+        if (count > 0) {
+            result = 29 * result + hashCodeForItem(0);
+        }
+        if (count > 1) {
+            result = 29 * result + hashCodeForItem(count - 1);
+        }
+        if (count > 2) {
+            result = 29 * result + hashCodeForItem(count / 2);
+        }
+        result = 29 * result + this.maximumItemCount;
+        result = 29 * result + (this.autoSort ? 1 : 0);
+        result = 29 * result + (this.allowDuplicateXValues ? 1 : 0);
+        return result;
+    }
+
+    /**
+     * Returns a hash code for a single item in the series.
+     *
+     * @param index  the item index.
+     *
+     * @return A hash code.
+     */
+    private int hashCodeForItem(int index) {
+        long x = Double.doubleToLongBits(this.xValues[index]);
+        long y = Double.doubleToLongBits(this.yValues[index]);
+        int result = (int) (x ^ (x >>> 32));
+        return 29 * result + (int) (y ^ (y >>> 32));
+    }
+
+}
@@ -0,0 +1,424 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * XYPyramidIndex.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Synchronize the public methods (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A multi-resolution index of the minimum and maximum y-values in each
+ * series of an {@link XYDataset}.  For each series, the items are grouped
+ * into buckets of {@link #MIN_BUCKET_SIZE} consecutive items, then pairs of
+ * buckets are grouped into buckets twice the size, and so on, giving a
+ * "pyramid" of levels with power-of-two bucket sizes.  For each bucket, the
+ * index records the items with the lowest and highest y-values and whether
+ * or not any item in the bucket has a <code>NaN</code> x or y-value.  This
+ * allows the items that need to be drawn for a large range of items to be
+ * found by visiting a number of buckets that is proportional to the number
+ * of pixels available, rather than every item.
+ * <p>
+ * The index is built lazily, one series at a time.  When items are appended
+ * to a series the index is extended incrementally the next time that it is
+ * used, but any other change to the dataset requires a call to
+ * {@link #invalidate()}, after which the index will be rebuilt when it is
+ * next used.
+ * <p>
+ * The public methods are synchronized on the index, so that it can be
+ * invalidated on one thread while it is being read on another.  A caller
+ * that needs several reads to see the same state (for example, to find a
+ * level and then visit its buckets) should hold the index's lock for the
+ * whole sequence.
+ *
+ * @see org.jfree.chart.renderer.RendererUtilities#findDecimatedItems(
+ *     XYDataset, int, int, int, org.jfree.chart.axis.ValueAxis,
+ *     java.awt.geom.Rectangle2D, org.jfree.chart.ui.RectangleEdge,
+ *     XYPyramidIndex)
+ */
+public class XYPyramidIndex {
+
+    /** The number of items in the buckets at the finest level (level 0). */
+    public static final int MIN_BUCKET_SIZE = 8;
+
+    /** The base 2 logarithm of {@link #MIN_BUCKET_SIZE}. */
+    private static final int MIN_BUCKET_SHIFT = 3;
+
+    /** The dataset. */
+    private XYDataset dataset;
+
+    /** The index for each series (<code>null</code> entries are not built). */
+    private List<SeriesIndex> seriesIndices;
+
+    /**
+     * Creates a new index for the specified dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     */
+    public XYPyramidIndex(XYDataset dataset) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        this.dataset = dataset;
+        this.seriesIndices = new ArrayList<SeriesIndex>();
+    }
+
+    /**
+     * Returns the dataset that this index was created for.
+     *
+     * @return The dataset (never <code>null</code>).
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Discards the index for all series.  Call this method whenever the
+     * dataset is changed in any way other than by appending items.
+     */
+    public synchronized void invalidate() {
+        this.seriesIndices.clear();
+    }
+
+    /**
+     * Discards the index for one series.
+     *
+     * @param series  the series index.
+     */
+    public synchronized void invalidate(int series) {
+        if (series < this.seriesIndices.size()) {
+            this.seriesIndices.set(series, null);
+        }
+    }
+
+    /**
+     * Returns the number of items in each bucket at the specified level.
+     *
+     * @param level  the level (zero or greater).
+     *
+     * @return The bucket size.
+     */
+    public static int getBucketSize(int level) {
+        return 1 << (level + MIN_BUCKET_SHIFT);
+    }
+
+    /**
+     * Returns the number of levels in the index for the specified series,
+     * building or extending the index if necessary.  A series with
+     * <code>MIN_BUCKET_SIZE</code> items or fewer has no levels.
+     *
+     * @param series  the series index.
+     *
+     * @return The level count.
+     */
+    public synchronized int getLevelCount(int series) {
+        return getSeriesIndex(series).levels.size();
+    }
+
+    /**
+     * Returns the coarsest level in which the buckets contain no more than
+     * <code>itemCount</code> items each.
+     *
+     * @param series  the series index.
+     * @param itemCount  the maximum number of items per bucket.
+     *
+     * @return The level (<code>-1</code> if the index has no levels for the
+     *     series, or if no level has buckets that are small enough).
+     */
+    public synchronized int findLevel(int series, int itemCount) {
+        int levelCount = getLevelCount(series);
+        int level = -1;
+        while (level + 1 < levelCount
+                && getBucketSize(level + 1) <= itemCount) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Returns the index of the item with the lowest y-value in a bucket.
+     *
+     * @param series  the series index.
+     * @param level  the level.
+     * @param bucket  the bucket index.
+     *
+     * @return The item index (<code>-1</code> if all the y-values in the
+     *     bucket are <code>NaN</code>).
+     */
+    public synchronized int getMinItem(int series, int level, int bucket) {
+        return getSeriesIndex(series).levels.get(level).minItems[bucket];
+    }
+
+    /**
+     * Returns the index of the item with the highest y-value in a bucket.
+     *
+     * @param series  the series index.
+     * @param level  the level.
+     * @param bucket  the bucket index.
+     *
+     * @return The item index (<code>-1</code> if all the y-values in the
+     *     bucket are <code>NaN</code>).
+     */
+    public synchronized int getMaxItem(int series, int level, int bucket) {
+        return getSeriesIndex(series).levels.get(level).maxItems[bucket];
+    }
+
+    /**
+     * Returns <code>true</code> if any item in the bucket has a
+     * <code>NaN</code> x or y-value (which renderers treat as a gap in the
+     * series), and <code>false</code> otherwise.
+     *
+     * @param series  the series index.
+     * @param level  the level.
+     * @param bucket  the bucket index.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean hasGap(int series, int level, int bucket) {
+        return getSeriesIndex(series).levels.get(level).gaps.get(bucket);
+    }
+
+    /**
+     * Returns the index for a series, building or extending it as
+     * necessary so that it covers all the items currently in the series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series index.
+     */
+    private SeriesIndex getSeriesIndex(int series) {
+        while (this.seriesIndices.size() <= series) {
+            this.seriesIndices.add(null);
+        }
+        SeriesIndex result = this.seriesIndices.get(series);
+        int itemCount = this.dataset.getItemCount(series);
+        if (result == null || itemCount < result.itemCount) {
+            result = new SeriesIndex();
+            this.seriesIndices.set(series, result);
+        }
+        if (itemCount > result.itemCount) {
+            result.extend(this.dataset, series, itemCount);
+        }
+        return result;
+    }
+
+    /**
+     * The index for one series.
+     */
+    private static class SeriesIndex {
+
+        /** The number of items covered by the index. */
+        private int itemCount;
+
+        /** The levels, finest first. */
+        private List<Level> levels = new ArrayList<Level>();
+
+        /**
+         * Extends the index to cover the specified number of items.  Only
+         * the buckets that contain new items are recalculated.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param newItemCount  the new item count.
+         */
+        void extend(XYDataset dataset, int series, int newItemCount) {
+            int oldItemCount = this.itemCount;
+            int oldLevelCount = this.levels.size();
+            this.itemCount = newItemCount;
+            for (int level = 0;
+                    getBucketSize(level) < newItemCount; level++) {
+                int size = getBucketSize(level);
+                int bucketCount = (newItemCount + size - 1) / size;
+                if (this.levels.size() == level) {
+                    this.levels.add(new Level());
+                }
+                Level current = this.levels.get(level);
+                current.ensureCapacity(bucketCount);
+                int firstBucket = level < oldLevelCount
+                        ? oldItemCount / size : 0;
+                for (int b = firstBucket; b < bucketCount; b++) {
+                    if (level == 0) {
+                        current.summarise(dataset, series, b, size,
+                                newItemCount);
+                    }
+                    else {
+                        current.combine(dataset, series, b,
+                                this.levels.get(level - 1));
+                    }
+                }
+                current.bucketCount = bucketCount;
+            }
+        }
+
+    }
+
+    /**
+     * The buckets for one level of the index.
+     */
+    private static class Level {
+
+        /** The number of buckets. */
+        private int bucketCount;
+
+        /** The item with the lowest y-value in each bucket. */
+        private int[] minItems = new int[16];
+
+        /** The item with the highest y-value in each bucket. */
+        private int[] maxItems = new int[16];
+
+        /** Flags the buckets that contain items with NaN values. */
+        private BitSet gaps = new BitSet();
+
+        /**
+         * Makes sure the level can hold the specified number of buckets.
+         *
+         * @param capacity  the required capacity.
+         */
+        void ensureCapacity(int capacity) {
+            if (capacity > this.minItems.length) {
+                int newCapacity = Math.max(capacity,
+                        this.minItems.length * 2);
+                int[] newMinItems = new int[newCapacity];
+                int[] newMaxItems = new int[newCapacity];
+                System.arraycopy(this.minItems, 0, newMinItems, 0,
+                        this.bucketCount);
+                System.arraycopy(this.maxItems, 0, newMaxItems, 0,
+                        this.bucketCount);
+                this.minItems = newMinItems;
+                this.maxItems = newMaxItems;
+            }
+        }
+
+        /**
+         * Calculates a bucket from the items in the dataset.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param bucket  the bucket index.
+         * @param size  the bucket size.
+         * @param itemCount  the number of items in the series.
+         */
+        void summarise(XYDataset dataset, int series, int bucket, int size,
+                int itemCount) {
+            int minItem = -1;
+            int maxItem = -1;
+            double minY = Double.NaN;
+            double maxY = Double.NaN;
+            boolean gap = false;
+            int end = Math.min((bucket + 1) * size, itemCount);
+            for (int item = bucket * size; item < end; item++) {
+                double y = dataset.getYValue(series, item);
+                if (Double.isNaN(y)
+                        || Double.isNaN(dataset.getXValue(series, item))) {
+                    gap = true;
+                    continue;
+                }
+                if (minItem < 0 || y < minY) {
+                    minItem = item;
+                    minY = y;
+                }
+                if (maxItem < 0 || y > maxY) {
+                    maxItem = item;
+                    maxY = y;
+                }
+            }
+            this.minItems[bucket] = minItem;
+            this.maxItems[bucket] = maxItem;
+            this.gaps.set(bucket, gap);
+        }
+
+        /**
+         * Calculates a bucket from two buckets at the next finer level.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param bucket  the bucket index.
+         * @param finer  the next finer level.
+         */
+        void combine(XYDataset dataset, int series, int bucket,
+                Level finer) {
+            int left = bucket * 2;
+            int right = left + 1;
+            int minItem = finer.minItems[left];
+            int maxItem = finer.maxItems[left];
+            boolean gap = finer.gaps.get(left);
+            if (right < finer.bucketCount) {
+                minItem = select(dataset, series, minItem,
+                        finer.minItems[right], true);
+                maxItem = select(dataset, series, maxItem,
+                        finer.maxItems[right], false);
+                gap = gap || finer.gaps.get(right);
+            }
+            this.minItems[bucket] = minItem;
+            this.maxItems[bucket] = maxItem;
+            this.gaps.set(bucket, gap);
+        }
+
+        /**
+         * Returns the item with the lower (or higher) y-value.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param item1  the first item (<code>-1</code> for none).
+         * @param item2  the second item (<code>-1</code> for none).
+         * @param lowest  select the lowest value?
+         *
+         * @return The selected item.
+         */
+        private static int select(XYDataset dataset, int series, int item1,
+                int item2, boolean lowest) {
+            if (item1 < 0) {
+                return item2;
+            }
+            if (item2 < 0) {
+                return item1;
+            }
+            double y1 = dataset.getYValue(series, item1);
+            double y2 = dataset.getYValue(series, item2);
+            if (lowest ? y2 < y1 : y2 > y1) {
+                return item2;
+            }
+            return item1;
+        }
+
+    }
+
+}
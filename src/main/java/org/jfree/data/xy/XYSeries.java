@@ -75,6 +75,12 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Use circular storage when there is a maximum item
+ *               count (agent);
+ * 16-Oct-2026 : Track bounds incrementally for a sliding window of
+ *               items (agent);
+ * 16-Oct-2026 : Describe appends, updates and removals in change
+ *               events (agent);
  * 
  */
 
@@ -84,10 +90,14 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
+import org.jfree.chart.util.CircularArrayList;
 import org.jfree.chart.util.ObjectUtilities;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.SlidingWindowBounds;
 
 /**
  * Represents a sequence of zero or more data items in the form (x, y).  By
@@ -132,6 +142,21 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the bounds of the x-values while items are only appended to
+     * the end of an unsorted series and evicted from the front (otherwise
+     * <code>null</code>).
+     */
+    private SlidingWindowBounds xWindow;
+
+    /**
+     * Tracks the bounds of the y-values while items are only appended to
+     * the end of the series and evicted from the front.  This is only used
+     * when the series has a maximum item count, and is <code>null</code>
+     * at other times.
+     */
+    private SlidingWindowBounds yWindow;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -305,8 +330,84 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        resetWindowBounds();
         for (XYDataItem item : this.data) {
             updateBoundsForAddedItem(item);
+            updateWindowBoundsForAddedItem(item, true);
+        }
+    }
+
+    /**
+     * Starts tracking the bounds with a {@link SlidingWindowBounds} (with no
+     * items) if the series has a maximum item count.  For a sorted series,
+     * the x-value bounds are simply the first and last x-values, so only the
+     * y-values need to be tracked.
+     */
+    private void resetWindowBounds() {
+        this.xWindow = null;
+        this.yWindow = null;
+        if (this.maximumItemCount < Integer.MAX_VALUE) {
+            this.yWindow = new SlidingWindowBounds();
+            if (!this.autoSort) {
+                this.xWindow = new SlidingWindowBounds();
+            }
+        }
+    }
+
+    /**
+     * Updates the sliding window bounds (if they are being tracked) for an
+     * item that has been added to the series.  If the item was not appended
+     * to the end of the series, the sliding window bounds can no longer be
+     * used (until the next time the bounds are found by iteration).
+     *
+     * @param item  the item added (<code>null</code> not permitted).
+     * @param appended  a flag indicating whether the item was added at the
+     *     end of the series.
+     */
+    private void updateWindowBoundsForAddedItem(XYDataItem item,
+            boolean appended) {
+        if (this.yWindow == null) {
+            return;
+        }
+        if (!appended) {
+            this.xWindow = null;
+            this.yWindow = null;
+            return;
+        }
+        if (this.xWindow != null) {
+            this.xWindow.add(item.getXValue());
+        }
+        this.yWindow.add(item.getYValue());
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the FIRST item in the series has just been removed.
+     * When the sliding window bounds are being tracked, this does not require
+     * any iteration through the remaining items.
+     *
+     * @param item  the item removed (<code>null</code> not permitted).
+     */
+    private void updateBoundsForEvictedItem(XYDataItem item) {
+        if (this.yWindow == null) {
+            updateBoundsForRemovedItem(item);
+            return;
+        }
+        this.yWindow.removeFirst();
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+        if (this.xWindow != null) {
+            this.xWindow.removeFirst();
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+        }
+        else if (this.data.isEmpty()) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = getX(0).doubleValue();
+            this.maxX = getX(getItemCount() - 1).doubleValue();
         }
     }
 
@@ -376,15 +477,28 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners).
+     * <p>
+     * When a maximum is set, the items are held in a circular buffer so that
+     * removing the first item (as each new item is appended) does not require
+     * the remaining items to be shifted.  In addition, while items are only
+     * appended to the end of the series, the bounds are tracked incrementally
+     * (see {@link SlidingWindowBounds}) so that they do not need to be
+     * recalculated by iteration when the first item is removed.
      *
      * @param maximum  the maximum number of items for the series.
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE
+                && !(this.data instanceof CircularArrayList)) {
+            this.data = new CircularArrayList<XYDataItem>(this.data);
+        }
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
-            findBoundsByIteration();
+        }
+        findBoundsByIteration();
+        if (remove > 0) {
             fireSeriesChanged();
         }
     }
@@ -504,9 +618,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Null 'item' argument.");
         }
         item = item.copy();
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
@@ -518,6 +634,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                         index++;
                     }
                     if (index < this.data.size()) {
+                        appended = false;
                         this.data.add(index, item);
                     }
                     else {
@@ -541,15 +658,37 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        updateWindowBoundsForAddedItem(item, appended);
+        int removedCount = 0;
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            updateBoundsForEvictedItem(removed);
+            removedCount = 1;
         }
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(appended ? createAppendInfo(removedCount)
+                    : null);
         }
     }
 
+    /**
+     * Returns a description of the change for an item that has just been
+     * appended to the series.
+     *
+     * @param removedCount  the number of items removed from the front of the
+     *     series to respect the maximum item count.
+     *
+     * @return The change info (<code>null</code> if the series is empty).
+     */
+    private SeriesChangeInfo createAppendInfo(int removedCount) {
+        int last = getItemCount() - 1;
+        if (last < 0) {
+            return null;
+        }
+        return new SeriesChangeInfo(SeriesChangeType.APPEND, last, last,
+                removedCount);
+    }
+
     /**
      * Deletes a range of items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -560,7 +699,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
         findBoundsByIteration();
-        fireSeriesChanged();
+        fireSeriesChanged(start == 0 ? new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, end) : null);
     }
 
     /**
@@ -573,8 +713,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+        if (index == 0) {
+            updateBoundsForEvictedItem(removed);
+        }
+        else {
+            this.xWindow = null;
+            this.yWindow = null;
+            updateBoundsForRemovedItem(removed);
+        }
+        fireSeriesChanged(index == 0 ? new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, 0) : null);
         return removed;
     }
 
@@ -603,6 +751,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
+            resetWindowBounds();
             fireSeriesChanged();
         }
     }
@@ -703,6 +852,9 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void updateByIndex(int index, Number y) {
         XYDataItem item = getRawDataItem(index);
+        // the sliding window bounds can't handle updates to existing items
+        this.xWindow = null;
+        this.yWindow = null;
         // figure out if we need to iterate through all the y-values
         boolean iterate = false;
         double oldY = item.getYValue();
@@ -719,7 +871,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                index));
     }
 
     /**
@@ -791,10 +944,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         // if we get to here, we know that duplicate X values are not permitted
         XYDataItem overwritten = null;
+        SeriesChangeInfo info;
         int index = indexOf(item.getX());
         if (index >= 0) {
             XYDataItem existing = this.data.get(index);
             overwritten = existing.copy();
+            this.xWindow = null;
+            this.yWindow = null;
             // figure out if we need to iterate through all the y-values
             boolean iterate = false;
             double oldY = existing.getYValue();
@@ -811,6 +967,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 this.minY = minIgnoreNaN(this.minY, yy);
                 this.maxY = minIgnoreNaN(this.maxY, yy);
             }
+            info = new SeriesChangeInfo(SeriesChangeType.UPDATE, index,
+                    index);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -818,21 +976,27 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = item.copy();
+            boolean appended = true;
             if (this.autoSort) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
                 this.data.add(item);
             }
             updateBoundsForAddedItem(item);
+            updateWindowBoundsForAddedItem(item, appended);
 
             // check if this addition will exceed the maximum item count...
+            int removedCount = 0;
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                updateBoundsForEvictedItem(removed);
+                removedCount = 1;
             }
+            info = appended ? createAppendInfo(removedCount) : null;
         }
-        fireSeriesChanged();
+        fireSeriesChanged(info);
         return overwritten;
     }
 
@@ -895,6 +1059,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = ObjectUtilities.deepClone(this.data);
+        if (this.xWindow != null) {
+            clone.xWindow = this.xWindow.clone();
+        }
+        if (this.yWindow != null) {
+            clone.yWindow = this.yWindow.clone();
+        }
         return clone;
     }
 
@@ -912,7 +1082,17 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList<XYDataItem>();
+        if (this.maximumItemCount < Integer.MAX_VALUE) {
+            copy.data = new CircularArrayList<XYDataItem>();
+        }
+        else {
+            copy.data = new java.util.ArrayList<XYDataItem>();
+        }
+        copy.minX = Double.NaN;
+        copy.maxX = Double.NaN;
+        copy.minY = Double.NaN;
+        copy.maxY = Double.NaN;
+        copy.resetWindowBounds();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -58,6 +58,10 @@
  * 06-Mar-2009 : Fixed equals() implementation (DG);
  * 10-Jun-2009 : Simplified code in getX() and getY() methods (DG);
  * 16-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Pass on series change info (agent);
+ * 16-Oct-2026 : Added concurrent mode (agent);
+ * 16-Oct-2026 : Implement NotifyingDataset, so the bounds are cached (agent);
+ * 16-Oct-2026 : Implement SnapshotSource (agent);
  *
  */
 
@@ -80,6 +84,9 @@ import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.NotifyingDataset;
+import org.jfree.data.general.SnapshotSource;
 import org.jfree.data.general.Series;
 
 /**
@@ -88,7 +95,8 @@ import org.jfree.data.general.Series;
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
         implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        NotifyingDataset, SnapshotSource, VetoableChangeListener,
+        PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -99,6 +107,12 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /** The interval width in the newest snapshot (concurrent mode only). */
+    private transient double snapshotIntervalWidth;
+
+    /** The interval position factor in the newest snapshot. */
+    private transient double snapshotIntervalPositionFactor;
+
     /**
      * Constructs an empty dataset.
      */
@@ -129,6 +143,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public DomainOrder getDomainOrder() {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getDomainOrder();
+        }
         int seriesCount = getSeriesCount();
         for (int i = 0; i < seriesCount; i++) {
             XYSeries s = getSeries(i);
@@ -217,6 +235,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public int getSeriesCount() {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesCount();
+        }
         return this.data.size();
     }
 
@@ -244,6 +266,24 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series, so that a description of a
+     * change to the series can be passed on to the dataset's listeners.
+     *
+     * @param series  the series.
+     *
+     * @return The series index, or <code>-1</code>.
+     */
+    @Override
+    protected int indexOfChangedSeries(Series series) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series from the collection.
      *
@@ -296,6 +336,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Comparable getSeriesKey(int series) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSeriesKey(series);
+        }
         // defer argument checking
         return getSeries(series).getKey();
     }
@@ -334,6 +378,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public int getItemCount(int series) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getItemCount(series);
+        }
         // defer argument checking
         return getSeries(series).getItemCount();
     }
@@ -348,10 +396,31 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Double(snapshot.getXValue(series, item));
+        }
         XYSeries s = this.data.get(series);
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getXValue(series, item);
+        }
+        return super.getXValue(series, item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -362,6 +431,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getStartX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Double(snapshot.getStartXValue(series, item));
+        }
         return this.intervalDelegate.getStartX(series, item);
     }
 
@@ -375,9 +448,47 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getEndX(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return new Double(snapshot.getEndXValue(series, item));
+        }
         return this.intervalDelegate.getEndX(series, item);
     }
 
+    /**
+     * Returns the starting x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getStartXValue(series, item);
+        }
+        return super.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getEndXValue(series, item);
+        }
+        return super.getEndXValue(series, item);
+    }
+
     /**
      * Returns the y-value for the specified series and item.
      *
@@ -388,10 +499,31 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Number getY(int series, int index) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getY(series, index);
+        }
         XYSeries s = this.data.get(series);
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (possibly <code>Double.NaN</code>).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getYValue(series, item);
+        }
+        return super.getYValue(series, item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -479,6 +611,11 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getDomainLowerBound(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            Range r = snapshot.getDomainBounds(includeInterval);
+            return r != null ? r.getLowerBound() : Double.NaN;
+        }
         if (includeInterval) {
             return this.intervalDelegate.getDomainLowerBound(includeInterval);
         }
@@ -509,6 +646,11 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getDomainUpperBound(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            Range r = snapshot.getDomainBounds(includeInterval);
+            return r != null ? r.getUpperBound() : Double.NaN;
+        }
         if (includeInterval) {
             return this.intervalDelegate.getDomainUpperBound(includeInterval);
         }
@@ -542,6 +684,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Range getDomainBounds(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getDomainBounds(includeInterval);
+        }
         if (includeInterval) {
             return this.intervalDelegate.getDomainBounds(includeInterval);
         }
@@ -644,6 +790,10 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public Range getRangeBounds(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getRangeBounds();
+        }
         double lower = Double.POSITIVE_INFINITY;
         double upper = Double.NEGATIVE_INFINITY;
         int seriesCount = getSeriesCount();
@@ -676,6 +826,11 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getRangeLowerBound(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            Range r = snapshot.getRangeBounds();
+            return r != null ? r.getLowerBound() : Double.NaN;
+        }
         double result = Double.NaN;
         int seriesCount = getSeriesCount();
         for (int s = 0; s < seriesCount; s++) {
@@ -703,6 +858,11 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     @Override
     public double getRangeUpperBound(boolean includeInterval) {
+        XYDatasetSnapshot snapshot = (XYDatasetSnapshot) getSnapshot();
+        if (snapshot != null) {
+            Range r = snapshot.getRangeBounds();
+            return r != null ? r.getUpperBound() : Double.NaN;
+        }
         double result = Double.NaN;
         int seriesCount = getSeriesCount();
         for (int s = 0; s < seriesCount; s++) {
@@ -720,6 +880,53 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Switches concurrent mode on or off.  In concurrent mode, a thread
+     * holding a {@link org.jfree.data.general.SnapshotPin} (for example, a
+     * thread drawing a chart) reads an immutable snapshot of the data, so
+     * the series can be updated in another thread at the same time.  The
+     * series themselves (see {@link #getSeries(int)}) are not protected, and
+     * should be read only by the thread that updates them.
+     *
+     * @param concurrent  the new flag value.
+     *
+     * @see #isConcurrent()
+     */
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        super.setConcurrent(concurrent);
+    }
+
+    /**
+     * Creates a snapshot of the data, for concurrent mode.
+     *
+     * @param previous  the previous snapshot (<code>null</code> permitted).
+     * @param info  a description of the changes since the previous snapshot
+     *     (<code>null</code> permitted).
+     *
+     * @return The snapshot.
+     */
+    @Override
+    public Object createSnapshot(Object previous, DatasetChangeInfo info) {
+        // the interval delegate is a listener, so it hasn't been told about
+        // the change yet
+        if (this.intervalDelegate.isAutoWidth()) {
+            this.intervalDelegate.datasetChanged(new DatasetChangeEvent(this,
+                    this));
+        }
+        double width = this.intervalDelegate.getIntervalWidth();
+        double factor = this.intervalDelegate.getIntervalPositionFactor();
+        if (width != this.snapshotIntervalWidth
+                || factor != this.snapshotIntervalPositionFactor) {
+            // the start and end x-values have changed for every item
+            info = null;
+            this.snapshotIntervalWidth = width;
+            this.snapshotIntervalPositionFactor = factor;
+        }
+        return XYDatasetSnapshot.update((XYDatasetSnapshot) previous, this,
+                info);
+    }
+
     /**
      * Receives notification that the key for one of the series in the 
      * collection has changed, and vetos it if the key is already present in 
@@ -0,0 +1,263 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * AsyncChartRendererTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added testAbandonStaleDrawing() and
+ *               testExceptionWhileDrawing() (agent);
+ *
+ */
+
+package org.jfree.chart;
+
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link AsyncChartRenderer} class.
+ */
+public class AsyncChartRendererTest {
+
+    /**
+     * A chart that is changed while it is being drawn is drawn again, and
+     * the out of date image is discarded.
+     */
+    @Test
+    public void testChangeWhileDrawing() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        final JFreeChart chart = ChartFactory.createScatterPlot("Test", "X",
+                "Y", dataset);
+        final List<BufferedImage> finished = new ArrayList<BufferedImage>();
+        ChartPanelTest.ManualExecutor executor
+                = new ChartPanelTest.ManualExecutor();
+        final AsyncChartRenderer renderer = new AsyncChartRenderer(executor,
+                new AsyncChartRenderer.Callback() {
+            @Override
+            public void renderFinished(BufferedImage image,
+                    ChartRenderingInfo info) {
+                finished.add(image);
+            }
+        });
+        final Rectangle2D area = new Rectangle2D.Double(0, 0, 200, 100);
+        final BufferedImage image1 = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage image2 = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        ChartProgressListener listener = new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_STARTED) {
+                    chart.removeProgressListener(this);
+                    renderer.render(chart, image2, area, 1.0, 1.0, null,
+                            new ChartRenderingInfo());
+                }
+            }
+        };
+        chart.addProgressListener(listener);
+        renderer.render(chart, image1, area, 1.0, 1.0, null,
+                new ChartRenderingInfo());
+        assertTrue(renderer.isBusy());
+        executor.runNext();
+        assertTrue(finished.isEmpty());
+        assertEquals(1, executor.tasks.size());
+        executor.runNext();
+        assertEquals(1, finished.size());
+        assertSame(image2, finished.get(0));
+        assertFalse(renderer.isBusy());
+
+        // a cancelled request is not drawn
+        renderer.render(chart, image1, area, 1.0, 1.0, null,
+                new ChartRenderingInfo());
+        renderer.cancel();
+        executor.runNext();
+        assertEquals(1, finished.size());
+        assertFalse(renderer.isBusy());
+    }
+
+    /**
+     * A renderer that counts the items drawn, and can be made to fail.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        int count;
+
+        Runnable failure;
+
+        CountingRenderer() {
+            super(true, false);
+        }
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            this.count++;
+            if (this.failure != null) {
+                this.failure.run();
+                throw new IllegalStateException("Failed.");
+            }
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+
+    }
+
+    /**
+     * Creates a chart with one series of 1000 items.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createChart(CountingRenderer renderer) {
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = i;
+            data[1][i] = i % 7;
+        }
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", data);
+        return new JFreeChart(new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer));
+    }
+
+    /**
+     * A chart that becomes stale while it is being drawn is abandoned
+     * without drawing the remaining items.
+     */
+    @Test
+    public void testAbandonStaleDrawing() throws Exception {
+        CountingRenderer r = new CountingRenderer();
+        final JFreeChart chart = createChart(r);
+        final List<BufferedImage> finished = new ArrayList<BufferedImage>();
+        ChartPanelTest.ManualExecutor executor
+                = new ChartPanelTest.ManualExecutor();
+        final AsyncChartRenderer renderer = new AsyncChartRenderer(executor,
+                new AsyncChartRenderer.Callback() {
+            @Override
+            public void renderFinished(BufferedImage image,
+                    ChartRenderingInfo info) {
+                finished.add(image);
+            }
+        });
+        final Rectangle2D area = new Rectangle2D.Double(0, 0, 200, 100);
+        final BufferedImage image1 = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage image2 = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_STARTED) {
+                    chart.removeProgressListener(this);
+                    renderer.render(chart, image2, area, 1.0, 1.0, null,
+                            new ChartRenderingInfo());
+                }
+            }
+        });
+        renderer.render(chart, image1, area, 1.0, 1.0, null,
+                new ChartRenderingInfo());
+        executor.runNext();
+        assertEquals(0, r.count);
+        assertTrue(finished.isEmpty());
+        executor.runNext();
+        assertEquals(2000, r.count);  // two passes
+        assertEquals(1, finished.size());
+        assertSame(image2, finished.get(0));
+    }
+
+    /**
+     * An exception thrown while drawing a chart is not hidden, even if the
+     * chart has become stale.
+     */
+    @Test
+    public void testExceptionWhileDrawing() throws Exception {
+        CountingRenderer r = new CountingRenderer();
+        JFreeChart chart = createChart(r);
+        ChartPanelTest.ManualExecutor executor
+                = new ChartPanelTest.ManualExecutor();
+        final AsyncChartRenderer renderer = new AsyncChartRenderer(executor,
+                new AsyncChartRenderer.Callback() {
+            @Override
+            public void renderFinished(BufferedImage image,
+                    ChartRenderingInfo info) {
+                fail("No image expected.");
+            }
+        });
+        r.failure = new Runnable() {
+            @Override
+            public void run() {
+                renderer.cancel();
+            }
+        };
+        renderer.render(chart, new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB), new Rectangle2D.Double(0, 0,
+                200, 100), 1.0, 1.0, null, new ChartRenderingInfo());
+        try {
+            executor.runNext();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("Failed.", e.getMessage());
+        }
+        assertFalse(renderer.isBusy());
+    }
+
+}
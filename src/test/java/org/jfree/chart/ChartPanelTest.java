@@ -37,6 +37,10 @@
  * 13-Jul-2004 : Version 1 (DG);
  * 12-Jan-2009 : Added test2502355() (DG);
  * 08-Jun-2009 : Added testSetMouseWheelEnabled() (DG);
+ * 16-Oct-2026 : Added testAsyncRendering() (agent);
+ * 16-Oct-2026 : Added testIncrementalRendering() (agent);
+ * 16-Oct-2026 : Added testLayeredRendering() (agent);
+ * 16-Oct-2026 : Added testIncrementalRenderingWithShapes() (agent);
  */
 
 package org.jfree.chart;
@@ -44,17 +48,33 @@ package org.jfree.chart;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.title.TextTitle;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.event.MouseEvent;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -346,4 +366,326 @@ public class ChartPanelTest
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * An executor that runs tasks only when asked to.
+     */
+    static class ManualExecutor implements Executor {
+
+        List<Runnable> tasks = new LinkedList<Runnable>();
+
+        @Override
+        public void execute(Runnable task) {
+            this.tasks.add(task);
+        }
+
+        void runNext() throws Exception {
+            this.tasks.remove(0).run();
+            // wait for the results to be passed to the event dispatch thread
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    // nothing to do
+                }
+            });
+        }
+
+    }
+
+    /**
+     * In asynchronous mode the chart is drawn by the render executor, the
+     * changes made while the chart is being drawn are coalesced, and a chart
+     * that is out of date when it has been drawn is not displayed.
+     */
+    @Test
+    public void testAsyncRendering() throws Exception {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        JFreeChart chart = ChartFactory.createScatterPlot("TestChart", "X",
+                "Y", dataset);
+        final int[] draws = new int[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    draws[0]++;
+                }
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart);
+        ManualExecutor executor = new ManualExecutor();
+        panel.setRenderExecutor(executor);
+        panel.setAsyncRendering(true);
+        assertTrue(panel.isAsyncRendering());
+        assertSame(executor, panel.getRenderExecutor());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = panel.getChartRenderingInfo();
+
+        panel.paintComponent(g2);
+        assertEquals(1, executor.tasks.size());
+        assertEquals(0, draws[0]);
+
+        // a burst of changes while the chart is being drawn
+        for (int i = 0; i < 5; i++) {
+            dataset.addSeries("S1", new double[][] {{1.0, 2.0},
+                    {3.0, 4.0 + i}});
+            panel.paintComponent(g2);
+        }
+        assertEquals(1, executor.tasks.size());
+
+        // the first request is out of date by the time it runs, so the
+        // chart isn't drawn...
+        executor.runNext();
+        assertEquals(0, draws[0]);
+        assertSame(info, panel.getChartRenderingInfo());
+
+        // ...but the latest change is drawn next
+        assertEquals(1, executor.tasks.size());
+        executor.runNext();
+        assertEquals(1, draws[0]);
+        assertTrue(executor.tasks.isEmpty());
+        assertNotSame(info, panel.getChartRenderingInfo());
+        assertTrue(panel.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount() > 0);
+
+        // no more drawing until there is another change
+        panel.paintComponent(g2);
+        assertTrue(executor.tasks.isEmpty());
+        g2.dispose();
+    }
+
+    /**
+     * Checks that items appended to a series are drawn over the buffered
+     * chart, giving the same image as redrawing the whole chart.
+     */
+    @Test
+    public void testIncrementalRendering() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 3.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", new XYSeriesCollection(series));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        final int[] draws = new int[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    draws[0]++;
+                }
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setIncrementalRendering(true);
+        assertTrue(panel.isIncrementalRendering());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        assertEquals(1, draws[0]);
+        ChartRenderingInfo info = panel.getChartRenderingInfo();
+        int entityCount = info.getEntityCollection().getEntityCount();
+
+        // the new items are drawn without redrawing the chart
+        series.add(3.0, 2.0);
+        series.add(4.0, 5.0);
+        panel.paintComponent(g2);
+        assertEquals(1, draws[0]);
+        assertEquals(entityCount + 2,
+                info.getEntityCollection().getEntityCount());
+
+        // ...and the result is the same as redrawing the chart
+        ChartPanel panel2 = new ChartPanel(chart);
+        panel2.setSize(400, 300);
+        BufferedImage image2 = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2b = image2.createGraphics();
+        panel2.paintComponent(g2b);
+        g2b.dispose();
+        assertEquals(2, draws[0]);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image2.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+
+        // removing an item means the chart is redrawn
+        series.remove(0);
+        panel.paintComponent(g2);
+        assertEquals(3, draws[0]);
+
+        // as does a change to the axis range
+        series.add(5.0, 1.0);
+        plot.getRangeAxis().setRange(0.0, 20.0);
+        panel.paintComponent(g2);
+        assertEquals(4, draws[0]);
+        g2.dispose();
+    }
+
+    /**
+     * Checks that appending items to a series drawn with shapes gives the
+     * same image as redrawing the chart (the shapes are drawn over the
+     * lines, so the chart is redrawn).
+     */
+    @Test
+    public void testIncrementalRenderingWithShapes() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 3.0);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setSeriesShape(0, new Rectangle2D.Double(-8.0, -8.0, 16.0,
+                16.0));
+        renderer.setSeriesStroke(0, new BasicStroke(6.0f));
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        JFreeChart chart = new JFreeChart(plot);
+        final int[] draws = new int[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    draws[0]++;
+                }
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setIncrementalRendering(true);
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        assertEquals(1, draws[0]);
+
+        series.add(3.0, 2.0);
+        panel.paintComponent(g2);
+        assertEquals(2, draws[0]);
+        g2.dispose();
+
+        ChartPanel panel2 = new ChartPanel(chart);
+        panel2.setSize(400, 300);
+        BufferedImage image2 = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2b = image2.createGraphics();
+        panel2.paintComponent(g2b);
+        g2b.dispose();
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image2.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Checks that the background layer is only redrawn for changes that
+     * affect it, and that the layers give the same image as drawing the
+     * whole chart.
+     */
+    @Test
+    public void testLayeredRendering() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 3.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset);
+        final XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        final int[] draws = new int[1];
+        final double[] crosshair = new double[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    draws[0]++;
+                    crosshair[0] = plot.getDomainCrosshairValue();
+                }
+            }
+        });
+        // the subtitle is drawn with the background layer
+        final int[] backgroundDraws = new int[1];
+        chart.addSubtitle(new TextTitle("Subtitle") {
+            @Override
+            public Object draw(Graphics2D g2, Rectangle2D area,
+                    Object params) {
+                backgroundDraws[0]++;
+                return super.draw(g2, area, params);
+            }
+        });
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setLayeredRendering(true);
+        assertTrue(panel.isLayeredRendering());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        assertEquals(1, draws[0]);
+        assertEquals(1, backgroundDraws[0]);
+        ChartRenderingInfo info = panel.getChartRenderingInfo();
+        int entityCount = info.getEntityCollection().getEntityCount();
+
+        // changes to the data layer don't redraw the background layer, but
+        // each drawing of the data layer is reported to progress listeners
+        series.update(2.0, 4.0);
+        panel.paintComponent(g2);
+        plot.addDomainMarker(new ValueMarker(5.0));
+        panel.paintComponent(g2);
+        assertEquals(3, draws[0]);
+        assertEquals(1, backgroundDraws[0]);
+        assertEquals(entityCount, info.getEntityCollection().getEntityCount());
+
+        // ...and the result is the same as drawing the whole chart
+        ChartPanel panel2 = new ChartPanel(chart);
+        panel2.setSize(400, 300);
+        BufferedImage image2 = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2b = image2.createGraphics();
+        panel2.paintComponent(g2b);
+        g2b.dispose();
+        assertEquals(4, draws[0]);
+        assertEquals(2, backgroundDraws[0]);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image2.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+
+        // other changes redraw both layers
+        chart.setTitle("New Title");
+        panel.paintComponent(g2);
+        assertEquals(5, draws[0]);
+        assertEquals(3, backgroundDraws[0]);
+
+        // as does a change to the legend items
+        dataset.addSeries(new XYSeries("S2"));
+        panel.paintComponent(g2);
+        assertEquals(6, draws[0]);
+        assertEquals(4, backgroundDraws[0]);
+
+        // a click redraws the data layer, and listeners can read the
+        // crosshair value when the drawing is finished
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        int x = (int) plot.getDomainAxis().valueToJava2D(2.0, dataArea,
+                plot.getDomainAxisEdge());
+        int y = (int) plot.getRangeAxis().valueToJava2D(4.0, dataArea,
+                plot.getRangeAxisEdge());
+        panel.mouseClicked(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED,
+                0L, 0, x, y, 1, false));
+        panel.paintComponent(g2);
+        assertEquals(7, draws[0]);
+        assertEquals(4, backgroundDraws[0]);
+        assertEquals(2.0, crosshair[0], 0.000001);
+        g2.dispose();
+    }
+
 }
@@ -0,0 +1,150 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartUtilitiesTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the {@link ChartUtilities} class.
+ */
+public class ChartUtilitiesTest {
+
+    /**
+     * Checks that a tiled PNG image has the same pixels as an image drawn in
+     * one piece.
+     *
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param drawWidth  the width for drawing the chart.
+     * @param drawHeight  the height for drawing the chart.
+     */
+    private static void checkTiledPNG(JFreeChart chart, int width,
+            int height, double drawWidth, double drawHeight)
+            throws Exception {
+        ChartRenderingInfo expectedInfo = new ChartRenderingInfo();
+        BufferedImage expected = chart.createBufferedImage(width, height,
+                drawWidth, drawHeight, expectedInfo);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartUtilities.writeChartAsTiledPNG(out, chart, width, height,
+                drawWidth, drawHeight, info, true, 1);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                out.toByteArray()));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        int[] expectedRow = new int[width];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            expected.getRGB(0, y, width, 1, expectedRow, 0, width);
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                assertEquals("Pixel (" + x + ", " + y + ")", expectedRow[x],
+                        row[x]);
+            }
+        }
+
+        EntityCollection expectedEntities = expectedInfo.getEntityCollection();
+        EntityCollection entities = info.getEntityCollection();
+        assertEquals(expectedEntities.getEntityCount(),
+                entities.getEntityCount());
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity expectedEntity = expectedEntities.getEntity(i);
+            ChartEntity entity = entities.getEntity(i);
+            assertEquals(expectedEntity.getShapeCoords(),
+                    entity.getShapeCoords());
+            assertEquals(expectedEntity.getToolTipText(),
+                    entity.getToolTipText());
+        }
+    }
+
+    /**
+     * A line chart written in several bands matches the chart drawn into a
+     * single image.
+     */
+    @Test
+    public void testWriteChartAsTiledPNG() throws Exception {
+        Random random = new Random(1L);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        for (int s = 0; s < 3; s++) {
+            double[][] data = new double[2][500];
+            for (int i = 0; i < 500; i++) {
+                data[0][i] = i;
+                data[1][i] = random.nextGaussian();
+            }
+            dataset.addSeries("S" + s, data);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        // bands of 1024 rows, the last band is shorter
+        checkTiledPNG(chart, 4096, 2100, 4096, 2100);
+    }
+
+    /**
+     * A pie chart (with shadows and labels) scaled and written in several
+     * bands matches the chart drawn into a single image.
+     */
+    @Test
+    public void testWriteChartAsTiledPNGPieChart() throws Exception {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        for (int i = 0; i < 12; i++) {
+            dataset.setValue("Section " + i, i + 1.0);
+        }
+        JFreeChart chart = ChartFactory.createPieChart("Title", dataset);
+        ((PiePlot) chart.getPlot()).setShadowXOffset(8.0);
+        checkTiledPNG(chart, 2048, 2100, 512, 525);
+    }
+
+}
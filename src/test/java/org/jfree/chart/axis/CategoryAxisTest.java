@@ -37,16 +37,24 @@
  * 18-Mar-2003 : Version 1 (DG);
  * 13-Aug-2003 : Added clone() test (DG);
  * 07-Jan-2005 : Added hashCode() test (DG);
+ * 16-Oct-2026 : Added testTickLabelsCreatedOncePerDraw() (agent);
  *
  */
 
 package org.jfree.chart.axis;
 
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.text.TextBlock;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.category.DefaultCategoryDataset;
 import org.junit.Test;
 
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -225,4 +233,36 @@ public class CategoryAxisTest  {
         assertEquals(a1, a2);
     }
 
+    /**
+     * The category labels are created once each time the chart is drawn
+     * (the labels created when space is reserved for the axis are reused
+     * when the axis is drawn), and are created again when the categories
+     * change.
+     */
+    @Test
+    public void testTickLabelsCreatedOncePerDraw() {
+        final int[] count = new int[1];
+        CategoryAxis axis = new CategoryAxis("Category") {
+            @Override
+            protected TextBlock createLabel(Comparable category, float width,
+                    RectangleEdge edge, Graphics2D g2) {
+                count[0]++;
+                return super.createLabel(category, width, edge, g2);
+            }
+        };
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < 20; i++) {
+            dataset.addValue(i, "S1", "Category " + i);
+        }
+        CategoryPlot plot = new CategoryPlot(dataset, axis,
+                new NumberAxis("Value"), new BarRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(400, 300);
+        assertEquals(20, count[0]);
+
+        dataset.addValue(20.0, "S1", "Category 20");
+        chart.createBufferedImage(400, 300);
+        assertEquals(41, count[0]);
+    }
+
 }
@@ -45,11 +45,15 @@
  * 25-Nov-2008 : Added testBug2201869 (DG);
  * 08-Feb-2012 : Added testBug3484403 (MH);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added testTickLabelsFormattedOncePerDraw() (agent);
  *
  */
 
 package org.jfree.chart.axis;
 
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Day;
@@ -57,6 +61,7 @@ import org.jfree.data.time.Hour;
 import org.jfree.data.time.Millisecond;
 import org.jfree.data.time.Month;
 import org.jfree.data.time.Second;
+import org.jfree.data.time.TimeSeriesCollection;
 import org.jfree.data.time.Year;
 import org.junit.Test;
 
@@ -70,10 +75,13 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -1190,4 +1198,33 @@ public class DateAxisTest  {
         assertEquals("31-May-2008", t3.getText());
     }
 
+    /**
+     * Each tick label is formatted once when the chart is drawn (the ticks
+     * calculated when space is reserved for the axis are reused when the
+     * axis is drawn).
+     */
+    @Test
+    public void testTickLabelsFormattedOncePerDraw() {
+        final List<Date> dates = new ArrayList<Date>();
+        DateAxis axis = new DateAxis("Date");
+        axis.setDateFormatOverride(new SimpleDateFormat("d-MMM") {
+            @Override
+            public StringBuffer format(Date date, StringBuffer toAppendTo,
+                    FieldPosition pos) {
+                dates.add(date);
+                return super.format(date, toAppendTo, pos);
+            }
+        });
+        axis.setTickUnit(new DateTickUnit(DateTickUnitType.DAY, 1));
+        Day d1 = new Day(1, 1, 2026);
+        Day d2 = new Day(31, 1, 2026);
+        axis.setRange(d1.getStart(), d2.getEnd());
+        XYPlot plot = new XYPlot(new TimeSeriesCollection(), axis,
+                new NumberAxis("Value"), new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        chart.createBufferedImage(800, 300);
+        assertTrue(dates.size() >= 31);
+        assertEquals(new HashSet<Date>(dates).size(), dates.size());
+    }
+
 }
@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * StreamingPNGEncoderTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link StreamingPNGEncoder} class.
+ */
+public class StreamingPNGEncoderTest {
+
+    /**
+     * Creates an image with random pixels, some repeated so that each of
+     * the PNG filters is chosen for some rows.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param type  the image type.
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImage(int width, int height,
+            int type) {
+        Random random = new Random(1L);
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb;
+                if (y % 3 == 0) {
+                    rgb = random.nextInt();
+                }
+                else if (y % 3 == 1) {
+                    rgb = x > 0 ? image.getRGB(x - 1, y) : 0x80FF0000;
+                }
+                else {
+                    rgb = image.getRGB(x, y - 1) + x;
+                }
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Encodes an image in two bands, decodes it and checks the pixels.
+     *
+     * @param image  the image.
+     * @param encodeAlpha  encode alpha?
+     */
+    private static void checkEncoding(BufferedImage image,
+            boolean encodeAlpha) throws Exception {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder(out, width,
+                height, encodeAlpha, 9);
+        encoder.writeRows(image.getSubimage(0, 0, width, 10));
+        encoder.writeRows(image.getSubimage(0, 10, width, height - 10));
+        assertEquals(height, encoder.getRowCount());
+        encoder.finish();
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(
+                out.toByteArray()));
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int expected = image.getRGB(x, y);
+                if (!encodeAlpha) {
+                    expected |= 0xFF000000;
+                }
+                assertEquals(expected, decoded.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Images written in bands decode to the same pixels.
+     */
+    @Test
+    public void testEncode() throws Exception {
+        checkEncoding(createImage(97, 31, BufferedImage.TYPE_INT_ARGB),
+                true);
+        checkEncoding(createImage(97, 31, BufferedImage.TYPE_INT_ARGB),
+                false);
+        checkEncoding(createImage(50, 20, BufferedImage.TYPE_INT_RGB),
+                false);
+    }
+
+    /**
+     * Bands must match the image width, and all the rows must be written.
+     */
+    @Test
+    public void testRowChecks() throws Exception {
+        StreamingPNGEncoder encoder = new StreamingPNGEncoder(
+                new ByteArrayOutputStream(), 10, 5, true, 6);
+        try {
+            encoder.writeRows(new BufferedImage(11, 5,
+                    BufferedImage.TYPE_INT_ARGB));
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        encoder.writeRows(new BufferedImage(10, 4,
+                BufferedImage.TYPE_INT_ARGB));
+        try {
+            encoder.finish();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            encoder.writeRows(new BufferedImage(10, 2,
+                    BufferedImage.TYPE_INT_ARGB));
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * GridEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import org.jfree.data.general.DefaultPieDataset;
+import org.junit.Test;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the {@link GridEntityCollection} class.
+ */
+public class GridEntityCollectionTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        GridEntityCollection c1 = new GridEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        assertEquals(c1, c2);
+
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        c1.add(e1);
+        assertFalse(c1.equals(c2));
+        PieSectionEntity e2 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        c2.add(e2);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Two objects that are equal are required to return the same hashCode.
+     */
+    @Test
+    public void testHashCode() {
+        GridEntityCollection c1 = new GridEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        assertEquals(c1.hashCode(), c2.hashCode());
+        c1.add(new PieSectionEntity(new Rectangle2D.Double(1.0, 2.0, 3.0,
+                4.0), new DefaultPieDataset(), 0, 1, "Key", "ToolTip", "URL"));
+        c2.add(new PieSectionEntity(new Rectangle2D.Double(1.0, 2.0, 3.0,
+                4.0), new DefaultPieDataset(), 0, 1, "Key", "ToolTip", "URL"));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        GridEntityCollection c1 = new GridEntityCollection();
+        c1.add(e1);
+        assertSame(e1, c1.getEntity(2.0, 3.0));
+        GridEntityCollection c2 = (GridEntityCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        assertNull(c1.getEntity(2.0, 3.0));
+        assertEquals(e1, c2.getEntity(2.0, 3.0));
+        c2.clear();
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        PieSectionEntity e1 = new PieSectionEntity(new Rectangle2D.Double(1.0,
+                2.0, 3.0, 4.0), new DefaultPieDataset(), 0, 1, "Key",
+                "ToolTip", "URL");
+        GridEntityCollection c1 = new GridEntityCollection();
+        c1.add(e1);
+        c1.getEntity(2.0, 3.0);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(new ByteArrayInputStream(
+                buffer.toByteArray()));
+        GridEntityCollection c2 = (GridEntityCollection) in.readObject();
+        in.close();
+
+        assertEquals(c1, c2);
+        assertEquals(e1, c2.getEntity(2.0, 3.0));
+    }
+
+    /**
+     * The entity found at a point should always be the same as for a
+     * {@link StandardEntityCollection} (the last entity added that contains
+     * the point), including when entities overlap, when some entities are
+     * much larger than others and when an entity has no finite bounds.
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(5L);
+        StandardEntityCollection expected = new StandardEntityCollection();
+        GridEntityCollection actual = new GridEntityCollection();
+        for (int i = 0; i < 5000; i++) {
+            ChartEntity entity;
+            if (i % 1000 == 0) {
+                // a large entity, such as a plot entity
+                entity = new ChartEntity(new Rectangle2D.Double(50.0, 50.0,
+                        400.0, 300.0), "Large " + i);
+            }
+            else if (i == 2500) {
+                entity = new ChartEntity(new Rectangle2D.Double(Double.NaN,
+                        0.0, 1.0, 1.0), "NaN");
+            }
+            else if (i % 3 == 0) {
+                // a tall, thin bar
+                entity = new ChartEntity(new Rectangle2D.Double(
+                        random.nextDouble() * 500.0, 200.0, 2.0,
+                        random.nextDouble() * 200.0), "Bar " + i);
+            }
+            else {
+                entity = new ChartEntity(new Ellipse2D.Double(
+                        random.nextDouble() * 500.0,
+                        random.nextDouble() * 400.0, 6.0, 6.0),
+                        "Item " + i);
+            }
+            expected.add(entity);
+            actual.add(entity);
+            if (i == 100) {
+                // the index is rebuilt after more entities are added
+                assertSame(expected.getEntity(55.0, 55.0),
+                        actual.getEntity(55.0, 55.0));
+            }
+        }
+        for (int i = 0; i < 20000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 420.0 - 10.0;
+            assertSame(expected.getEntity(x, y), actual.getEntity(x, y));
+        }
+        assertNull(actual.getEntity(-100.0, -100.0));
+        assertNull(actual.getEntity(Double.NaN, 10.0));
+    }
+
+}
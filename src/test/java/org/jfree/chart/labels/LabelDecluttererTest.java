@@ -0,0 +1,290 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * LabelDecluttererTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.labels;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.ui.TextAnchor;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link LabelDeclutterer} class.
+ */
+public class LabelDecluttererTest {
+
+    /** The font for the labels. */
+    private static final Font FONT = new Font("Dialog", Font.PLAIN, 10);
+
+    /**
+     * Adds a label with the specified bounds.
+     *
+     * @param d  the declutterer.
+     * @param bounds  the bounds.
+     * @param priority  the priority.
+     */
+    private static void add(LabelDeclutterer d, Shape bounds,
+            double priority) {
+        d.add("X", FONT, Color.BLACK, 0.0f, 0.0f, TextAnchor.CENTER, 0.0,
+                TextAnchor.CENTER, bounds, priority);
+    }
+
+    /**
+     * Labels that overlap a label with a higher priority are hidden.
+     */
+    @Test
+    public void testPriority() {
+        LabelDeclutterer d = new LabelDeclutterer();
+        add(d, new Rectangle2D.Double(0.0, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(5.0, 2.0, 10.0, 5.0), 2.0);
+        add(d, new Rectangle2D.Double(12.0, 0.0, 10.0, 5.0), 0.0);
+        add(d, new Rectangle2D.Double(30.0, 0.0, 10.0, 5.0), 0.0);
+        assertEquals(4, d.getLabelCount());
+        assertTrue(Arrays.equals(new boolean[] {false, true, false, true},
+                d.resolve()));
+    }
+
+    /**
+     * For labels with the same priority, the label added first is kept.
+     * Labels that only touch are both kept, and NaN has the lowest
+     * priority.
+     */
+    @Test
+    public void testOrder() {
+        LabelDeclutterer d = new LabelDeclutterer();
+        add(d, new Rectangle2D.Double(0.0, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(5.0, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(10.0, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(0.0, 5.0, 10.0, 5.0), Double.NaN);
+        add(d, new Rectangle2D.Double(0.0, 6.0, 10.0, 5.0), 0.0);
+        boolean[] expected = new boolean[] {true, false, true, false, true};
+        assertTrue(Arrays.equals(expected, d.resolve()));
+    }
+
+    /**
+     * Rotated labels with overlapping bounding boxes are both kept if the
+     * labels themselves don't overlap.
+     */
+    @Test
+    public void testRotated() {
+        Rectangle2D r = new Rectangle2D.Double(0.0, -2.0, 40.0, 4.0);
+        AffineTransform t = AffineTransform.getRotateInstance(Math.PI / 4);
+        Shape s1 = t.createTransformedShape(r);
+        t.setToTranslation(6.0, 0.0);
+        t.rotate(Math.PI / 4);
+        Shape s2 = t.createTransformedShape(r);
+        LabelDeclutterer d = new LabelDeclutterer();
+        d.add("A", FONT, Color.BLACK, 0.0f, 0.0f, TextAnchor.CENTER_LEFT,
+                Math.PI / 4, TextAnchor.CENTER_LEFT, s1, 0.0);
+        d.add("B", FONT, Color.BLACK, 6.0f, 0.0f, TextAnchor.CENTER_LEFT,
+                Math.PI / 4, TextAnchor.CENTER_LEFT, s2, 0.0);
+        assertTrue(Arrays.equals(new boolean[] {true, true}, d.resolve()));
+
+        t.setToTranslation(2.0, 0.0);
+        t.rotate(Math.PI / 4);
+        Shape s3 = t.createTransformedShape(r);
+        d.add("C", FONT, Color.BLACK, 2.0f, 0.0f, TextAnchor.CENTER_LEFT,
+                Math.PI / 4, TextAnchor.CENTER_LEFT, s3, 0.0);
+        assertTrue(Arrays.equals(new boolean[] {true, true, false},
+                d.resolve()));
+    }
+
+    /**
+     * Labels with a <code>null</code> text or bounds are ignored, and
+     * labels with non-finite bounds are never kept.
+     */
+    @Test
+    public void testIgnored() {
+        LabelDeclutterer d = new LabelDeclutterer();
+        d.add(null, FONT, Color.BLACK, 0.0f, 0.0f, TextAnchor.CENTER, 0.0,
+                TextAnchor.CENTER, new Rectangle2D.Double(0, 0, 1, 1), 0.0);
+        add(d, null, 0.0);
+        add(d, new Rectangle2D.Double(Double.NaN, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(0.0, 0.0, 10.0, 5.0), 0.0);
+        assertTrue(Arrays.equals(new boolean[] {false, true}, d.resolve()));
+    }
+
+    /**
+     * Compares the result for many labels of various sizes with a check of
+     * every pair of labels.
+     */
+    @Test
+    public void testManyLabels() {
+        Random random = new Random(1L);
+        LabelDeclutterer d = new LabelDeclutterer();
+        List<Rectangle2D> boxes = new ArrayList<Rectangle2D>();
+        List<Double> priorities = new ArrayList<Double>();
+        for (int i = 0; i < 2000; i++) {
+            double w = random.nextInt(10) == 0 ? 200.0 * random.nextDouble()
+                    : 5.0 + 20.0 * random.nextDouble();
+            Rectangle2D box = new Rectangle2D.Double(
+                    1000.0 * random.nextDouble(), 500.0 * random.nextDouble(),
+                    w, 3.0 + 10.0 * random.nextDouble());
+            double priority = random.nextInt(20);
+            boxes.add(box);
+            priorities.add(priority);
+            add(d, box, priority);
+        }
+        boolean[] expected = new boolean[boxes.size()];
+        for (int p = 19; p >= 0; p--) {
+            for (int i = 0; i < boxes.size(); i++) {
+                if (priorities.get(i) != p) {
+                    continue;
+                }
+                boolean keep = true;
+                for (int j = 0; j < boxes.size() && keep; j++) {
+                    if (expected[j] && overlap(boxes.get(i), boxes.get(j))) {
+                        keep = false;
+                    }
+                }
+                expected[i] = keep;
+            }
+        }
+        assertTrue(Arrays.equals(expected, d.resolve()));
+    }
+
+    /**
+     * Returns <code>true</code> if two rectangles overlap.
+     *
+     * @param a  the first rectangle.
+     * @param b  the second rectangle.
+     *
+     * @return A boolean.
+     */
+    private static boolean overlap(Rectangle2D a, Rectangle2D b) {
+        return a.getMinX() < b.getMaxX() && b.getMinX() < a.getMaxX()
+                && a.getMinY() < b.getMaxY() && b.getMinY() < a.getMaxY();
+    }
+
+    /**
+     * Drawing the labels returns the number drawn and clears the labels.
+     */
+    @Test
+    public void testDraw() {
+        LabelDeclutterer d = new LabelDeclutterer();
+        add(d, new Rectangle2D.Double(0.0, 0.0, 10.0, 5.0), 1.0);
+        add(d, new Rectangle2D.Double(5.0, 2.0, 10.0, 5.0), 2.0);
+        BufferedImage image = new BufferedImage(100, 50,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.RED);
+        assertEquals(1, d.draw(g2));
+        assertEquals(Color.RED, g2.getPaint());
+        g2.dispose();
+        assertEquals(0, d.getLabelCount());
+    }
+
+    /**
+     * Draws charts with renderers that hide overlapping item labels.
+     */
+    @Test
+    public void testDrawCharts() {
+        DefaultXYDataset xyDataset = new DefaultXYDataset();
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = i;
+            data[1][i] = Math.sin(i / 10.0);
+        }
+        xyDataset.addSeries("S1", data);
+        XYLineAndShapeRenderer xyRenderer = new XYLineAndShapeRenderer();
+        xyRenderer.setDefaultItemLabelsVisible(true);
+        xyRenderer.setDefaultItemLabelGenerator(
+                new StandardXYItemLabelGenerator());
+        xyRenderer.setItemLabelOverlapPolicy(
+                LabelOverlapPolicy.HIDE_SMALLER_VALUES);
+        XYPlot xyPlot = new XYPlot(xyDataset, new NumberAxis("X"),
+                new NumberAxis("Y"), xyRenderer);
+        draw(new JFreeChart(xyPlot));
+        assertNull(xyRenderer.getItemLabelDeclutterer());
+
+        DefaultCategoryDataset categoryDataset = new DefaultCategoryDataset();
+        for (int i = 0; i < 200; i++) {
+            categoryDataset.addValue(i % 13, "R1", "C" + i);
+            categoryDataset.addValue(i % 7, "R2", "C" + i);
+        }
+        BarRenderer barRenderer = new BarRenderer();
+        barRenderer.setDefaultItemLabelsVisible(true);
+        barRenderer.setDefaultItemLabelGenerator(
+                new StandardCategoryItemLabelGenerator());
+        barRenderer.setItemLabelOverlapPolicy(
+                LabelOverlapPolicy.HIDE_LATER_ITEMS);
+        CategoryPlot categoryPlot = new CategoryPlot(categoryDataset,
+                new CategoryAxis("C"), new NumberAxis("V"), barRenderer);
+        draw(new JFreeChart(categoryPlot));
+        assertNull(barRenderer.getItemLabelDeclutterer());
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     */
+    private static void draw(JFreeChart chart) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, null);
+        g2.dispose();
+    }
+
+}
@@ -36,15 +36,20 @@
  * -------
  * 21-Aug-2003 : Version 1 (DG);
  * 03-Jan-2008 : Added testNotification() (DG);
+ * 16-Oct-2026 : Added testParallelRendering() (agent);
+ * 16-Oct-2026 : Added testParallelRenderingSharedRenderer() (agent);
  *
  */
 
 package org.jfree.chart.plot;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
@@ -68,6 +73,7 @@ import java.io.ObjectOutputStream;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -301,4 +307,80 @@ public class CombinedDomainXYPlotTest
         plot.setOrientation(PlotOrientation.VERTICAL);
         return plot;
     }
+
+    /**
+     * Drawing the subplots in parallel gives the same image and entities as
+     * drawing them one at a time.
+     */
+    @Test
+    public void testParallelRendering() {
+        CombinedDomainXYPlot plot1 = createPlot();
+        CombinedDomainXYPlot plot2 = createPlot();
+        plot2.setParallelRendering(true);
+        assertTrue(plot2.isParallelRendering());
+        assertFalse(plot1.equals(plot2));
+
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image1 = draw(new JFreeChart(plot1), info1);
+        BufferedImage image2 = draw(new JFreeChart(plot2), info2);
+        for (int x = 0; x < image1.getWidth(); x++) {
+            for (int y = 0; y < image1.getHeight(); y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(entities1.getEntityCount(),
+                entities2.getEntityCount());
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            ChartEntity e1 = entities1.getEntity(i);
+            ChartEntity e2 = entities2.getEntity(i);
+            assertEquals(e1.getClass(), e2.getClass());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+        }
+        PlotRenderingInfo plotInfo = info2.getPlotInfo();
+        assertEquals(2, plotInfo.getSubplotCount());
+        for (int i = 0; i < 2; i++) {
+            assertSame(info2, plotInfo.getSubplotInfo(i).getOwner());
+            assertEquals(info1.getPlotInfo().getSubplotInfo(i).getDataArea(),
+                    plotInfo.getSubplotInfo(i).getDataArea());
+        }
+    }
+
+    /**
+     * Subplots that share a renderer are drawn one at a time, since the
+     * renderer holds state while it draws.
+     */
+    @Test
+    public void testParallelRenderingSharedRenderer() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        CombinedDomainXYPlot plot = createPlot();
+        List<XYPlot> subplots = plot.getSubplots();
+        assertTrue(ParallelSubplotRenderer.isSupported(g2, subplots));
+        subplots.get(1).setRenderer(subplots.get(0).getRenderer());
+        assertFalse(ParallelSubplotRenderer.isSupported(g2, subplots));
+        g2.dispose();
+    }
+
+    /**
+     * Draws a chart into an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private BufferedImage draw(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0), info);
+        g2.dispose();
+        return image;
+    }
+
 }
@@ -0,0 +1,169 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * PieLabelDistributorTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import org.jfree.chart.text.TextBox;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Some tests for the {@link PieLabelDistributor} class.
+ */
+public class PieLabelDistributorTest {
+
+    /**
+     * Creates a distributor with labels of height 10 at the specified base
+     * y-coordinates.
+     *
+     * @param baseY  the base y-coordinates.
+     *
+     * @return The distributor.
+     */
+    private PieLabelDistributor createDistributor(double[] baseY) {
+        PieLabelDistributor distributor = new PieLabelDistributor(0);
+        for (int i = 0; i < baseY.length; i++) {
+            distributor.addPieLabelRecord(new PieLabelRecord("K" + i, 0.0,
+                    baseY[i], new TextBox("L" + i), 10.0, 0.0, 0.0));
+        }
+        return distributor;
+    }
+
+    /**
+     * Checks that the (sorted) labels don't overlap and are within the
+     * specified range.
+     *
+     * @param distributor  the distributor.
+     * @param minY  the minimum y-coordinate.
+     * @param maxY  the maximum y-coordinate.
+     */
+    private void checkSeparated(PieLabelDistributor distributor, double minY,
+            double maxY) {
+        double y = minY;
+        for (int i = 0; i < distributor.getItemCount(); i++) {
+            PieLabelRecord record = distributor.getPieLabelRecord(i);
+            assertTrue(record.getLowerY() >= y - 1e-9);
+            y = record.getUpperY();
+        }
+        assertTrue(y <= maxY + 1e-9);
+    }
+
+    /**
+     * Labels that don't overlap are not moved (but are sorted).
+     */
+    @Test
+    public void testNoOverlap() {
+        PieLabelDistributor distributor = createDistributor(
+                new double[] {50.0, 10.0, 30.0});
+        distributor.distributeLabels(0.0, 100.0);
+        assertEquals(10.0, distributor.getPieLabelRecord(0).getAllocatedY(),
+                0.0);
+        assertEquals(30.0, distributor.getPieLabelRecord(1).getAllocatedY(),
+                0.0);
+        assertEquals(50.0, distributor.getPieLabelRecord(2).getAllocatedY(),
+                0.0);
+    }
+
+    /**
+     * Two overlapping labels are moved apart equally, leaving the minimum
+     * gap (4.0) between them.
+     */
+    @Test
+    public void testOverlappingPair() {
+        PieLabelDistributor distributor = createDistributor(
+                new double[] {50.0, 52.0});
+        distributor.distributeLabels(0.0, 100.0);
+        assertEquals(44.0, distributor.getPieLabelRecord(0).getAllocatedY(),
+                1e-9);
+        assertEquals(58.0, distributor.getPieLabelRecord(1).getAllocatedY(),
+                1e-9);
+    }
+
+    /**
+     * Labels that overlap at the top of the available space are pushed
+     * down, but not above the top.
+     */
+    @Test
+    public void testOverlapAtTop() {
+        PieLabelDistributor distributor = createDistributor(
+                new double[] {0.0, 0.0, 0.0});
+        distributor.distributeLabels(0.0, 100.0);
+        assertEquals(5.0, distributor.getPieLabelRecord(0).getAllocatedY(),
+                1e-9);
+        assertEquals(19.0, distributor.getPieLabelRecord(1).getAllocatedY(),
+                1e-9);
+        assertEquals(33.0, distributor.getPieLabelRecord(2).getAllocatedY(),
+                1e-9);
+    }
+
+    /**
+     * Labels that don't fit in the available space are spread evenly.
+     */
+    @Test
+    public void testNoRoom() {
+        PieLabelDistributor distributor = createDistributor(
+                new double[] {10.0, 12.0, 14.0});
+        distributor.distributeLabels(0.0, 20.0);
+        assertEquals(5.0, distributor.getPieLabelRecord(0).getAllocatedY(),
+                1e-9);
+        assertEquals(10.0, distributor.getPieLabelRecord(1).getAllocatedY(),
+                1e-9);
+        assertEquals(15.0, distributor.getPieLabelRecord(2).getAllocatedY(),
+                1e-9);
+    }
+
+    /**
+     * Many labels crowded together are separated within the available
+     * space.
+     */
+    @Test
+    public void testManyLabels() {
+        double[] baseY = new double[5000];
+        for (int i = 0; i < baseY.length; i++) {
+            baseY[i] = (i * 7919) % 1000;
+        }
+        PieLabelDistributor distributor = createDistributor(baseY);
+        distributor.distributeLabels(-40000.0, 80000.0);
+        checkSeparated(distributor, -40000.0, 40000.0);
+    }
+
+}
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -41,6 +41,9 @@
  * 17-Apr-2007 : Added check for label generator that returns a null label (DG);
  * 31-Mar-2008 : Updated testEquals() (DG);
  * 10-Jul-2009 : Updated testEquals() (DG);
+ * 16-Oct-2026 : Added testDrawWithHiddenSimpleLabels() (agent);
+ * 16-Oct-2026 : Added testMinorSections() and
+ *               testDrawWithMinorSections() (agent);
  *
  */
 
@@ -49,6 +52,7 @@ package org.jfree.chart.plot;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.labels.PieSectionLabelGenerator;
 import org.jfree.chart.labels.StandardPieSectionLabelGenerator;
 import org.jfree.chart.labels.StandardPieToolTipGenerator;
@@ -418,6 +422,24 @@ public class PiePlotTest  {
         assertFalse(plot1.equals(plot2));
         plot2.setShadowGenerator(null);
         assertEquals(plot1, plot2);
+
+        // simpleLabelOverlapPolicy
+        plot1.setSimpleLabelOverlapPolicy(LabelOverlapPolicy.HIDE_LATER_ITEMS);
+        assertFalse(plot1.equals(plot2));
+        plot2.setSimpleLabelOverlapPolicy(LabelOverlapPolicy.HIDE_LATER_ITEMS);
+        assertEquals(plot1, plot2);
+
+        // minorSectionLimit
+        plot1.setMinorSectionLimit(0.05);
+        assertFalse(plot1.equals(plot2));
+        plot2.setMinorSectionLimit(0.05);
+        assertEquals(plot1, plot2);
+
+        // minorSectionKey
+        plot1.setMinorSectionKey("Rest");
+        assertFalse(plot1.equals(plot2));
+        plot2.setMinorSectionKey("Rest");
+        assertEquals(plot1, plot2);
     }
 
     /**
@@ -625,4 +647,82 @@ public class PiePlotTest  {
 
     }
 
+    /**
+     * Draws a pie chart with many simple labels, hiding those that overlap.
+     */
+    @Test
+    public void testDrawWithHiddenSimpleLabels() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        for (int i = 0; i < 500; i++) {
+            dataset.setValue("Section " + i, 1.0 + i % 7);
+        }
+        PiePlot plot = new PiePlot(dataset);
+        plot.setSimpleLabels(true);
+        plot.setSimpleLabelOverlapPolicy(
+                LabelOverlapPolicy.HIDE_SMALLER_VALUES);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+    }
+
+    /**
+     * Some checks for the aggregation of minor sections.
+     */
+    @Test
+    public void testMinorSections() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 60.0);
+        dataset.setValue("B", 30.0);
+        dataset.setValue("C", 6.0);
+        dataset.setValue("D", 4.0);
+        PiePlot plot = new PiePlot(dataset);
+        assertSame(dataset, plot.getSectionDataset());
+        assertEquals(4, plot.getLegendItems().getItemCount());
+
+        plot.setMinorSectionLimit(0.10);
+        PieDataset sections = plot.getSectionDataset();
+        assertEquals(3, sections.getItemCount());
+        assertEquals(10.0, sections.getValue("Other").doubleValue(), 0.0);
+        assertSame(sections, plot.getSectionDataset());
+        LegendItemCollection items = plot.getLegendItems();
+        assertEquals(3, items.getItemCount());
+        assertEquals("Other", items.get(2).getLabel());
+
+        // the sections are recreated when the dataset changes
+        dataset.setValue("B", 3.0);
+        sections = plot.getSectionDataset();
+        assertEquals(2, sections.getItemCount());
+        assertEquals(13.0, sections.getValue("Other").doubleValue(), 0.0);
+
+        plot.setMinorSectionKey("Rest");
+        assertEquals(13.0, plot.getSectionDataset().getValue("Rest")
+                .doubleValue(), 0.0);
+        plot.setMinorSectionLimit(0.0);
+        assertSame(dataset, plot.getSectionDataset());
+    }
+
+    /**
+     * Draws a pie chart with many sections, aggregating the minor ones.
+     */
+    @Test
+    public void testDrawWithMinorSections() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        for (int i = 0; i < 2000; i++) {
+            dataset.setValue("Section " + i, 1.0 + i % 7);
+        }
+        dataset.setValue("Large", 5000.0);
+        PiePlot plot = new PiePlot(dataset);
+        plot.setMinorSectionLimit(0.01);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200 , 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null);
+        g2.dispose();
+        assertEquals(2, plot.getLegendItems().getItemCount());
+    }
+
 }
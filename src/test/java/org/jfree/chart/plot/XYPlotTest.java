@@ -47,12 +47,17 @@
  * 10-May-2009 : Extended testEquals(), added testCloning3() (DG);
  * 06-Jul-2009 : Added testBug2817504() (DG);
  * 17-Jul-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Added testDatasetChangeInfo() (agent);
+ * 16-Oct-2026 : Added testDrawAppendedItems() (agent);
+ * 16-Oct-2026 : Added testDataLayer() (agent);
  *
  */
 
 package org.jfree.chart.plot;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartHints;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -61,16 +66,23 @@ import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.MarkerChangeListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
 import org.jfree.chart.ui.Layer;
 import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.chart.util.DefaultShadowGenerator;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
@@ -1155,4 +1167,179 @@ public class XYPlotTest  {
         plot.mapDatasetToRangeAxes(0, axisIndices);
         assertEquals(yAxis2, plot.getRangeAxisForDataset(0));
     }
+
+    /**
+     * A listener that records the last event received.
+     */
+    static class EventRecorder implements PlotChangeListener {
+
+        /** The last event received. */
+        PlotChangeEvent lastEvent;
+
+        @Override
+        public void plotChanged(PlotChangeEvent event) {
+            this.lastEvent = event;
+        }
+
+    }
+
+    /**
+     * The plot change event passes on the description of a change to a
+     * dataset, and the axes are updated for the appended items.
+     */
+    @Test
+    public void testDatasetChangeInfo() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 2.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        NumberAxis xAxis = new NumberAxis("X");
+        XYPlot plot = new XYPlot(dataset, xAxis, new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        EventRecorder recorder = new EventRecorder();
+        plot.addChangeListener(recorder);
+        series.add(3.0, 10.0);
+        assertEquals(new DatasetChangeInfo(0, new SeriesChangeInfo(
+                SeriesChangeType.APPEND, 2, 2)),
+                recorder.lastEvent.getDatasetChangeEvent().getInfo());
+        assertTrue(plot.getRangeAxis().getRange().contains(10.0));
+        assertTrue(xAxis.getRange().contains(3.0));
+    }
+
+    /**
+     * Appended items are only drawn by themselves when the result will be
+     * the same as drawing the whole plot again.
+     */
+    @Test
+    public void testDrawAppendedItems() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        PlotRenderingInfo plotInfo = info.getPlotInfo();
+        Rectangle2D dataArea = plotInfo.getDataArea();
+        int entityCount = info.getEntityCollection().getEntityCount();
+
+        series.add(2.0, 2.0);
+        series.add(3.0, 1.5);
+        assertTrue(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        assertEquals(entityCount + 2,
+                info.getEntityCollection().getEntityCount());
+
+        // the series was empty, or the items don't exist
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                0, 2));
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 3));
+
+        // an annotation would be covered by the new items
+        XYTextAnnotation annotation = new XYTextAnnotation("A", 1.0, 1.0);
+        plot.addAnnotation(annotation);
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        plot.removeAnnotation(annotation);
+
+        // ...as would a crosshair
+        plot.setDomainCrosshairVisible(true);
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        plot.setDomainCrosshairVisible(false);
+
+        // shapes and item labels are drawn in a later pass than the lines
+        renderer.setSeriesShapesVisible(0, true);
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        renderer.setSeriesShapesVisible(0, false);
+        renderer.setSeriesItemLabelsVisible(0, true);
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        renderer.setSeriesItemLabelsVisible(0, false);
+
+        // a line drawn as a path can't be extended
+        renderer.setDrawSeriesLineAsPath(true);
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+
+        // nor can a spline
+        plot.setRenderer(new XYSplineRenderer());
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+
+        // a dataset that isn't in the plot
+        plot.setRenderer(new XYLineAndShapeRenderer(true, false));
+        assertTrue(plot.drawAppendedItems(g2, dataArea, plotInfo, dataset, 0,
+                1, 2));
+        assertFalse(plot.drawAppendedItems(g2, dataArea, plotInfo,
+                new XYSeriesCollection(series), 0, 1, 2));
+        g2.dispose();
+    }
+
+    /**
+     * Drawing the plot without its data layer, then drawing the data layer
+     * separately, gives the same result as drawing the plot.  Changes that
+     * affect only the data layer are flagged in the plot change events.
+     */
+    @Test
+    public void testDataLayer() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 3.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), new XYLineAndShapeRenderer());
+        plot.addRangeMarker(new ValueMarker(2.0));
+        plot.addAnnotation(new XYTextAnnotation("A", 1.5, 2.0));
+        JFreeChart chart = new JFreeChart(plot);
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+        BufferedImage image1 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image1.createGraphics();
+        chart.draw(g2, area);
+        g2.dispose();
+
+        BufferedImage image2 = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        g2 = image2.createGraphics();
+        g2.setRenderingHint(ChartHints.KEY_DRAW_DATA_LAYER, Boolean.FALSE);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, area, null, info);
+        g2.setRenderingHints(chart.getRenderingHints());
+        plot.drawDataLayer(g2, info.getPlotInfo().getDataArea(), null,
+                info.getPlotInfo());
+        g2.dispose();
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+
+        EventRecorder recorder = new EventRecorder();
+        plot.addChangeListener(recorder);
+        plot.addDomainMarker(new ValueMarker(1.0));
+        assertEquals(ChartChangeEventType.DATA_LAYER_UPDATED,
+                recorder.lastEvent.getType());
+        plot.setDomainCrosshairValue(1.5);
+        assertEquals(ChartChangeEventType.DATA_LAYER_UPDATED,
+                recorder.lastEvent.getType());
+        series.add(3.0, 2.0);
+        assertEquals(ChartChangeEventType.DATASET_UPDATED,
+                recorder.lastEvent.getType());
+        plot.setBackgroundPaint(Color.RED);
+        assertEquals(ChartChangeEventType.GENERAL,
+                recorder.lastEvent.getType());
+
+        // the combined plots draw their subplots in one go
+        assertTrue(plot.isDataLayerSeparable());
+        assertFalse(new CombinedDomainXYPlot().isDataLayerSeparable());
+    }
 }
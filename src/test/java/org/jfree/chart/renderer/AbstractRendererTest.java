@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -42,6 +42,7 @@
  * 28-Jan-2009 : Updated testEquals() (DG);
  * 28-Apr-2009 : Updated testEquals() (DG);
  * 17-Jun-2012 : Removed JCommon dependencies (DG);
+ * 16-Oct-2026 : Updated testEquals() (agent);
  *
  */
 
@@ -53,6 +54,7 @@ import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
+import org.jfree.chart.labels.LabelOverlapPolicy;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.DefaultDrawingSupplier;
 import org.jfree.chart.renderer.category.BarRenderer;
@@ -291,6 +293,12 @@ public class AbstractRendererTest  {
         r2.setItemLabelAnchorOffset(3.0);
         assertEquals(r1, r2);
 
+        // itemLabelOverlapPolicy
+        r1.setItemLabelOverlapPolicy(LabelOverlapPolicy.HIDE_SMALLER_VALUES);
+        assertFalse(r1.equals(r2));
+        r2.setItemLabelOverlapPolicy(LabelOverlapPolicy.HIDE_SMALLER_VALUES);
+        assertEquals(r1, r2);
+
         // createEntitiesList;
         r1.setSeriesCreateEntities(0, Boolean.TRUE);
         assertFalse(r1.equals(r2));
@@ -36,17 +36,23 @@
  * -------
  * 19-Apr-2007 : Version 1 (DG);
  * 23-Aug-2012 : Added test3561093() (DG);
+ * 16-Oct-2026 : Added testFindDecimatedItems() (agent);
  *
  */
 
 package org.jfree.chart.renderer;
 
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
+import java.awt.geom.Rectangle2D;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -506,4 +512,39 @@ public class RendererUtilitiesTest  {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * Some checks for the findDecimatedItems() method.
+     */
+    @Test
+    public void testFindDecimatedItems() {
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 10.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0);
+        XYSeries s = new XYSeries("S1");
+        // the first five items are in the same pixel column
+        s.add(0.1, 5.0);
+        s.add(0.2, 1.0);
+        s.add(0.3, 9.0);
+        s.add(0.4, 3.0);
+        s.add(0.5, 4.0);
+        s.add(1.5, null);
+        s.add(2.2, 1.0);
+        s.add(2.5, 2.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        assertArrayEquals(new int[] {0, 1, 2, 4, 5, 6, 7},
+                RendererUtilities.findDecimatedItems(dataset, 0, 0, 7, axis,
+                area, RectangleEdge.BOTTOM));
+        assertArrayEquals(new int[] {2, 3, 4},
+                RendererUtilities.findDecimatedItems(dataset, 0, 2, 4, axis,
+                area, RectangleEdge.BOTTOM));
+        assertArrayEquals(new int[0], RendererUtilities.findDecimatedItems(
+                dataset, 0, 3, 2, axis, area, RectangleEdge.BOTTOM));
+
+        // a wider data area puts every item in a column of its own
+        area = new Rectangle2D.Double(0.0, 0.0, 1000.0, 10.0);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7},
+                RendererUtilities.findDecimatedItems(dataset, 0, 0, 7, axis,
+                area, RectangleEdge.BOTTOM));
+    }
+
 }
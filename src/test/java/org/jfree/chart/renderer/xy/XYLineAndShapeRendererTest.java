@@ -39,24 +39,34 @@
  * 21-Feb-2007 : Check independence in testCloning() (DG);
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable() (DG);
+ * 16-Oct-2026 : Added testDecimate() (agent);
+ * 16-Oct-2026 : Check that decimation keeps entities and shapes (agent);
  *
  */
 
 package org.jfree.chart.renderer.xy;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
@@ -66,6 +76,7 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -147,6 +158,11 @@ public class XYLineAndShapeRendererTest  {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertEquals(r1, r2);
+
+        r1.setDecimate(true);
+        assertFalse(r1.equals(r2));
+        r2.setDecimate(true);
+        assertEquals(r1, r2);
     }
 
     /**
@@ -318,4 +334,109 @@ public class XYLineAndShapeRendererTest  {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Draws a chart with a large series with and without decimation, and
+     * checks that the two images are (practically) the same.
+     */
+    @Test
+    public void testDecimate() {
+        XYSeries s1 = new XYSeries("S1", true, true);
+        Random random = new Random(42L);
+        for (int i = 0; i < 100000; i++) {
+            double y = Math.sin(i / 5000.0) + random.nextGaussian() * 0.1;
+            s1.add(i, (i % 20000 == 10000) ? null : y, false);
+        }
+        final int[] drawCount = new int[1];
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false) {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset dataset, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                drawCount[0]++;
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                        rangeAxis, dataset, series, item, crosshairState,
+                        pass);
+            }
+        };
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        BufferedImage expected = chart.createBufferedImage(600, 400);
+        int itemCount = drawCount[0];
+
+        // entities are needed for every item, so nothing is left out
+        r.setDecimate(true);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        drawCount[0] = 0;
+        chart.createBufferedImage(600, 400, info);
+        assertEquals(itemCount, drawCount[0]);
+        XYItemEntity entity = (XYItemEntity) info.getEntityCollection()
+                .getEntity(12345);
+        assertSame(dataset, entity.getDataset());
+
+        // the same goes for shapes
+        r.setSeriesShapesVisible(0, true);
+        drawCount[0] = 0;
+        chart.createBufferedImage(600, 400);
+        assertEquals(itemCount, drawCount[0]);
+        r.setSeriesShapesVisible(0, false);
+
+        drawCount[0] = 0;
+        BufferedImage actual = chart.createBufferedImage(600, 400);
+        // only a few items per pixel column are passed to the renderer...
+        assertTrue(drawCount[0] < itemCount / 10);
+        // ...but the lines drawn are the same
+        int differences = 0;
+        for (int x = 0; x < 600; x++) {
+            for (int y = 0; y < 400; y++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    differences++;
+                }
+            }
+        }
+        assertEquals(0, differences);
+    }
+
+    /**
+     * A renderer that allows decimation even though entities are collected
+     * gets entities that refer to the items in the underlying dataset.
+     */
+    @Test
+    public void testDecimatedEntities() {
+        XYSeries s1 = new XYSeries("S1", true, true);
+        for (int i = 0; i < 10000; i++) {
+            s1.add(i, Math.sin(i / 100.0), false);
+        }
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false) {
+            @Override
+            public boolean canDecimate(XYDataset dataset,
+                    PlotRenderingInfo info) {
+                return true;
+            }
+        };
+        r.setDecimate(true);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(200, 100, info);
+        int entityCount = 0;
+        int lastItem = -1;
+        for (Object obj : info.getEntityCollection().getEntities()) {
+            if (obj instanceof XYItemEntity) {
+                XYItemEntity entity = (XYItemEntity) obj;
+                assertSame(dataset, entity.getDataset());
+                lastItem = Math.max(lastItem, entity.getItem());
+                entityCount++;
+            }
+        }
+        assertTrue(entityCount < 10000 / 10);
+        assertEquals(9999, lastItem);
+    }
+
 }
@@ -0,0 +1,192 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * TextMeasurementCacheTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTest {
+
+    /** The cache in use before each test. */
+    private TextMeasurementCache saved;
+
+    /** A graphics device for measuring text. */
+    private Graphics2D g2;
+
+    @Before
+    public void setUp() {
+        this.saved = TextUtilities.getMeasurementCache();
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        this.g2 = image.createGraphics();
+        this.g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+    }
+
+    @After
+    public void tearDown() {
+        TextUtilities.setMeasurementCache(this.saved);
+        this.g2.dispose();
+    }
+
+    /**
+     * Creates a key for the specified text.
+     *
+     * @param text  the text.
+     *
+     * @return The key.
+     */
+    private static TextMeasurementCache.Key key(String text) {
+        return new TextMeasurementCache.Key("bounds", text,
+                new Font("SansSerif", Font.PLAIN, 12),
+                new FontRenderContext(null, false, false), 0.0f, 0);
+    }
+
+    /**
+     * The least recently used measurement is discarded when the cache is
+     * full.
+     */
+    @Test
+    public void testEviction() {
+        TextMeasurementCache cache = new TextMeasurementCache(2);
+        cache.put(key("A"), "A");
+        cache.put(key("B"), "B");
+        assertEquals("A", cache.get(key("A"), String.class));
+        cache.put(key("C"), "C");
+        assertEquals(2, cache.getSize());
+        assertNull(cache.get(key("B"), String.class));
+        assertEquals("A", cache.get(key("A"), String.class));
+        assertEquals("C", cache.get(key("C"), String.class));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    /**
+     * A second request for the same text bounds is a hit, and returns a
+     * copy of the cached bounds.
+     */
+    @Test
+    public void testGetTextBounds() {
+        TextMeasurementCache cache = new TextMeasurementCache();
+        TextUtilities.setMeasurementCache(cache);
+        FontMetrics fm = this.g2.getFontMetrics();
+        Rectangle2D b1 = TextUtilities.getTextBounds("Category 1", this.g2,
+                fm);
+        assertEquals(0, cache.getHitCount());
+        long misses = cache.getMissCount();
+        assertTrue(misses > 0);
+        b1.setRect(0.0, 0.0, 1.0, 1.0);
+        Rectangle2D b2 = TextUtilities.getTextBounds("Category 1", this.g2,
+                fm);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+        assertFalse(b1.equals(b2));
+
+        TextUtilities.setMeasurementCache(null);
+        assertEquals(TextUtilities.getTextBounds("Category 1", this.g2, fm),
+                b2);
+
+        // a different font is a different measurement
+        TextUtilities.setMeasurementCache(cache);
+        TextUtilities.getTextBounds("Category 1", this.g2,
+                this.g2.getFontMetrics(new Font("Serif", Font.BOLD, 20)));
+        assertTrue(cache.getMissCount() > misses);
+    }
+
+    /**
+     * Text blocks created with cached line breaks are the same as those
+     * created without the cache.
+     */
+    @Test
+    public void testCreateTextBlock() {
+        String text = "The quick brown fox jumps over the lazy dog, "
+                + "then does it all again";
+        Font font = new Font("Serif", Font.PLAIN, 10);
+        TextUtilities.setMeasurementCache(null);
+        TextBlock expected = TextUtilities.createTextBlock(text, font,
+                Color.BLACK, 60.0f, 3, new G2TextMeasurer(this.g2));
+
+        TextMeasurementCache cache = new TextMeasurementCache();
+        TextUtilities.setMeasurementCache(cache);
+        TextBlock b1 = TextUtilities.createTextBlock(text, font, Color.BLACK,
+                60.0f, 3, new G2TextMeasurer(this.g2));
+        assertEquals(expected, b1);
+        long misses = cache.getMissCount();
+        long hits = cache.getHitCount();
+        TextBlock b2 = TextUtilities.createTextBlock(text, font, Color.BLACK,
+                60.0f, 3, new G2TextMeasurer(this.g2));
+        assertEquals(expected, b2);
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(hits + 1, cache.getHitCount());
+        assertTrue(b2.getLastLine().getLastTextFragment().getText()
+                .endsWith("..."));
+    }
+
+    /**
+     * Check that the constructor rejects a negative size.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() {
+        new TextMeasurementCache(-1);
+    }
+
+}
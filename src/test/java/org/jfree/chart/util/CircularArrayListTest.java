@@ -0,0 +1,184 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * CircularArrayListTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link CircularArrayList} class.
+ */
+public class CircularArrayListTest {
+
+    /**
+     * Appending and removing from the front wraps around the array.
+     */
+    @Test
+    public void testQueueBehaviour() {
+        CircularArrayList<Integer> list = new CircularArrayList<Integer>(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (list.size() > 3) {
+                assertEquals(Integer.valueOf(i - 3), list.remove(0));
+            }
+            assertEquals(Integer.valueOf(i), list.get(list.size() - 1));
+        }
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(97), list.get(0));
+        assertEquals(Integer.valueOf(98), list.get(1));
+        assertEquals(Integer.valueOf(99), list.get(2));
+    }
+
+    /**
+     * Random operations should give the same result as an ArrayList.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(123L);
+        List<Integer> expected = new ArrayList<Integer>();
+        CircularArrayList<Integer> list = new CircularArrayList<Integer>(1);
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            int size = expected.size();
+            if (op == 0 || op == 1 || size == 0) {
+                expected.add(i);
+                list.add(i);
+            }
+            else if (op == 2) {
+                int index = random.nextInt(size + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            }
+            else if (op == 3) {
+                int index = random.nextInt(size);
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else if (op == 4) {
+                assertEquals(expected.remove(0), list.remove(0));
+            }
+            else {
+                int from = random.nextInt(size);
+                int to = from + random.nextInt(size - from + 1);
+                expected.subList(from, to).clear();
+                list.subList(from, to).clear();
+            }
+            assertEquals(expected, list);
+        }
+    }
+
+    /**
+     * Some checks for the set() and clear() methods.
+     */
+    @Test
+    public void testSetAndClear() {
+        CircularArrayList<String> list = new CircularArrayList<String>();
+        list.add("A");
+        list.add("B");
+        assertEquals("A", list.set(0, "C"));
+        assertEquals("C", list.get(0));
+        list.clear();
+        assertEquals(0, list.size());
+        try {
+            list.get(0);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            assertEquals("Index: 0, Size: 0", e.getMessage());
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        CircularArrayList<String> l1 = new CircularArrayList<String>();
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        CircularArrayList<String> l2 = l1.clone();
+        assertNotSame(l1, l2);
+        assertEquals(l1, l2);
+        l2.add("C");
+        assertEquals(1, l1.size());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        CircularArrayList<String> l1 = new CircularArrayList<String>(2);
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(l1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        @SuppressWarnings("unchecked")
+        CircularArrayList<String> l2
+                = (CircularArrayList<String>) in.readObject();
+        in.close();
+        assertEquals(l1, l2);
+        l2.add("D");
+        assertEquals("D", l2.get(2));
+    }
+
+}
@@ -0,0 +1,298 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * FastDateFormatTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added testStandaloneMonthNames() (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the {@link FastDateFormat} class.
+ */
+public class FastDateFormatTest {
+
+    /** Patterns to test, including those used by the standard tick units. */
+    private static final String[] PATTERNS = {"HH:mm:ss.SSS", "HH:mm:ss",
+            "HH:mm", "d-MMM, HH:mm", "d-MMM", "MMM-yyyy", "yyyy", "yy", "y",
+            "MMMM d, yyyy 'at' h:mm a", "EEE EEEE D F u k K S SS",
+            "''yyyy'' 'o''clock' Z", "MM/dd/yy", "G yyyy w"};
+
+    /**
+     * Returns a random date, between the years 1000 and 5000.
+     *
+     * @param random  the random number generator.
+     *
+     * @return A date.
+     */
+    private static Date randomDate(Random random) {
+        return new Date((long) ((random.nextDouble() - 0.24) * 1e14));
+    }
+
+    /**
+     * Checks that the results match SimpleDateFormat for random dates.
+     */
+    @Test
+    public void testFormatMatchesSimpleDateFormat() {
+        Locale[] locales = {Locale.US, Locale.GERMANY, new Locale("ru"),
+                new Locale("ar", "EG"), new Locale("th", "TH"),
+                new Locale("ja", "JP", "JP")};
+        String[] zones = {"UTC", "Europe/London", "America/St_Johns",
+                "Australia/Lord_Howe"};
+        Random random = new Random(1L);
+        for (Locale locale : locales) {
+            for (String pattern : PATTERNS) {
+                for (String zoneID : zones) {
+                    TimeZone zone = TimeZone.getTimeZone(zoneID);
+                    DateFormat df = new SimpleDateFormat(pattern, locale);
+                    df.setTimeZone(zone);
+                    DateFormat f = new FastDateFormat(pattern, locale);
+                    f.setTimeZone(zone);
+                    for (int i = 0; i < 100; i++) {
+                        Date d = randomDate(random);
+                        assertEquals(pattern + " " + d.getTime(),
+                                df.format(d), f.format(d));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Patterns that contain only a month use the standalone month names in
+     * some locales (for example "Sep" rather than "Sept." in German).
+     */
+    @Test
+    public void testStandaloneMonthNames() {
+        Locale[] locales = {Locale.GERMANY, new Locale("ru", "RU"),
+                new Locale("pl", "PL"), new Locale("fi", "FI"),
+                new Locale("cs", "CZ"), Locale.US};
+        String[] patterns = {"MMM", "MMMM", "d MMM", "d MMMM", "MMMM yyyy",
+                "MMM-yyyy"};
+        for (Locale locale : locales) {
+            for (String pattern : patterns) {
+                DateFormat df = new SimpleDateFormat(pattern, locale);
+                df.setTimeZone(TimeZone.getTimeZone("UTC"));
+                DateFormat f = new FastDateFormat(pattern, locale);
+                f.setTimeZone(TimeZone.getTimeZone("UTC"));
+                for (int month = 0; month < 12; month++) {
+                    Date d = new Date(978307200000L
+                            + month * 31L * 24L * 60L * 60L * 1000L);
+                    assertEquals(locale + " " + pattern, df.format(d),
+                            f.format(d));
+                }
+            }
+        }
+    }
+
+    /**
+     * The field positions should match SimpleDateFormat.
+     */
+    @Test
+    public void testFieldPosition() {
+        String pattern = "yyyy-MM-dd HH:mm:ss.SSS Z";
+        DateFormat df = new SimpleDateFormat(pattern, Locale.UK);
+        DateFormat f = new FastDateFormat(pattern, Locale.UK);
+        Date d = new Date(1234567890123L);
+        for (int field = 0; field < 20; field++) {
+            FieldPosition p1 = new FieldPosition(field);
+            FieldPosition p2 = new FieldPosition(field);
+            StringBuffer b1 = df.format(d, new StringBuffer("ab"), p1);
+            StringBuffer b2 = f.format(d, new StringBuffer("ab"), p2);
+            assertEquals(b1.toString(), b2.toString());
+            assertEquals(p1.getBeginIndex(), p2.getBeginIndex());
+            assertEquals(p1.getEndIndex(), p2.getEndIndex());
+        }
+    }
+
+    /**
+     * Dates around the introduction of the Gregorian calendar are handled by
+     * SimpleDateFormat.
+     */
+    @Test
+    public void testGregorianChange() {
+        DateFormat df = new SimpleDateFormat("d-MMM-yyyy D", Locale.UK);
+        df.setTimeZone(TimeZone.getTimeZone("UTC"));
+        DateFormat f = new FastDateFormat(df);
+        long t = -12219292800000L - 30L * 24L * 60L * 60L * 1000L;
+        for (int i = 0; i < 120; i++) {
+            Date d = new Date(t);
+            assertEquals(df.format(d), f.format(d));
+            t += 24L * 60L * 60L * 1000L;
+        }
+        assertEquals("15-Oct-1582 278", f.format(new Date(-12219292800000L)));
+    }
+
+    /**
+     * A single instance can be used by several threads at once.
+     */
+    @Test
+    public void testSharedByThreads() throws InterruptedException {
+        final FastDateFormat f = new FastDateFormat("d-MMM-yyyy HH:mm:ss",
+                Locale.UK);
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long seed = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    DateFormat df = new SimpleDateFormat(
+                            "d-MMM-yyyy HH:mm:ss", Locale.UK);
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 5000; i++) {
+                        Date d = randomDate(random);
+                        if (!df.format(d).equals(f.format(d))) {
+                            failed[0] = true;
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed[0]);
+    }
+
+    /**
+     * Changing the time zone should change the results.
+     */
+    @Test
+    public void testSetTimeZone() {
+        FastDateFormat f = new FastDateFormat("HH:mm", Locale.UK);
+        f.setTimeZone(TimeZone.getTimeZone("UTC"));
+        assertEquals("00:00", f.format(new Date(0L)));
+        f.setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        assertEquals("05:30", f.format(new Date(0L)));
+        assertEquals(TimeZone.getTimeZone("Asia/Kolkata"), f.getTimeZone());
+    }
+
+    /**
+     * Check that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        FastDateFormat f1 = new FastDateFormat("d-MMM", Locale.UK);
+        FastDateFormat f2 = new FastDateFormat("d-MMM", Locale.UK);
+        assertEquals(f1, f2);
+
+        f1 = new FastDateFormat("MMM-yyyy", Locale.UK);
+        assertFalse(f1.equals(f2));
+        f2 = new FastDateFormat("MMM-yyyy", Locale.UK);
+        assertEquals(f1, f2);
+
+        f1.setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        assertFalse(f1.equals(f2));
+        f2.setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        assertEquals(f1, f2);
+
+        assertFalse(f1.equals(new SimpleDateFormat("MMM-yyyy", Locale.UK)));
+    }
+
+    /**
+     * Two objects that are equal are required to return the same hashCode.
+     */
+    @Test
+    public void testHashcode() {
+        FastDateFormat f1 = new FastDateFormat("d-MMM", Locale.UK);
+        FastDateFormat f2 = new FastDateFormat("d-MMM", Locale.UK);
+        assertEquals(f1, f2);
+        assertEquals(f1.hashCode(), f2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        FastDateFormat f1 = new FastDateFormat("d-MMM", Locale.UK);
+        FastDateFormat f2 = (FastDateFormat) f1.clone();
+        assertNotSame(f1, f2);
+        assertSame(f1.getClass(), f2.getClass());
+        assertEquals(f1, f2);
+
+        // check independence
+        f1.setTimeZone(TimeZone.getTimeZone("Asia/Kolkata"));
+        assertFalse(f1.equals(f2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException,
+            ClassNotFoundException {
+        FastDateFormat f1 = new FastDateFormat("d-MMM, HH:mm", Locale.UK);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(f1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        FastDateFormat f2 = (FastDateFormat) in.readObject();
+        in.close();
+        assertEquals(f1, f2);
+        Date d = new Date(1234567890123L);
+        assertEquals(f1.format(d), f2.format(d));
+    }
+
+}
@@ -0,0 +1,295 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * FastNumberFormatTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for the {@link FastNumberFormat} class.
+ */
+public class FastNumberFormatTest {
+
+    /** Patterns to test, including those used by the standard tick units. */
+    private static final String[] PATTERNS = {"0.0000000000", "0.00000",
+            "0.00", "0.0", "0", "#,##0", "#,###,###,##0", "0.0#", "0.#",
+            "#,##0.###", "000.00", "0.0E0", "00.0E00", "0.##E0",
+            "'E'0.0;(0.0)"};
+
+    /**
+     * Returns a random value, covering a wide range of magnitudes and
+     * values close to rounding boundaries.
+     *
+     * @param random  the random number generator.
+     * @param i  the index of the value.
+     *
+     * @return A value.
+     */
+    private static double randomValue(Random random, int i) {
+        switch (i % 4) {
+            case 0:
+                return random.nextGaussian()
+                        * Math.pow(10, random.nextInt(30) - 15);
+            case 1:
+                return (random.nextInt(2000000) - 1000000)
+                        / Math.pow(10, random.nextInt(12));
+            case 2:
+                return Math.round(random.nextGaussian() * 1e6) * 0.0005;
+            default:
+                return Double.longBitsToDouble(random.nextLong());
+        }
+    }
+
+    /**
+     * Checks that the results match DecimalFormat for random values.
+     */
+    @Test
+    public void testFormatMatchesDecimalFormat() {
+        Locale[] locales = {Locale.US, Locale.GERMANY, Locale.FRANCE,
+                new Locale("ar", "EG"), new Locale("fa")};
+        Random random = new Random(1L);
+        for (Locale locale : locales) {
+            for (String pattern : PATTERNS) {
+                DecimalFormat df = new DecimalFormat(pattern,
+                        DecimalFormatSymbols.getInstance(locale));
+                FastNumberFormat f = new FastNumberFormat(df);
+                for (int i = 0; i < 500; i++) {
+                    double v = randomValue(random, i);
+                    assertEquals(pattern + " " + v, df.format(v), f.format(v));
+                    long n = random.nextLong() >> random.nextInt(64);
+                    assertEquals(pattern + " " + n, df.format(n), f.format(n));
+                }
+            }
+        }
+    }
+
+    /**
+     * Some special values.
+     */
+    @Test
+    public void testSpecialValues() {
+        double[] values = {0.0, -0.0, -0.0001, Double.NaN,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, Double.MAX_VALUE, 0.125, 0.15, 2.5, 9.95,
+                9.96, 0.995, 1e22};
+        for (String pattern : PATTERNS) {
+            DecimalFormat df = new DecimalFormat(pattern);
+            FastNumberFormat f = new FastNumberFormat(pattern);
+            for (double v : values) {
+                assertEquals(pattern + " " + v, df.format(v), f.format(v));
+            }
+        }
+        FastNumberFormat f = new FastNumberFormat("0.00");
+        assertEquals("-0.00", f.format(-0.0));
+        assertEquals("0.12", f.format(0.125));
+        assertEquals("0.15", f.format(0.15));
+    }
+
+    /**
+     * The integer and fraction field positions should match DecimalFormat.
+     */
+    @Test
+    public void testFieldPosition() {
+        for (String pattern : PATTERNS) {
+            for (int field = 0; field < 2; field++) {
+                FieldPosition p1 = new FieldPosition(field);
+                FieldPosition p2 = new FieldPosition(field);
+                StringBuffer b1 = new DecimalFormat(pattern).format(-1234.5,
+                        new StringBuffer("ab"), p1);
+                StringBuffer b2 = new FastNumberFormat(pattern).format(
+                        -1234.5, new StringBuffer("ab"), p2);
+                assertEquals(b1.toString(), b2.toString());
+                assertEquals(p1.getBeginIndex(), p2.getBeginIndex());
+                assertEquals(p1.getEndIndex(), p2.getEndIndex());
+            }
+        }
+    }
+
+    /**
+     * Changing an attribute should change the results.
+     */
+    @Test
+    public void testSetters() {
+        FastNumberFormat f = new FastNumberFormat("#,##0.0");
+        assertEquals("1,234.6", f.format(1234.56));
+        f.setMaximumFractionDigits(3);
+        assertEquals(3, f.getMaximumFractionDigits());
+        assertEquals("1,234.56", f.format(1234.56));
+        f.setGroupingUsed(false);
+        assertEquals("1234.56", f.format(1234.56));
+        f.setMinimumIntegerDigits(6);
+        assertEquals("001234.56", f.format(1234.56));
+        f.setMaximumFractionDigits(1);
+        f.setRoundingMode(RoundingMode.DOWN);  // handled by DecimalFormat
+        assertEquals("001234.5", f.format(1234.56));
+    }
+
+    /**
+     * Formatters that aren't DecimalFormat instances are used for all
+     * values.
+     */
+    @Test
+    public void testOtherFormat() {
+        FastNumberFormat f = new FastNumberFormat(new LogFormat());
+        assertEquals("10^2.0", f.format(100.0));
+    }
+
+    /**
+     * A single instance can be used by several threads at once.
+     */
+    @Test
+    public void testSharedByThreads() throws InterruptedException {
+        final FastNumberFormat f = new FastNumberFormat("#,##0.00");
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long seed = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    DecimalFormat df = new DecimalFormat("#,##0.00");
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 5000; i++) {
+                        double v = randomValue(random, i);
+                        if (!df.format(v).equals(f.format(v))) {
+                            failed[0] = true;
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed[0]);
+    }
+
+    /**
+     * Check that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        FastNumberFormat f1 = new FastNumberFormat("0.00");
+        FastNumberFormat f2 = new FastNumberFormat("0.00");
+        assertEquals(f1, f2);
+
+        f1 = new FastNumberFormat("0.0");
+        assertFalse(f1.equals(f2));
+        f2 = new FastNumberFormat("0.0");
+        assertEquals(f1, f2);
+
+        f1.setGroupingUsed(true);
+        assertFalse(f1.equals(f2));
+        f2.setGroupingUsed(true);
+        assertEquals(f1, f2);
+
+        assertFalse(f1.equals(new DecimalFormat("0.0")));
+    }
+
+    /**
+     * Two objects that are equal are required to return the same hashCode.
+     */
+    @Test
+    public void testHashcode() {
+        FastNumberFormat f1 = new FastNumberFormat("0.00");
+        FastNumberFormat f2 = new FastNumberFormat("0.00");
+        assertEquals(f1, f2);
+        assertEquals(f1.hashCode(), f2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        FastNumberFormat f1 = new FastNumberFormat("0.00");
+        FastNumberFormat f2 = (FastNumberFormat) f1.clone();
+        assertNotSame(f1, f2);
+        assertSame(f1.getClass(), f2.getClass());
+        assertEquals(f1, f2);
+
+        // check independence
+        f1.setMaximumFractionDigits(4);
+        assertFalse(f1.equals(f2));
+        assertEquals("1.00", f2.format(1.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException,
+            ClassNotFoundException {
+        NumberFormat f1 = new FastNumberFormat("0.0E0");
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(f1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        NumberFormat f2 = (NumberFormat) in.readObject();
+        in.close();
+        assertEquals(f1, f2);
+        assertEquals(f1.format(12345.678), f2.format(12345.678));
+    }
+
+}
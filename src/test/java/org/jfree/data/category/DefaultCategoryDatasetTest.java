@@ -38,6 +38,7 @@
  * 08-Mar-2007 : Added testCloning() (DG);
  * 21-Nov-2007 : Added testBug1835955() method (DG);
  * 09-May-2008 : Added testPublicCloneable() (DG);
+ * 16-Oct-2026 : Added testConcurrentMode() (agent);
  *
  */
 
@@ -45,6 +46,8 @@ package org.jfree.data.category;
 
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetBatch;
+import org.jfree.data.general.SnapshotPin;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -404,4 +407,38 @@ public class DefaultCategoryDatasetTest  {
         }
     }
 
+    /**
+     * In concurrent mode, a pinned thread reads the data as it was when the
+     * pin was taken, and a batch of changes is published as one snapshot.
+     */
+    @Test
+    public void testConcurrentMode() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.setConcurrent(true);
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            DatasetBatch batch = d.beginBatch();
+            try {
+                d.addValue(2.0, "R1", "C1");
+                d.addValue(3.0, "R2", "C2");
+            }
+            finally {
+                batch.close();
+            }
+            d.incrementValue(1.0, "R2", "C2");
+            assertEquals(1, d.getRowCount());
+            assertEquals(1, d.getColumnCount());
+            assertEquals(1.0, d.getValue("R1", "C1"));
+            assertEquals(-1, d.getRowIndex("R2"));
+        }
+        finally {
+            pin.release();
+        }
+        assertEquals(2, d.getRowCount());
+        assertEquals(4.0, d.getValue(1, 1));
+        d.setConcurrent(false);
+        assertFalse(d.isConcurrent());
+    }
+
 }
@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -36,12 +36,15 @@
  * -------
  * 08-May-2008 : Version 1 (DG);
  * 15-Mar-2009 : Added testGetColumnKeys() (DG);
+ * 16-Oct-2026 : Added testUnderlyingChange() (agent);
  *
  */
 
 package org.jfree.data.category;
 
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -284,4 +287,23 @@ public class SlidingCategoryDatasetTest  {
         assertEquals(1, keys.size());
     }
 
+    /**
+     * Changes to the underlying dataset should be seen in the bounds
+     * found for the dataset (which are cached).
+     */
+    @Test
+    public void testUnderlyingChange() {
+        DefaultCategoryDataset underlying = new DefaultCategoryDataset();
+        underlying.addValue(1.0, "R1", "C1");
+        underlying.addValue(2.0, "R1", "C2");
+        underlying.addValue(3.0, "R1", "C3");
+        SlidingCategoryDataset dataset = new SlidingCategoryDataset(underlying,
+                1, 2);
+        assertEquals(new Range(2.0, 3.0),
+                DatasetUtilities.findRangeBounds(dataset));
+        underlying.addValue(5.0, "R1", "C2");
+        assertEquals(new Range(3.0, 5.0),
+                DatasetUtilities.findRangeBounds(dataset));
+    }
+
 }
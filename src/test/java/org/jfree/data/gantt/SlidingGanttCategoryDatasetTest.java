@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -35,11 +35,14 @@
  * Changes
  * -------
  * 08-May-2008 : Version 1 (DG);
+ * 16-Oct-2026 : Added testUnderlyingChange() (agent);
  *
  */
 
 package org.jfree.data.gantt;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -166,4 +169,24 @@ public class SlidingGanttCategoryDatasetTest  {
         assertEquals(d1, d2);
     }
 
+    /**
+     * Changes to the underlying dataset should be seen in the bounds
+     * found for the dataset (which are cached).
+     */
+    @Test
+    public void testUnderlyingChange() {
+        TaskSeries s1 = new TaskSeries("Series");
+        s1.add(new Task("Task 1", new Date(0L), new Date(1L)));
+        s1.add(new Task("Task 2", new Date(10L), new Date(11L)));
+        TaskSeriesCollection u1 = new TaskSeriesCollection();
+        u1.add(s1);
+        SlidingGanttCategoryDataset d1 = new SlidingGanttCategoryDataset(
+                u1, 0, 5);
+        assertEquals(new Range(0.0, 11.0),
+                DatasetUtilities.findRangeBounds(d1));
+        s1.add(new Task("Task 3", new Date(20L), new Date(30L)));
+        assertEquals(new Range(0.0, 30.0),
+                DatasetUtilities.findRangeBounds(d1));
+    }
+
 }
@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * DatasetBatchTest.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.Range;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link DatasetBatch} class.
+ */
+public class DatasetBatchTest {
+
+    /**
+     * Records the events received from a dataset.
+     */
+    static class EventRecorder implements DatasetChangeListener {
+
+        /** The events received. */
+        List<DatasetChangeEvent> events = new ArrayList<DatasetChangeEvent>();
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.events.add(event);
+        }
+
+    }
+
+    /**
+     * Changes to several series in nested batches give a single event when
+     * the outermost batch is closed.
+     */
+    @Test
+    public void testNestedBatches() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeries s3 = new XYSeries("S3");
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        dataset.addSeries(s3);
+        EventRecorder recorder = new EventRecorder();
+        dataset.addChangeListener(recorder);
+
+        try (DatasetBatch batch = dataset.beginBatch()) {
+            assertSame(dataset, batch.getDataset());
+            s1.add(1.0, 1.0);
+            try (DatasetBatch inner = dataset.beginBatch()) {
+                s3.add(1.0, 2.0);
+                s3.add(2.0, 3.0);
+            }
+            assertTrue(recorder.events.isEmpty());
+            s1.add(2.0, 4.0);
+        }
+        assertEquals(1, recorder.events.size());
+        DatasetChangeEvent event = recorder.events.get(0);
+        assertSame(dataset, event.getDataset());
+        assertNull(event.getInfo());
+        assertArrayEquals(new int[] {0, 2}, event.getChangedSeries());
+
+        // the bounds were updated for the changes
+        assertEquals(new Range(1.0, 4.0),
+                DatasetUtilities.findRangeBounds(dataset));
+
+        // a batch with no changes sends no event
+        DatasetBatch batch = dataset.beginBatch();
+        batch.close();
+        assertEquals(1, recorder.events.size());
+
+        // closing a batch again has no effect
+        batch = dataset.beginBatch();
+        s2.add(1.0, 1.0);
+        batch.close();
+        batch.close();
+        assertEquals(2, recorder.events.size());
+        s2.add(2.0, 1.0);
+        assertEquals(3, recorder.events.size());
+    }
+
+    /**
+     * Successive appends to one series are described by a single info.
+     */
+    @Test
+    public void testAppends() {
+        TimeSeries series = new TimeSeries("S1");
+        series.add(new Day(1, 1, 2026), 1.0);
+        series.add(new Day(2, 1, 2026), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(series);
+        EventRecorder recorder = new EventRecorder();
+        dataset.addChangeListener(recorder);
+        try (DatasetBatch batch = dataset.beginBatch()) {
+            series.add(new Day(3, 1, 2026), 3.0);
+            series.add(new Day(4, 1, 2026), 4.0);
+            series.add(new Day(5, 1, 2026), 5.0);
+        }
+        assertEquals(1, recorder.events.size());
+        DatasetChangeEvent event = recorder.events.get(0);
+        assertEquals(new DatasetChangeInfo(0, new SeriesChangeInfo(
+                SeriesChangeType.APPEND, 2, 4)), event.getInfo());
+        assertArrayEquals(new int[] {0}, event.getChangedSeries());
+
+        // an update can't be combined with the appends
+        try (DatasetBatch batch = dataset.beginBatch()) {
+            series.add(new Day(6, 1, 2026), 6.0);
+            series.update(0, 10.0);
+        }
+        event = recorder.events.get(1);
+        assertNull(event.getInfo());
+        assertArrayEquals(new int[] {0}, event.getChangedSeries());
+
+        // adding a series means any series may have changed
+        try (DatasetBatch batch = dataset.beginBatch()) {
+            series.add(new Day(7, 1, 2026), 7.0);
+            dataset.addSeries(new TimeSeries("S2"));
+        }
+        event = recorder.events.get(2);
+        assertNull(event.getInfo());
+        assertNull(event.getChangedSeries());
+    }
+
+}
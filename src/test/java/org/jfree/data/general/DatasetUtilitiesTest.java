@@ -2,7 +2,7 @@
  * JFreeChart : a free chart library for the Java(tm) platform
  * ===========================================================
  *
- * (C) Copyright 2000-2012, by Object Refinery Limited and Contributors.
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
  *
  * Project Info:  http://www.jfree.org/jfreechart/index.html
  *
@@ -47,6 +47,11 @@
  * 16-May-2009 : Added
  *               testIterateToFindRangeBounds_MultiValueCategoryDataset() (DG);
  * 10-Sep-2009 : Added tests for bug 2849731 (DG);
+ * 16-Oct-2026 : Added testBoundsCache() (agent);
+ * 16-Oct-2026 : Added testParallelRangeBounds() (agent);
+ * 16-Oct-2026 : Added testBoundsCacheAppend() (agent);
+ * 16-Oct-2026 : Check the cached total in
+ *               testCalculatePieDatasetTotal() (agent);
  *
  */
 
@@ -82,6 +87,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -124,6 +130,78 @@ public class DatasetUtilitiesTest  {
         d.setValue("B", 3.0);
         assertEquals(4.0, DatasetUtilities.calculatePieDatasetTotal(d),
                 EPSILON);
+
+        // the total is cached, check that it is updated
+        d.setValue("C", -2.0);
+        assertEquals(4.0, DatasetUtilities.calculatePieDatasetTotal(d),
+                EPSILON);
+        d.remove("A");
+        assertEquals(3.0, DatasetUtilities.calculatePieDatasetTotal(d),
+                EPSILON);
+    }
+
+    /**
+     * A pie dataset that reads its values from an array, so that they can
+     * be changed without an event.
+     */
+    static class ArrayPieDataset extends AbstractDataset
+            implements PieDataset {
+
+        double[] values;
+
+        ArrayPieDataset(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Comparable getKey(int index) {
+            return Integer.valueOf(index);
+        }
+
+        @Override
+        public int getIndex(Comparable key) {
+            return ((Integer) key).intValue();
+        }
+
+        @Override
+        public List<Comparable> getKeys() {
+            List<Comparable> result = new ArrayList<Comparable>();
+            for (int i = 0; i < this.values.length; i++) {
+                result.add(getKey(i));
+            }
+            return result;
+        }
+
+        @Override
+        public Number getValue(Comparable key) {
+            return getValue(getIndex(key));
+        }
+
+        @Override
+        public int getItemCount() {
+            return this.values.length;
+        }
+
+        @Override
+        public Number getValue(int item) {
+            return Double.valueOf(this.values[item]);
+        }
+
+    }
+
+    /**
+     * The total is not cached for a pie dataset that doesn't implement
+     * {@link NotifyingDataset}, since its data can change without an event.
+     */
+    @Test
+    public void testCalculatePieDatasetTotalWithoutNotification() {
+        double[] values = new double[] {1.0, 2.0, 3.0};
+        ArrayPieDataset d = new ArrayPieDataset(values);
+        assertEquals(6.0, DatasetUtilities.calculatePieDatasetTotal(d),
+                EPSILON);
+        values[2] = 10.0;
+        assertEquals(13.0, DatasetUtilities.calculatePieDatasetTotal(d),
+                EPSILON);
     }
 
     /**
@@ -1344,4 +1422,228 @@ public class DatasetUtilitiesTest  {
         assertEquals(3.5, r.getUpperBound(), EPSILON);
     }
 
+    /**
+     * A dataset that counts the number of y-values read (and, for the
+     * tests, promises to fire an event for every change).
+     */
+    static class CountingXYDataset extends DefaultXYDataset
+            implements NotifyingDataset {
+
+        int reads;
+
+        @Override
+        public double getYValue(int series, int item) {
+            this.reads++;
+            return super.getYValue(series, item);
+        }
+
+    }
+
+    /**
+     * The bounds found by iterating over a dataset are cached until the
+     * dataset changes.
+     */
+    @Test
+    public void testBoundsCache() {
+        CountingXYDataset d = new CountingXYDataset();
+        d.addSeries("S1", new double[][] {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}});
+        d.addSeries("S2", new double[][] {{1.0, 2.0}, {-1.0, 9.0}});
+        List<Comparable> visible = new ArrayList<Comparable>();
+        visible.add("S1");
+        Range xRange = new Range(Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY);
+
+        assertEquals(new Range(-1.0, 9.0), DatasetUtilities.findRangeBounds(d,
+                false));
+        assertEquals(new Range(4.0, 6.0), DatasetUtilities.findRangeBounds(d,
+                visible, xRange, false));
+        int reads = d.reads;
+        assertEquals(new Range(-1.0, 9.0), DatasetUtilities.findRangeBounds(d,
+                false));
+        assertEquals(new Range(4.0, 6.0), DatasetUtilities.findRangeBounds(d,
+                visible, xRange, false));
+        assertEquals(reads, d.reads);
+
+        // a different set of visible series is cached separately
+        visible.add("S2");
+        assertEquals(new Range(-1.0, 9.0), DatasetUtilities.findRangeBounds(d,
+                visible, xRange, false));
+        assertTrue(d.reads > reads);
+
+        // a change to the dataset clears the cache
+        d.addSeries("S2", new double[][] {{1.0}, {20.0}});
+        assertEquals(new Range(4.0, 20.0), DatasetUtilities.findRangeBounds(d,
+                false));
+        assertEquals(new Range(4.0, 20.0), DatasetUtilities.findRangeBounds(d,
+                visible, xRange, false));
+
+        // a clone has its own cache
+        DefaultCategoryDataset c1 = new DefaultCategoryDataset();
+        c1.addValue(1.0, "R1", "C1");
+        assertEquals(new Range(1.0, 1.0), DatasetUtilities.findRangeBounds(c1,
+                false));
+        try {
+            DefaultCategoryDataset c2 = (DefaultCategoryDataset) c1.clone();
+            c2.addValue(2.0, "R1", "C2");
+            assertEquals(new Range(1.0, 2.0),
+                    DatasetUtilities.findRangeBounds(c2, false));
+            assertEquals(new Range(1.0, 1.0),
+                    DatasetUtilities.findRangeBounds(c1, false));
+        }
+        catch (CloneNotSupportedException e) {
+            fail(e.toString());
+        }
+    }
+
+    /**
+     * The bounds are not cached for a dataset that doesn't implement
+     * {@link NotifyingDataset}, since its data can change without an event.
+     */
+    @Test
+    public void testBoundsNotCachedWithoutNotification() {
+        DefaultXYDataset d = new DefaultXYDataset();
+        double[][] data = new double[][] {{1.0, 2.0, 3.0},
+                {10.0, 20.0, 30.0}};
+        d.addSeries("S1", data);
+        assertEquals(new Range(10.0, 30.0), DatasetUtilities.findRangeBounds(
+                d, false));
+        data[1][2] = 99.0;
+        assertEquals(new Range(10.0, 99.0), DatasetUtilities.findRangeBounds(
+                d, false));
+        data[0][0] = -5.0;
+        assertEquals(new Range(-5.0, 3.0), DatasetUtilities.findDomainBounds(
+                d, false));
+    }
+
+    /**
+     * Finding the range bounds in parallel should give exactly the same
+     * result as finding them serially.
+     */
+    @Test
+    public void testParallelRangeBounds() {
+        Random random = new Random(3L);
+        DefaultIntervalXYDataset d = new DefaultIntervalXYDataset();
+        DefaultCategoryDataset c = new DefaultCategoryDataset();
+        for (int s = 0; s < 12; s++) {
+            int count = 1000 + random.nextInt(10000);
+            double[][] data = new double[6][count];
+            for (int i = 0; i < count; i++) {
+                double y = random.nextGaussian() * (s + 1);
+                data[0][i] = i;
+                data[1][i] = i;
+                data[2][i] = i;
+                data[3][i] = i % 997 == 0 ? Double.NaN : y;
+                data[4][i] = y - random.nextDouble();
+                data[5][i] = y + random.nextDouble();
+                if (i < 2000) {
+                    c.addValue(i % 13 == 0 ? null : Double.valueOf(y),
+                            "R" + s, Integer.valueOf(i));
+                }
+            }
+            d.addSeries("S" + s, data);
+        }
+        List<Comparable> visible = new ArrayList<Comparable>();
+        visible.add("S9");
+        visible.add("S2");
+        visible.add("S5");
+        Range xRange = new Range(100.0, 5000.0);
+
+        Range[] expected = new Range[] {
+            DatasetUtilities.iterateRangeBounds(d, false),
+            DatasetUtilities.iterateRangeBounds(d, true),
+            DatasetUtilities.iterateToFindRangeBounds(d, visible, xRange,
+                    false),
+            DatasetUtilities.iterateToFindRangeBounds(d, visible, xRange,
+                    true),
+            DatasetUtilities.iterateRangeBounds(c, false)
+        };
+        assertEquals(Integer.MAX_VALUE,
+                DatasetUtilities.getParallelThreshold());
+        DatasetUtilities.setParallelThreshold(1);
+        try {
+            Range[] actual = new Range[] {
+                DatasetUtilities.iterateRangeBounds(d, false),
+                DatasetUtilities.iterateRangeBounds(d, true),
+                DatasetUtilities.iterateToFindRangeBounds(d, visible, xRange,
+                        false),
+                DatasetUtilities.iterateToFindRangeBounds(d, visible, xRange,
+                        true),
+                DatasetUtilities.iterateRangeBounds(c, false)
+            };
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], actual[i]);
+            }
+            assertNull(DatasetUtilities.iterateRangeBounds(
+                    new DefaultXYDataset(), false));
+            assertNull(DatasetUtilities.iterateToFindRangeBounds(d, visible,
+                    new Range(-2.0, -1.0), false));
+        }
+        finally {
+            DatasetUtilities.setParallelThreshold(Integer.MAX_VALUE);
+        }
+        try {
+            DatasetUtilities.setParallelThreshold(0);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * When items are appended to a series, the cached bounds are extended
+     * rather than discarded, and are the same as the bounds found by
+     * iterating over all the items.
+     */
+    @Test
+    public void testBoundsCacheAppend() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection d = new XYSeriesCollection();
+        d.addSeries(s1);
+        d.addSeries(s2);
+        s1.add(1.0, 4.0);
+        s2.add(1.0, -1.0);
+        List<Comparable> visible1 = new ArrayList<Comparable>();
+        visible1.add("S1");
+        List<Comparable> visible2 = new ArrayList<Comparable>();
+        visible2.add("S1");
+        visible2.add("S2");
+        Range xRange = new Range(0.0, 30.0);
+        DatasetBoundsCache cache = ((AbstractDataset) d).getBoundsCache();
+        Random random = new Random(5L);
+        for (int i = 2; i < 50; i++) {
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(d,
+                    visible1, xRange, false), DatasetUtilities.findRangeBounds(
+                    d, visible1, xRange, false));
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(d,
+                    visible2, xRange, true), DatasetUtilities.findRangeBounds(
+                    d, visible2, xRange, true));
+            assertEquals(DatasetUtilities.iterateToFindDomainBounds(d,
+                    visible2, false), DatasetUtilities.findDomainBounds(d,
+                    visible2, false));
+            assertEquals(DatasetUtilities.iterateToFindDomainBounds(d,
+                    visible2, true), DatasetUtilities.findDomainBounds(d,
+                    visible2, true));
+            assertEquals(4, cache.size());
+            (random.nextBoolean() ? s1 : s2).add(i, random.nextGaussian()
+                    * i);
+            // the domain bounds including the x-interval can't be extended
+            assertEquals(3, cache.size());
+        }
+
+        // an update discards the bounds that include the series
+        s2.updateByIndex(0, 100.0);
+        assertEquals(1, cache.size());
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(d, visible2,
+                xRange, true), DatasetUtilities.findRangeBounds(d, visible2,
+                xRange, true));
+        assertEquals(100.0, DatasetUtilities.findRangeBounds(d, visible2,
+                xRange, true).getUpperBound(), EPSILON);
+
+        // a change that isn't described discards all the bounds
+        s1.add(0.0, 0.0);
+        assertEquals(0, cache.size());
+    }
+
 }
@@ -0,0 +1,178 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SeriesChangeInfoTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link SeriesChangeInfo} and {@link DatasetChangeInfo}
+ * classes.
+ */
+public class SeriesChangeInfoTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        SeriesChangeInfo i1 = new SeriesChangeInfo(SeriesChangeType.APPEND, 1,
+                2, 3);
+        SeriesChangeInfo i2 = new SeriesChangeInfo(SeriesChangeType.APPEND, 1,
+                2, 3);
+        assertEquals(i1, i2);
+        assertEquals(i1.hashCode(), i2.hashCode());
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 1, 2);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 1, 2);
+        assertEquals(i1, i2);
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 0, 2);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 0, 2);
+        assertEquals(i1, i2);
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 0, 3);
+        assertFalse(i1.equals(i2));
+        i2 = new SeriesChangeInfo(SeriesChangeType.UPDATE, 0, 3);
+        assertEquals(i1, i2);
+
+        i1 = new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 3, 1);
+        i2 = new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 3);
+        assertFalse(i1.equals(i2));
+
+        DatasetChangeInfo d1 = new DatasetChangeInfo(1, i1);
+        DatasetChangeInfo d2 = new DatasetChangeInfo(1, i1);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1 = new DatasetChangeInfo(2, i1);
+        assertFalse(d1.equals(d2));
+        d2 = new DatasetChangeInfo(2, i2);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Some checks for the attributes and the argument checking.
+     */
+    @Test
+    public void testConstructor() {
+        SeriesChangeInfo info = new SeriesChangeInfo(
+                SeriesChangeType.REMOVE_FROM_FRONT, 0, 4);
+        assertEquals(5, info.getRemovedCount());
+        assertFalse(info.isPureAppend());
+        info = new SeriesChangeInfo(SeriesChangeType.APPEND, 7, 9);
+        assertEquals(0, info.getRemovedCount());
+        assertTrue(info.isPureAppend());
+        info = new SeriesChangeInfo(SeriesChangeType.APPEND, 7, 9, 3);
+        assertFalse(info.isPureAppend());
+
+        try {
+            new SeriesChangeInfo(null, 0, 0);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 1);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SeriesChangeInfo(SeriesChangeType.REMOVE_FROM_FRONT, 1, 2);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SeriesChangeInfo(SeriesChangeType.UPDATE, 1, 2, 1);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new DatasetChangeInfo(-1, info);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        DatasetChangeInfo d1 = new DatasetChangeInfo(3, new SeriesChangeInfo(
+                SeriesChangeType.APPEND, 10, 12, 3));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(d1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        DatasetChangeInfo d2 = (DatasetChangeInfo) in.readObject();
+        in.close();
+
+        assertEquals(d1, d2);
+    }
+
+}
@@ -0,0 +1,162 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SlidingWindowBoundsTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link SlidingWindowBounds} class.
+ */
+public class SlidingWindowBoundsTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * An empty window has no bounds.
+     */
+    @Test
+    public void testEmpty() {
+        SlidingWindowBounds w = new SlidingWindowBounds();
+        assertEquals(0, w.getItemCount());
+        assertTrue(Double.isNaN(w.getMinimum()));
+        assertTrue(Double.isNaN(w.getMaximum()));
+        try {
+            w.removeFirst();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("The window is empty.", e.getMessage());
+        }
+    }
+
+    /**
+     * NaN values take a position in the window but are ignored for the
+     * bounds.
+     */
+    @Test
+    public void testNaN() {
+        SlidingWindowBounds w = new SlidingWindowBounds();
+        w.add(Double.NaN);
+        assertEquals(1, w.getItemCount());
+        assertTrue(Double.isNaN(w.getMinimum()));
+        w.add(2.0);
+        w.add(Double.NaN);
+        assertEquals(2.0, w.getMinimum(), EPSILON);
+        assertEquals(2.0, w.getMaximum(), EPSILON);
+        w.removeFirst();
+        w.removeFirst();
+        assertTrue(Double.isNaN(w.getMaximum()));
+        assertEquals(1, w.getItemCount());
+    }
+
+    /**
+     * Compare against a brute force calculation for random windows.
+     */
+    @Test
+    public void testAgainstIteration() {
+        Random random = new Random(1L);
+        SlidingWindowBounds w = new SlidingWindowBounds();
+        List<Double> values = new ArrayList<Double>();
+        for (int i = 0; i < 10000; i++) {
+            if (values.size() > 0 && random.nextInt(3) == 0) {
+                w.removeFirst();
+                values.remove(0);
+            }
+            else {
+                // include plenty of duplicates
+                double v = random.nextInt(50);
+                w.add(v);
+                values.add(v);
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (double v : values) {
+                min = Double.isNaN(min) ? v : Math.min(min, v);
+                max = Double.isNaN(max) ? v : Math.max(max, v);
+            }
+            assertEquals(values.size(), w.getItemCount());
+            assertEquals(min, w.getMinimum(), EPSILON);
+            assertEquals(max, w.getMaximum(), EPSILON);
+        }
+    }
+
+    /**
+     * A monotonic sequence requires the queues to grow.
+     */
+    @Test
+    public void testMonotonic() {
+        SlidingWindowBounds w = new SlidingWindowBounds();
+        for (int i = 0; i < 1000; i++) {
+            w.add(i);
+        }
+        for (int i = 0; i < 999; i++) {
+            w.removeFirst();
+            assertEquals(i + 1, w.getMinimum(), EPSILON);
+            assertEquals(999.0, w.getMaximum(), EPSILON);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() {
+        SlidingWindowBounds w1 = new SlidingWindowBounds();
+        w1.add(1.0);
+        w1.add(3.0);
+        SlidingWindowBounds w2 = w1.clone();
+        w2.removeFirst();
+        assertEquals(1.0, w1.getMinimum(), EPSILON);
+        assertEquals(3.0, w2.getMinimum(), EPSILON);
+        w1.clear();
+        assertEquals(0, w1.getItemCount());
+        assertEquals(1, w2.getItemCount());
+    }
+
+}
@@ -0,0 +1,177 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * SnapshotPinTest.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link SnapshotPin} class.
+ */
+public class SnapshotPinTest {
+
+    /**
+     * Nested pins are the same pin, which is released by the last call to
+     * release().
+     */
+    @Test
+    public void testPinAndRelease() {
+        assertNull(SnapshotPin.getCurrent());
+        SnapshotPin pin = SnapshotPin.pin();
+        assertSame(pin, SnapshotPin.getCurrent());
+        assertSame(pin, SnapshotPin.pin());
+        pin.release();
+        assertSame(pin, SnapshotPin.getCurrent());
+        pin.release();
+        assertNull(SnapshotPin.getCurrent());
+        try {
+            pin.release();
+            fail("Expected an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Versions that no pin can read are discarded.
+     */
+    @Test
+    public void testPublish() {
+        Object owner = new Object();
+        SnapshotPin.Version v1 = SnapshotPin.publish("A", null);
+        SnapshotPin.Version v2 = SnapshotPin.publish("B", v1);
+        assertNull(v2.getPrevious());
+
+        SnapshotPin pin = SnapshotPin.pin();
+        SnapshotPin.Version v3 = SnapshotPin.publish("C", v2);
+        SnapshotPin.Version v4 = SnapshotPin.publish("D", v3);
+        assertSame(v3, v4.getPrevious());
+        assertSame(v2, v3.getPrevious());
+        assertEquals("B", pin.resolve(owner, v4));
+        pin.release();
+
+        SnapshotPin.Version v5 = SnapshotPin.publish("E", v4);
+        assertNull(v5.getPrevious());
+    }
+
+    /**
+     * A pinned thread keeps reading the same data while the dataset is
+     * updated, and another thread can be attached to the pin.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testPinnedRead() throws InterruptedException {
+        final XYSeries series = new XYSeries("S1");
+        series.add(1.0, 10.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        dataset.setConcurrent(true);
+        assertTrue(dataset.isConcurrent());
+
+        final SnapshotPin pin = SnapshotPin.pin();
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                series.add(2.0, 20.0);
+            }
+        };
+        writer.start();
+        writer.join();
+        assertEquals(1, dataset.getItemCount(0));
+
+        final AtomicReference<Integer> count = new AtomicReference<Integer>();
+        final XYSeriesCollection d = dataset;
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                SnapshotPin previous = SnapshotPin.attach(pin);
+                try {
+                    count.set(d.getItemCount(0));
+                }
+                finally {
+                    SnapshotPin.restore(previous);
+                }
+            }
+        };
+        reader.start();
+        reader.join();
+        assertEquals(Integer.valueOf(1), count.get());
+        pin.release();
+        assertEquals(2, dataset.getItemCount(0));
+
+        // a new pin sees the new data
+        SnapshotPin pin2 = SnapshotPin.pin();
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(20.0, dataset.getYValue(0, 1), 0.0);
+        pin2.release();
+
+        dataset.setConcurrent(false);
+        assertFalse(dataset.isConcurrent());
+    }
+
+    /**
+     * Datasets that don't support concurrent mode throw an exception.
+     */
+    @Test
+    public void testUnsupported() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        try {
+            dataset.setConcurrent(true);
+            fail("Expected an UnsupportedOperationException.");
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertFalse(dataset.isConcurrent());
+    }
+
+}
@@ -0,0 +1,327 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------------------
+ * ConcurrentTimeSeriesCollectionTest.java
+ * ----------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SnapshotPin;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link ConcurrentTimeSeriesCollection} class.
+ */
+public class ConcurrentTimeSeriesCollectionTest {
+
+    /**
+     * Records the events received from a dataset.
+     */
+    static class EventRecorder implements DatasetChangeListener {
+
+        /** The events. */
+        List<DatasetChangeEvent> events = new ArrayList<DatasetChangeEvent>();
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.events.add(event);
+        }
+
+    }
+
+    /**
+     * Some checks for the constructor.
+     */
+    @Test
+    public void testConstructor() {
+        ConcurrentTimeSeriesCollection d = new ConcurrentTimeSeriesCollection(
+                new Comparable[] {"S1", "S2"}, 100);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(0, d.getItemCount(0));
+        assertEquals(100, d.getWindowSize());
+        assertEquals(128, d.getBufferSize());
+        assertEquals(OverflowPolicy.DROP_OLDEST, d.getOverflowPolicy());
+        assertNull(d.getDomainBounds(false));
+        assertNull(d.getRangeBounds(false));
+        try {
+            new ConcurrentTimeSeriesCollection(new Comparable[] {"S1"}, 0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ConcurrentTimeSeriesCollection(new Comparable[] {"S1"}, 10,
+                    10, null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Values appear in the dataset only after a refresh, and the oldest
+     * values are discarded when the window is full.
+     */
+    @Test
+    public void testRefresh() {
+        ConcurrentTimeSeriesCollection d = new ConcurrentTimeSeriesCollection(
+                new Comparable[] {"S1", "S2"}, 3);
+        EventRecorder recorder = new EventRecorder();
+        d.addChangeListener(recorder);
+        assertTrue(d.append(0, 1000L, 5.0f));
+        assertTrue(d.append(0, 2000L, 7.0f));
+        assertTrue(d.append(1, 1500L, -1.0f));
+        assertEquals(0, d.getItemCount(0));
+        assertTrue(d.refresh());
+        assertEquals(1, recorder.events.size());
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(1, d.getItemCount(1));
+        assertEquals(2000.0, d.getXValue(0, 1), 0.0);
+        assertEquals(7.0, d.getYValue(0, 1), 0.0);
+        assertEquals(new Range(1000.0, 2000.0), d.getDomainBounds(false));
+        assertEquals(new Range(-1.0, 7.0), d.getRangeBounds(false));
+
+        // nothing new, so no event
+        assertFalse(d.refresh());
+        assertEquals(1, recorder.events.size());
+
+        d.append(0, 3000L, 6.0f);
+        d.append(0, 4000L, 8.0f);
+        d.append(1, 5000L, 2.0f);
+        d.append(1, 6000L, 3.0f);
+        d.append(1, 7000L, 4.0f);
+        assertTrue(d.refresh());
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(2000.0, d.getXValue(0, 0), 0.0);
+        assertEquals(4000.0, d.getXValue(0, 2), 0.0);
+        assertEquals(3, d.getItemCount(1));
+        assertEquals(5000.0, d.getXValue(1, 0), 0.0);
+        assertEquals(new Range(2000.0, 7000.0), d.getDomainBounds(false));
+        assertEquals(new Range(2.0, 8.0), d.getRangeBounds(false));
+        assertEquals(0L, d.getDroppedCount(0));
+    }
+
+    /**
+     * Creates a dataset with a full buffer for series 0.
+     *
+     * @param policy  the overflow policy.
+     *
+     * @return The dataset.
+     */
+    private static ConcurrentTimeSeriesCollection createFullDataset(
+            OverflowPolicy policy) {
+        ConcurrentTimeSeriesCollection d = new ConcurrentTimeSeriesCollection(
+                new Comparable[] {"S1"}, 10, 4, policy);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(d.append(0, i, i));
+        }
+        return d;
+    }
+
+    /**
+     * When the buffer is full, DROP_NEWEST rejects new values.
+     */
+    @Test
+    public void testDropNewest() {
+        ConcurrentTimeSeriesCollection d = createFullDataset(
+                OverflowPolicy.DROP_NEWEST);
+        assertFalse(d.append(0, 4L, 4.0f));
+        assertFalse(d.append(0, 5L, 5.0f));
+        assertEquals(2L, d.getDroppedCount(0));
+        d.refresh();
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(0.0, d.getYValue(0, 0), 0.0);
+        assertEquals(3.0, d.getYValue(0, 3), 0.0);
+    }
+
+    /**
+     * When the buffer is full, DROP_OLDEST discards the oldest buffered
+     * values.
+     */
+    @Test
+    public void testDropOldest() {
+        ConcurrentTimeSeriesCollection d = createFullDataset(
+                OverflowPolicy.DROP_OLDEST);
+        assertTrue(d.append(0, 4L, 4.0f));
+        assertTrue(d.append(0, 5L, 5.0f));
+        assertEquals(2L, d.getDroppedCount(0));
+        d.refresh();
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(2.0, d.getYValue(0, 0), 0.0);
+        assertEquals(5.0, d.getYValue(0, 3), 0.0);
+    }
+
+    /**
+     * When the buffer is full, BLOCK waits for a refresh (or gives up if the
+     * thread is interrupted).
+     */
+    @Test
+    public void testBlock() throws InterruptedException {
+        final ConcurrentTimeSeriesCollection d = createFullDataset(
+                OverflowPolicy.BLOCK);
+        Thread producer = new Thread() {
+            @Override
+            public void run() {
+                for (int i = 4; i < 10; i++) {
+                    d.append(0, i, i);
+                }
+            }
+        };
+        producer.start();
+        while (producer.isAlive() || d.getItemCount(0) < 10) {
+            d.refresh();
+            Thread.sleep(1L);
+        }
+        assertEquals(0L, d.getDroppedCount(0));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, d.getYValue(0, i), 0.0);
+        }
+
+        ConcurrentTimeSeriesCollection d2 = createFullDataset(
+                OverflowPolicy.BLOCK);
+        Thread.currentThread().interrupt();
+        assertFalse(d2.append(0, 4L, 4.0f));
+        assertTrue(Thread.interrupted());
+        assertEquals(1L, d2.getDroppedCount(0));
+    }
+
+    /**
+     * Several threads append to the same series at once, while another
+     * thread refreshes the dataset.  No values are lost, and the values from
+     * each thread are in the order they were appended.
+     */
+    @Test
+    public void testConcurrentAppend() throws InterruptedException {
+        final int threadCount = 8;
+        final int valueCount = 20000;
+        final ConcurrentTimeSeriesCollection d
+                = new ConcurrentTimeSeriesCollection(
+                new Comparable[] {"S1", "S2"}, threadCount * valueCount, 64,
+                OverflowPolicy.BLOCK);
+        Thread[] producers = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int id = t;
+            producers[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < valueCount; i++) {
+                        d.append(id % 2, id, i);
+                    }
+                }
+            };
+            producers[t].start();
+        }
+        for (int t = 0; t < threadCount; t++) {
+            while (producers[t].isAlive()) {
+                d.refresh();
+                Thread.yield();
+            }
+        }
+        d.refresh();
+        for (int s = 0; s < 2; s++) {
+            assertEquals(threadCount * valueCount / 2, d.getItemCount(s));
+            assertEquals(0L, d.getDroppedCount(s));
+            int[] next = new int[threadCount];
+            for (int i = 0; i < d.getItemCount(s); i++) {
+                int id = (int) d.getXValue(s, i);
+                assertEquals(s, id % 2);
+                assertEquals(next[id], d.getYValue(s, i), 0.0);
+                next[id]++;
+            }
+        }
+    }
+
+    /**
+     * A thread holding a pin reads the same view for as long as it holds
+     * the pin, even when another thread refreshes the dataset often enough
+     * to reuse every slot in the window arrays.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testPinnedView() throws InterruptedException {
+        final ConcurrentTimeSeriesCollection d
+                = new ConcurrentTimeSeriesCollection(
+                new Comparable[] {"S1"}, 4, 2, OverflowPolicy.DROP_NEWEST);
+        assertTrue(d.isConcurrent());
+        d.append(0, 1000L, 1.0f);
+        d.append(0, 2000L, 2.0f);
+        d.refresh();
+
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            assertEquals(2, d.getItemCount(0));
+            Thread writer = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 3; i <= 12; i++) {
+                        d.append(0, i * 1000L, i);
+                        d.refresh();
+                    }
+                }
+            };
+            writer.start();
+            writer.join();
+            assertEquals(2, d.getItemCount(0));
+            assertEquals(1000.0, d.getXValue(0, 0), 0.0);
+            assertEquals(2.0, d.getYValue(0, 1), 0.0);
+            assertEquals(new Range(1000.0, 2000.0), d.getDomainBounds(false));
+        }
+        finally {
+            pin.release();
+        }
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(9000.0, d.getXValue(0, 0), 0.0);
+        assertEquals(12.0, d.getYValue(0, 3), 0.0);
+    }
+
+}
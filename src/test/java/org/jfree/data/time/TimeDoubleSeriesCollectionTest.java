@@ -0,0 +1,203 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------------
+ * TimeDoubleSeriesCollectionTest.java
+ * -----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.TimeZone;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.Range;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link TimeDoubleSeriesCollection} class.
+ */
+public class TimeDoubleSeriesCollectionTest {
+
+    /** A time zone with daylight saving. */
+    private static final TimeZone ZONE
+            = TimeZone.getTimeZone("Europe/London");
+
+    /**
+     * Creates a pair of series with the same data, one hour per item over
+     * the end of daylight saving time.
+     *
+     * @param s1  the series to populate.
+     * @param s2  the other series to populate.
+     */
+    private static void populate(TimeDoubleSeries s1, TimeSeries s2) {
+        Hour hour = new Hour(0, 29, 10, 2011);
+        for (int i = 0; i < 72; i++) {
+            s1.add(hour, i, false);
+            s2.add(hour, i, false);
+            hour = (Hour) hour.next();
+        }
+    }
+
+    /**
+     * The x-values are the same as those from a {@link TimeSeriesCollection}
+     * in the same time zone.
+     */
+    @Test
+    public void testValues() {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Hour.class, ZONE);
+        TimeSeries s2 = new TimeSeries("S");
+        populate(s1, s2);
+        TimeDoubleSeriesCollection c1 = new TimeDoubleSeriesCollection(s1);
+        TimeSeriesCollection c2 = new TimeSeriesCollection(s2, ZONE);
+        TimePeriodAnchor[] anchors = new TimePeriodAnchor[] {
+            TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+            TimePeriodAnchor.END};
+        for (TimePeriodAnchor anchor : anchors) {
+            c1.setXPosition(anchor);
+            c2.setXPosition(anchor);
+            for (int i = 0; i < c2.getItemCount(0); i++) {
+                assertEquals(c2.getXValue(0, i), c1.getXValue(0, i), 0.0);
+                assertEquals(c2.getStartXValue(0, i),
+                        c1.getStartXValue(0, i), 0.0);
+                assertEquals(c2.getEndXValue(0, i), c1.getEndXValue(0, i),
+                        0.0);
+                assertEquals(c2.getYValue(0, i), c1.getYValue(0, i), 0.0);
+            }
+            assertEquals(c2.getDomainBounds(true), c1.getDomainBounds(true));
+            assertEquals(c2.getDomainBounds(false),
+                    c1.getDomainBounds(false));
+        }
+        assertEquals(new Range(0.0, 71.0), c1.getRangeBounds(false));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        TimeDoubleSeriesCollection c1 = new TimeDoubleSeriesCollection(
+                new TimeDoubleSeries("S", Day.class, ZONE));
+        TimeDoubleSeriesCollection c2 = new TimeDoubleSeriesCollection(
+                new TimeDoubleSeries("S", Day.class, ZONE));
+        assertEquals(c1, c2);
+        c1.getSeries(0).add(new Day(1, 1, 2012), 1.0);
+        assertFalse(c1.equals(c2));
+        c2.getSeries(0).add(new Day(1, 1, 2012), 1.0);
+        assertEquals(c1, c2);
+        c1.setXPosition(TimePeriodAnchor.END);
+        assertFalse(c1.equals(c2));
+        c2.setXPosition(TimePeriodAnchor.END);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Day.class, ZONE);
+        s1.add(new Day(1, 1, 2012), 1.0);
+        TimeDoubleSeriesCollection c1 = new TimeDoubleSeriesCollection(s1);
+        TimeDoubleSeriesCollection c2
+                = (TimeDoubleSeriesCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+        assertTrue(c1 instanceof PublicCloneable);
+
+        // check independence
+        s1.setKey("XYZ");
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException,
+            ClassNotFoundException {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Day.class, ZONE);
+        s1.add(new Day(1, 1, 2012), 1.0);
+        TimeDoubleSeriesCollection c1 = new TimeDoubleSeriesCollection(s1);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        TimeDoubleSeriesCollection c2
+                = (TimeDoubleSeriesCollection) in.readObject();
+        in.close();
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * The collection can be used as a dataset for an {@link XYPlot}.
+     */
+    @Test
+    public void testDrawWithXYPlot() {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Hour.class, ZONE);
+        populate(s1, new TimeSeries("S"));
+        TimeDoubleSeriesCollection c = new TimeDoubleSeriesCollection(s1);
+        XYPlot plot = new XYPlot(c, new DateAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = chart.createBufferedImage(300, 200);
+        assertNotNull(image);
+        assertTrue(plot.getDomainAxis().getRange().contains(
+                s1.getFirstMillisecond(0)));
+    }
+
+}
@@ -0,0 +1,278 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TimeDoubleSeriesTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link TimeDoubleSeries} class.
+ */
+public class TimeDoubleSeriesTest {
+
+    /** A time zone with daylight saving. */
+    private static final TimeZone ZONE
+            = TimeZone.getTimeZone("America/Sao_Paulo");
+
+    /**
+     * The first, middle and last milliseconds are the same as those
+     * calculated with a calendar, including on the days with a daylight
+     * saving transition (at midnight in Sao Paulo).
+     */
+    @Test
+    public void testMilliseconds() {
+        Calendar calendar = new GregorianCalendar(ZONE);
+        TimeDoubleSeries days = new TimeDoubleSeries("D", Day.class, ZONE);
+        TimeDoubleSeries hours = new TimeDoubleSeries("H", Hour.class, ZONE);
+        TimeDoubleSeries minutes = new TimeDoubleSeries("M", Minute.class,
+                ZONE);
+        TimeSeries ts = new TimeSeries("TS");
+        Day day = new Day(1, 10, 2011);
+        while (day.getMonth() == 10) {
+            days.add(day, 1.0);
+            ts.add(day, 1.0);
+            for (int h = 0; h < 24; h++) {
+                Hour hour = new Hour(h, day);
+                if (hours.getIndex(hour) < 0) {
+                    hours.add(hour, h);
+                }
+            }
+            minutes.add(new Minute(30, new Hour(1, day)), 2.0);
+            day = (Day) day.next();
+        }
+        for (int i = 0; i < days.getItemCount(); i++) {
+            RegularTimePeriod p = ts.getTimePeriod(i);
+            assertEquals(p.getFirstMillisecond(calendar),
+                    days.getFirstMillisecond(i));
+            assertEquals(p.getMiddleMillisecond(calendar),
+                    days.getMiddleMillisecond(i));
+            assertEquals(p.getLastMillisecond(calendar),
+                    days.getLastMillisecond(i));
+        }
+        for (int i = 0; i < hours.getItemCount(); i++) {
+            RegularTimePeriod p = hours.getTimePeriod(i);
+            assertEquals(i, hours.getIndex(p));
+            assertEquals(p.getFirstMillisecond(calendar),
+                    hours.getFirstMillisecond(i));
+            assertEquals(p.getLastMillisecond(calendar),
+                    hours.getLastMillisecond(i));
+        }
+        for (int i = 0; i < minutes.getItemCount(); i++) {
+            RegularTimePeriod p = minutes.getTimePeriod(i);
+            assertEquals(p.getFirstMillisecond(calendar),
+                    minutes.getFirstMillisecond(i));
+            assertEquals(p.getLastMillisecond(calendar),
+                    minutes.getLastMillisecond(i));
+        }
+    }
+
+    /**
+     * Items are sorted by time period, duplicates and other time period
+     * classes are rejected.
+     */
+    @Test
+    public void testAdd() {
+        TimeDoubleSeries s = new TimeDoubleSeries("S", Second.class, ZONE, 0);
+        s.add(new Second(10, 0, 0, 1, 1, 2012), 10.0);
+        s.add(new Second(30, 0, 0, 1, 1, 2012), 30.0);
+        s.add(new Second(20, 0, 0, 1, 1, 2012), 20.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(20.0, s.getValue(1), 0.0);
+        assertEquals(new Second(30, 0, 0, 1, 1, 2012), s.getTimePeriod(2));
+        assertEquals(s.getFirstMillisecond(2) + 999L,
+                s.getLastMillisecond(2));
+        assertEquals(10.0, s.getMinY(), 0.0);
+        assertEquals(30.0, s.getMaxY(), 0.0);
+        try {
+            s.add(new Second(20, 0, 0, 1, 1, 2012), 1.0);
+            fail("Duplicate time period.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s.add(new Minute(0, 0, 1, 1, 2012), 1.0);
+            fail("Wrong time period class.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            new TimeDoubleSeries("S", Month.class, ZONE);
+            fail("Unsupported time period class.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Appended items are described in the change event, and the oldest items
+     * are removed when the maximum item count is exceeded.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        TimeDoubleSeries s = new TimeDoubleSeries("S", Hour.class, ZONE);
+        s.setMaximumItemCount(2);
+        final SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                last[0] = event;
+            }
+        });
+        Hour hour = new Hour(0, 1, 1, 2012);
+        for (int i = 0; i < 3; i++) {
+            s.add(hour, i);
+            hour = (Hour) hour.next();
+        }
+        assertEquals(2, s.getItemCount());
+        assertEquals(1.0, s.getValue(0), 0.0);
+        assertEquals(1.0, s.getMinY(), 0.0);
+        assertEquals(SeriesChangeType.APPEND,
+                last[0].getInfo().getType());
+        assertEquals(1, last[0].getInfo().getFirstItem());
+
+        s.add(new Hour(0, 31, 12, 2011), 9.0);
+        assertNull(last[0].getInfo());
+        assertEquals(new Hour(1, 1, 1, 2012), s.getTimePeriod(0));
+    }
+
+    /**
+     * Some checks for the update() and delete() methods.
+     */
+    @Test
+    public void testUpdateAndDelete() {
+        TimeDoubleSeries s = new TimeDoubleSeries("S", Day.class, ZONE);
+        s.add(new Day(1, 1, 2012), 1.0);
+        s.add(new Day(2, 1, 2012), 2.0);
+        s.add(new Day(3, 1, 2012), 3.0);
+        s.update(2, 0.5);
+        assertEquals(0.5, s.getMinY(), 0.0);
+        assertEquals(2.0, s.getMaxY(), 0.0);
+        s.delete(0, 1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(0.5, s.getMaxY(), 0.0);
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMinY()));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Day.class, ZONE);
+        TimeDoubleSeries s2 = new TimeDoubleSeries("S", Day.class, ZONE);
+        assertEquals(s1, s2);
+        s1.add(new Day(1, 1, 2012), 1.0);
+        assertFalse(s1.equals(s2));
+        s2.add(new Day(1, 1, 2012), 1.0);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        assertFalse(s1.equals(new TimeDoubleSeries("S", Hour.class, ZONE)));
+        assertFalse(s1.equals(new TimeDoubleSeries("S", Day.class,
+                TimeZone.getTimeZone("UTC"))));
+        s1.setMaximumItemCount(5);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(5);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Day.class, ZONE);
+        s1.add(new Day(1, 1, 2012), 1.0);
+        TimeDoubleSeries s2 = (TimeDoubleSeries) s1.clone();
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s1.add(new Day(2, 1, 2012), 2.0);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException,
+            ClassNotFoundException {
+        TimeDoubleSeries s1 = new TimeDoubleSeries("S", Hour.class, ZONE);
+        s1.add(new Hour(1, 1, 1, 2012), 1.0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        TimeDoubleSeries s2 = (TimeDoubleSeries) in.readObject();
+        in.close();
+        assertEquals(s1, s2);
+        s2.add(new Hour(2, 1, 1, 2012), 2.0);
+        assertEquals(s2.getFirstMillisecond(0) + 3600000L,
+                s2.getFirstMillisecond(1));
+    }
+
+}
@@ -39,6 +39,7 @@
  * 08-May-2007 : Added testIndexOf() method (DG);
  * 18-May-2009 : Added testFindDomainBounds() (DG);
  * 08-Jan-2012 : Added testBug3445507() (DG);
+ * 16-Oct-2026 : Added testConcurrentMode() (agent);
  *
  */
 
@@ -46,6 +47,7 @@ package org.jfree.data.time;
 
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SnapshotPin;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -437,4 +439,63 @@ public class TimeSeriesCollectionTest  {
         assertEquals(1.0, r.getUpperBound(), EPSILON);
     }
 
+    /**
+     * In concurrent mode, the data can be updated in one thread while it is
+     * read in another, and a pinned thread always sees a consistent view.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentMode() throws InterruptedException {
+        final TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(100);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1);
+        dataset.setConcurrent(true);
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 5000; i++) {
+                    s1.add(new FixedMillisecond(i), i);
+                }
+            }
+        };
+        writer.start();
+        while (writer.isAlive()) {
+            SnapshotPin pin = SnapshotPin.pin();
+            try {
+                int count = dataset.getItemCount(0);
+                assertTrue(count <= 100);
+                for (int i = 0; i < count; i++) {
+                    double x = dataset.getXValue(0, i);
+                    assertEquals(x, dataset.getYValue(0, i), EPSILON);
+                    if (i > 0) {
+                        assertEquals(x - 1.0, dataset.getXValue(0, i - 1),
+                                EPSILON);
+                    }
+                }
+                if (count > 0) {
+                    assertEquals(new Range(dataset.getXValue(0, 0),
+                            dataset.getXValue(0, count - 1)),
+                            dataset.getRangeBounds(false));
+                }
+            }
+            finally {
+                pin.release();
+            }
+        }
+        writer.join();
+
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            assertEquals(100, dataset.getItemCount(0));
+            assertEquals(Long.valueOf(4900L), dataset.getX(0, 0));
+            assertEquals(4999.0, dataset.getY(0, 99).doubleValue(), EPSILON);
+            assertEquals(new Range(4900.0, 4999.0),
+                    dataset.getDomainBounds(true));
+        }
+        finally {
+            pin.release();
+        }
+    }
+
 }
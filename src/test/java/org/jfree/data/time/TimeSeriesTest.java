@@ -50,6 +50,8 @@
  * 09-Jun-2009 : Added testAdd_TimeSeriesDataItem (DG);
  * 31-Aug-2009 : Added new test for createCopy() method (DG);
  * 03-Dec-2011 : Added testBug3446965() (DG);
+ * 16-Oct-2026 : Added testSlidingWindow() and testSlidingWindow2() (agent);
+ * 16-Oct-2026 : Added testChangeInfo() (agent);
  *
  */
 
@@ -57,7 +59,9 @@ package org.jfree.data.time;
 
 import org.jfree.chart.date.MonthConstants;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.junit.Before;
 import org.junit.Test;
@@ -95,6 +99,9 @@ public class TimeSeriesTest  implements SeriesChangeListener {
     /** A flag that indicates whether or not a change event was fired. */
     private boolean gotSeriesChangeEvent;
 
+    /** The last change event received. */
+    private SeriesChangeEvent lastSeriesChangeEvent;
+
 
 
 
@@ -134,6 +141,7 @@ public class TimeSeriesTest  implements SeriesChangeListener {
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
         this.gotSeriesChangeEvent = true;
+        this.lastSeriesChangeEvent = event;
     }
 
     /**
@@ -1052,4 +1060,122 @@ public class TimeSeriesTest  implements SeriesChangeListener {
         assertFalse(item.equals(series.getDataItem(0)));
     }
 
+    /**
+     * A sliding window over many items, where the evicted items regularly
+     * hold the current minimum or maximum values.
+     */
+    @Test
+    public void testSlidingWindow() throws CloneNotSupportedException {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(10);
+        Day day = new Day(1, 1, 2010);
+        for (int i = 0; i < 500; i++) {
+            s1.add(day, (i % 7) * (i % 3 == 0 ? -1.0 : 1.0));
+            day = (Day) day.next();
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                minY = Math.min(minY, s1.getValue(j).doubleValue());
+                maxY = Math.max(maxY, s1.getValue(j).doubleValue());
+            }
+            assertEquals(Math.min(i + 1, 10), s1.getItemCount());
+            assertEquals(minY, s1.getMinY(), EPSILON);
+            assertEquals(maxY, s1.getMaxY(), EPSILON);
+        }
+        assertEquals(new Day(1, 1, 2010).getSerialIndex() + 490,
+                s1.getTimePeriod(0).getSerialIndex());
+
+        TimeSeries s2 = (TimeSeries) s1.clone();
+        assertEquals(s1, s2);
+        TimeSeries s3 = s1.createCopy(2, 5);
+        assertEquals(4, s3.getItemCount());
+        assertEquals(s1.getDataItem(2), s3.getDataItem(0));
+    }
+
+    /**
+     * Check the bounds for a series with a maximum item age.
+     */
+    @Test
+    public void testSlidingWindow2() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemAge(4);
+        Day day = new Day(1, 1, 2010);
+        for (int i = 0; i < 200; i++) {
+            s1.add(day, i % 2 == 0 ? 100.0 - i : i);
+            day = (Day) day.next();
+            int first = Math.max(0, i - 4);
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int j = first; j <= i; j++) {
+                double y = j % 2 == 0 ? 100.0 - j : j;
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+            assertEquals(i - first + 1, s1.getItemCount());
+            assertEquals(minY, s1.getMinY(), EPSILON);
+            assertEquals(maxY, s1.getMaxY(), EPSILON);
+        }
+        // updating an item falls back to iteration, but the bounds are
+        // still correct afterwards
+        s1.update(4, -500.0);
+        assertEquals(-500.0, s1.getMinY(), EPSILON);
+        s1.add(day, 1000.0);
+        assertEquals(1000.0, s1.getMaxY(), EPSILON);
+        assertEquals(-500.0, s1.getMinY(), EPSILON);
+        for (int i = 0; i < 5; i++) {
+            day = (Day) day.next();
+            s1.add(day, 0.0);
+        }
+        assertEquals(0.0, s1.getMinY(), EPSILON);
+        assertEquals(0.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The change events describe items appended, updated and removed from
+     * the front of the series.
+     */
+    @Test
+    public void testChangeInfo() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(3);
+        s1.addChangeListener(this);
+        s1.add(new Year(2000), 1.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 0),
+                this.lastSeriesChangeEvent.getInfo());
+        s1.add(new Year(2001), 2.0);
+        s1.add(new Year(2002), 3.0);
+        s1.add(new Year(2003), 4.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 2, 1),
+                this.lastSeriesChangeEvent.getInfo());
+        s1.update(1, 5.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 1, 1),
+                this.lastSeriesChangeEvent.getInfo());
+        s1.addOrUpdate(new Year(2003), 6.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 2, 2),
+                this.lastSeriesChangeEvent.getInfo());
+        s1.addOrUpdate(new Year(2004), 7.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 2, 1),
+                this.lastSeriesChangeEvent.getInfo());
+        s1.delete(0, 1);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE_FROM_FRONT,
+                0, 1), this.lastSeriesChangeEvent.getInfo());
+
+        // items removed because of their age
+        s1.setMaximumItemCount(100);
+        s1.add(new Year(2005), 8.0);
+        s1.add(new Year(2006), 9.0);
+        s1.setMaximumItemAge(1);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE_FROM_FRONT,
+                0, 0), this.lastSeriesChangeEvent.getInfo());
+        s1.add(new Year(2008), 10.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 0, 2),
+                this.lastSeriesChangeEvent.getInfo());
+
+        // other changes are not described
+        s1.add(new Year(2007), 0.0);
+        assertNull(this.lastSeriesChangeEvent.getInfo());
+        s1.delete(new Year(2008));
+        assertNull(this.lastSeriesChangeEvent.getInfo());
+    }
+
 }
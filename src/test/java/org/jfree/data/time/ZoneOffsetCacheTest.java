@@ -0,0 +1,270 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ZoneOffsetCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ZoneOffsetCache} class.
+ */
+public class ZoneOffsetCacheTest {
+
+    /**
+     * Time zones with unusual daylight saving rules: transitions at
+     * midnight (Sao Paulo), a 30 minute shift (Lord Howe), a skipped day
+     * (Apia) and a custom zone.
+     */
+    private static final TimeZone[] ZONES = new TimeZone[] {
+        TimeZone.getTimeZone("UTC"),
+        TimeZone.getTimeZone("America/New_York"),
+        TimeZone.getTimeZone("Europe/London"),
+        TimeZone.getTimeZone("America/Sao_Paulo"),
+        TimeZone.getTimeZone("Australia/Lord_Howe"),
+        TimeZone.getTimeZone("Pacific/Apia"),
+        TimeZone.getTimeZone("Asia/Kolkata"),
+        new SimpleTimeZone(3600000, "Custom", Calendar.MARCH, 1, 0, 90000,
+                Calendar.OCTOBER, 1, 0, 5400000)
+    };
+
+    /**
+     * Checks the first, middle and last milliseconds of a time period
+     * against the values from a calendar.
+     *
+     * @param period  the time period.
+     * @param calendar  the calendar.
+     */
+    private static void check(RegularTimePeriod period, Calendar calendar) {
+        ZoneOffsetCache offsets = ZoneOffsetCache.getInstance(calendar);
+        assertTrue(period.usesZoneOffsets());
+        String message = period + " " + calendar.getTimeZone().getID();
+        assertEquals(message, period.getFirstMillisecond(calendar),
+                period.calculateFirstMillisecond(offsets));
+        assertEquals(message, period.getMiddleMillisecond(calendar),
+                period.calculateMiddleMillisecond(offsets));
+        assertEquals(message, period.getLastMillisecond(calendar),
+                period.calculateLastMillisecond(offsets));
+    }
+
+    /**
+     * Every hour in 2011 (including the daylight saving transitions) gives
+     * the same milliseconds as the calendar.
+     */
+    @Test
+    public void testHours() {
+        for (TimeZone zone : ZONES) {
+            Calendar calendar = new GregorianCalendar(zone);
+            Hour hour = new Hour(0, 1, 1, 2011);
+            while (hour.getYear() == 2011) {
+                check(hour, calendar);
+                hour = (Hour) hour.next();
+            }
+        }
+    }
+
+    /**
+     * Every day from 1960 to 2040 gives the same milliseconds as the
+     * calendar, as do the first and last days supported.
+     */
+    @Test
+    public void testDays() {
+        for (TimeZone zone : ZONES) {
+            Calendar calendar = new GregorianCalendar(zone);
+            Day day = new Day(1, 1, 1960);
+            while (day.getYear() <= 2040) {
+                check(day, calendar);
+                day = (Day) day.next();
+            }
+            check(new Day(1, 1, 1900), calendar);
+            check(new Day(31, 12, 9999), calendar);
+        }
+    }
+
+    /**
+     * The minutes, seconds and milliseconds around the transitions give
+     * the same milliseconds as the calendar.
+     */
+    @Test
+    public void testTransitions() {
+        Day[] days = new Day[] {new Day(13, 3, 2011), new Day(6, 11, 2011),
+            new Day(27, 3, 2011), new Day(30, 10, 2011), new Day(3, 4, 2011),
+            new Day(2, 10, 2011), new Day(16, 10, 2011),
+            new Day(29, 12, 2011), new Day(30, 12, 2011)};
+        for (TimeZone zone : ZONES) {
+            Calendar calendar = new GregorianCalendar(zone);
+            for (Day day : days) {
+                Minute minute = new Minute(0, new Hour(0, day));
+                while (minute.getDay().equals(day)) {
+                    check(minute, calendar);
+                    Second second = new Second(30, minute);
+                    check(second, calendar);
+                    check(new Millisecond(999, second), calendar);
+                    minute = (Minute) minute.next();
+                }
+            }
+        }
+    }
+
+    /**
+     * The time periods created without a time zone use the default time
+     * zone, in the same way as <code>Calendar.getInstance()</code>.
+     */
+    @Test
+    public void testDefaultTimeZone() {
+        Calendar calendar = Calendar.getInstance();
+        Second second = new Second(15, 30, 2, 13, 3, 2011);
+        assertEquals(second.getFirstMillisecond(calendar),
+                second.getFirstMillisecond());
+        Day day = new Day(6, 11, 2011);
+        assertEquals(day.getFirstMillisecond(calendar),
+                day.getFirstMillisecond());
+        assertEquals(day.getLastMillisecond(calendar),
+                day.getLastMillisecond());
+    }
+
+    /**
+     * The default cache is only used while the default locale uses a
+     * standard Gregorian calendar, and is checked again when the default
+     * locale changes.
+     */
+    @Test
+    public void testGetDefault() {
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            assertNotNull(ZoneOffsetCache.getDefault());
+            Locale.setDefault(Locale.forLanguageTag("th-TH-u-ca-buddhist"));
+            assertNull(ZoneOffsetCache.getDefault());
+            Locale.setDefault(Locale.UK);
+            assertNotNull(ZoneOffsetCache.getDefault());
+        }
+        finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    /**
+     * The cache is only used for calendars that give the same results.
+     */
+    @Test
+    public void testGetInstanceForCalendar() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/London");
+        assertNotNull(ZoneOffsetCache.getInstance(new GregorianCalendar(zone)));
+
+        Calendar calendar = new GregorianCalendar(zone);
+        calendar.setLenient(false);
+        assertNull(ZoneOffsetCache.getInstance(calendar));
+
+        GregorianCalendar gc = new GregorianCalendar(zone);
+        gc.setGregorianChange(new Date(Long.MIN_VALUE));
+        assertNull(ZoneOffsetCache.getInstance(gc));
+
+        calendar = Calendar.getInstance(zone, new Locale("th", "TH"));
+        assertNull(ZoneOffsetCache.getInstance(calendar));
+
+        TimeZone custom = new SimpleTimeZone(0, "Custom") {
+            @Override
+            public int getOffset(long date) {
+                return 0;
+            }
+        };
+        assertNull(ZoneOffsetCache.getInstance(custom));
+    }
+
+    /**
+     * A time zone with the same ID but different rules doesn't use the
+     * cached offsets.
+     */
+    @Test
+    public void testSameIDDifferentRules() {
+        Hour hour = new Hour(12, 1, 1, 2011);
+        check(hour, new GregorianCalendar(
+                new SimpleTimeZone(3600000, "Changed")));
+        check(hour, new GregorianCalendar(
+                new SimpleTimeZone(7200000, "Changed")));
+    }
+
+    /**
+     * The x-values in a time series collection are the same as those from
+     * the calendar.
+     */
+    @Test
+    public void testTimeSeriesCollection() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Calendar calendar = new GregorianCalendar(zone);
+        TimeSeries series = new TimeSeries("S");
+        Hour hour = new Hour(0, 13, 3, 2011);
+        for (int i = 0; i < 48; i++) {
+            series.add(hour, i);
+            hour = (Hour) hour.next();
+        }
+        TimeSeries months = new TimeSeries("M");
+        months.add(new Month(3, 2011), 1.0);
+        months.add(new Month(11, 2011), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(series, zone);
+        dataset.addSeries(months);
+        dataset.setXPosition(TimePeriodAnchor.MIDDLE);
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            TimeSeries ts = dataset.getSeries(s);
+            for (int i = 0; i < ts.getItemCount(); i++) {
+                RegularTimePeriod period = ts.getTimePeriod(i);
+                assertEquals(period.getMiddleMillisecond(calendar),
+                        dataset.getXValue(s, i), 0.0);
+                assertEquals(period.getFirstMillisecond(calendar),
+                        dataset.getStartXValue(s, i), 0.0);
+                assertEquals(period.getLastMillisecond(calendar),
+                        dataset.getEndXValue(s, i), 0.0);
+            }
+        }
+    }
+
+}
@@ -37,12 +37,14 @@
  * 06-Jul-2006 : Version 1 (DG);
  * 02-Nov-2006 : Added testAddSeries() method (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
+ * 16-Oct-2026 : Added testConcurrentMode() (agent);
  *
  */
 
 package org.jfree.data.xy;
 
 import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.general.SnapshotPin;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -259,4 +261,28 @@ public class DefaultXYDatasetTest  {
         return d;
     }
 
+    /**
+     * In concurrent mode, a pinned thread reads the series as they were when
+     * the pin was taken.
+     */
+    @Test
+    public void testConcurrentMode() {
+        DefaultXYDataset d = createSampleDataset1();
+        d.setConcurrent(true);
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            d.addSeries("S1", new double[][] {{1.0}, {99.0}});
+            d.removeSeries("S2");
+            assertEquals(2, d.getSeriesCount());
+            assertEquals(1, d.indexOf("S2"));
+            assertEquals(3, d.getItemCount(0));
+            assertEquals(4.0, d.getYValue(0, 0), EPSILON);
+        }
+        finally {
+            pin.release();
+        }
+        assertEquals(1, d.getSeriesCount());
+        assertEquals(99.0, d.getYValue(0, 0), EPSILON);
+    }
+
 }
@@ -0,0 +1,279 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * XYDoubleSeriesCollectionTest.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link XYDoubleSeriesCollection} class.
+ */
+public class XYDoubleSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        XYDoubleSeriesCollection c1 = new XYDoubleSeriesCollection(s1);
+        XYDoubleSeries s2 = new XYDoubleSeries("Series");
+        s2.add(1.0, 1.1);
+        XYDoubleSeriesCollection c2 = new XYDoubleSeriesCollection(s2);
+        assertEquals(c1, c2);
+        assertEquals(c2, c1);
+
+        c1.addSeries(new XYDoubleSeries("Empty Series"));
+        assertFalse(c1.equals(c2));
+        c2.addSeries(new XYDoubleSeries("Empty Series"));
+        assertEquals(c1, c2);
+
+        c1.setIntervalWidth(5.0);
+        assertFalse(c1.equals(c2));
+        c2.setIntervalWidth(5.0);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        XYDoubleSeriesCollection c1 = new XYDoubleSeriesCollection(s1);
+        XYDoubleSeriesCollection c2 = (XYDoubleSeriesCollection) c1.clone();
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        s1.setKey("XYZ");
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        XYDoubleSeriesCollection c1 = new XYDoubleSeriesCollection();
+        assertTrue(c1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        XYDoubleSeriesCollection c1 = new XYDoubleSeriesCollection(s1);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(c1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        XYDoubleSeriesCollection c2
+                = (XYDoubleSeriesCollection) in.readObject();
+        in.close();
+        assertEquals(c1, c2);
+
+        // check that the restored collection still listens to its series
+        c2.getSeries(0).add(2.0, 2.2);
+        assertEquals(2.0, c2.getDomainUpperBound(false), EPSILON);
+    }
+
+    /**
+     * Some checks for the getSeries(Comparable) and getSeriesIndex() methods.
+     */
+    @Test
+    public void testGetSeriesByKey() {
+        XYDoubleSeries s1 = new XYDoubleSeries("s1");
+        XYDoubleSeries s2 = new XYDoubleSeries("s2");
+        XYDoubleSeriesCollection c = new XYDoubleSeriesCollection();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        assertEquals("s2", c.getSeries("s2").getKey());
+        assertEquals(1, c.getSeriesIndex("s2"));
+        assertEquals(-1, c.getSeriesIndex("s3"));
+        try {
+            c.getSeries("s3");
+            fail("Should have thrown UnknownKeyException on unknown key");
+        }
+        catch (UnknownKeyException e) {
+            assertEquals("Key not found: s3", e.getMessage());
+        }
+        try {
+            c.addSeries(new XYDoubleSeries("s1"));
+            fail("Should have thrown IllegalArgumentException on duplicate "
+                    + "key");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            s2.setKey("s1");
+            fail("Should have vetoed the duplicate key");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the removeSeries() methods.
+     */
+    @Test
+    public void testRemoveSeries() {
+        XYDoubleSeries s1 = new XYDoubleSeries("s1");
+        XYDoubleSeries s2 = new XYDoubleSeries("s2");
+        XYDoubleSeriesCollection c = new XYDoubleSeriesCollection();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        c.removeSeries(0);
+        assertEquals(1, c.getSeriesCount());
+        assertEquals("s2", c.getSeriesKey(0));
+        c.removeSeries(s2);
+        assertEquals(0, c.getSeriesCount());
+        c.addSeries(s1);
+        c.removeAllSeries();
+        assertEquals(0, c.getSeriesCount());
+    }
+
+    /**
+     * The primitive accessors should match the object accessors.
+     */
+    @Test
+    public void testValues() {
+        XYDoubleSeries s1 = new XYDoubleSeries("s1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, Double.NaN);
+        XYDoubleSeriesCollection c = new XYDoubleSeriesCollection(s1);
+        assertEquals(2, c.getItemCount(0));
+        assertEquals(1.0, c.getXValue(0, 0), EPSILON);
+        assertEquals(10.0, c.getYValue(0, 0), EPSILON);
+        assertEquals(1.0, c.getX(0, 0).doubleValue(), EPSILON);
+        assertEquals(10.0, c.getY(0, 0).doubleValue(), EPSILON);
+        assertTrue(Double.isNaN(c.getYValue(0, 1)));
+        assertEquals(0.5, c.getStartXValue(0, 0), EPSILON);
+        assertEquals(1.5, c.getEndXValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Some checks for the domain and range bounds.
+     */
+    @Test
+    public void testBounds() {
+        XYDoubleSeriesCollection c = new XYDoubleSeriesCollection();
+        assertNull(c.getDomainBounds(false));
+        assertNull(c.getRangeBounds(false));
+        assertTrue(Double.isNaN(c.getDomainLowerBound(false)));
+
+        XYDoubleSeries s1 = new XYDoubleSeries("s1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 5.0);
+        XYDoubleSeries s2 = new XYDoubleSeries("s2");
+        s2.add(-1.0, 7.0);
+        s2.add(1.5, 12.0);
+        c.addSeries(s1);
+        c.addSeries(s2);
+        assertEquals(new Range(-1.0, 2.0), c.getDomainBounds(false));
+        assertEquals(new Range(5.0, 12.0), c.getRangeBounds(false));
+        assertEquals(-1.0, c.getDomainLowerBound(false), EPSILON);
+        assertEquals(2.0, c.getDomainUpperBound(false), EPSILON);
+        assertEquals(5.0, c.getRangeLowerBound(false), EPSILON);
+        assertEquals(12.0, c.getRangeUpperBound(false), EPSILON);
+        assertEquals(DatasetUtilities.findDomainBounds(c, false),
+                c.getDomainBounds(false));
+    }
+
+    /**
+     * The collection can be used as a dataset for an {@link XYPlot}.
+     */
+    @Test
+    public void testDrawWithXYPlot() {
+        XYDoubleSeries s1 = new XYDoubleSeries("s1");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, Math.sin(i / 10.0), false);
+        }
+        XYDoubleSeriesCollection c = new XYDoubleSeriesCollection(s1);
+        XYPlot plot = new XYPlot(c, new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = chart.createBufferedImage(300, 200);
+        assertNotNull(image);
+        assertTrue(plot.getDomainAxis().getRange().contains(0.0));
+        assertTrue(plot.getDomainAxis().getRange().contains(999.0));
+    }
+
+}
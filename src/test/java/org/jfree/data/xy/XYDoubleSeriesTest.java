@@ -0,0 +1,401 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * XYDoubleSeriesTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ * 16-Oct-2026 : Added testChangeInfo() (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link XYDoubleSeries} class.
+ */
+public class XYDoubleSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        XYDoubleSeries s2 = new XYDoubleSeries("Series");
+        s2.add(1.0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s2, s1);
+
+        s1.setKey("Series X");
+        assertFalse(s1.equals(s2));
+        s2.setKey("Series X");
+        assertEquals(s1, s2);
+
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, 2.2);
+        assertEquals(s1, s2);
+
+        s1.setMaximumItemCount(10);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(10);
+        assertEquals(s1, s2);
+
+        // the array capacity is not significant
+        s1.trimToSize();
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Some simple checks for the hashCode() method.
+     */
+    @Test
+    public void testHashCode() {
+        XYDoubleSeries s1 = new XYDoubleSeries("Test");
+        XYDoubleSeries s2 = new XYDoubleSeries("Test");
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(1.0, 500.0);
+        s2.add(1.0, 500.0);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(2.0, Double.NaN);
+        s2.add(2.0, Double.NaN);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(5.0, 111.0);
+        s2.add(5.0, 111.0);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        XYDoubleSeries s2 = (XYDoubleSeries) s1.clone();
+        assertNotSame(s1, s2);
+        assertSame(s1.getClass(), s2.getClass());
+        assertEquals(s1, s2);
+
+        // check independence
+        s2.add(4.0, 300.0);
+        assertFalse(s1.equals(s2));
+        s1.add(4.0, 300.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        XYDoubleSeries s1 = new XYDoubleSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, Double.NaN);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        XYDoubleSeries s2 = (XYDoubleSeries) in.readObject();
+        in.close();
+
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added out of order are sorted, and duplicates remain in the
+     * order they were added.
+     */
+    @Test
+    public void testAddSorted() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.add(3.0, 3.3);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(2.0, 2.3);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getXValue(1), EPSILON);
+        assertEquals(2.2, s1.getYValue(1), EPSILON);
+        assertEquals(2.3, s1.getYValue(2), EPSILON);
+        assertEquals(3.0, s1.getXValue(3), EPSILON);
+    }
+
+    /**
+     * Some checks for the add() method for an UNSORTED series.
+     */
+    @Test
+    public void testAddUnsorted() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1", false, false);
+        s1.add(3.0, 3.3);
+        s1.add(1.0, 1.1);
+        assertEquals(3.0, s1.getXValue(0), EPSILON);
+        assertEquals(1.0, s1.getXValue(1), EPSILON);
+        try {
+            s1.add(3.0, 9.9);
+            fail("Duplicate x-value should have been rejected.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Adding many items grows the storage.
+     */
+    @Test
+    public void testAddMany() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1", true, true, 0);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, i * 2.0, false);
+        }
+        assertEquals(1000, s1.getItemCount());
+        assertEquals(999.0, s1.getXValue(999), EPSILON);
+        assertEquals(1998.0, s1.getYValue(999), EPSILON);
+        assertEquals(0.0, s1.getMinX(), EPSILON);
+        assertEquals(999.0, s1.getMaxX(), EPSILON);
+        assertEquals(0.0, s1.getMinY(), EPSILON);
+        assertEquals(1998.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the add(double[], double[]) method.
+     */
+    @Test
+    public void testAddArrays() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.add(new double[] {1.0, 2.0, 3.0}, new double[] {4.0, 5.0, 6.0});
+        assertEquals(3, s1.getItemCount());
+        assertEquals(5.0, s1.getYValue(1), EPSILON);
+        try {
+            s1.add(new double[] {1.0}, new double[] {1.0, 2.0});
+            fail("Arrays of different length should be rejected.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the maximum item count.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(0), EPSILON);
+        assertEquals(3.0, s1.getXValue(1), EPSILON);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(2.2, s1.getMinY(), EPSILON);
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getMinX(), EPSILON);
+        assertEquals(3.3, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the remove() and delete() methods.
+     */
+    @Test
+    public void testRemove() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        s1.add(4.0, 4.4);
+        s1.remove(3);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(3.3, s1.getMaxY(), EPSILON);
+
+        s1.delete(0, 1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getMinX(), EPSILON);
+        assertEquals(3.3, s1.getMinY(), EPSILON);
+
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getMinX()));
+        assertTrue(Double.isNaN(s1.getMaxY()));
+    }
+
+    /**
+     * Some checks for the update() methods.
+     */
+    @Test
+    public void testUpdate() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.update(2.0, 9.9);
+        assertEquals(9.9, s1.getYValue(1), EPSILON);
+        assertEquals(9.9, s1.getMaxY(), EPSILON);
+        s1.updateByIndex(1, 0.5);
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(1.1, s1.getMaxY(), EPSILON);
+        try {
+            s1.update(3.0, 1.0);
+            fail("SeriesException should have been thrown for unknown key");
+        }
+        catch (SeriesException e) {
+            assertEquals("No observation for x = 3.0", e.getMessage());
+        }
+    }
+
+    /**
+     * Missing y-values are ignored by the cached bounds.
+     */
+    @Test
+    public void testBoundsWithNaN() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.add(1.0, Double.NaN);
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertTrue(Double.isNaN(s1.getMinY()));
+        s1.add(2.0, 5.0);
+        assertEquals(5.0, s1.getMinY(), EPSILON);
+        assertEquals(5.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check that the primitive values agree with an equivalent XYSeries.
+     */
+    @Test
+    public void testAgreesWithXYSeries() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        XYSeries s2 = new XYSeries("S1");
+        double[] x = {5.0, 1.0, 3.0, 3.0, 2.0, 9.0, 0.5};
+        for (int i = 0; i < x.length; i++) {
+            s1.add(x[i], i);
+            s2.add(x[i], i);
+        }
+        assertEquals(s2.getItemCount(), s1.getItemCount());
+        for (int i = 0; i < s2.getItemCount(); i++) {
+            assertEquals(s2.getX(i).doubleValue(), s1.getXValue(i), EPSILON);
+            assertEquals(s2.getY(i).doubleValue(), s1.getYValue(i), EPSILON);
+        }
+        assertEquals(s2.getMinX(), s1.getMinX(), EPSILON);
+        assertEquals(s2.getMaxX(), s1.getMaxX(), EPSILON);
+        assertEquals(s2.getMinY(), s1.getMinY(), EPSILON);
+        assertEquals(s2.getMaxY(), s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the toArray() method.
+     */
+    @Test
+    public void testToArray() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        double[][] array = s1.toArray();
+        assertEquals(2, array.length);
+        assertEquals(0, array[0].length);
+        s1.add(1.0, 2.0);
+        array = s1.toArray();
+        assertEquals(1, array[0].length);
+        assertEquals(1.0, array[0][0], EPSILON);
+        assertEquals(2.0, array[1][0], EPSILON);
+    }
+
+    /**
+     * The change events describe items appended, updated and removed from
+     * the front of the series.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYDoubleSeries s1 = new XYDoubleSeries("S1");
+        s1.setMaximumItemCount(5);
+        XYSeriesTest.EventRecorder recorder = new XYSeriesTest.EventRecorder();
+        s1.addChangeListener(recorder);
+        s1.add(1.0, 1.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 0),
+                recorder.lastEvent.getInfo());
+        s1.add(new double[] {2.0, 3.0, 4.0}, new double[] {2.0, 3.0, 4.0});
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 1, 3),
+                recorder.lastEvent.getInfo());
+        s1.add(new double[] {5.0, 6.0, 7.0}, new double[] {5.0, 6.0, 7.0});
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 4, 2),
+                recorder.lastEvent.getInfo());
+        s1.updateByIndex(3, 0.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 3, 3),
+                recorder.lastEvent.getInfo());
+        s1.delete(0, 1);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE_FROM_FRONT,
+                0, 1), recorder.lastEvent.getInfo());
+
+        // other changes are not described
+        s1.add(0.5, 0.5);
+        assertNull(recorder.lastEvent.getInfo());
+        s1.add(new double[] {8.0, 9.0, 10.0, 11.0, 12.0, 13.0},
+                new double[6]);
+        assertNull(recorder.lastEvent.getInfo());
+        s1.remove(2);
+        assertNull(recorder.lastEvent.getInfo());
+    }
+
+}
@@ -0,0 +1,220 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * XYPyramidIndexTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 16-Oct-2026 : Version 1 (agent);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.chart.ui.RectangleEdge;
+import org.junit.Test;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link XYPyramidIndex} class.
+ */
+public class XYPyramidIndexTest {
+
+    /**
+     * Some checks for the levels of a small series.
+     */
+    @Test
+    public void testLevels() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 20; i++) {
+            s.add(i, i == 13 ? -1.0 : i % 7);
+        }
+        s.update(Integer.valueOf(18), null);
+        XYPyramidIndex index = new XYPyramidIndex(new XYSeriesCollection(s));
+        // buckets of 8 and 16 items
+        assertEquals(2, index.getLevelCount(0));
+        assertEquals(0, index.findLevel(0, 10));
+        assertEquals(1, index.findLevel(0, 16));
+        assertEquals(-1, index.findLevel(0, 7));
+
+        assertEquals(0, index.getMinItem(0, 0, 0));
+        assertEquals(6, index.getMaxItem(0, 0, 0));
+        assertFalse(index.hasGap(0, 0, 0));
+        assertEquals(13, index.getMinItem(0, 0, 1));
+        assertEquals(12, index.getMaxItem(0, 0, 1));
+        assertEquals(13, index.getMinItem(0, 1, 0));
+        assertEquals(6, index.getMaxItem(0, 1, 0));
+
+        // the last (partial) bucket contains the null value
+        assertTrue(index.hasGap(0, 0, 2));
+        assertTrue(index.hasGap(0, 1, 1));
+        assertFalse(index.hasGap(0, 1, 0));
+
+        // a series that is too small to index
+        XYPyramidIndex index2 = new XYPyramidIndex(new XYSeriesCollection(
+                new XYSeries("S2")));
+        assertEquals(0, index2.getLevelCount(0));
+        assertEquals(-1, index2.findLevel(0, 100));
+    }
+
+    /**
+     * An index that is extended as items are appended should be the same as
+     * an index built from scratch, and invalidating the index should pick up
+     * other changes.
+     */
+    @Test
+    public void testAppendAndInvalidate() {
+        Random random = new Random(7L);
+        XYSeries s = new XYSeries("S");
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        XYPyramidIndex index = new XYPyramidIndex(dataset);
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, random.nextDouble());
+            if (i % 37 == 0) {
+                index.getLevelCount(0);
+            }
+        }
+        XYPyramidIndex expected = new XYPyramidIndex(dataset);
+        assertEquals(expected.getLevelCount(0), index.getLevelCount(0));
+        for (int level = 0; level < expected.getLevelCount(0); level++) {
+            int size = XYPyramidIndex.getBucketSize(level);
+            for (int b = 0; b < (1000 + size - 1) / size; b++) {
+                assertEquals(expected.getMinItem(0, level, b),
+                        index.getMinItem(0, level, b));
+                assertEquals(expected.getMaxItem(0, level, b),
+                        index.getMaxItem(0, level, b));
+            }
+        }
+
+        s.updateByIndex(500, 99.0);
+        index.invalidate();
+        int top = index.getLevelCount(0) - 1;
+        assertEquals(500, index.getMaxItem(0, top, 0));
+    }
+
+    /**
+     * Decimating with an index should give the same items as decimating
+     * without one.
+     */
+    @Test
+    public void testFindDecimatedItems() {
+        Random random = new Random(11L);
+        XYSeries s = new XYSeries("S");
+        double x = 0.0;
+        for (int i = 0; i < 50000; i++) {
+            // irregular spacing, with some dense clusters
+            x += (i / 1000 % 3 == 0) ? random.nextDouble() * 0.01
+                    : random.nextDouble();
+            s.add(x, i % 4999 == 0 ? null : random.nextGaussian(), false);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        XYPyramidIndex index = new XYPyramidIndex(dataset);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, x);
+        int[][] ranges = {{0, 49999}, {3, 49998}, {1000, 3000}, {5, 20}};
+        for (int w = 50; w <= 1000; w *= 4) {
+            Rectangle2D area = new Rectangle2D.Double(10.0, 0.0, w, 100.0);
+            for (int[] range : ranges) {
+                int[] expected = RendererUtilities.findDecimatedItems(dataset,
+                        0, range[0], range[1], axis, area,
+                        RectangleEdge.BOTTOM);
+                int[] actual = RendererUtilities.findDecimatedItems(dataset,
+                        0, range[0], range[1], axis, area,
+                        RectangleEdge.BOTTOM, index);
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Invalidating an index on one thread while another thread decimates
+     * with it (holding the index's lock) should not change the result.
+     */
+    @Test
+    public void testConcurrentInvalidate() throws InterruptedException {
+        Random random = new Random(3L);
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 20000; i++) {
+            s.add(i, random.nextGaussian(), false);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s);
+        final XYPyramidIndex index = new XYPyramidIndex(dataset);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 19999.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+        int[] expected = RendererUtilities.findDecimatedItems(dataset, 0, 0,
+                19999, axis, area, RectangleEdge.BOTTOM);
+        final boolean[] stop = new boolean[1];
+        Thread invalidator = new Thread() {
+            @Override
+            public void run() {
+                while (true) {
+                    synchronized (stop) {
+                        if (stop[0]) {
+                            return;
+                        }
+                    }
+                    index.invalidate();
+                    index.invalidate(0);
+                }
+            }
+        };
+        invalidator.start();
+        try {
+            for (int i = 0; i < 200; i++) {
+                int[] actual;
+                synchronized (index) {
+                    actual = RendererUtilities.findDecimatedItems(dataset, 0,
+                            0, 19999, axis, area, RectangleEdge.BOTTOM,
+                            index);
+                }
+                assertArrayEquals(expected, actual);
+            }
+        }
+        finally {
+            synchronized (stop) {
+                stop[0] = true;
+            }
+            invalidator.join();
+        }
+    }
+
+}
@@ -43,6 +43,8 @@
  * 06-Mar-2009 : Added testGetDomainBounds (DG);
  * 17-May-2010 : Added checks for duplicate series names (DG);
  * 08-Jan-2012 : Added testBug3445507() (DG);
+ * 16-Oct-2026 : Added testChangeInfo() (agent);
+ * 16-Oct-2026 : Added testConcurrentMode() (agent);
  *
  */
 
@@ -51,6 +53,12 @@ package org.jfree.data.xy;
 import org.jfree.chart.util.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SnapshotPin;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -463,4 +471,99 @@ public class XYSeriesCollectionTest  {
         // collection
     }
 
+    /**
+     * A listener that records the last event received.
+     */
+    static class EventRecorder implements DatasetChangeListener {
+
+        /** The last event received. */
+        DatasetChangeEvent lastEvent;
+
+        @Override
+        public void datasetChanged(DatasetChangeEvent event) {
+            this.lastEvent = event;
+        }
+
+    }
+
+    /**
+     * A description of a change to a series is passed on with the index of
+     * the series.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYSeries series1 = new XYSeries("A");
+        XYSeries series2 = new XYSeries("B");
+        XYSeriesCollection collection = new XYSeriesCollection();
+        collection.addSeries(series1);
+        collection.addSeries(series2);
+        EventRecorder recorder = new EventRecorder();
+        collection.addChangeListener(recorder);
+        series2.add(1.0, 2.0);
+        assertEquals(new DatasetChangeInfo(1, new SeriesChangeInfo(
+                SeriesChangeType.APPEND, 0, 0)), recorder.lastEvent.getInfo());
+        series1.add(1.0, 2.0);
+        assertEquals(new DatasetChangeInfo(0, new SeriesChangeInfo(
+                SeriesChangeType.APPEND, 0, 0)), recorder.lastEvent.getInfo());
+        series1.add(0.0, 2.0);
+        assertNull(recorder.lastEvent.getInfo());
+        collection.removeSeries(0);
+        assertNull(recorder.lastEvent.getInfo());
+        series2.updateByIndex(0, 3.0);
+        assertEquals(new DatasetChangeInfo(0, new SeriesChangeInfo(
+                SeriesChangeType.UPDATE, 0, 0)), recorder.lastEvent.getInfo());
+    }
+
+    /**
+     * In concurrent mode, a pinned thread reads the data (including the
+     * start and end x-values) as it was when the pin was taken.
+     */
+    @Test
+    public void testConcurrentMode() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setMaximumItemCount(5);
+        for (int i = 0; i < 5; i++) {
+            s1.add(i, i * 10.0);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.setConcurrent(true);
+
+        SnapshotPin pin = SnapshotPin.pin();
+        try {
+            s1.add(5.0, 50.0);
+            s1.add(7.0, 70.0);
+            dataset.setIntervalWidth(2.0);
+            assertEquals(5, dataset.getItemCount(0));
+            assertEquals(0.0, dataset.getXValue(0, 0), EPSILON);
+            assertEquals(40.0, dataset.getY(0, 4).doubleValue(), EPSILON);
+            assertEquals(-0.5, dataset.getStartXValue(0, 0), EPSILON);
+            assertEquals(4.5, dataset.getEndXValue(0, 4), EPSILON);
+            assertEquals(new Range(0.0, 40.0), dataset.getRangeBounds(false));
+            assertEquals(new Range(-0.5, 4.5), dataset.getDomainBounds(true));
+        }
+        finally {
+            pin.release();
+        }
+
+        // the items appended and removed are shared with the old snapshot
+        pin = SnapshotPin.pin();
+        try {
+            assertEquals(5, dataset.getItemCount(0));
+            double[] x = {2.0, 3.0, 4.0, 5.0, 7.0};
+            for (int i = 0; i < x.length; i++) {
+                assertEquals(x[i], dataset.getXValue(0, i), EPSILON);
+                assertEquals(x[i] * 10.0, dataset.getYValue(0, i), EPSILON);
+                assertEquals(x[i] - 1.0, dataset.getStartXValue(0, i),
+                        EPSILON);
+                assertEquals(x[i] + 1.0, dataset.getEndXValue(0, i), EPSILON);
+            }
+            assertEquals(new Range(20.0, 70.0), dataset.getRangeBounds(false));
+            assertEquals(new Range(1.0, 8.0), dataset.getDomainBounds(true));
+            assertEquals(2.0, dataset.getDomainLowerBound(false), EPSILON);
+        }
+        finally {
+            pin.release();
+        }
+    }
+
 }
@@ -41,11 +41,18 @@
  * 01-May-2008 : Added testAddOrUpdate3() (DG);
  * 24-Nov-2008 : Added testBug1955483() (DG);
  * 06-Mar-2009 : Added tests for cached bounds values (DG);
+ * 16-Oct-2026 : Added testSetMaximumItemCount5() (agent);
+ * 16-Oct-2026 : Added testSetMaximumItemCount6() (agent);
+ * 16-Oct-2026 : Added testChangeInfo() (agent);
  *
  */
 
 package org.jfree.data.xy;
 
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.junit.Test;
 
@@ -487,6 +494,80 @@ public class XYSeriesTest  {
         assertEquals(3.3, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * A sliding window over many items, where the evicted items regularly
+     * hold the current minimum or maximum values.
+     */
+    @Test
+    public void testSetMaximumItemCount5() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setMaximumItemCount(10);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, (i % 7) * (i % 3 == 0 ? -1.0 : 1.0));
+            int first = Math.max(0, i - 9);
+            assertEquals(i - first + 1, s1.getItemCount());
+            assertEquals(first, s1.getX(0).doubleValue(), EPSILON);
+            assertEquals(i, s1.getX(s1.getItemCount() - 1).doubleValue(),
+                    EPSILON);
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                minY = Math.min(minY, s1.getY(j).doubleValue());
+                maxY = Math.max(maxY, s1.getY(j).doubleValue());
+            }
+            assertEquals(first, s1.getMinX(), EPSILON);
+            assertEquals(i, s1.getMaxX(), EPSILON);
+            assertEquals(minY, s1.getMinY(), EPSILON);
+            assertEquals(maxY, s1.getMaxY(), EPSILON);
+        }
+    }
+
+    /**
+     * Check the bounds for an unsorted series with a maximum item count,
+     * including operations that are not simple appends.
+     */
+    @Test
+    public void testSetMaximumItemCount6() {
+        XYSeries s1 = new XYSeries("S1", false, true);
+        s1.setMaximumItemCount(5);
+        java.util.Random random = new java.util.Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(20);
+            if (op == 0 && s1.getItemCount() > 1) {
+                s1.remove(random.nextInt(s1.getItemCount()));
+            }
+            else if (op == 1 && s1.getItemCount() > 0) {
+                s1.updateByIndex(random.nextInt(s1.getItemCount()),
+                        random.nextDouble() * 100.0);
+            }
+            else if (op == 2) {
+                s1.add(random.nextDouble() * 100.0, null);
+            }
+            else {
+                s1.add(random.nextDouble() * 100.0,
+                        random.nextDouble() * 100.0);
+            }
+            double minX = Double.NaN;
+            double maxX = Double.NaN;
+            double minY = Double.NaN;
+            double maxY = Double.NaN;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                double x = s1.getX(j).doubleValue();
+                minX = Double.isNaN(minX) ? x : Math.min(minX, x);
+                maxX = Double.isNaN(maxX) ? x : Math.max(maxX, x);
+                if (s1.getY(j) != null) {
+                    double y = s1.getY(j).doubleValue();
+                    minY = Double.isNaN(minY) ? y : Math.min(minY, y);
+                    maxY = Double.isNaN(maxY) ? y : Math.max(maxY, y);
+                }
+            }
+            assertEquals(minX, s1.getMinX(), EPSILON);
+            assertEquals(maxX, s1.getMaxX(), EPSILON);
+            assertEquals(minY, s1.getMinY(), EPSILON);
+            assertEquals(maxY, s1.getMaxY(), EPSILON);
+        }
+    }
+
     /**
      * Some checks for the toArray() method.
      */
@@ -781,4 +862,61 @@ public class XYSeriesTest  {
         assertEquals(2.0, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * A listener that records the last event received.
+     */
+    static class EventRecorder implements SeriesChangeListener {
+
+        /** The last event received. */
+        SeriesChangeEvent lastEvent;
+
+        @Override
+        public void seriesChanged(SeriesChangeEvent event) {
+            this.lastEvent = event;
+        }
+
+    }
+
+    /**
+     * The change events describe items appended, updated and removed from
+     * the front of the series.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYSeries s1 = new XYSeries("S1", true, false);
+        s1.setMaximumItemCount(3);
+        EventRecorder recorder = new EventRecorder();
+        s1.addChangeListener(recorder);
+        s1.add(1.0, 1.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 0, 0),
+                recorder.lastEvent.getInfo());
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 2),
+                recorder.lastEvent.getInfo());
+        s1.add(4.0, 4.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 2, 1),
+                recorder.lastEvent.getInfo());
+        s1.updateByIndex(1, 5.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 1, 1),
+                recorder.lastEvent.getInfo());
+        s1.addOrUpdate(4.0, 6.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 2, 2),
+                recorder.lastEvent.getInfo());
+        s1.addOrUpdate(5.0, 7.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.APPEND, 2, 2, 1),
+                recorder.lastEvent.getInfo());
+        s1.remove(0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE_FROM_FRONT,
+                0, 0), recorder.lastEvent.getInfo());
+
+        // other changes are not described
+        s1.add(0.5, 0.5);
+        assertNull(recorder.lastEvent.getInfo());
+        s1.remove(1);
+        assertNull(recorder.lastEvent.getInfo());
+        s1.clear();
+        assertNull(recorder.lastEvent.getInfo());
+    }
+
 }